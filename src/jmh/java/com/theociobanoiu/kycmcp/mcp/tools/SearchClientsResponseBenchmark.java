@@ -0,0 +1,72 @@
+package com.theociobanoiu.kycmcp.mcp.tools;
+
+import com.theociobanoiu.kycmcp.datagen.SyntheticKycData;
+import com.theociobanoiu.kycmcp.model.dto.ClientDTO;
+import com.theociobanoiu.kycmcp.model.dto.CursorPage;
+import com.theociobanoiu.kycmcp.model.enums.RiskLevel;
+import com.theociobanoiu.kycmcp.model.response.McpServerResponse;
+import com.theociobanoiu.kycmcp.service.api.ClientService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.ai.tool.execution.DefaultToolCallResultConverter;
+import org.springframework.ai.tool.execution.ToolCallResultConverter;
+
+import java.lang.reflect.Proxy;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of the {@code search_clients} tool outside the database: wrapping a page of clients in the tool
+ * response, and serializing it to the JSON text returned to the MCP client. The client service is a stub
+ * returning a prepared page of {@code pageSize} clients.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SearchClientsResponseBenchmark {
+
+    @Param({"25", "200"})
+    int pageSize;
+
+    private KycMcpTools tools;
+    private McpServerResponse<CursorPage<ClientDTO>> response;
+    private final ToolCallResultConverter converter = new DefaultToolCallResultConverter();
+
+    @Setup
+    public void setUp() {
+        List<ClientDTO> clients = ClientDTO.fromList(new SyntheticKycData(42, 0.02, 0.05).clients(pageSize));
+        CursorPage<ClientDTO> page = new CursorPage<>(clients, "bmV4dC1wYWdl");
+        ClientService clientService = (ClientService) Proxy.newProxyInstance(
+            ClientService.class.getClassLoader(), new Class<?>[]{ClientService.class},
+            (proxy, method, args) -> page);
+        tools = new KycMcpTools(clientService, null, null, null, null, null, null, null, null, null);
+        response = tools.searchClients(null, RiskLevel.HIGH, null, pageSize);
+    }
+
+    @Benchmark
+    public McpServerResponse<CursorPage<ClientDTO>> buildResponse() {
+        return tools.searchClients(null, RiskLevel.HIGH, null, pageSize);
+    }
+
+    @Benchmark
+    public String serializeResponse() {
+        return converter.convert(response, McpServerResponse.class);
+    }
+
+    @Benchmark
+    public String buildAndSerializeResponse() {
+        return converter.convert(tools.searchClients(null, RiskLevel.HIGH, null, pageSize), McpServerResponse.class);
+    }
+}
@@ -0,0 +1,67 @@
+package com.theociobanoiu.kycmcp.model.dto;
+
+import com.theociobanoiu.kycmcp.datagen.SyntheticKycData;
+import com.theociobanoiu.kycmcp.model.entities.Client;
+import com.theociobanoiu.kycmcp.model.entities.Person;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Entity to DTO mapping cost per list size; {@code size} is the number of clients for the client list and
+ * the number of persons for the person-based benchmarks.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class DtoMappingBenchmark {
+
+    @Param({"10", "100", "1000"})
+    int size;
+
+    private Client client;
+    private List<Client> clients;
+    private List<Person> persons;
+
+    @Setup
+    public void setUp() {
+        SyntheticKycData data = new SyntheticKycData(42, 0.02, 0.05);
+        client = data.client(0);
+        clients = data.clients(size);
+        persons = data.persons(size);
+    }
+
+    @Benchmark
+    public ClientDTO clientFrom() {
+        return ClientDTO.from(client);
+    }
+
+    @Benchmark
+    public List<ClientDTO> clientFromList() {
+        return ClientDTO.fromList(clients);
+    }
+
+    @Benchmark
+    public ClientDTO clientFromWithPersons() {
+        return ClientDTO.fromWithPersons(client, persons);
+    }
+
+    @Benchmark
+    public List<PersonDTO> personFromList() {
+        return PersonDTO.fromList(persons);
+    }
+}
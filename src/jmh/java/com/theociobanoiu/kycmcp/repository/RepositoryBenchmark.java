@@ -0,0 +1,154 @@
+package com.theociobanoiu.kycmcp.repository;
+
+import com.theociobanoiu.kycmcp.KycMcpApplication;
+import com.theociobanoiu.kycmcp.bulkimport.ImportFormat;
+import com.theociobanoiu.kycmcp.bulkimport.ImportTarget;
+import com.theociobanoiu.kycmcp.datagen.SyntheticKycData;
+import com.theociobanoiu.kycmcp.model.dto.ClientDTO;
+import com.theociobanoiu.kycmcp.model.dto.PersonDTO;
+import com.theociobanoiu.kycmcp.model.enums.RiskLevel;
+import com.theociobanoiu.kycmcp.repository.projection.ClientDossierRow;
+import com.theociobanoiu.kycmcp.service.api.BulkImportService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.data.domain.Limit;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * Read queries behind the MCP tools against an embedded H2 database (PostgreSQL mode, the same schema
+ * Liquibase builds in production) seeded with {@code clients} synthetic clients and their persons.
+ * Each query runs in a read-only transaction, like the service layer does.
+ * <p>
+ * H2 in memory has no network round trip and a different planner, so compare these numbers with each other
+ * across sizes and branches, not with production latencies.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class RepositoryBenchmark {
+
+    private static final int PAGE_SIZE = 25;
+
+    @Param({"1000", "10000", "100000"})
+    int clients;
+
+    private ConfigurableApplicationContext context;
+    private ClientRepository clientRepository;
+    private PersonRepository personRepository;
+    private TransactionTemplate readOnly;
+    private long[] clientIds;
+    private int next;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        context = new SpringApplicationBuilder(KycMcpApplication.class)
+            .profiles("test")
+            .web(WebApplicationType.NONE)
+            .registerShutdownHook(false)
+            // Command line arguments, so they win over the log levels set in application.yml
+            .run("--logging.level.com.theociobanoiu.kycmcp=WARN", "--logging.level.liquibase=WARN",
+                "--logging.level.org.springframework.ai.mcp=WARN");
+        clientRepository = context.getBean(ClientRepository.class);
+        personRepository = context.getBean(PersonRepository.class);
+        readOnly = new TransactionTemplate(context.getBean(PlatformTransactionManager.class));
+        readOnly.setReadOnly(true);
+
+        SyntheticKycData data = new SyntheticKycData(42, 0.02, 0.05);
+        StringBuilder clientsCsv = new StringBuilder();
+        data.writeClients(clients, clientsCsv);
+        StringBuilder personsCsv = new StringBuilder();
+        data.writePersons(clients, personsCsv);
+        BulkImportService importer = context.getBean(BulkImportService.class);
+        importer.importStream(ImportTarget.CLIENTS, ImportFormat.CSV,
+            new ByteArrayInputStream(clientsCsv.toString().getBytes(StandardCharsets.UTF_8)));
+        importer.importStream(ImportTarget.PERSONS, ImportFormat.CSV,
+            new ByteArrayInputStream(personsCsv.toString().getBytes(StandardCharsets.UTF_8)));
+
+        clientIds = context.getBean(JdbcTemplate.class)
+            .queryForList("SELECT id FROM clients ORDER BY id", Long.class)
+            .stream().mapToLong(Long::longValue).toArray();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public List<ClientDTO> firstPage() {
+        return page(null, null, null);
+    }
+
+    /**
+     * A page from the middle of the alphabet: keyset pagination should cost the same as the first page.
+     */
+    @Benchmark
+    public List<ClientDTO> deepPage() {
+        return page(null, "Nordic", 0L);
+    }
+
+    @Benchmark
+    public List<ClientDTO> riskLevelPage() {
+        return page(RiskLevel.HIGH, null, null);
+    }
+
+    /**
+     * The unpaginated high-risk listing; grows linearly with the table.
+     */
+    @Benchmark
+    public List<ClientDTO> allHighRiskClients() {
+        return readOnly.execute(status -> clientRepository.findClientsByRiskLevel(RiskLevel.HIGH));
+    }
+
+    @Benchmark
+    public ClientDTO clientDossier() {
+        long clientId = nextClientId();
+        return readOnly.execute(status -> ClientDossierRow.toDossier(clientRepository.findDossierRows(clientId)));
+    }
+
+    @Benchmark
+    public List<PersonDTO> personsOfClient() {
+        long clientId = nextClientId();
+        return readOnly.execute(status -> personRepository.findPersonsByClientId(clientId));
+    }
+
+    private List<ClientDTO> page(RiskLevel riskLevel, String afterName, Long afterId) {
+        return readOnly.execute(status -> {
+            try (Stream<ClientDTO> page = clientRepository.streamClientsAfter(riskLevel, afterName, afterId,
+                Limit.of(PAGE_SIZE + 1))) {
+                return page.toList();
+            }
+        });
+    }
+
+    private long nextClientId() {
+        next = (next + 7919) % clientIds.length;
+        return clientIds[next];
+    }
+}
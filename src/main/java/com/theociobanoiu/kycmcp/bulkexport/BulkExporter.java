@@ -0,0 +1,187 @@
+package com.theociobanoiu.kycmcp.bulkexport;
+
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.theociobanoiu.kycmcp.model.dto.ExportResultDTO;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedOutputStream;
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Streams every client or person, in id order, into a CSV or JSONL output.
+ * <p>
+ * The rows are read through one forward-only, read-only cursor fetching {@code kyc.export.fetch-size} rows per
+ * round trip, inside a read-only transaction: PostgreSQL only streams a result set with auto-commit off, and a
+ * read-only transaction is routed to a read replica when one is configured. Each row is written by an
+ * {@link ExportRowWriter} straight from the result set into a buffer of {@code kyc.export.buffer-size}, compressed
+ * on the way out when asked to, so memory use does not grow with the number of rows and the export runs as fast
+ * as the database sends rows and the output takes them.
+ * <p>
+ * The export holds its database connection until the last row is written, so a slow consumer of a streamed export
+ * holds it that long too.
+ */
+@Component
+@Slf4j
+public class BulkExporter {
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate transaction;
+    private final ExportProperties properties;
+
+    public BulkExporter(JdbcTemplate jdbcTemplate,
+                        ObjectMapper objectMapper,
+                        PlatformTransactionManager transactionManager,
+                        ExportProperties properties) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.objectMapper = objectMapper;
+        this.transaction = new TransactionTemplate(transactionManager);
+        this.transaction.setReadOnly(true);
+        this.properties = properties;
+    }
+
+    /**
+     * Checks requested column names against the target's columns.
+     *
+     * @param requested column names, in any case; null or empty selects every column
+     * @return the selected columns, in the requested order and without repeats
+     * @throws IllegalArgumentException naming the unknown columns and the available ones
+     */
+    public static List<String> resolveColumns(ExportTarget target, List<String> requested) {
+        if (requested == null || requested.isEmpty()) {
+            return target.columns();
+        }
+        Set<String> selected = new LinkedHashSet<>();
+        List<String> unknown = new ArrayList<>();
+        for (String column : requested) {
+            String name = column == null ? "" : column.trim().toLowerCase(Locale.ROOT);
+            if (target.columns().contains(name)) {
+                selected.add(name);
+            } else {
+                unknown.add(column);
+            }
+        }
+        if (!unknown.isEmpty()) {
+            throw new IllegalArgumentException("Unknown " + target.name().toLowerCase(Locale.ROOT) + " columns "
+                + unknown + "; available: " + String.join(", ", target.columns()));
+        }
+        return List.copyOf(selected);
+    }
+
+    /**
+     * Writes the export to the output, which is flushed but not closed.
+     *
+     * @param columns  the columns to write, as returned by {@link #resolveColumns}
+     * @param fileName file the output goes to, reported in the result; null for streamed exports
+     * @return what was written
+     */
+    public ExportResultDTO export(ExportTarget target,
+                                  ExportFormat format,
+                                  ExportCompression compression,
+                                  List<String> columns,
+                                  OutputStream output,
+                                  String fileName) throws IOException {
+        long start = System.nanoTime();
+        CountingOutputStream counted = new CountingOutputStream(output);
+        int bufferSize = (int) properties.bufferSize().toBytes();
+        GZIPOutputStream gzip = compression == ExportCompression.GZIP
+            ? new GZIPOutputStream(counted, bufferSize) : null;
+        OutputStream buffered = new BufferedOutputStream(gzip != null ? gzip : counted, bufferSize);
+
+        ExportRowWriter writer = writer(format, columns, buffered);
+        writer.start();
+        String sql = "SELECT " + String.join(", ", columns) + " FROM " + target.table() + " ORDER BY id";
+        try {
+            transaction.executeWithoutResult(status -> jdbcTemplate.query(connection -> {
+                PreparedStatement statement = connection.prepareStatement(sql, ResultSet.TYPE_FORWARD_ONLY,
+                    ResultSet.CONCUR_READ_ONLY);
+                statement.setFetchSize(properties.fetchSize());
+                return statement;
+            }, (RowCallbackHandler) row -> {
+                try {
+                    writer.write(row);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            }));
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+        writer.finish();
+        buffered.flush();
+        if (gzip != null) {
+            gzip.finish();
+        }
+        counted.flush();
+
+        long elapsedNanos = System.nanoTime() - start;
+        long elapsedMillis = elapsedNanos / 1_000_000;
+        long rowsPerSecond = elapsedNanos > 0 ? writer.rows() * 1_000_000_000L / elapsedNanos : writer.rows();
+        log.info("Exported {} {} as {}{} in {} ms ({} rows/s, {} bytes)", writer.rows(), target, format,
+            compression == ExportCompression.GZIP ? " (gzip)" : "", elapsedMillis, rowsPerSecond, counted.bytes);
+        return new ExportResultDTO(target, format, compression, columns, writer.rows(), counted.bytes, fileName,
+            elapsedMillis, rowsPerSecond);
+    }
+
+    private ExportRowWriter writer(ExportFormat format, List<String> columns, OutputStream output)
+        throws IOException {
+        return switch (format) {
+            case CSV -> new CsvRowWriter(columns, new OutputStreamWriter(output, StandardCharsets.UTF_8));
+            case JSONL -> {
+                JsonGenerator generator = objectMapper.getFactory().createGenerator(output, JsonEncoding.UTF8);
+                generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+                yield new JsonlRowWriter(columns, generator);
+            }
+        };
+    }
+
+    /**
+     * Counts the bytes that reach the output, after compression.
+     */
+    private static final class CountingOutputStream extends FilterOutputStream {
+
+        private long bytes;
+
+        CountingOutputStream(OutputStream out) {
+            super(out);
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            out.write(b);
+            bytes++;
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            out.write(b, off, len);
+            bytes += len;
+        }
+
+        @Override
+        public void close() throws IOException {
+            // The caller owns the output
+            flush();
+        }
+    }
+}
@@ -0,0 +1,78 @@
+package com.theociobanoiu.kycmcp.bulkexport;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.List;
+
+/**
+ * Writes an export as CSV: a header row, then one line per row. Fields holding a comma, quote or line break are
+ * double-quoted, with quotes inside them doubled.
+ */
+final class CsvRowWriter extends ExportRowWriter {
+
+    private final Writer out;
+
+    CsvRowWriter(List<String> columns, Writer out) {
+        super(columns);
+        this.out = out;
+    }
+
+    @Override
+    void start() throws IOException {
+        for (int i = 0; i < columns.size(); i++) {
+            if (i > 0) {
+                out.write(',');
+            }
+            out.write(columns.get(i));
+        }
+        out.write('\n');
+    }
+
+    @Override
+    void writeRow(ResultSet row) throws SQLException, IOException {
+        for (int i = 0; i < columns.size(); i++) {
+            if (i > 0) {
+                out.write(',');
+            }
+            String value = text(row, i);
+            if (value != null) {
+                writeField(value);
+            }
+        }
+        out.write('\n');
+    }
+
+    @Override
+    void finish() throws IOException {
+        out.flush();
+    }
+
+    private void writeField(String value) throws IOException {
+        if (!needsQuotes(value)) {
+            out.write(value);
+            return;
+        }
+        out.write('"');
+        int from = 0;
+        int quote;
+        while ((quote = value.indexOf('"', from)) >= 0) {
+            out.write(value, from, quote + 1 - from);
+            out.write('"');
+            from = quote + 1;
+        }
+        out.write(value, from, value.length() - from);
+        out.write('"');
+    }
+
+    private static boolean needsQuotes(String value) {
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == ',' || c == '"' || c == '\n' || c == '\r') {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,24 @@
+package com.theociobanoiu.kycmcp.bulkexport;
+
+/**
+ * Compression applied to a bulk export as it is written.
+ */
+public enum ExportCompression {
+
+    NONE(""),
+
+    /**
+     * gzip, readable with {@code gunzip} or {@code zcat}; typically shrinks an export five- to tenfold.
+     */
+    GZIP(".gz");
+
+    private final String extension;
+
+    ExportCompression(String extension) {
+        this.extension = extension;
+    }
+
+    public String extension() {
+        return extension;
+    }
+}
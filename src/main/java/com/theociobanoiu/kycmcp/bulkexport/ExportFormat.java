@@ -0,0 +1,33 @@
+package com.theociobanoiu.kycmcp.bulkexport;
+
+/**
+ * File formats written by the bulk export, the same ones the bulk import reads.
+ */
+public enum ExportFormat {
+
+    /**
+     * Comma-separated values with a header row naming the columns.
+     */
+    CSV(".csv", "text/csv"),
+
+    /**
+     * One JSON object per line (JSON Lines / NDJSON), keyed by column name.
+     */
+    JSONL(".jsonl", "application/x-ndjson");
+
+    private final String extension;
+    private final String contentType;
+
+    ExportFormat(String extension, String contentType) {
+        this.extension = extension;
+        this.contentType = contentType;
+    }
+
+    public String extension() {
+        return extension;
+    }
+
+    public String contentType() {
+        return contentType;
+    }
+}
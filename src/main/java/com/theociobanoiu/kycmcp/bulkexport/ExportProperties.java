@@ -0,0 +1,29 @@
+package com.theociobanoiu.kycmcp.bulkexport;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+import org.springframework.util.unit.DataSize;
+
+import java.nio.file.Path;
+
+/**
+ * Bulk export settings, bound from {@code kyc.export.*}.
+ *
+ * @param directory  directory that exports requested through the MCP tool are written to; null disables file
+ *                   exports (streamed exports through the REST endpoint still work)
+ * @param fetchSize  rows the database sends per round trip while an export reads its cursor
+ * @param bufferSize bytes buffered before they are compressed and written out
+ */
+@ConfigurationProperties(prefix = "kyc.export")
+public record ExportProperties(
+    Path directory,
+    @DefaultValue("1000") int fetchSize,
+    @DefaultValue("64KB") DataSize bufferSize
+) {
+
+    public ExportProperties {
+        if (fetchSize < 1) {
+            throw new IllegalArgumentException("kyc.export.fetch-size must be positive");
+        }
+    }
+}
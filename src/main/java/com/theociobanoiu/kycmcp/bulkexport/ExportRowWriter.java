@@ -0,0 +1,103 @@
+package com.theociobanoiu.kycmcp.bulkexport;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.sql.Date;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.util.List;
+
+/**
+ * Writes the rows of an export straight from the {@link ResultSet} to the output, one at a time, without
+ * building an entity, DTO or map per row. Values are written as text: numbers in plain notation, dates and
+ * timestamps in ISO-8601, nulls as empty CSV fields or JSON nulls.
+ */
+abstract class ExportRowWriter {
+
+    /**
+     * How a column's values are read from the result set, decided once from its SQL type.
+     */
+    private enum Kind {
+        NUMBER, TIMESTAMP, DATE, TEXT
+    }
+
+    protected final List<String> columns;
+    private Kind[] kinds;
+    private long rows;
+
+    ExportRowWriter(List<String> columns) {
+        this.columns = columns;
+    }
+
+    /**
+     * Writes whatever precedes the rows, such as a CSV header.
+     */
+    abstract void start() throws IOException;
+
+    /**
+     * Writes the result set's current row.
+     */
+    final void write(ResultSet row) throws SQLException, IOException {
+        if (kinds == null) {
+            kinds = kinds(row.getMetaData());
+        }
+        writeRow(row);
+        rows++;
+    }
+
+    abstract void writeRow(ResultSet row) throws SQLException, IOException;
+
+    /**
+     * Flushes buffered output; the underlying stream stays open.
+     */
+    abstract void finish() throws IOException;
+
+    long rows() {
+        return rows;
+    }
+
+    boolean isNumber(int column) {
+        return kinds[column] == Kind.NUMBER;
+    }
+
+    /**
+     * The value of a column of the current row as text, or null.
+     *
+     * @param column 0-based column index
+     */
+    String text(ResultSet row, int column) throws SQLException {
+        int index = column + 1;
+        return switch (kinds[column]) {
+            case NUMBER -> {
+                BigDecimal value = row.getBigDecimal(index);
+                yield value != null ? value.toPlainString() : null;
+            }
+            case TIMESTAMP -> {
+                Timestamp value = row.getTimestamp(index);
+                yield value != null ? value.toLocalDateTime().toString() : null;
+            }
+            case DATE -> {
+                Date value = row.getDate(index);
+                yield value != null ? value.toLocalDate().toString() : null;
+            }
+            case TEXT -> row.getString(index);
+        };
+    }
+
+    private static Kind[] kinds(ResultSetMetaData metaData) throws SQLException {
+        Kind[] kinds = new Kind[metaData.getColumnCount()];
+        for (int i = 0; i < kinds.length; i++) {
+            kinds[i] = switch (metaData.getColumnType(i + 1)) {
+                case Types.TINYINT, Types.SMALLINT, Types.INTEGER, Types.BIGINT, Types.DECIMAL, Types.NUMERIC,
+                     Types.REAL, Types.FLOAT, Types.DOUBLE -> Kind.NUMBER;
+                case Types.TIMESTAMP, Types.TIMESTAMP_WITH_TIMEZONE -> Kind.TIMESTAMP;
+                case Types.DATE -> Kind.DATE;
+                default -> Kind.TEXT;
+            };
+        }
+        return kinds;
+    }
+}
@@ -0,0 +1,42 @@
+package com.theociobanoiu.kycmcp.bulkexport;
+
+import java.util.List;
+
+/**
+ * What a bulk export extracts, with the columns it can contain. Column names match the bulk import's, so an
+ * export can be imported again.
+ */
+public enum ExportTarget {
+
+    /**
+     * One client per row.
+     */
+    CLIENTS("clients", List.of("id", "name", "client_type", "email", "phone", "registration_number", "risk_level",
+        "next_review_at", "last_reviewed_at", "created_at", "updated_at")),
+
+    /**
+     * One person per row, with the id of its client.
+     */
+    PERSONS("persons", List.of("id", "client_id", "first_name", "last_name", "email", "phone", "date_of_birth",
+        "nationality", "identification_number", "relationship_type", "position_title", "ownership_percentage",
+        "address", "created_at", "updated_at"));
+
+    private final String table;
+    private final List<String> columns;
+
+    ExportTarget(String table, List<String> columns) {
+        this.table = table;
+        this.columns = columns;
+    }
+
+    String table() {
+        return table;
+    }
+
+    /**
+     * Every column that can be exported, in their default order.
+     */
+    public List<String> columns() {
+        return columns;
+    }
+}
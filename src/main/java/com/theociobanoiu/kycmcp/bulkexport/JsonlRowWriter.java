@@ -0,0 +1,54 @@
+package com.theociobanoiu.kycmcp.bulkexport;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.SerializableString;
+import com.fasterxml.jackson.core.io.SerializedString;
+
+import java.io.IOException;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.List;
+
+/**
+ * Writes an export as JSON Lines: one object per row, keyed by column name, numbers as JSON numbers.
+ */
+final class JsonlRowWriter extends ExportRowWriter {
+
+    private final JsonGenerator generator;
+    private final SerializableString[] names;
+
+    JsonlRowWriter(List<String> columns, JsonGenerator generator) {
+        super(columns);
+        // Rows are separated by line breaks instead of the default space
+        this.generator = generator.setRootValueSeparator(null);
+        this.names = columns.stream().map(SerializedString::new).toArray(SerializableString[]::new);
+    }
+
+    @Override
+    void start() {
+        // JSON Lines has no header
+    }
+
+    @Override
+    void writeRow(ResultSet row) throws SQLException, IOException {
+        generator.writeStartObject();
+        for (int i = 0; i < names.length; i++) {
+            generator.writeFieldName(names[i]);
+            String value = text(row, i);
+            if (value == null) {
+                generator.writeNull();
+            } else if (isNumber(i)) {
+                generator.writeNumber(value);
+            } else {
+                generator.writeString(value);
+            }
+        }
+        generator.writeEndObject();
+        generator.writeRaw('\n');
+    }
+
+    @Override
+    void finish() throws IOException {
+        generator.flush();
+    }
+}
@@ -0,0 +1,268 @@
+package com.theociobanoiu.kycmcp.bulkimport;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.theociobanoiu.kycmcp.config.CacheConfiguration;
+import com.theociobanoiu.kycmcp.duplicates.DuplicateDetectionEngine;
+import com.theociobanoiu.kycmcp.model.dto.ImportResultDTO;
+import com.theociobanoiu.kycmcp.model.dto.request.CreateClientRequest;
+import com.theociobanoiu.kycmcp.model.dto.request.CreatePersonRequest;
+import com.theociobanoiu.kycmcp.model.entities.Client;
+import com.theociobanoiu.kycmcp.model.entities.Person;
+import com.theociobanoiu.kycmcp.model.enums.RiskLevel;
+import com.theociobanoiu.kycmcp.ownership.OwnershipGraphEngine;
+import com.theociobanoiu.kycmcp.repository.ClientRepository;
+import com.theociobanoiu.kycmcp.repository.projection.ClientReferenceView;
+import com.theociobanoiu.kycmcp.search.ClientNameSearchEngine;
+import com.theociobanoiu.kycmcp.search.PersonSearchEngine;
+import jakarta.persistence.EntityManager;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Streams a CSV or JSONL file of clients or persons into the database.
+ * <p>
+ * Rows are read one at a time and collected into chunks of {@code kyc.import.chunk-size}. Each row is
+ * converted and validated exactly like a single create request; rows that fail are reported with their
+ * line number and skipped. Person rows reference their client by id or registration number, and those
+ * references are resolved with one query per chunk rather than a lookup per row. Valid rows are inserted
+ * by the {@link ImportChunkWriter}, one batched transaction per chunk.
+ * <p>
+ * Imported clients are added to the client name search index, imported persons to the person search index
+ * and their ownership percentages to the ownership graph, and the dossier cache is invalidated for every
+ * client that gained persons, all only once the chunk commits.
+ */
+@Component
+@Slf4j
+public class BulkImporter {
+
+    private final ObjectMapper objectMapper;
+    private final Validator validator;
+    private final ClientRepository clientRepository;
+    private final ClientNameSearchEngine clientNameSearchEngine;
+    private final OwnershipGraphEngine ownershipGraphEngine;
+    private final DuplicateDetectionEngine duplicateDetectionEngine;
+    private final PersonSearchEngine personSearchEngine;
+    private final EntityManager entityManager;
+    private final ImportProperties properties;
+    private final ImportChunkWriter writer;
+    private final Cache dossierCache;
+
+    public BulkImporter(ObjectMapper objectMapper,
+                        Validator validator,
+                        ClientRepository clientRepository,
+                        ClientNameSearchEngine clientNameSearchEngine,
+                        OwnershipGraphEngine ownershipGraphEngine,
+                        DuplicateDetectionEngine duplicateDetectionEngine,
+                        PersonSearchEngine personSearchEngine,
+                        EntityManager entityManager,
+                        PlatformTransactionManager transactionManager,
+                        CacheManager cacheManager,
+                        ImportProperties properties) {
+        this.objectMapper = objectMapper;
+        this.validator = validator;
+        this.clientRepository = clientRepository;
+        this.clientNameSearchEngine = clientNameSearchEngine;
+        this.ownershipGraphEngine = ownershipGraphEngine;
+        this.duplicateDetectionEngine = duplicateDetectionEngine;
+        this.personSearchEngine = personSearchEngine;
+        this.entityManager = entityManager;
+        this.properties = properties;
+        this.writer = new ImportChunkWriter(entityManager, transactionManager, properties.chunkSize());
+        this.dossierCache = Objects.requireNonNull(cacheManager.getCache(CacheConfiguration.CLIENT_DOSSIERS));
+    }
+
+    /**
+     * Imports every row of the given file content. The reader is consumed but not closed.
+     *
+     * @throws IOException if the content cannot be read
+     */
+    public ImportResultDTO importRecords(ImportTarget target, ImportFormat format, BufferedReader reader)
+            throws IOException {
+        ImportReport report = new ImportReport(target, format, properties.maxReportedErrors());
+        List<ImportRecord> chunk = new ArrayList<>(properties.chunkSize());
+
+        try {
+            ImportRecordReader records = new ImportRecordReader(reader, format, objectMapper);
+            while (records.hasNext()) {
+                ImportRecord record = records.next();
+                report.read();
+                if (record.error() != null) {
+                    report.failed(record.line(), record.error());
+                    continue;
+                }
+                chunk.add(record);
+                if (chunk.size() == properties.chunkSize()) {
+                    writeChunk(target, chunk, report);
+                    chunk.clear();
+                }
+            }
+            writeChunk(target, chunk, report);
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+
+        ImportResultDTO result = report.toResult();
+        log.info("Imported {} of {} {} rows ({} failed) in {} ms, {} rows/s",
+            result.rowsImported(), result.rowsRead(), target, result.rowsFailed(),
+            result.elapsedMillis(), result.rowsPerSecond());
+        return result;
+    }
+
+    private void writeChunk(ImportTarget target, List<ImportRecord> chunk, ImportReport report) {
+        if (chunk.isEmpty()) {
+            return;
+        }
+        switch (target) {
+            case CLIENTS -> writer.write(clientRows(chunk, report), this::afterClientPersisted, report);
+            case PERSONS -> {
+                ClientReferences references = resolveClientReferences(chunk);
+                writer.write(personRows(chunk, references, report),
+                    person -> afterPersonPersisted((Person) person, references), report);
+            }
+        }
+    }
+
+    private List<ImportChunkWriter.PendingRow> clientRows(List<ImportRecord> chunk, ImportReport report) {
+        List<ImportChunkWriter.PendingRow> rows = new ArrayList<>(chunk.size());
+        for (ImportRecord record : chunk) {
+            try {
+                CreateClientRequest request = ImportRecordMapper.toClientRequest(record);
+                RiskLevel riskLevel = ImportRecordMapper.riskLevel(record, properties.defaultRiskLevel());
+                validate(request);
+                rows.add(new ImportChunkWriter.PendingRow(record.line(), () -> {
+                    Client client = request.toEntity();
+                    client.setRiskLevel(riskLevel);
+                    return client;
+                }));
+            } catch (IllegalArgumentException e) {
+                report.failed(record.line(), e.getMessage());
+            }
+        }
+        return rows;
+    }
+
+    private List<ImportChunkWriter.PendingRow> personRows(List<ImportRecord> chunk, ClientReferences references,
+                                                          ImportReport report) {
+        List<ImportChunkWriter.PendingRow> rows = new ArrayList<>(chunk.size());
+        for (ImportRecord record : chunk) {
+            try {
+                Long clientId = references.resolve(record);
+                CreatePersonRequest request = ImportRecordMapper.toPersonRequest(record, clientId);
+                validate(request);
+                rows.add(new ImportChunkWriter.PendingRow(record.line(), () -> {
+                    Person person = request.toEntity();
+                    // A reference proxy sets the foreign key without loading the client
+                    person.setClient(entityManager.getReference(Client.class, clientId));
+                    return person;
+                }));
+            } catch (IllegalArgumentException e) {
+                report.failed(record.line(), e.getMessage());
+            }
+        }
+        return rows;
+    }
+
+    private void afterClientPersisted(Object entity) {
+        Client client = (Client) entity;
+        clientNameSearchEngine.index(client);
+        duplicateDetectionEngine.index(client);
+        // A lookup of the id before it existed may have cached the absence of the client
+        dossierCache.evict(client.getId());
+    }
+
+    private void afterPersonPersisted(Person person, ClientReferences references) {
+        ownershipGraphEngine.recordPersonOwnership(person);
+        // The client is an unloaded reference, so its name comes from the chunk's reference lookup
+        personSearchEngine.index(person, references.namesById().get(person.getClient().getId()));
+        dossierCache.evict(person.getClient().getId());
+    }
+
+    /**
+     * Looks up, with at most two queries, every client referenced by a chunk of person rows.
+     */
+    private ClientReferences resolveClientReferences(List<ImportRecord> chunk) {
+        Set<Long> ids = new HashSet<>();
+        Set<String> registrationNumbers = new HashSet<>();
+        for (ImportRecord record : chunk) {
+            try {
+                Long id = ImportRecordMapper.clientId(record);
+                if (id != null) {
+                    ids.add(id);
+                    continue;
+                }
+            } catch (IllegalArgumentException e) {
+                // Reported when the row itself is resolved
+                continue;
+            }
+            String registrationNumber = record.get(ImportRecordMapper.CLIENT_REGISTRATION_NUMBER);
+            if (registrationNumber != null) {
+                registrationNumbers.add(registrationNumber);
+            }
+        }
+
+        Map<Long, String> namesById = new HashMap<>();
+        Map<String, Long> idsByRegistrationNumber = new HashMap<>();
+        if (!ids.isEmpty()) {
+            clientRepository.findReferencesByIdIn(ids)
+                .forEach(client -> namesById.put(client.getId(), client.getName()));
+        }
+        if (!registrationNumbers.isEmpty()) {
+            List<ClientReferenceView> clients = clientRepository.findReferencesByRegistrationNumberIn(registrationNumbers);
+            for (ClientReferenceView client : clients) {
+                idsByRegistrationNumber.putIfAbsent(client.getRegistrationNumber(), client.getId());
+                namesById.put(client.getId(), client.getName());
+            }
+        }
+        return new ClientReferences(namesById, idsByRegistrationNumber);
+    }
+
+    private void validate(Object request) {
+        Set<ConstraintViolation<Object>> violations = validator.validate(request);
+        if (!violations.isEmpty()) {
+            throw new IllegalArgumentException(violations.stream()
+                .map(violation -> violation.getPropertyPath() + ": " + violation.getMessage())
+                .sorted()
+                .collect(Collectors.joining("; ")));
+        }
+    }
+
+    private record ClientReferences(Map<Long, String> namesById, Map<String, Long> idsByRegistrationNumber) {
+
+        Long resolve(ImportRecord record) {
+            Long id = ImportRecordMapper.clientId(record);
+            if (id != null) {
+                if (!namesById.containsKey(id)) {
+                    throw new IllegalArgumentException("Client not found with ID: " + id);
+                }
+                return id;
+            }
+            String registrationNumber = record.get(ImportRecordMapper.CLIENT_REGISTRATION_NUMBER);
+            if (registrationNumber == null) {
+                throw new IllegalArgumentException("Either " + ImportRecordMapper.CLIENT_ID + " or "
+                    + ImportRecordMapper.CLIENT_REGISTRATION_NUMBER + " is required");
+            }
+            Long resolved = idsByRegistrationNumber.get(registrationNumber);
+            if (resolved == null) {
+                throw new IllegalArgumentException("Client not found with registration number: " + registrationNumber);
+            }
+            return resolved;
+        }
+    }
+}
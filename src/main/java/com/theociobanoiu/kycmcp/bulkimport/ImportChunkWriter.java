@@ -0,0 +1,92 @@
+package com.theociobanoiu.kycmcp.bulkimport;
+
+import jakarta.persistence.EntityManager;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.Session;
+import org.springframework.core.NestedExceptionUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/**
+ * Inserts validated rows one chunk per transaction.
+ * <p>
+ * All entities of a chunk are persisted and flushed together. Ids come from pooled sequences, so
+ * Hibernate can send them as a single JDBC batch. The persistence context is then cleared, which keeps
+ * memory flat however large the file is. When the database rejects a chunk (a duplicate registration
+ * number, say), the chunk is rolled back and replayed one row per transaction. That isolates the bad
+ * rows and keeps the good ones, at the cost of row-at-a-time speed for that chunk only.
+ */
+@Slf4j
+class ImportChunkWriter {
+
+    /**
+     * A row ready to insert. The entity is created lazily and anew for every attempt, because an entity
+     * from a rolled-back attempt already carries an id.
+     */
+    record PendingRow(long line, Supplier<Object> entity) {
+    }
+
+    private final EntityManager entityManager;
+    private final TransactionTemplate transactionTemplate;
+    private final int batchSize;
+
+    ImportChunkWriter(EntityManager entityManager, PlatformTransactionManager transactionManager, int batchSize) {
+        this.entityManager = entityManager;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.batchSize = batchSize;
+    }
+
+    /**
+     * Inserts the rows and records the outcome in the report.
+     *
+     * @param rows          rows to insert, in file order
+     * @param afterPersist  called inside the transaction with every persisted entity, for work that must
+     *                      only take effect if the insert commits (index updates, cache evictions)
+     * @param report        receives the imported count and row failures
+     */
+    void write(List<PendingRow> rows, Consumer<Object> afterPersist, ImportReport report) {
+        if (rows.isEmpty()) {
+            return;
+        }
+        try {
+            transactionTemplate.executeWithoutResult(status -> persist(rows, afterPersist));
+            report.imported(rows.size());
+        } catch (RuntimeException e) {
+            log.debug("Chunk of {} rows starting at line {} was rejected, retrying row by row: {}",
+                rows.size(), rows.getFirst().line(), rootMessage(e));
+            for (PendingRow row : rows) {
+                try {
+                    transactionTemplate.executeWithoutResult(status -> persist(List.of(row), afterPersist));
+                    report.imported(1);
+                } catch (RuntimeException rowFailure) {
+                    report.failed(row.line(), rootMessage(rowFailure));
+                }
+            }
+        }
+    }
+
+    private void persist(List<PendingRow> rows, Consumer<Object> afterPersist) {
+        entityManager.unwrap(Session.class).setJdbcBatchSize(batchSize);
+        try {
+            for (PendingRow row : rows) {
+                Object entity = row.entity().get();
+                entityManager.persist(entity);
+                afterPersist.accept(entity);
+            }
+            entityManager.flush();
+        } finally {
+            entityManager.clear();
+        }
+    }
+
+    private static String rootMessage(Throwable e) {
+        Throwable cause = NestedExceptionUtils.getMostSpecificCause(e);
+        return cause.getMessage() != null ? cause.getMessage() : cause.getClass().getSimpleName();
+    }
+}
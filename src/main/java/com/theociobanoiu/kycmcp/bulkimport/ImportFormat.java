@@ -0,0 +1,36 @@
+package com.theociobanoiu.kycmcp.bulkimport;
+
+import java.util.Locale;
+
+/**
+ * File formats accepted by the bulk import.
+ */
+public enum ImportFormat {
+
+    /**
+     * Comma-separated values with a header row naming the columns.
+     */
+    CSV,
+
+    /**
+     * One JSON object per line (JSON Lines / NDJSON).
+     */
+    JSONL;
+
+    /**
+     * Picks the format from a file extension ({@code .csv}, {@code .jsonl} or {@code .ndjson}).
+     *
+     * @throws IllegalArgumentException for any other extension
+     */
+    public static ImportFormat fromFileName(String fileName) {
+        String lower = fileName.toLowerCase(Locale.ROOT);
+        if (lower.endsWith(".csv")) {
+            return CSV;
+        }
+        if (lower.endsWith(".jsonl") || lower.endsWith(".ndjson")) {
+            return JSONL;
+        }
+        throw new IllegalArgumentException("Cannot tell the import format of '" + fileName
+            + "'; use a .csv, .jsonl or .ndjson file or pass the format explicitly");
+    }
+}
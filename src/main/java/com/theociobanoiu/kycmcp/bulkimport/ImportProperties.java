@@ -0,0 +1,31 @@
+package com.theociobanoiu.kycmcp.bulkimport;
+
+import com.theociobanoiu.kycmcp.model.enums.RiskLevel;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.nio.file.Path;
+
+/**
+ * Bulk import settings, bound from {@code kyc.import.*}.
+ *
+ * @param directory         directory that file imports requested through the MCP tool are read from;
+ *                          null disables file imports (uploads through the REST endpoint still work)
+ * @param chunkSize         rows inserted per transaction and JDBC batch
+ * @param maxReportedErrors row errors listed in a result; further failures are only counted
+ * @param defaultRiskLevel  risk level given to imported clients whose row has none
+ */
+@ConfigurationProperties(prefix = "kyc.import")
+public record ImportProperties(
+    Path directory,
+    @DefaultValue("1000") int chunkSize,
+    @DefaultValue("100") int maxReportedErrors,
+    @DefaultValue("MEDIUM") RiskLevel defaultRiskLevel
+) {
+
+    public ImportProperties {
+        if (chunkSize < 1) {
+            throw new IllegalArgumentException("kyc.import.chunk-size must be positive");
+        }
+    }
+}
@@ -0,0 +1,42 @@
+package com.theociobanoiu.kycmcp.bulkimport;
+
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * One row of an import file, with its fields keyed by {@linkplain #key(String) normalized} column name.
+ *
+ * @param line   1-based line number in the source file, used for error reporting
+ * @param fields field values by normalized column name; null when the line could not be parsed
+ * @param error  why the line could not be parsed, or null
+ */
+record ImportRecord(long line, Map<String, String> fields, String error) {
+
+    static ImportRecord parsed(long line, Map<String, String> fields) {
+        return new ImportRecord(line, fields, null);
+    }
+
+    static ImportRecord unparseable(long line, String error) {
+        return new ImportRecord(line, null, error);
+    }
+
+    /**
+     * Trimmed value of a column, or null when the column is absent or blank.
+     */
+    String get(String column) {
+        String value = fields.get(key(column));
+        if (value == null) {
+            return null;
+        }
+        String trimmed = value.trim();
+        return trimmed.isEmpty() ? null : trimmed;
+    }
+
+    /**
+     * Column names are matched ignoring case and underscores, so CSV headers such as {@code client_type}
+     * and JSON keys such as {@code clientType} name the same field.
+     */
+    static String key(String column) {
+        return column.replace("_", "").toLowerCase(Locale.ROOT);
+    }
+}
@@ -0,0 +1,109 @@
+package com.theociobanoiu.kycmcp.bulkimport;
+
+import com.theociobanoiu.kycmcp.model.dto.request.CreateClientRequest;
+import com.theociobanoiu.kycmcp.model.dto.request.CreatePersonRequest;
+import com.theociobanoiu.kycmcp.model.enums.ClientType;
+import com.theociobanoiu.kycmcp.model.enums.RelationshipType;
+import com.theociobanoiu.kycmcp.model.enums.RiskLevel;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.Locale;
+
+/**
+ * Converts import rows into the same request objects the single-row create paths use, so imported rows
+ * pass the same bean validation. Conversion problems are reported as {@link IllegalArgumentException}
+ * with a message naming the offending column.
+ */
+final class ImportRecordMapper {
+
+    static final String CLIENT_ID = "client_id";
+    static final String CLIENT_REGISTRATION_NUMBER = "client_registration_number";
+
+    private ImportRecordMapper() {
+    }
+
+    static CreateClientRequest toClientRequest(ImportRecord record) {
+        return new CreateClientRequest(
+            record.get("name"),
+            parseEnum(ClientType.class, record, "client_type"),
+            record.get("email"),
+            record.get("phone"),
+            record.get("registration_number")
+        );
+    }
+
+    /**
+     * Risk level of a client row, falling back to the given default when the column is empty.
+     */
+    static RiskLevel riskLevel(ImportRecord record, RiskLevel defaultRiskLevel) {
+        RiskLevel riskLevel = parseEnum(RiskLevel.class, record, "risk_level");
+        return riskLevel != null ? riskLevel : defaultRiskLevel;
+    }
+
+    static CreatePersonRequest toPersonRequest(ImportRecord record, Long clientId) {
+        return new CreatePersonRequest(
+            clientId,
+            record.get("first_name"),
+            record.get("last_name"),
+            record.get("email"),
+            record.get("phone"),
+            parseDate(record, "date_of_birth"),
+            record.get("nationality"),
+            record.get("identification_number"),
+            parseEnum(RelationshipType.class, record, "relationship_type"),
+            record.get("position_title"),
+            parseDecimal(record, "ownership_percentage"),
+            record.get("address")
+        );
+    }
+
+    static Long clientId(ImportRecord record) {
+        String value = record.get(CLIENT_ID);
+        if (value == null) {
+            return null;
+        }
+        try {
+            return Long.valueOf(value);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Invalid " + CLIENT_ID + " '" + value + "'");
+        }
+    }
+
+    private static <E extends Enum<E>> E parseEnum(Class<E> type, ImportRecord record, String column) {
+        String value = record.get(column);
+        if (value == null) {
+            return null;
+        }
+        try {
+            return Enum.valueOf(type, value.toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Invalid " + column + " '" + value + "'");
+        }
+    }
+
+    private static LocalDate parseDate(ImportRecord record, String column) {
+        String value = record.get(column);
+        if (value == null) {
+            return null;
+        }
+        try {
+            return LocalDate.parse(value);
+        } catch (DateTimeParseException e) {
+            throw new IllegalArgumentException("Invalid " + column + " '" + value + "', expected yyyy-MM-dd");
+        }
+    }
+
+    private static BigDecimal parseDecimal(ImportRecord record, String column) {
+        String value = record.get(column);
+        if (value == null) {
+            return null;
+        }
+        try {
+            return new BigDecimal(value);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Invalid " + column + " '" + value + "'");
+        }
+    }
+}
@@ -0,0 +1,124 @@
+package com.theociobanoiu.kycmcp.bulkimport;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.theociobanoiu.kycmcp.util.csv.CsvLines;
+
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+
+/**
+ * Streams the rows of a CSV or JSONL import file one line at a time, so files of any size are read in
+ * constant memory. Blank lines are skipped; lines that cannot be parsed are returned as
+ * {@linkplain ImportRecord#unparseable(long, String) unparseable records} rather than failing the import.
+ */
+class ImportRecordReader implements Iterator<ImportRecord>, Closeable {
+
+    private final BufferedReader reader;
+    private final ImportFormat format;
+    private final ObjectMapper objectMapper;
+    private final List<String> header;
+
+    private long lineNumber;
+    private ImportRecord next;
+
+    ImportRecordReader(BufferedReader reader, ImportFormat format, ObjectMapper objectMapper) throws IOException {
+        this.reader = reader;
+        this.format = format;
+        this.objectMapper = objectMapper;
+        this.header = format == ImportFormat.CSV ? readHeader() : List.of();
+    }
+
+    @Override
+    public boolean hasNext() {
+        if (next == null) {
+            next = readNext();
+        }
+        return next != null;
+    }
+
+    @Override
+    public ImportRecord next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        ImportRecord current = next;
+        next = null;
+        return current;
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+
+    private List<String> readHeader() throws IOException {
+        String line = reader.readLine();
+        lineNumber++;
+        if (line == null) {
+            return List.of();
+        }
+        return CsvLines.split(stripByteOrderMark(line)).stream()
+            .map(ImportRecord::key)
+            .map(String::trim)
+            .toList();
+    }
+
+    private ImportRecord readNext() {
+        try {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                lineNumber++;
+                if (!line.isBlank()) {
+                    return format == ImportFormat.CSV ? parseCsv(line) : parseJson(line);
+                }
+            }
+            return null;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private ImportRecord parseCsv(String line) {
+        List<String> values = CsvLines.split(line);
+        if (values.size() > header.size()) {
+            return ImportRecord.unparseable(lineNumber,
+                "Expected at most " + header.size() + " fields but found " + values.size());
+        }
+        Map<String, String> fields = HashMap.newHashMap(header.size());
+        for (int i = 0; i < values.size(); i++) {
+            fields.put(header.get(i), values.get(i));
+        }
+        return ImportRecord.parsed(lineNumber, fields);
+    }
+
+    private ImportRecord parseJson(String line) {
+        JsonNode node;
+        try {
+            node = objectMapper.readTree(lineNumber == 1 ? stripByteOrderMark(line) : line);
+        } catch (JsonProcessingException e) {
+            return ImportRecord.unparseable(lineNumber, "Malformed JSON: " + e.getOriginalMessage());
+        }
+        if (node == null || !node.isObject()) {
+            return ImportRecord.unparseable(lineNumber, "Expected a JSON object");
+        }
+        Map<String, String> fields = HashMap.newHashMap(node.size());
+        node.fields().forEachRemaining(field -> {
+            JsonNode value = field.getValue();
+            fields.put(ImportRecord.key(field.getKey()), value.isNull() ? null : value.asText());
+        });
+        return ImportRecord.parsed(lineNumber, fields);
+    }
+
+    private static String stripByteOrderMark(String line) {
+        return !line.isEmpty() && line.charAt(0) == '﻿' ? line.substring(1) : line;
+    }
+}
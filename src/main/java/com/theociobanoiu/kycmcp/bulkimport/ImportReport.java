@@ -0,0 +1,57 @@
+package com.theociobanoiu.kycmcp.bulkimport;
+
+import com.theociobanoiu.kycmcp.model.dto.ImportResultDTO;
+import com.theociobanoiu.kycmcp.model.dto.ImportRowErrorDTO;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Running tally of one import. Not thread-safe; an import runs on a single thread.
+ */
+public class ImportReport {
+
+    private final ImportTarget target;
+    private final ImportFormat format;
+    private final int maxReportedErrors;
+    private final long startNanos = System.nanoTime();
+    private final List<ImportRowErrorDTO> errors = new ArrayList<>();
+
+    private long rowsRead;
+    private long rowsImported;
+    private long rowsFailed;
+
+    public ImportReport(ImportTarget target, ImportFormat format, int maxReportedErrors) {
+        this.target = target;
+        this.format = format;
+        this.maxReportedErrors = maxReportedErrors;
+    }
+
+    void read() {
+        rowsRead++;
+    }
+
+    void imported(int rows) {
+        rowsImported += rows;
+    }
+
+    void failed(long line, String message) {
+        rowsFailed++;
+        if (errors.size() < maxReportedErrors) {
+            errors.add(new ImportRowErrorDTO(line, message));
+        }
+    }
+
+    public ImportResultDTO toResult() {
+        long elapsedNanos = System.nanoTime() - startNanos;
+        long elapsedMillis = elapsedNanos / 1_000_000;
+        long rowsPerSecond = elapsedNanos > 0 ? rowsRead * 1_000_000_000L / elapsedNanos : rowsRead;
+        // A chunk reports its validation failures before its insert failures, so restore file order
+        List<ImportRowErrorDTO> sorted = errors.stream()
+            .sorted(Comparator.comparingLong(ImportRowErrorDTO::line))
+            .toList();
+        return new ImportResultDTO(target, format, rowsRead, rowsImported, rowsFailed, sorted,
+            rowsFailed > errors.size(), elapsedMillis, rowsPerSecond);
+    }
+}
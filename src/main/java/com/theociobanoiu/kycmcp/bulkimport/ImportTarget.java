@@ -0,0 +1,18 @@
+package com.theociobanoiu.kycmcp.bulkimport;
+
+/**
+ * What a bulk import file contains.
+ */
+public enum ImportTarget {
+
+    /**
+     * One client per row.
+     */
+    CLIENTS,
+
+    /**
+     * One person per row, referencing an existing client by {@code client_id} or
+     * {@code client_registration_number}.
+     */
+    PERSONS
+}
@@ -0,0 +1,31 @@
+package com.theociobanoiu.kycmcp.coalescing;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marks a read-only service method whose concurrent calls with the same arguments may share one execution: while
+ * a call is running, identical calls wait for it and get its result (or its exception) instead of running the
+ * query again. With {@code kyc.coalescing.result-window} set, a finished result is also handed to identical calls
+ * made within that window. See {@link CoalescingProperties}.
+ * <p>
+ * Calls made inside a running transaction are never coalesced, since they may need to see its uncommitted
+ * writes. The method must return a result callers do not modify, as every coalesced caller gets the same instance.
+ * Like {@code @QueryBudget}, meant for interface methods of Spring beans; an annotation on the implementing method
+ * takes precedence.
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+public @interface Coalesced {
+
+    /**
+     * SpEL expression over the method's arguments ({@code #name} or {@code #p0}) computing the key identical calls
+     * share, to normalize arguments that do not change the result, such as the case of a case-insensitive search.
+     * Empty uses all arguments as they are.
+     */
+    String key() default "";
+}
@@ -0,0 +1,40 @@
+package com.theociobanoiu.kycmcp.coalescing;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.aop.Advisor;
+import org.springframework.aop.support.DefaultPointcutAdvisor;
+import org.springframework.aop.support.annotation.AnnotationMatchingPointcut;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Role;
+import org.springframework.core.Ordered;
+
+/**
+ * Wires {@link Coalesced} methods: an advisor sharing one execution between identical concurrent calls.
+ */
+@Configuration
+public class CoalescingConfiguration {
+
+    /**
+     * Runs outside the caching and {@code @Transactional} advice, so a coalesced call neither opens a transaction
+     * nor takes a pooled connection while it waits.
+     */
+    static final int COALESCING_ADVICE_ORDER = Ordered.LOWEST_PRECEDENCE - 2;
+
+    /**
+     * Infrastructure role, so the auto-proxy creator Spring registers for transactions and caching applies it
+     * without the AspectJ auto-proxy support.
+     */
+    @Bean
+    @Role(BeanDefinition.ROLE_INFRASTRUCTURE)
+    public static Advisor coalescingAdvisor(ObjectProvider<CoalescingProperties> properties,
+                                            ObjectProvider<MeterRegistry> registry) {
+        DefaultPointcutAdvisor advisor = new DefaultPointcutAdvisor(
+            new AnnotationMatchingPointcut(null, Coalesced.class, true),
+            new CoalescingInterceptor(properties, registry));
+        advisor.setOrder(COALESCING_ADVICE_ORDER);
+        return advisor;
+    }
+}
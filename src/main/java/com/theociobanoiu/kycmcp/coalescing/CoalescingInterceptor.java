@@ -0,0 +1,213 @@
+package com.theociobanoiu.kycmcp.coalescing;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+import org.springframework.aop.support.AopUtils;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.cache.interceptor.SimpleKeyGenerator;
+import org.springframework.context.expression.MethodBasedEvaluationContext;
+import org.springframework.core.DefaultParameterNameDiscoverer;
+import org.springframework.core.ParameterNameDiscoverer;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.expression.Expression;
+import org.springframework.expression.spel.standard.SpelExpressionParser;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.lang.reflect.Method;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Shares one execution of a {@link Coalesced} method between identical calls.
+ * <p>
+ * The first call for a key registers an in-flight entry and runs the method; identical calls arriving meanwhile
+ * find the entry and wait for its outcome. The entry is dropped when the call fails, and when it succeeds either at
+ * once or after {@code kyc.coalescing.result-window}. Calls are counted in {@value #CALLS}, tagged with the
+ * {@code method} and the {@code outcome}: {@code executed} for calls that ran the method, {@code coalesced} for
+ * calls that waited for a running one, {@code cached} for calls answered from a finished one. A coalesced call
+ * waits at most {@code kyc.coalescing.wait-timeout}; it then runs the method itself, without sharing it, and is
+ * also counted as {@code timed_out}.
+ */
+final class CoalescingInterceptor implements MethodInterceptor {
+
+    static final String CALLS = "kyc.coalescing.calls";
+
+    private static final ParameterNameDiscoverer PARAMETER_NAMES = new DefaultParameterNameDiscoverer();
+    private static final SpelExpressionParser PARSER = new SpelExpressionParser();
+
+    private final ObjectProvider<CoalescingProperties> properties;
+    private final ObjectProvider<MeterRegistry> registry;
+    private final Map<Method, Optional<Target>> targets = new ConcurrentHashMap<>();
+    private final Map<Key, Flight> flights = new ConcurrentHashMap<>();
+
+    CoalescingInterceptor(ObjectProvider<CoalescingProperties> properties, ObjectProvider<MeterRegistry> registry) {
+        this.properties = properties;
+        this.registry = registry;
+    }
+
+    @Override
+    public Object invoke(MethodInvocation invocation) throws Throwable {
+        CoalescingProperties config = properties.getObject();
+        Target target = config.enabled() && !TransactionSynchronizationManager.isActualTransactionActive()
+            ? target(invocation) : null;
+        if (target == null) {
+            return invocation.proceed();
+        }
+
+        Key key = new Key(invocation.getMethod(), target.key(invocation.getArguments()));
+        Flight flight = new Flight();
+        Flight current;
+        while ((current = flights.putIfAbsent(key, flight)) != null) {
+            if (!current.expired()) {
+                target.count(current.isDone() ? Outcome.CACHED : Outcome.COALESCED);
+                if (current.await(config.waitTimeout())) {
+                    return current.get();
+                }
+                target.count(Outcome.TIMED_OUT);
+                return invocation.proceed();
+            }
+            flights.remove(key, current);
+        }
+
+        target.count(Outcome.EXECUTED);
+        Object result;
+        try {
+            result = invocation.proceed();
+        } catch (Throwable e) {
+            flights.remove(key, flight);
+            flight.fail(e);
+            throw e;
+        }
+        Duration window = config.resultWindow();
+        flight.complete(result, window);
+        if (window.isPositive()) {
+            CompletableFuture.delayedExecutor(window.toNanos(), TimeUnit.NANOSECONDS)
+                .execute(() -> flights.remove(key, flight));
+        } else {
+            flights.remove(key, flight);
+        }
+        return result;
+    }
+
+    private Target target(MethodInvocation invocation) {
+        Class<?> targetClass = invocation.getThis() != null
+            ? AopUtils.getTargetClass(invocation.getThis()) : invocation.getMethod().getDeclaringClass();
+        return targets.computeIfAbsent(invocation.getMethod(), method -> {
+                Method specific = AopUtils.getMostSpecificMethod(method, targetClass);
+                return Optional.ofNullable(AnnotatedElementUtils.findMergedAnnotation(specific, Coalesced.class))
+                    .map(coalesced -> new Target(specific, coalesced, registry.getIfAvailable()));
+            })
+            .orElse(null);
+    }
+
+    private enum Outcome {
+        EXECUTED, COALESCED, CACHED, TIMED_OUT
+    }
+
+    /**
+     * A coalesced method, with its key expression and counters.
+     */
+    private static final class Target {
+
+        private final Method method;
+        private final Expression key;
+        private final Map<Outcome, Counter> counters = new EnumMap<>(Outcome.class);
+
+        Target(Method method, Coalesced coalesced, MeterRegistry registry) {
+            this.method = method;
+            this.key = coalesced.key().isBlank() ? null : PARSER.parseExpression(coalesced.key());
+            if (registry != null) {
+                String name = method.getDeclaringClass().getSimpleName() + "." + method.getName();
+                for (Outcome outcome : Outcome.values()) {
+                    counters.put(outcome, Counter.builder(CALLS)
+                        .description("Calls of coalesced service methods")
+                        .tags("method", name, "outcome", outcome.name().toLowerCase(Locale.ROOT))
+                        .register(registry));
+                }
+            }
+        }
+
+        Object key(Object[] arguments) {
+            if (key == null) {
+                return SimpleKeyGenerator.generateKey(arguments);
+            }
+            return key.getValue(new MethodBasedEvaluationContext(null, method, arguments, PARAMETER_NAMES));
+        }
+
+        void count(Outcome outcome) {
+            Counter counter = counters.get(outcome);
+            if (counter != null) {
+                counter.increment();
+            }
+        }
+    }
+
+    private record Key(Method method, Object arguments) {
+    }
+
+    /**
+     * The outcome of one execution, shared with the identical calls that find it.
+     */
+    private static final class Flight {
+
+        private final CompletableFuture<Object> result = new CompletableFuture<>();
+        private volatile long expiresAt = Long.MAX_VALUE;
+
+        void complete(Object value, Duration window) {
+            expiresAt = System.nanoTime() + window.toNanos();
+            result.complete(value);
+        }
+
+        void fail(Throwable e) {
+            result.completeExceptionally(e);
+        }
+
+        boolean isDone() {
+            return result.isDone();
+        }
+
+        boolean expired() {
+            return isDone() && System.nanoTime() - expiresAt >= 0;
+        }
+
+        /**
+         * Waits for the execution to finish, for at most {@code timeout}.
+         *
+         * @return whether it finished, successfully or not
+         */
+        boolean await(Duration timeout) {
+            try {
+                result.get(timeout.toNanos(), TimeUnit.NANOSECONDS);
+                return true;
+            } catch (ExecutionException e) {
+                return true;
+            } catch (TimeoutException e) {
+                return false;
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("Interrupted waiting for an identical call to finish", e);
+            }
+        }
+
+        /**
+         * The result of a finished execution, or its exception rethrown.
+         */
+        Object get() throws Throwable {
+            if (result.state() == Future.State.FAILED) {
+                throw result.exceptionNow();
+            }
+            return result.resultNow();
+        }
+    }
+}
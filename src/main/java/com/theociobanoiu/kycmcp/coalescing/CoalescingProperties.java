@@ -0,0 +1,22 @@
+package com.theociobanoiu.kycmcp.coalescing;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * Configuration for {@link Coalesced} methods, bound from {@code kyc.coalescing}.
+ *
+ * @param enabled      share one execution between identical concurrent calls; false runs every call
+ * @param resultWindow how long a finished result is still handed to identical calls; 0 only shares calls that
+ *                     overlap. Results can then be this much older than the latest committed write.
+ * @param waitTimeout  how long an identical call waits for a running one before running the method itself
+ */
+@ConfigurationProperties(prefix = "kyc.coalescing")
+public record CoalescingProperties(
+    @DefaultValue("true") boolean enabled,
+    @DefaultValue("0ms") Duration resultWindow,
+    @DefaultValue("10s") Duration waitTimeout
+) {
+}
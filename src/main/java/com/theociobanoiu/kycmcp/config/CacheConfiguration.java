@@ -0,0 +1,54 @@
+package com.theociobanoiu.kycmcp.config;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.cache.transaction.TransactionAwareCacheManagerProxy;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+import java.util.List;
+
+/**
+ * Configures the in-process caches.
+ * <p>
+ * The caching advice is ordered outside the transactional advice, so a cache hit is answered before a
+ * transaction (and a pooled connection) is even opened. The cache manager is transaction-aware: when an
+ * eviction is requested inside a running transaction it is deferred until that transaction commits, so a
+ * concurrent reader cannot re-populate an entry from the not-yet-committed state.
+ */
+@Configuration
+@EnableCaching(order = CacheConfiguration.CACHE_ADVICE_ORDER)
+@Slf4j
+public class CacheConfiguration {
+
+    /**
+     * Assembled client dossiers ({@code ClientDTO} with persons) keyed by client id.
+     */
+    public static final String CLIENT_DOSSIERS = "clientDossiers";
+
+    /**
+     * Runs before {@code @Transactional}, which uses {@link Ordered#LOWEST_PRECEDENCE}.
+     */
+    static final int CACHE_ADVICE_ORDER = Ordered.LOWEST_PRECEDENCE - 1;
+
+    @Bean
+    public CacheManager cacheManager(CacheProperties properties) {
+        CacheProperties.Limits dossiers = properties.dossiers();
+        log.info("Client dossier cache: maximum size {}, time to live {}",
+                dossiers.maximumSize(), dossiers.timeToLive());
+
+        CaffeineCacheManager cacheManager = new CaffeineCacheManager();
+        // Only the caches registered below exist; a typo in a cache name fails instead of creating an unbounded cache
+        cacheManager.setCacheNames(List.of());
+        cacheManager.registerCustomCache(CLIENT_DOSSIERS, Caffeine.newBuilder()
+                .maximumSize(dossiers.maximumSize())
+                .expireAfterWrite(dossiers.timeToLive())
+                .recordStats()
+                .build());
+        return new TransactionAwareCacheManagerProxy(cacheManager);
+    }
+}
@@ -0,0 +1,24 @@
+package com.theociobanoiu.kycmcp.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * Sizing of the application caches, bound from {@code kyc.cache.*}.
+ *
+ * @param dossiers limits for the assembled client dossier cache
+ */
+@ConfigurationProperties(prefix = "kyc.cache")
+public record CacheProperties(@DefaultValue Limits dossiers) {
+
+    /**
+     * @param maximumSize maximum number of entries before the least valuable ones are evicted
+     * @param timeToLive  how long an entry is served after it was loaded, bounding staleness from
+     *                    writes that bypass the service layer
+     */
+    public record Limits(@DefaultValue("10000") long maximumSize,
+                         @DefaultValue("10m") Duration timeToLive) {
+    }
+}
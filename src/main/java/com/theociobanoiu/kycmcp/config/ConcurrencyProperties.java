@@ -0,0 +1,26 @@
+package com.theociobanoiu.kycmcp.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * Concurrency limits used when requests and tool calls run on virtual threads
+ * ({@code spring.threads.virtual.enabled=true}), bound from {@code kyc.concurrency.*}.
+ * <p>
+ * Virtual threads are cheap, so the number of threads no longer limits how many tool calls run at once;
+ * the database does. Connections are handed out through a fair semaphore instead of letting every blocked
+ * thread compete for the connection pool.
+ *
+ * @param databasePermits        how many threads may hold a database connection at once; 0 uses the
+ *                               connection pool's maximum size
+ * @param databaseAcquireTimeout how long a thread waits for a permit before the call fails
+ * @param maxConcurrentToolCalls upper bound on MCP tool calls executing at once, a safety net rather
+ *                               than a tuning knob
+ */
+@ConfigurationProperties(prefix = "kyc.concurrency")
+public record ConcurrencyProperties(@DefaultValue("0") int databasePermits,
+                                    @DefaultValue("30s") Duration databaseAcquireTimeout,
+                                    @DefaultValue("10000") int maxConcurrentToolCalls) {
+}
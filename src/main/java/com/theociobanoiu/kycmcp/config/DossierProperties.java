@@ -0,0 +1,16 @@
+package com.theociobanoiu.kycmcp.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * Assembly of the client dossier served by {@code get_client_dossier}, bound from {@code kyc.dossier.*}.
+ *
+ * @param sectionTimeout how long the dossier waits for its sections, all started together; a section still
+ *                       running by then is left out of the dossier
+ */
+@ConfigurationProperties(prefix = "kyc.dossier")
+public record DossierProperties(@DefaultValue("2s") Duration sectionTimeout) {
+}
@@ -0,0 +1,17 @@
+package com.theociobanoiu.kycmcp.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * Start-up shortcuts of the {@code fast-start} profile, bound from {@code kyc.fast-start.*}.
+ *
+ * @param skipUnchangedMigrations skip Liquibase when the database was last migrated with exactly the changelog
+ *                                this build contains
+ * @param warmUpIterations        calls of every read-only tool made before the instance reports itself ready;
+ *                                0 reports ready without warming up
+ */
+@ConfigurationProperties(prefix = "kyc.fast-start")
+public record FastStartProperties(@DefaultValue("false") boolean skipUnchangedMigrations,
+                                  @DefaultValue("0") int warmUpIterations) {
+}
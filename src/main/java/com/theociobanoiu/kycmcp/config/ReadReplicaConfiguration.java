@@ -0,0 +1,77 @@
+package com.theociobanoiu.kycmcp.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+import org.springframework.core.env.Environment;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.util.function.Function;
+
+/**
+ * Read/write routing, active once {@code kyc.read-replicas.replicas} lists a replica.
+ * <p>
+ * The data source is wrapped in a {@link LazyConnectionDataSourceProxy}, which defers taking a connection until
+ * the first statement of a transaction. By then the transaction has marked the connection read-only or not, and a
+ * read-only one, such as the {@code @Transactional(readOnly = true)} service reads and the Spring Data repository
+ * reads, is taken from a replica picked by {@link ReadReplicaRouter}. Everything else stays on
+ * {@code spring.datasource}, which remains the only data source bean, so Liquibase and the health check keep using
+ * the primary.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "kyc.read-replicas.replicas[0]", name = "url")
+@Slf4j
+public class ReadReplicaConfiguration {
+
+    /**
+     * Static and bound from the environment, like the database permits, since the data source depends on it.
+     * Replica pools get the same connection permits as the primary when running on virtual threads.
+     */
+    @Bean
+    static ReadReplicaRouter readReplicaRouter(Environment environment) {
+        Binder binder = Binder.get(environment);
+        ReadReplicaProperties properties = binder.bindOrCreate("kyc.read-replicas", ReadReplicaProperties.class);
+        Function<HikariDataSource, DataSource> wrapper = pool -> pool;
+        if (environment.getProperty("spring.threads.virtual.enabled", Boolean.class, false)) {
+            ConcurrencyProperties concurrency = binder.bindOrCreate("kyc.concurrency", ConcurrencyProperties.class);
+            wrapper = pool -> new PermitLimitedDataSource(pool, pool.getMaximumPoolSize(),
+                concurrency.databaseAcquireTimeout());
+        }
+        log.info("Read-only transactions are routed to {} read replica(s)", properties.replicas().size());
+        return new ReadReplicaRouter(properties, wrapper);
+    }
+
+    /**
+     * Ordered last, so the router receives the primary as the other post-processors left it.
+     */
+    @Bean
+    static BeanPostProcessor readReplicaRoutingPostProcessor(ObjectProvider<ReadReplicaRouter> router) {
+        return new RoutingPostProcessor(router);
+    }
+
+    private record RoutingPostProcessor(ObjectProvider<ReadReplicaRouter> router)
+        implements BeanPostProcessor, Ordered {
+
+        @Override
+        public Object postProcessAfterInitialization(Object bean, String beanName) {
+            if (!(bean instanceof DataSource primary) || bean instanceof LazyConnectionDataSourceProxy) {
+                return bean;
+            }
+            LazyConnectionDataSourceProxy routing = new LazyConnectionDataSourceProxy(primary);
+            routing.setReadOnlyDataSource(router.getObject().readOnlyDataSource(primary));
+            return routing;
+        }
+
+        @Override
+        public int getOrder() {
+            return Ordered.LOWEST_PRECEDENCE;
+        }
+    }
+}
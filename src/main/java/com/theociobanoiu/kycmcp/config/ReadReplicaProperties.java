@@ -0,0 +1,43 @@
+package com.theociobanoiu.kycmcp.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Read replicas that read-only transactions are routed to, bound from {@code kyc.read-replicas.*}. Without
+ * replicas all traffic goes to {@code spring.datasource}.
+ *
+ * @param replicas             the replicas, used in turn
+ * @param maxLag               a replica lagging further behind than this is not read from
+ * @param readYourWritesMargin a replica serves reads only once this long plus its lag has passed since the last
+ *                             write committed on the primary, so a caller reads back what it just wrote
+ * @param lagCheckInterval     how often each replica's lag is measured
+ */
+@ConfigurationProperties(prefix = "kyc.read-replicas")
+public record ReadReplicaProperties(
+    @DefaultValue List<Replica> replicas,
+    @DefaultValue("5s") Duration maxLag,
+    @DefaultValue("100ms") Duration readYourWritesMargin,
+    @DefaultValue("1s") Duration lagCheckInterval
+) {
+
+    /**
+     * @param name            name of the replica in metrics and logs; {@code replica-<index>} when unset
+     * @param url             JDBC URL
+     * @param maximumPoolSize connections kept to the replica
+     * @param lagQuery        query returning how far the replica is behind the primary, in milliseconds; unset
+     *                        treats the replica as never behind
+     */
+    public record Replica(
+        String name,
+        String url,
+        String username,
+        String password,
+        @DefaultValue("10") int maximumPoolSize,
+        String lagQuery
+    ) {
+    }
+}
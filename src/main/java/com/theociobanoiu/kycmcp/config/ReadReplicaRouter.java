@@ -0,0 +1,278 @@
+package com.theociobanoiu.kycmcp.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.jdbc.datasource.AbstractDataSource;
+import org.springframework.transaction.TransactionExecution;
+import org.springframework.transaction.TransactionExecutionListener;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+/**
+ * Picks the database a read-only transaction runs on: one of the read replicas in turn, or the primary when no
+ * replica can be trusted to have the data.
+ * <p>
+ * Every replica's lag is measured in the background with its lag query. A replica is skipped while it is
+ * unreachable, while it lags more than the allowed maximum, and while the last write committed on the primary is
+ * more recent than its lag (plus a margin), since the replica may not have replayed that write yet. That keeps
+ * read-your-writes: a client created a moment ago is read back from the primary. Writes are noticed through the
+ * transaction manager, so they are tracked for the whole application rather than per caller, and a burst of
+ * writes sends reads to the primary for about the replicas' lag.
+ * <p>
+ * Publishes {@code kyc.datasource.reads}, the connections handed out per {@code target} (the primary or a
+ * replica) and {@code reason}, {@code kyc.datasource.replica.lag} per replica, and the usual
+ * {@code hikaricp.connections.*} pool metrics of every replica pool.
+ */
+@Slf4j
+public class ReadReplicaRouter implements TransactionExecutionListener, MeterBinder, SmartLifecycle, DisposableBean {
+
+    static final String READS = "kyc.datasource.reads";
+    static final String LAG = "kyc.datasource.replica.lag";
+    static final String PRIMARY = "primary";
+
+    /**
+     * Why a read went where it went.
+     */
+    enum Reason {
+        /**
+         * Served by a replica.
+         */
+        REPLICA,
+        /**
+         * A write committed more recently than the replicas' lag.
+         */
+        RECENT_WRITE,
+        /**
+         * Every replica lags more than allowed.
+         */
+        REPLICA_LAG,
+        /**
+         * No replica is reachable, or none has been checked yet.
+         */
+        REPLICA_DOWN;
+
+        String tag() {
+            return name().toLowerCase(Locale.ROOT).replace('_', '-');
+        }
+    }
+
+    private final List<Replica> replicas = new ArrayList<>();
+    private final long maxLagNanos;
+    private final long marginNanos;
+    private final Duration lagCheckInterval;
+    private final AtomicInteger next = new AtomicInteger();
+    private final Map<Reason, LongAdder> primaryReads = new EnumMap<>(Reason.class);
+    private volatile long lastWriteAt = System.nanoTime() - TimeUnit.DAYS.toNanos(1);
+    private volatile DataSource primary;
+    private ScheduledExecutorService lagProbe;
+    private volatile boolean running;
+
+    /**
+     * @param wrapper applied to every replica pool, as to the primary's (connection permits with virtual threads)
+     */
+    ReadReplicaRouter(ReadReplicaProperties properties, Function<HikariDataSource, DataSource> wrapper) {
+        this.maxLagNanos = properties.maxLag().toNanos();
+        this.marginNanos = properties.readYourWritesMargin().toNanos();
+        this.lagCheckInterval = properties.lagCheckInterval();
+        for (Reason reason : Reason.values()) {
+            primaryReads.put(reason, new LongAdder());
+        }
+        List<ReadReplicaProperties.Replica> configured = properties.replicas();
+        for (int i = 0; i < configured.size(); i++) {
+            ReadReplicaProperties.Replica replica = configured.get(i);
+            String name = replica.name() != null ? replica.name() : "replica-" + i;
+            HikariDataSource pool = new HikariDataSource();
+            pool.setPoolName(name);
+            pool.setJdbcUrl(replica.url());
+            pool.setUsername(replica.username());
+            pool.setPassword(replica.password());
+            pool.setMaximumPoolSize(replica.maximumPoolSize());
+            pool.setReadOnly(true);
+            replicas.add(new Replica(name, pool, wrapper.apply(pool), replica.lagQuery()));
+        }
+    }
+
+    /**
+     * The data source for read-only transactions, falling back to the given primary.
+     */
+    DataSource readOnlyDataSource(DataSource primary) {
+        this.primary = primary;
+        return new AbstractDataSource() {
+            @Override
+            public Connection getConnection() throws SQLException {
+                return route();
+            }
+
+            @Override
+            public Connection getConnection(String username, String password) throws SQLException {
+                return route();
+            }
+        };
+    }
+
+    private Connection route() throws SQLException {
+        long sinceWrite = System.nanoTime() - lastWriteAt;
+        int start = next.getAndIncrement();
+        Reason reason = Reason.REPLICA_DOWN;
+        for (int i = 0; i < replicas.size(); i++) {
+            Replica replica = replicas.get(Math.floorMod(start + i, replicas.size()));
+            if (!replica.available) {
+                continue;
+            }
+            if (replica.lagNanos > maxLagNanos) {
+                reason = reason == Reason.RECENT_WRITE ? reason : Reason.REPLICA_LAG;
+                continue;
+            }
+            if (sinceWrite < replica.lagNanos + marginNanos) {
+                reason = Reason.RECENT_WRITE;
+                continue;
+            }
+            try {
+                Connection connection = replica.dataSource.getConnection();
+                replica.reads.increment();
+                return connection;
+            } catch (SQLException e) {
+                log.warn("Read replica {} is unreachable, reading from the primary until it recovers: {}",
+                    replica.name, e.getMessage());
+                replica.available = false;
+            }
+        }
+        primaryReads.get(reason).increment();
+        return primary.getConnection();
+    }
+
+    @Override
+    public void afterCommit(TransactionExecution transaction, Throwable commitFailure) {
+        if (commitFailure == null && !transaction.isReadOnly()) {
+            lastWriteAt = System.nanoTime();
+        }
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        for (Reason reason : Reason.values()) {
+            if (reason != Reason.REPLICA) {
+                FunctionCounter.builder(READS, primaryReads.get(reason), LongAdder::sum)
+                    .description("Connections handed out to read-only transactions")
+                    .tags("target", PRIMARY, "reason", reason.tag())
+                    .register(registry);
+            }
+        }
+        MicrometerMetricsTrackerFactory poolMetrics = new MicrometerMetricsTrackerFactory(registry);
+        for (Replica replica : replicas) {
+            FunctionCounter.builder(READS, replica.reads, LongAdder::sum)
+                .description("Connections handed out to read-only transactions")
+                .tags("target", replica.name, "reason", Reason.REPLICA.tag())
+                .register(registry);
+            Gauge.builder(LAG, replica, r -> r.available ? r.lagNanos / 1e9 : Double.NaN)
+                .description("How far the replica was behind the primary when last measured")
+                .baseUnit("seconds")
+                .tag("replica", replica.name)
+                .register(registry);
+            // Replicas are only connected to once started, so their pools are not sealed yet
+            replica.pool.setMetricsTrackerFactory(poolMetrics);
+        }
+    }
+
+    /**
+     * Replicas are not read from before their first check, which runs here, once the application is up.
+     */
+    @Override
+    public void start() {
+        lagProbe = Executors.newSingleThreadScheduledExecutor(Thread.ofPlatform()
+            .name("replica-lag-probe").daemon().factory());
+        checkReplicas();
+        lagProbe.scheduleWithFixedDelay(this::checkReplicas, lagCheckInterval.toNanos(),
+            lagCheckInterval.toNanos(), TimeUnit.NANOSECONDS);
+        running = true;
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        if (lagProbe != null) {
+            lagProbe.shutdownNow();
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    @Override
+    public void destroy() {
+        stop();
+        replicas.forEach(replica -> replica.pool.close());
+    }
+
+    private void checkReplicas() {
+        for (Replica replica : replicas) {
+            try (Connection connection = replica.dataSource.getConnection()) {
+                replica.lagNanos = replica.lagQuery != null ? measureLag(connection, replica.lagQuery) : 0;
+                if (!replica.available) {
+                    log.info("Read replica {} is available, {} ms behind", replica.name,
+                        replica.lagNanos / 1_000_000);
+                }
+                replica.available = true;
+            } catch (SQLException | RuntimeException e) {
+                if (replica.available) {
+                    log.warn("Read replica {} failed its lag check, reading from the primary until it recovers: {}",
+                        replica.name, e.getMessage());
+                }
+                replica.available = false;
+            }
+        }
+    }
+
+    private static long measureLag(Connection connection, String lagQuery) throws SQLException {
+        try (Statement statement = connection.createStatement();
+             ResultSet result = statement.executeQuery(lagQuery)) {
+            if (!result.next()) {
+                throw new SQLException("Lag query returned no row");
+            }
+            return Math.max(0, (long) (result.getDouble(1) * 1_000_000));
+        }
+    }
+
+    private static final class Replica {
+
+        private final String name;
+        private final HikariDataSource pool;
+        private final DataSource dataSource;
+        private final String lagQuery;
+        private final LongAdder reads = new LongAdder();
+        private volatile boolean available;
+        private volatile long lagNanos;
+
+        private Replica(String name, HikariDataSource pool, DataSource dataSource, String lagQuery) {
+            this.name = name;
+            this.pool = pool;
+            this.dataSource = dataSource;
+            this.lagQuery = lagQuery;
+        }
+    }
+}
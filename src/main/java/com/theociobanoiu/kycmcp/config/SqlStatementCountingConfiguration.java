@@ -0,0 +1,33 @@
+package com.theociobanoiu.kycmcp.config;
+
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.sql.DataSource;
+
+/**
+ * Wraps the data source in a {@link StatementCountingDataSource}, the single place where SQL is counted for the
+ * tool metrics and the query budgets.
+ */
+@Configuration
+public class SqlStatementCountingConfiguration {
+
+    /**
+     * Static, so the post-processor is registered before the data source is created. Not ordered, so it runs
+     * after the ordered database permit and read replica post-processors and the counting wraps the routing:
+     * statements sent to a replica are counted too.
+     */
+    @Bean
+    static BeanPostProcessor statementCountingPostProcessor() {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (!(bean instanceof DataSource dataSource) || bean instanceof StatementCountingDataSource) {
+                    return bean;
+                }
+                return new StatementCountingDataSource(dataSource);
+            }
+        };
+    }
+}
@@ -0,0 +1,80 @@
+package com.theociobanoiu.kycmcp.config;
+
+import io.micrometer.context.ContextRegistry;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Counts the SQL statements executed, and the time the database spent on them, while the scope is open on the
+ * thread. Statements are seen by {@link StatementCountingDataSource}, beneath Hibernate and {@code JdbcTemplate}
+ * alike, so both the tool metrics and the query budgets read the same numbers.
+ * <p>
+ * Scopes nest: a scope opened while another is open on the thread becomes its child, and every statement counts
+ * against the innermost scope and all scopes enclosing it. The binding is registered with the Micrometer
+ * {@link ContextRegistry}, so work handed to an executor that propagates context snapshots is counted too; the
+ * counters are therefore safe to update from several threads.
+ */
+public final class SqlStatementScope {
+
+    static final String CONTEXT_KEY = "kyc.sql.statement-scope";
+
+    private static final ThreadLocal<SqlStatementScope> CURRENT = new ThreadLocal<>();
+
+    static {
+        ContextRegistry.getInstance().registerThreadLocalAccessor(CONTEXT_KEY, CURRENT);
+    }
+
+    private final SqlStatementScope parent;
+    private final AtomicInteger statements = new AtomicInteger();
+    private final AtomicLong databaseNanos = new AtomicLong();
+
+    private SqlStatementScope(SqlStatementScope parent) {
+        this.parent = parent;
+    }
+
+    /**
+     * Opens a scope on this thread, nested in the one already open, if any.
+     */
+    public static SqlStatementScope open() {
+        SqlStatementScope scope = new SqlStatementScope(CURRENT.get());
+        CURRENT.set(scope);
+        return scope;
+    }
+
+    /**
+     * Restores the enclosing scope, if any, on this thread.
+     */
+    public void close() {
+        if (parent != null) {
+            CURRENT.set(parent);
+        } else {
+            CURRENT.remove();
+        }
+    }
+
+    /**
+     * @return whether a scope is open on this thread, so a statement needs to be timed at all
+     */
+    static boolean active() {
+        return CURRENT.get() != null;
+    }
+
+    /**
+     * Counts an executed statement against every scope open on this thread.
+     */
+    static void statementExecuted(long nanos) {
+        for (SqlStatementScope scope = CURRENT.get(); scope != null; scope = scope.parent) {
+            scope.statements.incrementAndGet();
+            scope.databaseNanos.addAndGet(nanos);
+        }
+    }
+
+    public int statements() {
+        return statements.get();
+    }
+
+    public long databaseNanos() {
+        return databaseNanos.get();
+    }
+}
@@ -0,0 +1,87 @@
+package com.theociobanoiu.kycmcp.config;
+
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.CallableStatement;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+/**
+ * Reports every statement run through its connections to the {@link SqlStatementScope} open on the thread: one
+ * per {@code execute*} call, a JDBC batch included, timed from the call to its return. Whoever sends the SQL,
+ * Hibernate, {@code JdbcTemplate} or a cursor streamed by hand, is seen the same way.
+ */
+final class StatementCountingDataSource extends DelegatingDataSource {
+
+    StatementCountingDataSource(DataSource target) {
+        super(target);
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return counting(super.getConnection());
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return counting(super.getConnection(username, password));
+    }
+
+    private static Connection counting(Connection connection) {
+        return (Connection) Proxy.newProxyInstance(Connection.class.getClassLoader(), new Class<?>[]{Connection.class},
+            (proxy, method, args) -> {
+                if (isIdentityMethod(method)) {
+                    return identity(proxy, method, args);
+                }
+                Object result = invoke(connection, method, args);
+                return result instanceof Statement statement ? counting(statement, method.getReturnType()) : result;
+            });
+    }
+
+    private static Object counting(Statement statement, Class<?> type) {
+        Class<?> statementType = type == CallableStatement.class || type == PreparedStatement.class
+            ? type : Statement.class;
+        return Proxy.newProxyInstance(Statement.class.getClassLoader(), new Class<?>[]{statementType},
+            (proxy, method, args) -> {
+                if (isIdentityMethod(method)) {
+                    return identity(proxy, method, args);
+                }
+                if (!method.getName().startsWith("execute") || !SqlStatementScope.active()) {
+                    return invoke(statement, method, args);
+                }
+                long start = System.nanoTime();
+                try {
+                    return invoke(statement, method, args);
+                } finally {
+                    SqlStatementScope.statementExecuted(System.nanoTime() - start);
+                }
+            });
+    }
+
+    /**
+     * A proxy is only ever equal to itself, so that JDBC code comparing connections or statements it was handed
+     * still sees the same object as the same.
+     */
+    private static boolean isIdentityMethod(Method method) {
+        return (method.getName().equals("equals") && method.getParameterCount() == 1)
+            || (method.getName().equals("hashCode") && method.getParameterCount() == 0);
+    }
+
+    private static Object identity(Object proxy, Method method, Object[] args) {
+        return method.getName().equals("equals") ? proxy == args[0] : System.identityHashCode(proxy);
+    }
+
+    private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getCause();
+        }
+    }
+}
@@ -0,0 +1,182 @@
+package com.theociobanoiu.kycmcp.config;
+
+import liquibase.integration.spring.SpringLiquibase;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.support.ResourcePatternResolver;
+import org.springframework.core.io.support.ResourcePatternUtils;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.HexFormat;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Skips Liquibase on start-up when nothing changed, with {@code kyc.fast-start.skip-unchanged-migrations=true}.
+ * <p>
+ * Parsing the changelog and comparing it with {@code DATABASECHANGELOG} costs Liquibase a second or more on every
+ * boot, only to find nothing to do. After a run, the SHA-256 of every file in the changelog's directory is stored
+ * in a one-row table next to {@code DATABASECHANGELOG}, together with the number of applied changesets and the time
+ * the last one ran. The next start reads it with one query, and if it matches both the changelog on the classpath and
+ * the migration history Liquibase is not run at all. Any changed, added or removed changelog file, or a database
+ * migrated or rolled back by another build, fails the comparison and runs Liquibase as usual. The tags of
+ * {@code DATABASECHANGELOG} are left to operators.
+ */
+@Configuration
+@Slf4j
+public class UnchangedMigrationsConfiguration {
+
+    static final String FINGERPRINT_TABLE = "kyc_changelog_fingerprint";
+
+    /**
+     * Fingerprints of earlier builds, stored as the tag of the last applied changeset; cleared on the next run.
+     */
+    private static final String LEGACY_TAG_PREFIX = "changelog-sha256:";
+
+    /**
+     * Static and bound from the environment, like the database permits, since Liquibase runs while the context is
+     * still being built.
+     */
+    @Bean
+    static BeanPostProcessor unchangedMigrationsPostProcessor(Environment environment) {
+        boolean enabled = Binder.get(environment).bindOrCreate("kyc.fast-start", FastStartProperties.class)
+            .skipUnchangedMigrations();
+        return new BeanPostProcessor() {
+            private String fingerprint;
+
+            @Override
+            public Object postProcessBeforeInitialization(Object bean, String beanName) {
+                if (enabled && bean instanceof SpringLiquibase liquibase) {
+                    fingerprint = fingerprint(liquibase);
+                    if (fingerprint.equals(recordedFingerprint(liquibase))) {
+                        log.info("Changelog unchanged since the last migration, skipping Liquibase");
+                        liquibase.setShouldRun(false);
+                        fingerprint = null;
+                    }
+                }
+                return bean;
+            }
+
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (fingerprint != null && bean instanceof SpringLiquibase liquibase) {
+                    recordFingerprint(liquibase, fingerprint);
+                    fingerprint = null;
+                }
+                return bean;
+            }
+        };
+    }
+
+    /**
+     * Hash of the path and content of every file next to and below the master changelog, and of the contexts and
+     * labels Liquibase runs with.
+     */
+    static String fingerprint(SpringLiquibase liquibase) {
+        String changeLog = liquibase.getChangeLog();
+        String directory = changeLog.substring(0, changeLog.lastIndexOf('/') + 1);
+        String directoryPath = directory.substring(directory.indexOf(':') + 1);
+        ResourcePatternResolver resolver = ResourcePatternUtils.getResourcePatternResolver(
+            liquibase.getResourceLoader());
+        try {
+            Map<String, Resource> files = new TreeMap<>();
+            for (Resource file : resolver.getResources(directory + "**/*")) {
+                if (file.isReadable()) {
+                    String url = file.getURL().toString();
+                    files.put(url.substring(url.lastIndexOf(directoryPath)), file);
+                }
+            }
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            digest.update((liquibase.getContexts() + '|' + liquibase.getLabelFilter() + '|')
+                .getBytes(StandardCharsets.UTF_8));
+            for (Map.Entry<String, Resource> file : files.entrySet()) {
+                digest.update(file.getKey().getBytes(StandardCharsets.UTF_8));
+                try (InputStream in = file.getValue().getInputStream()) {
+                    digest.update(in.readAllBytes());
+                }
+            }
+            return HexFormat.of().formatHex(digest.digest());
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not read the changelog " + changeLog, e);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * The fingerprint recorded by the last run, or {@code null} when there is none or the migration history changed
+     * since.
+     */
+    static String recordedFingerprint(SpringLiquibase liquibase) {
+        String sql = "SELECT f.fingerprint FROM " + fingerprintTable(liquibase) + " f, "
+            + "(SELECT COUNT(*) AS changesets, MAX(dateexecuted) AS last_executed FROM " + changeLogTable(liquibase)
+            + ") c WHERE f.changesets = c.changesets AND f.last_executed = c.last_executed";
+        try (Connection connection = liquibase.getDataSource().getConnection();
+             Statement statement = connection.createStatement();
+             ResultSet result = statement.executeQuery(sql)) {
+            return result.next() ? result.getString(1) : null;
+        } catch (SQLException e) {
+            log.debug("No changelog fingerprint to compare with: {}", e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * Replaces the recorded fingerprint, pinned to the migration history as it is now, in one transaction.
+     */
+    static void recordFingerprint(SpringLiquibase liquibase, String fingerprint) {
+        String table = fingerprintTable(liquibase);
+        String changeLogTable = changeLogTable(liquibase);
+        try (Connection connection = liquibase.getDataSource().getConnection()) {
+            connection.setAutoCommit(false);
+            try (Statement statement = connection.createStatement()) {
+                statement.execute("CREATE TABLE IF NOT EXISTS " + table + " (fingerprint VARCHAR(64) NOT NULL, "
+                    + "changesets INTEGER NOT NULL, last_executed TIMESTAMP NOT NULL)");
+                statement.executeUpdate("DELETE FROM " + table);
+                statement.executeUpdate("UPDATE " + changeLogTable + " SET tag = NULL WHERE tag LIKE '"
+                    + LEGACY_TAG_PREFIX + "%'");
+                try (PreparedStatement insert = connection.prepareStatement("INSERT INTO " + table
+                    + " (fingerprint, changesets, last_executed) SELECT ?, COUNT(*), MAX(dateexecuted) FROM "
+                    + changeLogTable + " HAVING COUNT(*) > 0")) {
+                    insert.setString(1, fingerprint);
+                    insert.executeUpdate();
+                }
+                connection.commit();
+            } catch (SQLException e) {
+                connection.rollback();
+                throw e;
+            }
+        } catch (SQLException e) {
+            log.warn("Could not record the changelog fingerprint, Liquibase will run on the next start too: {}",
+                e.getMessage());
+        }
+    }
+
+    private static String fingerprintTable(SpringLiquibase liquibase) {
+        return inLiquibaseSchema(liquibase, FINGERPRINT_TABLE);
+    }
+
+    private static String changeLogTable(SpringLiquibase liquibase) {
+        return inLiquibaseSchema(liquibase, liquibase.getDatabaseChangeLogTable());
+    }
+
+    private static String inLiquibaseSchema(SpringLiquibase liquibase, String table) {
+        String schema = liquibase.getLiquibaseSchema();
+        return (schema != null && !schema.isBlank() ? schema + "." : "") + table;
+    }
+}
@@ -0,0 +1,103 @@
+package com.theociobanoiu.kycmcp.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+import org.springframework.core.env.Environment;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+import javax.sql.DataSource;
+import java.sql.SQLException;
+import java.util.concurrent.ThreadFactory;
+
+/**
+ * Virtual-thread execution mode, active with {@code spring.threads.virtual.enabled=true}.
+ * <p>
+ * Spring Boot then serves HTTP requests, including the MCP SSE and message endpoints, on virtual threads.
+ * The MCP server does not run synchronous tools on the request thread though: it hands each call to Reactor's
+ * bounded-elastic scheduler, whose platform threads are capped at ten per CPU. That scheduler is switched to a
+ * virtual thread per task here, so a tool call blocked on JDBC no longer occupies a platform thread.
+ * <p>
+ * With threads no longer the limit, the database is: connections are handed out through
+ * {@link PermitLimitedDataSource}, sized to the connection pool unless {@code kyc.concurrency.database-permits}
+ * says otherwise.
+ */
+@Configuration
+@ConditionalOnThreading(Threading.VIRTUAL)
+@RequiredArgsConstructor
+@Slf4j
+public class VirtualThreadConfiguration {
+
+    private final ConcurrencyProperties properties;
+
+    @PostConstruct
+    void useVirtualThreadsForToolCalls() {
+        int maxToolCalls = properties.maxConcurrentToolCalls();
+        Schedulers.setFactory(new Schedulers.Factory() {
+            @Override
+            public Scheduler newBoundedElastic(int threadCap, int queuedTaskCap, ThreadFactory threadFactory,
+                                               int ttlSeconds) {
+                return newThreadPerTaskBoundedElastic(maxToolCalls, queuedTaskCap,
+                    Thread.ofVirtual().name("tool-call-", 0).factory());
+            }
+        });
+        log.info("MCP tool calls run on virtual threads, at most {} at once", maxToolCalls);
+    }
+
+    @PreDestroy
+    void restoreDefaultSchedulers() {
+        Schedulers.resetFactory();
+    }
+
+    /**
+     * Static, so the post-processor is registered before the data source is created. The properties are bound
+     * here rather than injected to avoid initializing other beans that early. Ordered first, so the permits sit
+     * directly on the pool, beneath the read replica routing.
+     */
+    @Bean
+    static BeanPostProcessor databasePermitPostProcessor(Environment environment) {
+        return new OrderedBeanPostProcessor() {
+            @Override
+            public int getOrder() {
+                return Ordered.HIGHEST_PRECEDENCE;
+            }
+
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (!(bean instanceof DataSource dataSource) || bean instanceof PermitLimitedDataSource) {
+                    return bean;
+                }
+                ConcurrencyProperties properties = Binder.get(environment)
+                    .bindOrCreate("kyc.concurrency", ConcurrencyProperties.class);
+                int permits = properties.databasePermits() > 0 ? properties.databasePermits() : poolSize(dataSource);
+                log.info("Database access limited to {} concurrent connections", permits);
+                return new PermitLimitedDataSource(dataSource, permits, properties.databaseAcquireTimeout());
+            }
+        };
+    }
+
+    private interface OrderedBeanPostProcessor extends BeanPostProcessor, Ordered {
+    }
+
+    private static int poolSize(DataSource dataSource) {
+        try {
+            if (dataSource.isWrapperFor(HikariDataSource.class)) {
+                return dataSource.unwrap(HikariDataSource.class).getMaximumPoolSize();
+            }
+        } catch (SQLException e) {
+            log.warn("Could not determine the connection pool size: {}", e.getMessage());
+        }
+        throw new IllegalStateException("Set kyc.concurrency.database-permits: the data source "
+            + dataSource.getClass().getName() + " is not a Hikari pool");
+    }
+}
@@ -0,0 +1,65 @@
+package com.theociobanoiu.kycmcp.controller;
+
+import com.theociobanoiu.kycmcp.bulkimport.ImportFormat;
+import com.theociobanoiu.kycmcp.bulkimport.ImportTarget;
+import com.theociobanoiu.kycmcp.model.dto.ImportResultDTO;
+import com.theociobanoiu.kycmcp.model.response.McpServerResponse;
+import com.theociobanoiu.kycmcp.service.api.BulkImportService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.io.InputStream;
+
+/**
+ * REST endpoints for bulk loading clients and persons.
+ * The request body is the raw CSV or JSONL content; it is streamed into the database without being
+ * buffered in memory, so uploads of any size are fine.
+ * <p>
+ * Example calls:
+ * curl -X POST --data-binary @clients.csv -H 'Content-Type: text/csv' /api/import/clients?format=CSV
+ * curl -X POST --data-binary @persons.jsonl -H 'Content-Type: application/x-ndjson' /api/import/persons?format=JSONL
+ */
+@RestController
+@RequestMapping("/api/import")
+@RequiredArgsConstructor
+@Slf4j
+public class BulkImportController {
+
+    private final BulkImportService bulkImportService;
+
+    @PostMapping("/clients")
+    public ResponseEntity<McpServerResponse<ImportResultDTO>> importClients(
+            @RequestParam ImportFormat format,
+            InputStream body) {
+        return importRecords(ImportTarget.CLIENTS, format, body);
+    }
+
+    @PostMapping("/persons")
+    public ResponseEntity<McpServerResponse<ImportResultDTO>> importPersons(
+            @RequestParam ImportFormat format,
+            InputStream body) {
+        return importRecords(ImportTarget.PERSONS, format, body);
+    }
+
+    private ResponseEntity<McpServerResponse<ImportResultDTO>> importRecords(ImportTarget target,
+                                                                             ImportFormat format,
+                                                                             InputStream body) {
+        log.info("Bulk import of {} requested via HTTP, format='{}'", target, format);
+
+        try {
+            return ResponseEntity.ok(McpServerResponse.success(bulkImportService.importStream(target, format, body)));
+        } catch (IllegalArgumentException e) {
+            log.warn("Invalid bulk import request: {}", e.getMessage());
+            return ResponseEntity.badRequest().body(McpServerResponse.error("INVALID_INPUT", e.getMessage()));
+        } catch (Exception e) {
+            log.error("Error importing {}: {}", target, e.getMessage(), e);
+            return ResponseEntity.internalServerError()
+                    .body(McpServerResponse.error("INTERNAL_SERVER_ERROR", e.getMessage()));
+        }
+    }
+}
@@ -0,0 +1,133 @@
+package com.theociobanoiu.kycmcp.controller;
+
+import com.theociobanoiu.kycmcp.bulkexport.ExportCompression;
+import com.theociobanoiu.kycmcp.bulkexport.ExportFormat;
+import com.theociobanoiu.kycmcp.bulkexport.ExportTarget;
+import com.theociobanoiu.kycmcp.mcp.admission.ToolAdmission;
+import com.theociobanoiu.kycmcp.mcp.admission.ToolRejectedException;
+import com.theociobanoiu.kycmcp.model.response.McpServerResponse;
+import com.theociobanoiu.kycmcp.service.api.ExportService;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * REST endpoints for full extracts of clients and persons.
+ * The export is streamed to the response as it is read from the database, in chunked transfer encoding, so
+ * extracts of any size are fine. The columns are checked before the first byte is sent; a failure after that
+ * can only abort the response.
+ * <p>
+ * Streamed exports share the permits of the {@code export_records} tool, and its admission lane, so they count
+ * against the same limits; an export not admitted within {@code kyc.admission.queue-timeout} is answered with
+ * 503 Service Unavailable.
+ * <p>
+ * Example calls:
+ * curl -o clients.csv /api/export/clients
+ * curl -o persons.jsonl.gz '/api/export/persons?format=JSONL&compression=GZIP&columns=id,client_id,last_name'
+ * curl -O /api/export/files/persons-20250101-120000-1a2b3c4d.csv (a file written by the export_records tool)
+ */
+@RestController
+@RequestMapping("/api/export")
+@RequiredArgsConstructor
+@Slf4j
+public class ExportController {
+
+    private static final String EXPORT_TOOL = "export_records";
+
+    private final ExportService exportService;
+    private final ToolAdmission toolAdmission;
+
+    @GetMapping("/clients")
+    public void exportClients(
+            @RequestParam(defaultValue = "CSV") ExportFormat format,
+            @RequestParam(required = false) List<String> columns,
+            @RequestParam(defaultValue = "NONE") ExportCompression compression,
+            HttpServletResponse response) throws IOException {
+        export(ExportTarget.CLIENTS, format, columns, compression, response);
+    }
+
+    @GetMapping("/persons")
+    public void exportPersons(
+            @RequestParam(defaultValue = "CSV") ExportFormat format,
+            @RequestParam(required = false) List<String> columns,
+            @RequestParam(defaultValue = "NONE") ExportCompression compression,
+            HttpServletResponse response) throws IOException {
+        export(ExportTarget.PERSONS, format, columns, compression, response);
+    }
+
+    @GetMapping("/files/{fileName}")
+    public ResponseEntity<?> downloadFile(@PathVariable String fileName) {
+        log.info("Export file '{}' requested via HTTP", fileName);
+
+        try {
+            Path file = exportService.exportedFile(fileName);
+            return ResponseEntity.ok()
+                    .header(HttpHeaders.CONTENT_DISPOSITION, attachment(fileName))
+                    .contentType(MediaType.APPLICATION_OCTET_STREAM)
+                    .body(new FileSystemResource(file));
+        } catch (IllegalArgumentException e) {
+            log.warn("Invalid export file request: {}", e.getMessage());
+            return ResponseEntity.status(404).body(McpServerResponse.error("NOT_FOUND", e.getMessage()));
+        } catch (IllegalStateException e) {
+            log.warn("Export file download unavailable: {}", e.getMessage());
+            return ResponseEntity.status(404).body(McpServerResponse.error("EXPORT_UNAVAILABLE", e.getMessage()));
+        }
+    }
+
+    @ExceptionHandler(IllegalArgumentException.class)
+    public ResponseEntity<McpServerResponse<Void>> invalidExport(IllegalArgumentException e) {
+        log.warn("Invalid export request: {}", e.getMessage());
+        return ResponseEntity.badRequest().body(McpServerResponse.error("INVALID_INPUT", e.getMessage()));
+    }
+
+    @ExceptionHandler(ToolRejectedException.class)
+    public ResponseEntity<McpServerResponse<Void>> exportRejected(ToolRejectedException e) {
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, "1")
+                .body(McpServerResponse.error(e.getCode(), e.getMessage()));
+    }
+
+    /**
+     * Written on the request thread rather than as an asynchronous {@code StreamingResponseBody}, which the
+     * async request timeout would cut off in the middle of a large export.
+     */
+    private void export(ExportTarget target,
+                        ExportFormat format,
+                        List<String> columns,
+                        ExportCompression compression,
+                        HttpServletResponse response) throws IOException {
+        log.info("Export of {} requested via HTTP, format='{}', columns='{}', compression='{}'",
+                target, format, columns, compression);
+
+        List<String> resolvedColumns = exportService.resolveColumns(target, columns);
+        String fileName = target.name().toLowerCase(Locale.ROOT) + format.extension() + compression.extension();
+        try (ToolAdmission.Admission admitted = toolAdmission.admit(EXPORT_TOOL)) {
+            response.setHeader(HttpHeaders.CONTENT_DISPOSITION, attachment(fileName));
+            response.setContentType(compression == ExportCompression.GZIP
+                    ? "application/gzip"
+                    : format.contentType() + ";charset=UTF-8");
+            exportService.exportStream(target, format, resolvedColumns, compression, response.getOutputStream());
+        }
+    }
+
+    private static String attachment(String fileName) {
+        return ContentDisposition.attachment().filename(fileName).build().toString();
+    }
+}
@@ -1,10 +1,20 @@
 package com.theociobanoiu.kycmcp.controller;
 
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import com.theociobanoiu.kycmcp.config.CacheConfiguration;
 import com.theociobanoiu.kycmcp.mcp.tools.KycMcpTools;
+import com.theociobanoiu.kycmcp.model.dto.ClientDTO;
+import com.theociobanoiu.kycmcp.model.dto.CursorPage;
 import com.theociobanoiu.kycmcp.model.enums.RiskLevel;
+import com.theociobanoiu.kycmcp.model.response.McpServerResponse;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.caffeine.CaffeineCache;
+import org.springframework.cache.transaction.TransactionAwareCacheDecorator;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
@@ -22,6 +32,7 @@ import java.util.Map;
 public class KycDebugController {
 
     private final KycMcpTools kycMcpTools;
+    private final CacheManager cacheManager;
 
     /**
      * Test the search_clients MCP tool via HTTP GET request.
@@ -32,17 +43,77 @@ public class KycDebugController {
      * GET /api/debug/search-clients?clientType=COMPANY
      * GET /api/debug/search-clients?riskLevel=HIGH
      * GET /api/debug/search-clients?name=corp&clientType=COMPANY&riskLevel=HIGH
+     * GET /api/debug/search-clients?name=corporatoin&limit=5
      */
     @GetMapping("/search-clients")
-    public Map<String, Object> testSearchClients(
+    public McpServerResponse<CursorPage<ClientDTO>> testSearchClients(
             @RequestParam(required = false) String name,
-            @RequestParam(required = false) RiskLevel riskLevel) {
+            @RequestParam(required = false) RiskLevel riskLevel,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer limit) {
 
-        log.info("Testing search_clients MCP tool via HTTP: name='{}', riskLevel='{}'",
-                name, riskLevel);
+        log.info("Testing search_clients MCP tool via HTTP: name='{}', riskLevel='{}', cursor='{}', limit='{}'",
+                name, riskLevel, cursor, limit);
 
         // Call the actual MCP tool method
-        return kycMcpTools.searchClients(name, riskLevel);
+        return kycMcpTools.searchClients(name, riskLevel, cursor, limit);
+    }
+
+    /**
+     * Test the get_all_clients MCP tool via HTTP GET request.
+     * <p>
+     * Example calls:
+     * GET /api/debug/clients
+     * GET /api/debug/clients?pageSize=2&cursor=...
+     */
+    @GetMapping("/clients")
+    public McpServerResponse<CursorPage<ClientDTO>> testGetAllClients(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer pageSize) {
+
+        log.info("Testing get_all_clients MCP tool via HTTP: cursor='{}', pageSize='{}'", cursor, pageSize);
+
+        return kycMcpTools.getAllClients(cursor, pageSize);
+    }
+
+    /**
+     * Test the get_client_details MCP tool via HTTP GET request.
+     * <p>
+     * Example call:
+     * GET /api/debug/clients/1
+     */
+    @GetMapping("/clients/{id}")
+    public McpServerResponse<ClientDTO> testGetClientDetails(@PathVariable Long id) {
+        log.info("Testing get_client_details MCP tool via HTTP: clientId='{}'", id);
+
+        return kycMcpTools.getClientDetails(id);
+    }
+
+    /**
+     * Hit, miss and eviction counters of the client dossier cache, for sizing it.
+     * <p>
+     * Example call:
+     * GET /api/debug/cache-stats
+     */
+    @GetMapping("/cache-stats")
+    public Map<String, Object> getCacheStats() {
+        Cache cache = cacheManager.getCache(CacheConfiguration.CLIENT_DOSSIERS);
+        if (cache instanceof TransactionAwareCacheDecorator decorator) {
+            cache = decorator.getTargetCache();
+        }
+        if (!(cache instanceof CaffeineCache caffeineCache)) {
+            return Map.of("cache", CacheConfiguration.CLIENT_DOSSIERS, "error", "Cache statistics are not available");
+        }
+
+        CacheStats stats = caffeineCache.getNativeCache().stats();
+        return Map.of(
+                "cache", CacheConfiguration.CLIENT_DOSSIERS,
+                "size", caffeineCache.getNativeCache().estimatedSize(),
+                "hits", stats.hitCount(),
+                "misses", stats.missCount(),
+                "hitRate", stats.hitRate(),
+                "evictions", stats.evictionCount()
+        );
     }
 
     /**
@@ -58,9 +129,26 @@ public class KycDebugController {
                                 "parameters", Map.of(
                                         "name", "Optional - partial client name to search for",
                                         "clientType", "Optional - client type (INDIVIDUAL, COMPANY, TRUST, PARTNERSHIP, OTHER)",
-                                        "riskLevel", "Optional - risk level (LOW, MEDIUM, HIGH)"
+                                        "riskLevel", "Optional - risk level (LOW, MEDIUM, HIGH)",
+                                        "cursor", "Optional - nextCursor from a previous unnamed search",
+                                        "limit", "Optional - maximum number of clients to return"
                                 ),
                                 "testUrl", "/api/debug/search-clients?name=ABC&clientType=COMPANY&riskLevel=HIGH"
+                        ),
+                        "get_all_clients", Map.of(
+                                "description", "List all KYC clients by name, one page at a time",
+                                "parameters", Map.of(
+                                        "cursor", "Optional - nextCursor from the previous page",
+                                        "pageSize", "Optional - number of clients per page"
+                                ),
+                                "testUrl", "/api/debug/clients?pageSize=2"
+                        ),
+                        "get_client_details", Map.of(
+                                "description", "Get a client's complete profile with all associated persons",
+                                "parameters", Map.of(
+                                        "clientId", "Required - the client's unique identifier"
+                                ),
+                                "testUrl", "/api/debug/clients/1"
                         )
                 )
         );
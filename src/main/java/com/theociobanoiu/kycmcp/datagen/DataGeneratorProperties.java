@@ -0,0 +1,27 @@
+package com.theociobanoiu.kycmcp.datagen;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * Synthetic data loaded at startup, bound from {@code kyc.datagen.*}.
+ *
+ * @param clients              number of clients to generate; 0 (the default) loads nothing
+ * @param seed                 the same seed always generates the same data
+ * @param duplicateRatio       share of clients that re-onboard an earlier client, 0 - 1
+ * @param clientOwnershipRatio share of companies partly held by an earlier company, 0 - 1
+ */
+@ConfigurationProperties(prefix = "kyc.datagen")
+public record DataGeneratorProperties(
+    @DefaultValue("0") int clients,
+    @DefaultValue("42") long seed,
+    @DefaultValue("0.02") double duplicateRatio,
+    @DefaultValue("0.05") double clientOwnershipRatio
+) {
+
+    public DataGeneratorProperties {
+        if (clients < 0) {
+            throw new IllegalArgumentException("kyc.datagen.clients must not be negative");
+        }
+    }
+}
@@ -0,0 +1,196 @@
+package com.theociobanoiu.kycmcp.datagen;
+
+import com.theociobanoiu.kycmcp.bulkimport.BulkImporter;
+import com.theociobanoiu.kycmcp.bulkimport.ImportFormat;
+import com.theociobanoiu.kycmcp.bulkimport.ImportTarget;
+import com.theociobanoiu.kycmcp.model.dto.ImportResultDTO;
+import com.theociobanoiu.kycmcp.model.entities.Client;
+import com.theociobanoiu.kycmcp.model.entities.ClientOwnership;
+import com.theociobanoiu.kycmcp.ownership.OwnershipGraphEngine;
+import com.theociobanoiu.kycmcp.repository.ClientRepository;
+import com.theociobanoiu.kycmcp.repository.projection.ClientReferenceView;
+import jakarta.persistence.EntityManager;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.PipedReader;
+import java.io.PipedWriter;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Loads {@code kyc.datagen.clients} synthetic clients, their persons and the ownership links between companies
+ * once the application has started, into whatever database it is connected to:
+ * <pre>
+ * ./mvnw spring-boot:run -Dspring-boot.run.arguments=--kyc.datagen.clients=1000000
+ * </pre>
+ * Clients and persons go through the {@link BulkImporter}, so they are inserted in JDBC batches one chunk per
+ * transaction and land in the search indexes and the ownership graph like any import. The CSV is piped from the
+ * generator straight into the importer, never written to disk. Ownership links between companies are inserted
+ * the same way, one batch per chunk of links. A database that already holds the data of this seed is left
+ * alone, so restarting with the same settings is harmless.
+ */
+@Component
+@ConditionalOnExpression("${kyc.datagen.clients:0} > 0")
+@Slf4j
+public class SyntheticDataLoader implements ApplicationRunner {
+
+    private static final int LINK_CHUNK_SIZE = 1000;
+    private static final int PIPE_BUFFER = 64 * 1024;
+
+    private final BulkImporter bulkImporter;
+    private final ClientRepository clientRepository;
+    private final OwnershipGraphEngine ownershipGraphEngine;
+    private final EntityManager entityManager;
+    private final TransactionTemplate transactionTemplate;
+    private final DataGeneratorProperties properties;
+
+    public SyntheticDataLoader(BulkImporter bulkImporter,
+                               ClientRepository clientRepository,
+                               OwnershipGraphEngine ownershipGraphEngine,
+                               EntityManager entityManager,
+                               PlatformTransactionManager transactionManager,
+                               DataGeneratorProperties properties) {
+        this.bulkImporter = bulkImporter;
+        this.clientRepository = clientRepository;
+        this.ownershipGraphEngine = ownershipGraphEngine;
+        this.entityManager = entityManager;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.properties = properties;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) throws IOException {
+        int clients = properties.clients();
+        SyntheticKycData data = new SyntheticKycData(properties.seed(), properties.duplicateRatio(),
+            properties.clientOwnershipRatio());
+        if (!clientRepository.findReferencesByRegistrationNumberIn(Set.of(data.registrationNumber(0))).isEmpty()) {
+            log.info("Synthetic data of seed {} is already loaded, skipping", properties.seed());
+            return;
+        }
+
+        log.info("Loading {} synthetic clients (seed {})", clients, properties.seed());
+        long start = System.nanoTime();
+        ImportResultDTO clientResult = load(ImportTarget.CLIENTS, out -> data.writeClients(clients, out));
+        ImportResultDTO personResult = load(ImportTarget.PERSONS, out -> data.writePersons(clients, out));
+        int links = loadClientOwnerships(data, clients);
+        log.info("Loaded {} clients, {} persons and {} client ownerships in {} s",
+            clientResult.rowsImported(), personResult.rowsImported(), links,
+            (System.nanoTime() - start) / 1_000_000_000);
+    }
+
+    /**
+     * Imports the generated rows as they are written: the generator runs on its own thread and feeds the
+     * importer through a pipe. Closing the reading end, when the import stops early, ends the generator too.
+     */
+    private ImportResultDTO load(ImportTarget target, CsvWriter writer) throws IOException {
+        PipedReader pipe = new PipedReader(PIPE_BUFFER);
+        PipedWriter pipeWriter = new PipedWriter(pipe);
+        AtomicReference<IOException> generatorFailure = new AtomicReference<>();
+        Thread generator = Thread.ofVirtual().name("datagen-" + target).start(() -> {
+            try (BufferedWriter out = new BufferedWriter(pipeWriter, PIPE_BUFFER)) {
+                writer.write(out);
+            } catch (IOException e) {
+                generatorFailure.set(e);
+            }
+        });
+
+        ImportResultDTO result;
+        try (BufferedReader in = new BufferedReader(pipe, PIPE_BUFFER)) {
+            result = bulkImporter.importRecords(target, ImportFormat.CSV, in);
+        } finally {
+            join(generator);
+        }
+        if (generatorFailure.get() != null) {
+            throw new UncheckedIOException("Generating " + target + " failed", generatorFailure.get());
+        }
+        if (result.rowsFailed() > 0) {
+            log.warn("{} of {} generated {} rows were rejected, first errors: {}", result.rowsFailed(),
+                result.rowsRead(), target, result.errors().subList(0, Math.min(5, result.errors().size())));
+        }
+        return result;
+    }
+
+    private static void join(Thread generator) {
+        try {
+            generator.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Records the company-held shares one chunk at a time: registration numbers are resolved with one query and
+     * the links inserted in one transaction, as a JDBC batch.
+     */
+    private int loadClientOwnerships(SyntheticKycData data, int clients) {
+        int recorded = 0;
+        List<SyntheticKycData.ClientOwnershipLink> chunk = new ArrayList<>(LINK_CHUNK_SIZE);
+        for (int index = 0; index < clients; index++) {
+            SyntheticKycData.ClientOwnershipLink link = data.clientOwnership(index);
+            if (link != null) {
+                chunk.add(link);
+            }
+            if (chunk.size() == LINK_CHUNK_SIZE || (index == clients - 1 && !chunk.isEmpty())) {
+                recorded += recordClientOwnerships(chunk);
+                chunk.clear();
+            }
+        }
+        return recorded;
+    }
+
+    private int recordClientOwnerships(List<SyntheticKycData.ClientOwnershipLink> links) {
+        Set<String> registrationNumbers = new HashSet<>();
+        for (SyntheticKycData.ClientOwnershipLink link : links) {
+            registrationNumbers.add(link.ownerRegistrationNumber());
+            registrationNumbers.add(link.ownedRegistrationNumber());
+        }
+        Map<String, Long> ids = new HashMap<>();
+        for (ClientReferenceView client : clientRepository.findReferencesByRegistrationNumberIn(registrationNumbers)) {
+            ids.put(client.getRegistrationNumber(), client.getId());
+        }
+
+        // Links are generated once per owned company, so every one is new and can be inserted without a lookup
+        Integer recorded = transactionTemplate.execute(status -> {
+            int inserted = 0;
+            for (SyntheticKycData.ClientOwnershipLink link : links) {
+                Long owner = ids.get(link.ownerRegistrationNumber());
+                Long owned = ids.get(link.ownedRegistrationNumber());
+                if (owner != null && owned != null) {
+                    ClientOwnership ownership = new ClientOwnership();
+                    // Reference proxies set the foreign keys without loading the clients
+                    ownership.setOwnerClient(entityManager.getReference(Client.class, owner));
+                    ownership.setOwnedClient(entityManager.getReference(Client.class, owned));
+                    ownership.setOwnershipPercentage(link.ownershipPercentage());
+                    entityManager.persist(ownership);
+                    ownershipGraphEngine.recordClientOwnership(ownership);
+                    inserted++;
+                }
+            }
+            entityManager.flush();
+            entityManager.clear();
+            return inserted;
+        });
+        return recorded != null ? recorded : 0;
+    }
+
+    @FunctionalInterface
+    private interface CsvWriter {
+
+        void write(Appendable out) throws IOException;
+    }
+}
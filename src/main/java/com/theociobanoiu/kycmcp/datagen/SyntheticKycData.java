@@ -0,0 +1,488 @@
+package com.theociobanoiu.kycmcp.datagen;
+
+import com.theociobanoiu.kycmcp.model.entities.Client;
+import com.theociobanoiu.kycmcp.model.entities.Person;
+import com.theociobanoiu.kycmcp.model.enums.ClientType;
+import com.theociobanoiu.kycmcp.model.enums.RelationshipType;
+import com.theociobanoiu.kycmcp.model.enums.RiskLevel;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.SplittableRandom;
+
+/**
+ * Deterministic synthetic client book: the same seed always yields the same clients, persons and ownership
+ * links, so a scaling problem found on generated data can be reproduced by anyone.
+ * <p>
+ * Every client is a pure function of the seed and its index, and so are its persons and its ownership link, so
+ * they can be generated in any order, in separate passes, without keeping earlier rows in memory. The data
+ * follows the shape of a real book rather than a uniform spread:
+ * <ul>
+ *     <li>mostly individuals and companies, with some trusts, partnerships and other entities</li>
+ *     <li>mostly low risk, with trusts and high-risk nationalities more often rated higher</li>
+ *     <li>nationalities and names drawn from skewed pools, so common names collide the way they do in
+ *     practice</li>
+ *     <li>companies held by one to five owners whose shares add up to 100% or leave a free float, partnerships
+ *     split between partners, trusts with settlors, trustees and beneficiaries</li>
+ *     <li>a share of clients re-onboarding an earlier client under a slightly different name, email and phone,
+ *     for duplicate detection to find</li>
+ *     <li>a share of companies partly held by an earlier company, for multi-layer ownership</li>
+ * </ul>
+ * Rows are written in the bulk import CSV format, where persons reference their client by registration number,
+ * or built as detached entities for work that never touches the database, such as the DTO mapping benchmarks.
+ */
+public final class SyntheticKycData {
+
+    public static final String CLIENT_HEADER = "name,client_type,email,phone,registration_number,risk_level";
+    public static final String PERSON_HEADER = "client_registration_number,first_name,last_name,email,phone,"
+        + "date_of_birth,nationality,identification_number,relationship_type,position_title,ownership_percentage,"
+        + "address";
+
+    /**
+     * One client holding a share of another.
+     */
+    public record ClientOwnershipLink(String ownerRegistrationNumber, String ownedRegistrationNumber,
+                                      BigDecimal ownershipPercentage) {
+    }
+
+    private record ClientSpec(int index, ClientType type, String name, String firstName, String lastName,
+                              String nationality, String email, String phone, String registrationNumber,
+                              RiskLevel riskLevel) {
+    }
+
+    private record PersonSpec(ClientSpec client, String firstName, String lastName, String email, String phone,
+                              LocalDate dateOfBirth, String nationality, String identificationNumber,
+                              RelationshipType role, String positionTitle, BigDecimal share, String address) {
+    }
+
+    private static final String[] FIRST_NAMES = {"John", "Maria", "David", "Anna", "Michael", "Elena", "James",
+        "Sofia", "Mohammed", "Laura", "Andrei", "Emma", "Pierre", "Ioana", "Lukas", "Fatima", "Carlos", "Olga",
+        "Wei", "Yuki", "Ahmed", "Chloe", "Mihai", "Isabella", "Thomas", "Hannah", "Ali", "Natalia", "Daniel",
+        "Chiara", "Omar", "Ingrid", "Sergei", "Aisha", "Paolo", "Freya", "Kenji", "Zainab", "Lars", "Priya"};
+    private static final String[] LAST_NAMES = {"Smith", "Garcia", "Muller", "Popescu", "Rossi", "Novak",
+        "Dubois", "Ionescu", "Silva", "Jensen", "Weber", "Khan", "Wang", "Kowalski", "Constantin", "Martin",
+        "Petrov", "Hansen", "Lopez", "Nakamura", "Hassan", "Schmidt", "Fernandes", "Andersson", "Rahman",
+        "Moreau", "Dumitru", "Bianchi", "Ivanova", "Kim", "Nowak", "Costa", "Berg", "Tanaka", "Haddad",
+        "Fischer", "Romano", "Nielsen", "Kaya", "Patel"};
+    private static final String[] COMPANY_PREFIXES = {"Global", "Alpha", "Nordic", "Pacific", "United",
+        "Summit", "Blue", "Silver", "Atlas", "Vertex", "Harbor", "Crown", "Liberty", "Apex", "Orion", "Zenith",
+        "Northern", "Eastern", "Prime", "Delta", "Sterling", "Meridian", "Granite", "Horizon"};
+    private static final String[] COMPANY_CORES = {"Capital", "Trading", "Logistics", "Holdings", "Ventures",
+        "Partners", "Investments", "Shipping", "Energy", "Pharma", "Textiles", "Metals", "Foods", "Media",
+        "Systems", "Realty", "Consulting", "Industries", "Finance", "Resources"};
+    private static final String[] COMPANY_SUFFIXES = {"Ltd", "LLC", "Inc", "GmbH", "SA", "SRL", "BV", "PLC", "AG"};
+    private static final String[] NATIONALITIES = {"US", "GB", "DE", "RO", "FR", "IT", "ES", "NL", "CH", "PL",
+        "SE", "CN", "IN", "AE", "CY", "LU", "RU", "TR", "BR", "JP", "SG", "HK", "IR", "KP", "MM"};
+    // Relative frequency of each nationality above; the last three are on typical high-risk lists
+    private static final int[] NATIONALITY_WEIGHTS = {180, 140, 110, 100, 70, 60, 55, 50, 40, 35, 25, 25, 25,
+        20, 20, 15, 15, 15, 12, 10, 10, 10, 2, 1, 1};
+    private static final int HIGH_RISK_NATIONALITIES = 3;
+    private static final String[] STREETS = {"Main Street", "High Street", "Station Road", "Church Lane",
+        "Victoria Avenue", "Park Road", "Bulevardul Unirii", "Rue de la Paix", "Hauptstrasse", "Via Roma"};
+    private static final ClientType[] CLIENT_TYPES = {ClientType.INDIVIDUAL, ClientType.COMPANY, ClientType.TRUST,
+        ClientType.PARTNERSHIP, ClientType.OTHER};
+    private static final int[] CLIENT_TYPE_WEIGHTS = {55, 35, 4, 5, 1};
+    private static final LocalDate BIRTH_DATES_FROM = LocalDate.of(1935, 1, 1);
+    private static final LocalDateTime CREATED_AT = LocalDateTime.of(2025, 1, 15, 9, 30);
+
+    private static final long CLIENT_STREAM = 0x632BE59BD9B4E019L;
+    private static final long PERSON_STREAM = 0x8CB92BA72F3D8DD7L;
+    private static final long LINK_STREAM = 0x4F1BBCDCBFA53E0BL;
+
+    private final long seed;
+    private final double duplicateRatio;
+    private final double clientOwnershipRatio;
+    private final int nationalityTotal = Arrays.stream(NATIONALITY_WEIGHTS).sum();
+    private final int clientTypeTotal = Arrays.stream(CLIENT_TYPE_WEIGHTS).sum();
+
+    /**
+     * @param duplicateRatio       share of clients that re-onboard an earlier client, 0 - 1
+     * @param clientOwnershipRatio share of companies partly held by an earlier company, 0 - 1
+     */
+    public SyntheticKycData(long seed, double duplicateRatio, double clientOwnershipRatio) {
+        if (duplicateRatio < 0 || duplicateRatio > 1 || clientOwnershipRatio < 0 || clientOwnershipRatio > 1) {
+            throw new IllegalArgumentException("Ratios must be between 0 and 1");
+        }
+        this.seed = seed;
+        this.duplicateRatio = duplicateRatio;
+        this.clientOwnershipRatio = clientOwnershipRatio;
+    }
+
+    /**
+     * Writes clients {@code 0 .. count - 1} as CSV, header included.
+     */
+    public void writeClients(int count, Appendable out) throws IOException {
+        out.append(CLIENT_HEADER).append('\n');
+        for (int index = 0; index < count; index++) {
+            ClientSpec client = spec(index);
+            out.append(csv(client.name())).append(',')
+                .append(client.type().name()).append(',')
+                .append(client.email()).append(',')
+                .append(client.phone()).append(',')
+                .append(client.registrationNumber() != null ? client.registrationNumber() : "").append(',')
+                .append(client.riskLevel().name()).append('\n');
+        }
+    }
+
+    /**
+     * Writes the persons of clients {@code 0 .. clients - 1} as CSV, header included. Clients written without a
+     * registration number (re-onboarded duplicates) get no persons, since rows could not reference them.
+     */
+    public void writePersons(int clients, Appendable out) throws IOException {
+        out.append(PERSON_HEADER).append('\n');
+        for (int index = 0; index < clients; index++) {
+            for (PersonSpec person : persons(spec(index))) {
+                out.append(person.client().registrationNumber()).append(',')
+                    .append(person.firstName()).append(',')
+                    .append(person.lastName()).append(',')
+                    .append(person.email()).append(',')
+                    .append(person.phone()).append(',')
+                    .append(person.dateOfBirth().toString()).append(',')
+                    .append(person.nationality()).append(',')
+                    .append(person.identificationNumber()).append(',')
+                    .append(person.role().name()).append(',')
+                    .append(person.positionTitle() != null ? person.positionTitle() : "").append(',')
+                    .append(person.share() != null ? person.share().toPlainString() : "").append(',')
+                    .append(csv(person.address())).append('\n');
+            }
+        }
+    }
+
+    /**
+     * Client {@code index} as a detached entity, with the id {@code index + 1} an empty database would give it.
+     */
+    public Client client(int index) {
+        ClientSpec spec = spec(index);
+        Client client = new Client();
+        client.setId(index + 1L);
+        client.setName(spec.name());
+        client.setClientType(spec.type());
+        client.setEmail(spec.email());
+        client.setPhone(spec.phone());
+        client.setRegistrationNumber(spec.registrationNumber());
+        client.setRiskLevel(spec.riskLevel());
+        client.setCreatedAt(CREATED_AT);
+        client.setUpdatedAt(CREATED_AT);
+        return client;
+    }
+
+    /**
+     * Clients {@code 0 .. count - 1} as detached entities.
+     */
+    public List<Client> clients(int count) {
+        List<Client> clients = new ArrayList<>(count);
+        for (int index = 0; index < count; index++) {
+            clients.add(client(index));
+        }
+        return clients;
+    }
+
+    /**
+     * The first {@code count} persons, taken client by client from client 0, as detached entities with ids
+     * {@code 1 .. count}, each attached to its own client.
+     */
+    public List<Person> persons(int count) {
+        List<Person> persons = new ArrayList<>(count);
+        for (int index = 0; persons.size() < count; index++) {
+            List<PersonSpec> specs = persons(spec(index));
+            Client client = specs.isEmpty() ? null : client(index);
+            for (PersonSpec spec : specs) {
+                if (persons.size() == count) {
+                    break;
+                }
+                Person person = new Person();
+                person.setId(persons.size() + 1L);
+                person.setFirstName(spec.firstName());
+                person.setLastName(spec.lastName());
+                person.setEmail(spec.email());
+                person.setPhone(spec.phone());
+                person.setDateOfBirth(spec.dateOfBirth());
+                person.setNationality(spec.nationality());
+                person.setIdentificationNumber(spec.identificationNumber());
+                person.setRelationshipType(spec.role());
+                person.setPositionTitle(spec.positionTitle());
+                person.setOwnershipPercentage(spec.share());
+                person.setAddress(spec.address());
+                person.setCreatedAt(CREATED_AT);
+                person.setUpdatedAt(CREATED_AT);
+                person.setClient(client);
+                persons.add(person);
+            }
+        }
+        return persons;
+    }
+
+    /**
+     * Registration number of client {@code index}; null for a re-onboarded duplicate, which is written without.
+     */
+    public String registrationNumber(int index) {
+        return spec(index).registrationNumber();
+    }
+
+    /**
+     * The company holding part of client {@code index}, if any. Only companies are held this way, and only by a
+     * company with a lower index, so following owners always ends.
+     */
+    public ClientOwnershipLink clientOwnership(int index) {
+        ClientSpec owned = spec(index);
+        if (owned.type() != ClientType.COMPANY || owned.registrationNumber() == null || index == 0) {
+            return null;
+        }
+        SplittableRandom random = random(LINK_STREAM, index);
+        if (random.nextDouble() >= clientOwnershipRatio) {
+            return null;
+        }
+        ClientSpec owner = spec(random.nextInt(index));
+        if (owner.type() != ClientType.COMPANY || owner.registrationNumber() == null) {
+            return null;
+        }
+        return new ClientOwnershipLink(owner.registrationNumber(), owned.registrationNumber(),
+            BigDecimal.valueOf(10 + random.nextInt(51)));
+    }
+
+    private ClientSpec spec(int index) {
+        SplittableRandom random = random(CLIENT_STREAM, index);
+        if (index > 0 && random.nextDouble() < duplicateRatio) {
+            return duplicateOf(spec(random.nextInt(index)), index, random);
+        }
+
+        ClientType type = CLIENT_TYPES[weighted(random, CLIENT_TYPE_WEIGHTS, clientTypeTotal)];
+        String nationality = nationality(random);
+        String firstName = skewed(random, FIRST_NAMES);
+        String lastName = skewed(random, LAST_NAMES);
+        String name = switch (type) {
+            case INDIVIDUAL -> firstName + " " + lastName;
+            case COMPANY -> skewed(random, COMPANY_PREFIXES) + " " + skewed(random, COMPANY_CORES) + " "
+                + skewed(random, COMPANY_SUFFIXES);
+            case TRUST -> lastName + " Family Trust";
+            case PARTNERSHIP -> lastName + " & " + skewed(random, LAST_NAMES) + " Partners";
+            case OTHER -> skewed(random, COMPANY_PREFIXES) + " " + lastName + " Foundation";
+        };
+        String slug = type == ClientType.INDIVIDUAL
+            ? (firstName + "." + lastName).toLowerCase(Locale.ROOT)
+            : "contact";
+        String domain = type == ClientType.INDIVIDUAL ? "mail.example.com" : "client" + index + ".example.com";
+        String registrationNumber = (type == ClientType.INDIVIDUAL ? "ID-" : "REG-") + nationality + "-"
+            + String.format(Locale.ROOT, "%09d", index);
+        return new ClientSpec(index, type, name, firstName, lastName, nationality, slug + index + "@" + domain,
+            phone(random, index), registrationNumber, riskLevel(random, type, nationality));
+    }
+
+    /**
+     * The same party onboarded again: the name re-typed, the email in other case, the phone written differently
+     * and no registration number, as when an application is keyed in by hand.
+     */
+    private static ClientSpec duplicateOf(ClientSpec original, int index, SplittableRandom random) {
+        String name = switch (random.nextInt(4)) {
+            case 0 -> original.name().toUpperCase(Locale.ROOT);
+            case 1 -> original.name().replace(" Ltd", " Limited").replace(" Inc", " Incorporated")
+                .replace(" & ", " and ");
+            case 2 -> transposeLetters(original.name(), random);
+            default -> original.name() + ".";
+        };
+        String phone = original.phone().replace(" ", "").replace("-", "");
+        return new ClientSpec(index, original.type(), name, original.firstName(), original.lastName(),
+            original.nationality(), original.email().toUpperCase(Locale.ROOT), phone, null, original.riskLevel());
+    }
+
+    /**
+     * The persons of a client; none for a re-onboarded duplicate, since rows could not reference it.
+     */
+    private List<PersonSpec> persons(ClientSpec client) {
+        List<PersonSpec> out = new ArrayList<>();
+        if (client.registrationNumber() == null) {
+            return out;
+        }
+        SplittableRandom random = random(PERSON_STREAM, client.index());
+        switch (client.type()) {
+            case INDIVIDUAL -> person(out, client, 0, random, client.firstName(), client.lastName(),
+                client.nationality(), RelationshipType.OWNER, null, BigDecimal.valueOf(100));
+            case COMPANY -> company(out, client, random);
+            case PARTNERSHIP -> partnership(out, client, random);
+            case TRUST -> trust(out, client, random);
+            case OTHER -> {
+                person(out, client, 0, random, RelationshipType.LEGAL_REPRESENTATIVE, "Chair", null);
+                person(out, client, 1, random, RelationshipType.AUTHORIZED_SIGNATORY, "Treasurer", null);
+            }
+        }
+        return out;
+    }
+
+    private void company(List<PersonSpec> out, ClientSpec client, SplittableRandom random) {
+        int number = 0;
+        int directors = 1 + random.nextInt(3);
+        for (int i = 0; i < directors; i++) {
+            person(out, client, number++, random, RelationshipType.DIRECTOR, i == 0 ? "CEO" : "Director", null);
+        }
+        // One owner most often, rarely five; three in ten companies leave part of the shares in free float
+        int owners = 1 + (int) (5 * Math.pow(random.nextDouble(), 2));
+        int held = random.nextInt(10) < 3 ? 40 + random.nextInt(60) : 100;
+        for (BigDecimal share : split(held, owners, random)) {
+            RelationshipType role = share.compareTo(BigDecimal.valueOf(25)) >= 0
+                ? RelationshipType.BENEFICIAL_OWNER
+                : RelationshipType.SHAREHOLDER;
+            person(out, client, number++, random, role, null, share);
+        }
+        if (random.nextInt(4) == 0) {
+            person(out, client, number, random, RelationshipType.AUTHORIZED_SIGNATORY, "CFO", null);
+        }
+    }
+
+    private void partnership(List<PersonSpec> out, ClientSpec client, SplittableRandom random) {
+        int number = 0;
+        for (BigDecimal share : split(100, 2 + random.nextInt(3), random)) {
+            person(out, client, number++, random, RelationshipType.PARTNER, "Partner", share);
+        }
+    }
+
+    private void trust(List<PersonSpec> out, ClientSpec client, SplittableRandom random) {
+        int number = 0;
+        person(out, client, number++, random, client.firstName(), client.lastName(), client.nationality(),
+            RelationshipType.SETTLOR, null, null);
+        person(out, client, number++, random, RelationshipType.TRUSTEE, null, null);
+        if (random.nextBoolean()) {
+            person(out, client, number++, random, RelationshipType.PROTECTOR, null, null);
+        }
+        int beneficiaries = 1 + random.nextInt(3);
+        for (BigDecimal share : split(100, beneficiaries, random)) {
+            // Beneficiaries are mostly the settlor's family
+            person(out, client, number++, random, skewed(random, FIRST_NAMES), client.lastName(),
+                client.nationality(), RelationshipType.BENEFICIARY, null, share);
+        }
+    }
+
+    /**
+     * A person with a drawn name; most share the client's nationality.
+     */
+    private void person(List<PersonSpec> out, ClientSpec client, int number, SplittableRandom random,
+                        RelationshipType role, String positionTitle, BigDecimal share) {
+        String nationality = random.nextInt(10) < 7 ? client.nationality() : nationality(random);
+        person(out, client, number, random, skewed(random, FIRST_NAMES), skewed(random, LAST_NAMES), nationality,
+            role, positionTitle, share);
+    }
+
+    private static void person(List<PersonSpec> out, ClientSpec client, int number, SplittableRandom random,
+                               String firstName, String lastName, String nationality, RelationshipType role,
+                               String positionTitle, BigDecimal share) {
+        // Adults, most between 30 and 65
+        int ageDays = (int) (365.25 * (18 + Math.min(70, Math.abs(random.nextGaussian() * 14 + 30))));
+        LocalDate dateOfBirth = LocalDate.of(2025, 1, 1).minusDays(ageDays);
+        if (dateOfBirth.isBefore(BIRTH_DATES_FROM)) {
+            dateOfBirth = BIRTH_DATES_FROM;
+        }
+        String email = (firstName + "." + lastName).toLowerCase(Locale.ROOT) + "." + client.index() + "." + number
+            + "@mail.example.com";
+        String phone = phone(random, client.index());
+        String identificationNumber = nationality + "-" + Integer.toString(client.index(), 36).toUpperCase(Locale.ROOT)
+            + "-" + number;
+        String address = (1 + random.nextInt(250)) + " " + STREETS[random.nextInt(STREETS.length)] + ", "
+            + nationality;
+        out.add(new PersonSpec(client, firstName, lastName, email, phone, dateOfBirth, nationality,
+            identificationNumber, role, positionTitle, share, address));
+    }
+
+    /**
+     * Splits a whole percentage into {@code parts} shares of at least 1%, uneven like real holdings, that add
+     * up to it exactly.
+     */
+    private static List<BigDecimal> split(int total, int parts, SplittableRandom random) {
+        double[] weights = new double[parts];
+        double sum = 0;
+        for (int i = 0; i < parts; i++) {
+            weights[i] = -Math.log(1 - random.nextDouble());
+            sum += weights[i];
+        }
+        List<BigDecimal> shares = new ArrayList<>(parts);
+        BigDecimal remaining = BigDecimal.valueOf(total);
+        int spare = total - parts;
+        for (int i = 0; i < parts - 1; i++) {
+            BigDecimal share = BigDecimal.valueOf(1 + spare * weights[i] / sum).setScale(2, RoundingMode.DOWN);
+            shares.add(share);
+            remaining = remaining.subtract(share);
+        }
+        shares.add(remaining);
+        return shares;
+    }
+
+    private static RiskLevel riskLevel(SplittableRandom random, ClientType type, String nationality) {
+        int highRisk = indexOf(NATIONALITIES, nationality) >= NATIONALITIES.length - HIGH_RISK_NATIONALITIES
+            ? 50 : 0;
+        int trust = type == ClientType.TRUST ? 15 : 0;
+        int roll = random.nextInt(100) - highRisk - trust;
+        return roll < 8 ? RiskLevel.HIGH : roll < 30 ? RiskLevel.MEDIUM : RiskLevel.LOW;
+    }
+
+    private String nationality(SplittableRandom random) {
+        return NATIONALITIES[weighted(random, NATIONALITY_WEIGHTS, nationalityTotal)];
+    }
+
+    private static String phone(SplittableRandom random, int index) {
+        return "+" + (1 + random.nextInt(98)) + " " + (100 + random.nextInt(900)) + "-"
+            + String.format(Locale.ROOT, "%07d", index % 10_000_000);
+    }
+
+    /**
+     * Picks from a pool with a strong bias towards its first entries, so a few names are very common.
+     */
+    private static String skewed(SplittableRandom random, String[] pool) {
+        return pool[(int) (pool.length * Math.pow(random.nextDouble(), 2.5))];
+    }
+
+    private static int weighted(SplittableRandom random, int[] weights, int total) {
+        int roll = random.nextInt(total);
+        for (int i = 0; i < weights.length; i++) {
+            roll -= weights[i];
+            if (roll < 0) {
+                return i;
+            }
+        }
+        return weights.length - 1;
+    }
+
+    private static String transposeLetters(String name, SplittableRandom random) {
+        if (name.length() < 4) {
+            return name;
+        }
+        char[] chars = name.toCharArray();
+        int i = 1 + random.nextInt(chars.length - 3);
+        char c = chars[i];
+        chars[i] = chars[i + 1];
+        chars[i + 1] = c;
+        return new String(chars);
+    }
+
+    private static int indexOf(String[] values, String value) {
+        for (int i = 0; i < values.length; i++) {
+            if (values[i].equals(value)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private static String csv(String value) {
+        return value.indexOf(',') >= 0 || value.indexOf('"') >= 0
+            ? '"' + value.replace("\"", "\"\"") + '"'
+            : value;
+    }
+
+    /**
+     * An independent random stream per row and purpose, so any row can be regenerated on its own.
+     */
+    private SplittableRandom random(long stream, int index) {
+        return new SplittableRandom(mix(seed ^ stream) + index * 0x9E3779B97F4A7C15L);
+    }
+
+    private static long mix(long z) {
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+}
@@ -0,0 +1,103 @@
+package com.theociobanoiu.kycmcp.duplicates;
+
+import com.theociobanoiu.kycmcp.screening.NameNormalizer;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * The identifying attributes of a client in the normalized form duplicate detection compares:
+ * <ul>
+ *     <li>name tokens as for screening, without legal forms, so "ABC Corp." and "ABC Corporation" agree</li>
+ *     <li>registration number upper-cased, without separators and without leading zeros in its digit runs,
+ *     so "reg-001" and "REG1" agree</li>
+ *     <li>email lower-cased, without a {@code +tag} in the local part</li>
+ *     <li>phone as its digits only; numbers of fewer than {@value #MIN_PHONE_DIGITS} digits are ignored</li>
+ * </ul>
+ * Blank attributes become null.
+ *
+ * @param clientId           the client's id, null for a client not yet saved
+ * @param name               the name as entered
+ * @param nameTokens         normalized name tokens
+ * @param registrationNumber normalized registration number
+ * @param email              normalized email
+ * @param phone              phone digits
+ */
+public record ClientFingerprint(
+    Long clientId,
+    String name,
+    List<String> nameTokens,
+    String registrationNumber,
+    String email,
+    String phone
+) {
+
+    /**
+     * Trailing digits two phone numbers must share to match; ignores country codes and trunk prefixes.
+     */
+    static final int MIN_PHONE_DIGITS = 7;
+
+    private static final Set<String> LEGAL_FORMS = Set.of(
+        "LTD", "LIMITED", "INC", "INCORPORATED", "CORP", "CORPORATION", "CO", "COMPANY", "LLC", "LLP", "LP",
+        "PLC", "SA", "SAS", "SARL", "SRL", "SPA", "GMBH", "AG", "KG", "BV", "NV", "AB", "AS", "OY", "PTY");
+
+    public static ClientFingerprint of(Long clientId, String name, String email, String phone,
+                                       String registrationNumber) {
+        return new ClientFingerprint(clientId, name, nameTokens(name), registrationNumber(registrationNumber),
+            email(email), phone(phone));
+    }
+
+    static List<String> nameTokens(String name) {
+        List<String> tokens = NameNormalizer.tokens(NameNormalizer.normalize(name));
+        List<String> withoutLegalForms = tokens.stream().filter(token -> !LEGAL_FORMS.contains(token)).toList();
+        // A name made only of legal forms keeps them, rather than matching every other such name
+        return withoutLegalForms.isEmpty() ? tokens : withoutLegalForms;
+    }
+
+    static String registrationNumber(String registrationNumber) {
+        if (registrationNumber == null) {
+            return null;
+        }
+        StringBuilder normalized = new StringBuilder(registrationNumber.length());
+        boolean inDigits = false;
+        for (int i = 0; i < registrationNumber.length(); i++) {
+            char c = Character.toUpperCase(registrationNumber.charAt(i));
+            if (Character.isDigit(c)) {
+                if (c == '0' && !inDigits && i + 1 < registrationNumber.length()
+                    && Character.isDigit(registrationNumber.charAt(i + 1))) {
+                    continue;
+                }
+                inDigits = true;
+                normalized.append(c);
+            } else if (Character.isLetter(c)) {
+                inDigits = false;
+                normalized.append(c);
+            }
+        }
+        return normalized.isEmpty() ? null : normalized.toString();
+    }
+
+    static String email(String email) {
+        if (email == null || email.isBlank()) {
+            return null;
+        }
+        String normalized = email.trim().toLowerCase(Locale.ROOT);
+        int at = normalized.lastIndexOf('@');
+        int plus = normalized.indexOf('+');
+        return plus > 0 && plus < at ? normalized.substring(0, plus) + normalized.substring(at) : normalized;
+    }
+
+    static String phone(String phone) {
+        if (phone == null) {
+            return null;
+        }
+        StringBuilder digits = new StringBuilder(phone.length());
+        for (int i = 0; i < phone.length(); i++) {
+            if (Character.isDigit(phone.charAt(i))) {
+                digits.append(phone.charAt(i));
+            }
+        }
+        return digits.length() >= MIN_PHONE_DIGITS ? digits.toString() : null;
+    }
+}
@@ -0,0 +1,207 @@
+package com.theociobanoiu.kycmcp.duplicates;
+
+import com.theociobanoiu.kycmcp.model.entities.Client;
+import com.theociobanoiu.kycmcp.repository.ClientRepository;
+import com.theociobanoiu.kycmcp.repository.projection.ClientIdentityRow;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.LongStream;
+import java.util.stream.Stream;
+
+/**
+ * Finds clients that are probably the same party onboarded more than once.
+ * <p>
+ * Every client's {@link ClientFingerprint} is kept in a {@link DuplicateIndex}, loaded once at startup by
+ * streaming the identifying columns of all clients and kept current through {@link #index(Client)}. Updates
+ * issued inside a transaction are applied only after it commits, so a rolled-back insert is never matched.
+ * <p>
+ * {@link #matches(Client)} checks one client against the index and only scores the handful of clients it
+ * shares a blocking key with, which keeps the check on create well under a millisecond. {@link #detect()}
+ * scores the whole book on a dedicated pool and joins the matched pairs into clusters: if A matches B and B
+ * matches C, all three are reported together.
+ */
+@Component
+@Slf4j
+public class DuplicateDetectionEngine implements SmartInitializingSingleton {
+
+    /**
+     * Clients matched to one another, directly or through other members.
+     *
+     * @param clientIds members, ascending
+     * @param matches   the scored pairs linking the members, best first
+     */
+    public record Cluster(List<Long> clientIds, List<DuplicateMatch> matches) {
+
+        public double bestScore() {
+            return matches.getFirst().score();
+        }
+    }
+
+    private final ClientRepository clientRepository;
+    private final TransactionTemplate readOnlyTransaction;
+    private final DuplicateProperties properties;
+    private final DuplicateIndex index;
+    private final ForkJoinPool pool;
+
+    public DuplicateDetectionEngine(ClientRepository clientRepository,
+                                    PlatformTransactionManager transactionManager,
+                                    DuplicateProperties properties) {
+        this.clientRepository = clientRepository;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.properties = properties;
+        this.index = new DuplicateIndex(properties.maxBlockSize(), properties.maxCandidates());
+        this.pool = new ForkJoinPool(properties.parallelism());
+    }
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        long start = System.nanoTime();
+        readOnlyTransaction.executeWithoutResult(status -> {
+            try (Stream<ClientIdentityRow> clients = clientRepository.streamIdentityRows()) {
+                clients.forEach(client -> index.put(ClientFingerprint.of(client.id(), client.name(), client.email(),
+                    client.phone(), client.registrationNumber())));
+            }
+        });
+        log.info("Built duplicate detection index with {} clients in {} ms",
+            index.size(), (System.nanoTime() - start) / 1_000_000);
+    }
+
+    @PreDestroy
+    void shutdown() {
+        pool.shutdownNow();
+    }
+
+    /**
+     * Notifies the engine that a client was created or its identifying attributes changed.
+     */
+    public void index(Client client) {
+        ClientFingerprint fingerprint = fingerprint(client);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    index.put(fingerprint);
+                }
+            });
+        } else {
+            index.put(fingerprint);
+        }
+    }
+
+    /**
+     * Existing clients resembling a client, which may not be saved yet.
+     *
+     * @return matches scoring at least the match threshold, best first
+     */
+    public List<DuplicateMatch> matches(Client client) {
+        return index.matches(fingerprint(client), properties.matchThreshold());
+    }
+
+    /**
+     * @return matches of an indexed client scoring at least the match threshold, best first; null if the
+     * client is not indexed
+     */
+    public List<DuplicateMatch> matches(long clientId) {
+        ClientFingerprint fingerprint = index.get(clientId);
+        return fingerprint != null ? index.matches(fingerprint, properties.matchThreshold()) : null;
+    }
+
+    /**
+     * @return true if the match scores at least the reject threshold, too close to create the client anyway
+     */
+    public boolean isCertainDuplicate(DuplicateMatch match) {
+        return match.score() >= properties.rejectThreshold();
+    }
+
+    /**
+     * @return the name of an indexed client, or null
+     */
+    public String name(long clientId) {
+        ClientFingerprint fingerprint = index.get(clientId);
+        return fingerprint != null ? fingerprint.name() : null;
+    }
+
+    public int size() {
+        return index.size();
+    }
+
+    /**
+     * Scores every client against its candidates and clusters the matches.
+     *
+     * @return clusters, the best-scoring first
+     */
+    public List<Cluster> detect() {
+        List<DuplicateMatch> matches = index.scan(properties.matchThreshold(), pool);
+        return cluster(matches);
+    }
+
+    /**
+     * Union-find over the matched pairs; each connected set of clients is one cluster.
+     */
+    public static List<Cluster> cluster(List<DuplicateMatch> matches) {
+        Map<Long, Long> parent = new HashMap<>();
+        for (DuplicateMatch match : matches) {
+            long left = root(parent, match.clientId());
+            long right = root(parent, match.matchedClientId());
+            if (left != right) {
+                parent.put(Math.max(left, right), Math.min(left, right));
+            }
+        }
+
+        Map<Long, List<DuplicateMatch>> matchesByRoot = new HashMap<>();
+        for (DuplicateMatch match : matches) {
+            matchesByRoot.computeIfAbsent(root(parent, match.clientId()), root -> new ArrayList<>()).add(match);
+        }
+        List<Cluster> clusters = new ArrayList<>(matchesByRoot.size());
+        for (List<DuplicateMatch> members : matchesByRoot.values()) {
+            members.sort(Comparator.comparingDouble(DuplicateMatch::score).reversed()
+                .thenComparingLong(DuplicateMatch::clientId)
+                .thenComparingLong(DuplicateMatch::matchedClientId));
+            long[] ids = members.stream()
+                .flatMapToLong(match -> LongStream.of(match.clientId(), match.matchedClientId()))
+                .distinct()
+                .sorted()
+                .toArray();
+            clusters.add(new Cluster(Arrays.stream(ids).boxed().toList(), members));
+        }
+        clusters.sort(Comparator.comparingDouble(Cluster::bestScore).reversed()
+            .thenComparing(cluster -> cluster.clientIds().getFirst()));
+        return clusters;
+    }
+
+    private static long root(Map<Long, Long> parent, long id) {
+        long root = id;
+        Long next;
+        while ((next = parent.get(root)) != null) {
+            root = next;
+        }
+        // Path compression keeps later lookups short
+        long node = id;
+        while (node != root) {
+            long up = parent.get(node);
+            parent.put(node, root);
+            node = up;
+        }
+        return root;
+    }
+
+    private static ClientFingerprint fingerprint(Client client) {
+        return ClientFingerprint.of(client.getId(), client.getName(), client.getEmail(), client.getPhone(),
+            client.getRegistrationNumber());
+    }
+}
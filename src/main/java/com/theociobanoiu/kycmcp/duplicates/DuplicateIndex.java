@@ -0,0 +1,284 @@
+package com.theociobanoiu.kycmcp.duplicates;
+
+import com.theociobanoiu.kycmcp.screening.BlockingKeys;
+import com.theociobanoiu.kycmcp.util.collections.IntArrayList;
+import com.theociobanoiu.kycmcp.util.collections.LongArrayList;
+import com.theociobanoiu.kycmcp.util.collections.LongIntHashMap;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.IntStream;
+
+/**
+ * In-memory blocking index over client fingerprints, so each client is only scored against the few
+ * clients it shares a blocking key with instead of against the whole book.
+ * <p>
+ * Name tokens yield the same phonetic, trigram and token-pair keys as watchlist screening
+ * ({@link BlockingKeys}); a normalized registration number, email and the trailing digits of a phone number
+ * yield one key each. A client becomes a candidate when it shares a registration number, email or phone key,
+ * or at least two name keys (one for single-token names). Keys shared by more than {@code maxBlockSize}
+ * clients, such as the phonetic code of "Global", are too common to pair clients up and are skipped, which
+ * keeps the work per client bounded and a whole-book scan near-linear.
+ * <p>
+ * Posting lists are chains through two flat {@code int[]} arrays, headed by a primitive {@code key -> posting}
+ * map, so millions of clients cost no per-key objects. Re-indexing a client tombstones its old slot, as the
+ * name search index does. Lookups share a read lock and updates take the write lock; a whole-book scan takes
+ * the read lock one block of slots at a time, so writes and create-time checks are never held up for long.
+ */
+final class DuplicateIndex {
+
+    private static final int INITIAL_CAPACITY = 1024;
+    private static final int NONE = -1;
+    // An identifier key on its own makes a candidate; name keys need company
+    private static final int IDENTIFIER_WEIGHT = 1 << 16;
+    private static final int SCAN_BLOCK = 1024;
+
+    private static final Comparator<DuplicateMatch> BEST_FIRST = Comparator
+        .comparingDouble(DuplicateMatch::score).reversed()
+        .thenComparingLong(DuplicateMatch::matchedClientId);
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final LongIntHashMap slotsById = new LongIntHashMap(INITIAL_CAPACITY, NONE);
+    private final LongIntHashMap headByKey = new LongIntHashMap(INITIAL_CAPACITY, NONE);
+    private final LongIntHashMap lengthByKey = new LongIntHashMap(INITIAL_CAPACITY, 0);
+    private final int maxBlockSize;
+    private final int maxCandidates;
+
+    private ClientFingerprint[] fingerprints = new ClientFingerprint[INITIAL_CAPACITY];
+    private int[] postingSlots = new int[INITIAL_CAPACITY * 8];
+    private int[] postingNext = new int[INITIAL_CAPACITY * 8];
+    private int postings;
+    private int slots;
+    private int liveCount;
+
+    DuplicateIndex(int maxBlockSize, int maxCandidates) {
+        this.maxBlockSize = maxBlockSize;
+        this.maxCandidates = maxCandidates;
+    }
+
+    /**
+     * Adds a saved client to the index or replaces its previous fingerprint.
+     */
+    void put(ClientFingerprint fingerprint) {
+        long id = fingerprint.clientId();
+        long[] nameKeys = nameKeys(fingerprint);
+        long[] identifierKeys = identifierKeys(fingerprint);
+
+        lock.writeLock().lock();
+        try {
+            int existing = slotsById.get(id);
+            if (existing != NONE) {
+                fingerprints[existing] = null;
+                liveCount--;
+            }
+            if (slots == fingerprints.length) {
+                fingerprints = Arrays.copyOf(fingerprints, slots << 1);
+            }
+            int slot = slots++;
+            fingerprints[slot] = fingerprint;
+            slotsById.put(id, slot);
+            liveCount++;
+            for (long key : nameKeys) {
+                addPosting(key, slot);
+            }
+            for (long key : identifierKeys) {
+                addPosting(key, slot);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * @return the indexed fingerprint of a client, or null if it is not indexed
+     */
+    ClientFingerprint get(long clientId) {
+        lock.readLock().lock();
+        try {
+            int slot = slotsById.get(clientId);
+            return slot == NONE ? null : fingerprints[slot];
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    int size() {
+        lock.readLock().lock();
+        try {
+            return liveCount;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Indexed clients resembling a client, which need not be indexed itself.
+     *
+     * @return matches scoring at least the threshold, best first
+     */
+    List<DuplicateMatch> matches(ClientFingerprint subject, double threshold) {
+        long[] nameKeys = nameKeys(subject);
+        long[] identifierKeys = identifierKeys(subject);
+        long subjectId = subject.clientId() != null ? subject.clientId() : NONE;
+        DuplicateScorer scorer = new DuplicateScorer(subject);
+        List<DuplicateMatch> matches = new ArrayList<>();
+
+        lock.readLock().lock();
+        try {
+            for (int slot : candidates(subject, nameKeys, identifierKeys, NONE)) {
+                ClientFingerprint other = fingerprints[slot];
+                if (other.clientId() == subjectId) {
+                    continue;
+                }
+                DuplicateScorer.Score score = scorer.score(other, threshold);
+                if (score != null) {
+                    matches.add(new DuplicateMatch(subjectId, other.clientId(), score.score(), score.evidence()));
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+        matches.sort(BEST_FIRST);
+        return matches;
+    }
+
+    /**
+     * Scores every indexed client against its candidates on the given pool, reporting each pair once.
+     *
+     * @return matches scoring at least the threshold, in no particular order
+     */
+    List<DuplicateMatch> scan(double threshold, ForkJoinPool pool) {
+        int slotCount;
+        lock.readLock().lock();
+        try {
+            slotCount = slots;
+        } finally {
+            lock.readLock().unlock();
+        }
+        int blocks = (slotCount + SCAN_BLOCK - 1) / SCAN_BLOCK;
+        return pool.submit(() -> IntStream.range(0, blocks).parallel()
+                .mapToObj(block -> scanBlock(block * SCAN_BLOCK, Math.min(slotCount, (block + 1) * SCAN_BLOCK),
+                    threshold))
+                .flatMap(List::stream)
+                .toList())
+            .join();
+    }
+
+    private List<DuplicateMatch> scanBlock(int from, int to, double threshold) {
+        List<DuplicateMatch> matches = new ArrayList<>();
+        lock.readLock().lock();
+        try {
+            for (int slot = from; slot < to; slot++) {
+                ClientFingerprint subject = fingerprints[slot];
+                if (subject == null) {
+                    continue;
+                }
+                DuplicateScorer scorer = null;
+                // Only later slots, so each pair is scored from one side
+                for (int candidate : candidates(subject, nameKeys(subject), identifierKeys(subject), slot)) {
+                    if (scorer == null) {
+                        scorer = new DuplicateScorer(subject);
+                    }
+                    ClientFingerprint other = fingerprints[candidate];
+                    DuplicateScorer.Score score = scorer.score(other, threshold);
+                    if (score != null) {
+                        long left = Math.min(subject.clientId(), other.clientId());
+                        long right = Math.max(subject.clientId(), other.clientId());
+                        matches.add(new DuplicateMatch(left, right, score.score(), score.evidence()));
+                    }
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+        return matches;
+    }
+
+    /**
+     * Live slots above {@code afterSlot} sharing enough keys with the subject, those sharing the most first
+     * when there are more than {@code maxCandidates}. Callers hold the read lock.
+     */
+    private int[] candidates(ClientFingerprint subject, long[] nameKeys, long[] identifierKeys, int afterSlot) {
+        LongIntHashMap shared = new LongIntHashMap(64, 0);
+        IntArrayList seen = new IntArrayList(64);
+        collect(nameKeys, 1, afterSlot, shared, seen);
+        collect(identifierKeys, IDENTIFIER_WEIGHT, afterSlot, shared, seen);
+
+        int minShared = subject.nameTokens().size() >= 2 ? 2 : 1;
+        LongArrayList ranked = new LongArrayList(seen.size());
+        int[] seenSlots = seen.rawArray();
+        for (int i = 0, n = seen.size(); i < n; i++) {
+            int count = shared.get(seenSlots[i]);
+            if (count >= minShared && fingerprints[seenSlots[i]] != null) {
+                // shared count in the high bits so a plain sort orders by it
+                ranked.add(((long) count << 32) | seenSlots[i]);
+            }
+        }
+
+        long[] packed = ranked.toArray();
+        if (packed.length > maxCandidates) {
+            Arrays.sort(packed);
+            packed = Arrays.copyOfRange(packed, packed.length - maxCandidates, packed.length);
+        }
+        int[] candidates = new int[packed.length];
+        for (int i = 0; i < packed.length; i++) {
+            candidates[i] = (int) packed[i];
+        }
+        return candidates;
+    }
+
+    private void collect(long[] keys, int weight, int afterSlot, LongIntHashMap shared, IntArrayList seen) {
+        for (long key : keys) {
+            int length = lengthByKey.get(key);
+            if (length == 0 || length > maxBlockSize) {
+                continue;
+            }
+            for (int posting = headByKey.get(key); posting != NONE; posting = postingNext[posting]) {
+                int slot = postingSlots[posting];
+                // Chains run from the newest slot down, so the rest are all at or below afterSlot
+                if (slot <= afterSlot) {
+                    break;
+                }
+                if (shared.addTo(slot, weight) == weight) {
+                    seen.add(slot);
+                }
+            }
+        }
+    }
+
+    private void addPosting(long key, int slot) {
+        if (postings == postingSlots.length) {
+            postingSlots = Arrays.copyOf(postingSlots, postings << 1);
+            postingNext = Arrays.copyOf(postingNext, postings << 1);
+        }
+        postingSlots[postings] = slot;
+        postingNext[postings] = headByKey.get(key);
+        headByKey.put(key, postings++);
+        lengthByKey.addTo(key, 1);
+    }
+
+    private static long[] nameKeys(ClientFingerprint fingerprint) {
+        LongArrayList keys = new LongArrayList(16);
+        BlockingKeys.append(fingerprint.nameTokens(), keys);
+        return BlockingKeys.distinct(keys);
+    }
+
+    private static long[] identifierKeys(ClientFingerprint fingerprint) {
+        LongArrayList keys = new LongArrayList(3);
+        if (fingerprint.registrationNumber() != null) {
+            keys.add(BlockingKeys.hash("REGISTRATION|" + fingerprint.registrationNumber()));
+        }
+        if (fingerprint.email() != null) {
+            keys.add(BlockingKeys.hash("EMAIL|" + fingerprint.email()));
+        }
+        if (fingerprint.phone() != null) {
+            String phone = fingerprint.phone();
+            keys.add(BlockingKeys.hash("PHONE|" + phone.substring(phone.length() - ClientFingerprint.MIN_PHONE_DIGITS)));
+        }
+        return keys.toArray();
+    }
+}
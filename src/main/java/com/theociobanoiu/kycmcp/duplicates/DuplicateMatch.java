@@ -0,0 +1,16 @@
+package com.theociobanoiu.kycmcp.duplicates;
+
+import com.theociobanoiu.kycmcp.model.enums.DuplicateEvidence;
+
+import java.util.Set;
+
+/**
+ * Two clients scored as possible duplicates. Pairs from a whole-book scan carry the lower id first.
+ *
+ * @param clientId        the client checked
+ * @param matchedClientId the client it resembles
+ * @param score           0.0 - 1.0
+ * @param evidence        attributes the two clients agree on
+ */
+public record DuplicateMatch(long clientId, long matchedClientId, double score, Set<DuplicateEvidence> evidence) {
+}
@@ -0,0 +1,25 @@
+package com.theociobanoiu.kycmcp.duplicates;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * Configuration for client duplicate detection, bound from {@code kyc.duplicates}.
+ *
+ * @param matchThreshold      minimum score (0.0 - 1.0) for two clients to be reported as possible duplicates
+ * @param rejectThreshold     score from which creating a client is refused as a duplicate of an existing one
+ * @param maxBlockSize        blocking keys shared by more clients than this are too common to pair clients up
+ * @param maxCandidates       maximum number of clients scored against one client
+ * @param maxReportedClusters clusters listed in a whole-book detection result; all of them are stored
+ * @param parallelism         threads scoring clients during a whole-book detection run
+ */
+@ConfigurationProperties(prefix = "kyc.duplicates")
+public record DuplicateProperties(
+    @DefaultValue("0.7") double matchThreshold,
+    @DefaultValue("0.95") double rejectThreshold,
+    @DefaultValue("200") int maxBlockSize,
+    @DefaultValue("200") int maxCandidates,
+    @DefaultValue("100") int maxReportedClusters,
+    @DefaultValue("4") int parallelism
+) {
+}
@@ -0,0 +1,104 @@
+package com.theociobanoiu.kycmcp.duplicates;
+
+import com.theociobanoiu.kycmcp.model.enums.DuplicateEvidence;
+import com.theociobanoiu.kycmcp.screening.NameScorer;
+
+import java.util.EnumSet;
+import java.util.Set;
+
+/**
+ * Scores how likely two clients are the same party.
+ * <p>
+ * The name, compared like a screened name, carries most of the weight but on its own never reaches the
+ * reject threshold: two people called John Smith are worth a review, not a refusal. Matching identifiers add
+ * to it: registration number 0.4, email 0.25, phone 0.15. Registration numbers that are both present and
+ * differ subtract 0.4, since companies sharing a name in different registers are distinct parties.
+ * <p>
+ * One instance is created per client compared, so its name tokens are prepared once for every candidate;
+ * instances are not thread-safe.
+ */
+final class DuplicateScorer {
+
+    static final double NAME_WEIGHT = 0.7;
+    static final double REGISTRATION_NUMBER_MATCH = 0.4;
+    static final double REGISTRATION_NUMBER_CONFLICT = -0.4;
+    static final double EMAIL_MATCH = 0.25;
+    static final double PHONE_MATCH = 0.15;
+
+    // Names scoring below this are not reported as matching, though their score still counts
+    private static final double NAME_EVIDENCE_FLOOR = 0.85;
+    private static final double EPSILON = 1e-9;
+
+    /**
+     * @param score    0.0 - 1.0
+     * @param evidence attributes the two clients agree on
+     */
+    record Score(double score, Set<DuplicateEvidence> evidence) {
+    }
+
+    private final ClientFingerprint subject;
+    private final NameScorer nameScorer;
+
+    DuplicateScorer(ClientFingerprint subject) {
+        this.subject = subject;
+        this.nameScorer = new NameScorer(subject.nameTokens());
+    }
+
+    /**
+     * @return the score, or null when the pair cannot reach the threshold; the name, the costly part, is
+     * then not compared at all
+     */
+    Score score(ClientFingerprint other, double threshold) {
+        Set<DuplicateEvidence> evidence = EnumSet.noneOf(DuplicateEvidence.class);
+        double score = 0;
+        if (subject.registrationNumber() != null && other.registrationNumber() != null) {
+            if (subject.registrationNumber().equals(other.registrationNumber())) {
+                score += REGISTRATION_NUMBER_MATCH;
+                evidence.add(DuplicateEvidence.REGISTRATION_NUMBER);
+            } else {
+                score += REGISTRATION_NUMBER_CONFLICT;
+            }
+        }
+        if (subject.email() != null && subject.email().equals(other.email())) {
+            score += EMAIL_MATCH;
+            evidence.add(DuplicateEvidence.EMAIL);
+        }
+        if (phonesMatch(subject.phone(), other.phone())) {
+            score += PHONE_MATCH;
+            evidence.add(DuplicateEvidence.PHONE);
+        }
+
+        double requiredNameScore = (threshold - score) / NAME_WEIGHT;
+        double nameScore;
+        if (requiredNameScore > 1 + EPSILON || subject.nameTokens().isEmpty()) {
+            return null;
+        } else if (requiredNameScore >= 1 - EPSILON) {
+            // Only a perfect name will do, which the name scorer gives for the same tokens in any order or
+            // the same letters joined differently; most name-only candidates of a whole-book scan end here
+            nameScore = sameName(other) ? 1 : 0;
+        } else {
+            nameScore = nameScorer.score(other.nameTokens());
+        }
+        if (nameScore >= NAME_EVIDENCE_FLOOR) {
+            evidence.add(DuplicateEvidence.NAME);
+        }
+        score = Math.max(0.0, Math.min(1.0, score + NAME_WEIGHT * nameScore));
+        return score >= threshold ? new Score(score, evidence) : null;
+    }
+
+    private boolean sameName(ClientFingerprint other) {
+        return Set.copyOf(subject.nameTokens()).equals(Set.copyOf(other.nameTokens()))
+            || String.join("", subject.nameTokens()).equals(String.join("", other.nameTokens()));
+    }
+
+    /**
+     * Phone numbers match when the shorter one is the tail of the longer one, so a number stored with and
+     * without its country code still matches.
+     */
+    static boolean phonesMatch(String left, String right) {
+        if (left == null || right == null) {
+            return false;
+        }
+        return left.length() <= right.length() ? right.endsWith(left) : left.endsWith(right);
+    }
+}
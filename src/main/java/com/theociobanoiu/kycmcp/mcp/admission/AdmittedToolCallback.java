@@ -0,0 +1,83 @@
+package com.theociobanoiu.kycmcp.mcp.admission;
+
+import com.theociobanoiu.kycmcp.model.response.McpServerResponse;
+import io.modelcontextprotocol.server.McpAsyncServerExchange;
+import io.modelcontextprotocol.server.McpSyncServerExchange;
+import lombok.RequiredArgsConstructor;
+import org.springframework.ai.chat.model.ToolContext;
+import org.springframework.ai.mcp.McpToolUtils;
+import org.springframework.ai.tool.ToolCallback;
+import org.springframework.ai.tool.definition.ToolDefinition;
+import org.springframework.ai.tool.execution.DefaultToolCallResultConverter;
+import org.springframework.ai.tool.execution.ToolCallResultConverter;
+import org.springframework.ai.tool.metadata.ToolMetadata;
+import org.springframework.util.ReflectionUtils;
+
+import java.lang.reflect.Field;
+import java.util.concurrent.Semaphore;
+
+/**
+ * Runs a tool call only once {@link ToolAdmission} admits it, and answers with an error response when it does
+ * not.
+ * <p>
+ * The MCP server wraps its per-session {@link McpAsyncServerExchange} in a new {@link McpSyncServerExchange} for
+ * every call and does not expose it; the wrapped exchange is read reflectively and serves as the session key.
+ * Calls without an exchange, such as the start-up warm-up, are not limited per session.
+ */
+@RequiredArgsConstructor
+final class AdmittedToolCallback implements ToolCallback {
+
+    private static final Field SESSION_EXCHANGE = sessionExchangeField();
+    private static final ToolCallResultConverter RESULT_CONVERTER = new DefaultToolCallResultConverter();
+
+    private final ToolCallback delegate;
+    private final ToolAdmission admission;
+    private final Semaphore toolPermits;
+
+    @Override
+    public ToolDefinition getToolDefinition() {
+        return delegate.getToolDefinition();
+    }
+
+    @Override
+    public ToolMetadata getToolMetadata() {
+        return delegate.getToolMetadata();
+    }
+
+    @Override
+    public String call(String toolInput) {
+        return call(toolInput, null);
+    }
+
+    @Override
+    public String call(String toolInput, ToolContext toolContext) {
+        ToolAdmission.Admission admitted;
+        try {
+            admitted = admission.admit(delegate.getToolDefinition().name(), toolInput, session(toolContext),
+                toolPermits);
+        } catch (ToolRejectedException e) {
+            return RESULT_CONVERTER.convert(McpServerResponse.error(e.getCode(), e.getMessage()), null);
+        }
+        try (admitted) {
+            return delegate.call(toolInput, toolContext);
+        }
+    }
+
+    private static Object session(ToolContext toolContext) {
+        if (toolContext == null || SESSION_EXCHANGE == null) {
+            return null;
+        }
+        return McpToolUtils.getMcpExchange(toolContext)
+            .map(exchange -> ReflectionUtils.getField(SESSION_EXCHANGE, exchange))
+            .orElse(null);
+    }
+
+    private static Field sessionExchangeField() {
+        Field field = ReflectionUtils.findField(McpSyncServerExchange.class, "exchange",
+            McpAsyncServerExchange.class);
+        if (field != null) {
+            ReflectionUtils.makeAccessible(field);
+        }
+        return field;
+    }
+}
@@ -0,0 +1,242 @@
+package com.theociobanoiu.kycmcp.mcp.admission;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.ai.tool.ToolCallback;
+import org.springframework.stereotype.Component;
+
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Admission control in front of the MCP tools: decides, before a call runs, whether it runs now, waits, or is
+ * rejected.
+ * <p>
+ * Every call is first given a cost by {@link ToolCostEstimator} and put in a lane: calls estimated to touch at
+ * least {@code kyc.admission.expensive-rows} rows run in the expensive lane, with few permits, everything else in
+ * the cheap lane, with many. A flood of full scans then queues behind its own permits while single-client
+ * lookups keep their latency. A call needs, in order:
+ * <ol>
+ *     <li>a slot of its MCP session, out of {@code max-concurrent-per-session}; a session over its limit is
+ *     rejected at once, so one client cannot take every permit</li>
+ *     <li>room in its lane's queue, out of {@code max-queued}; a full queue is rejected at once</li>
+ *     <li>a permit of its tool, out of {@code max-concurrent-per-tool} or the tool's {@code tool-limits} entry,
+ *     then a permit of its lane, both within {@code queue-timeout}; permits are handed out first come, first
+ *     served</li>
+ * </ol>
+ * A rejected call returns an {@code McpServerResponse} error with code {@value #SESSION_LIMIT_EXCEEDED},
+ * {@value #QUEUE_FULL} or {@value #QUEUE_TIMEOUT}, without running the tool.
+ * <p>
+ * Work done for a tool outside MCP, such as the HTTP exports, is admitted with {@link #admit(String)} against
+ * the same tool and lane permits as the tool's calls.
+ * <p>
+ * Meters, tagged with the {@code lane} ({@code cheap}, {@code expensive}):
+ * <ul>
+ *     <li>{@value #QUEUED} - calls waiting for permits</li>
+ *     <li>{@value #ACTIVE} - calls holding a lane permit</li>
+ *     <li>{@value #WAIT} - time from arrival to admission or timeout</li>
+ *     <li>{@value #REJECTED} - rejected calls, tagged with the {@code tool} and the {@code reason} instead</li>
+ * </ul>
+ */
+@Component
+@Slf4j
+public class ToolAdmission {
+
+    static final String QUEUED = "kyc.mcp.admission.queued";
+    static final String ACTIVE = "kyc.mcp.admission.active";
+    static final String WAIT = "kyc.mcp.admission.wait";
+    static final String REJECTED = "kyc.mcp.admission.rejected";
+
+    public static final String SESSION_LIMIT_EXCEEDED = "SESSION_LIMIT_EXCEEDED";
+    public static final String QUEUE_FULL = "QUEUE_FULL";
+    public static final String QUEUE_TIMEOUT = "QUEUE_TIMEOUT";
+
+    private final ToolAdmissionProperties properties;
+    private final ToolCostEstimator costEstimator;
+    private final MeterRegistry registry;
+    private final Lane cheap;
+    private final Lane expensive;
+    private final Map<String, Semaphore> toolPermits = new ConcurrentHashMap<>();
+    private final Map<Object, Integer> sessionCalls = new ConcurrentHashMap<>();
+
+    public ToolAdmission(ToolAdmissionProperties properties, ToolCostEstimator costEstimator,
+                         MeterRegistry registry) {
+        this.properties = properties;
+        this.costEstimator = costEstimator;
+        this.registry = registry;
+        this.cheap = new Lane("cheap", properties.maxConcurrentCheap(), registry);
+        this.expensive = new Lane("expensive", properties.maxConcurrentExpensive(), registry);
+    }
+
+    /**
+     * Puts the given callbacks behind admission control, each with its own tool permits; returns them as they are
+     * when {@code kyc.admission.enabled} is false.
+     */
+    public ToolCallback[] admitted(ToolCallback... callbacks) {
+        if (!properties.enabled()) {
+            return callbacks;
+        }
+        log.info("MCP tool calls admitted {} cheap and {} expensive at a time, at most {} per session",
+            properties.maxConcurrentCheap(), properties.maxConcurrentExpensive(),
+            properties.maxConcurrentPerSession());
+        return Arrays.stream(callbacks)
+            .map(callback -> new AdmittedToolCallback(callback, this,
+                toolPermits(callback.getToolDefinition().name())))
+            .toArray(ToolCallback[]::new);
+    }
+
+    /**
+     * Waits for the permits of work done for a tool outside an MCP call, without a per-session limit; admits at
+     * once when {@code kyc.admission.enabled} is false.
+     *
+     * @param tool the tool whose permits and lane the work shares
+     * @return the admission, to be closed once the work is done
+     * @throws ToolRejectedException if the work may not run now
+     */
+    public Admission admit(String tool) {
+        if (!properties.enabled()) {
+            return () -> {
+            };
+        }
+        return admit(tool, null, null, toolPermits(tool));
+    }
+
+    /**
+     * Waits for the permits of a call.
+     *
+     * @param tool        the tool's name
+     * @param input       the call's JSON arguments, for the cost estimate
+     * @param session     identifies the caller's MCP session; null skips the per-session limit
+     * @param toolPermits the tool's permits
+     * @return the admission, to be closed once the call is done
+     * @throws ToolRejectedException if the call may not run
+     */
+    Admission admit(String tool, String input, Object session, Semaphore toolPermits) {
+        Lane lane = costEstimator.estimateRows(tool, input) >= properties.expensiveRows() ? expensive : cheap;
+        if (session != null && !enterSession(session)) {
+            throw reject(tool, SESSION_LIMIT_EXCEEDED, "This session already has "
+                + properties.maxConcurrentPerSession() + " tool calls in progress; wait for one to finish");
+        }
+
+        boolean admitted = false;
+        try {
+            if (lane.queued.incrementAndGet() > properties.maxQueued()) {
+                lane.queued.decrementAndGet();
+                throw reject(tool, QUEUE_FULL, "Too many " + lane.name + " tool calls are waiting; retry later");
+            }
+            long start = System.nanoTime();
+            try {
+                long deadline = start + properties.queueTimeout().toNanos();
+                if (!toolPermits.tryAcquire(deadline - System.nanoTime(), TimeUnit.NANOSECONDS)) {
+                    throw timeout(tool);
+                }
+                if (!lane.permits.tryAcquire(deadline - System.nanoTime(), TimeUnit.NANOSECONDS)) {
+                    toolPermits.release();
+                    throw timeout(tool);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw timeout(tool);
+            } finally {
+                lane.queued.decrementAndGet();
+                lane.wait.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            }
+            admitted = true;
+            return () -> {
+                lane.permits.release();
+                toolPermits.release();
+                leaveSession(session);
+            };
+        } finally {
+            if (!admitted) {
+                leaveSession(session);
+            }
+        }
+    }
+
+    private Semaphore toolPermits(String tool) {
+        return toolPermits.computeIfAbsent(tool, name -> new Semaphore(properties.toolLimit(name), true));
+    }
+
+    /**
+     * Counts and checks the call under the map's lock for the session, so a concurrent leave cannot remove the
+     * count between the two.
+     */
+    private boolean enterSession(Object session) {
+        boolean[] entered = new boolean[1];
+        sessionCalls.compute(session, (key, calls) -> {
+            int current = calls == null ? 0 : calls;
+            entered[0] = current < properties.maxConcurrentPerSession();
+            return entered[0] ? Integer.valueOf(current + 1) : calls;
+        });
+        return entered[0];
+    }
+
+    private void leaveSession(Object session) {
+        if (session != null) {
+            sessionCalls.computeIfPresent(session, (key, calls) -> calls == 1 ? null : calls - 1);
+        }
+    }
+
+    private ToolRejectedException timeout(String tool) {
+        return reject(tool, QUEUE_TIMEOUT,
+            "Not admitted within " + properties.queueTimeout().toMillis() + " ms; retry later");
+    }
+
+    private ToolRejectedException reject(String tool, String code, String message) {
+        Counter.builder(REJECTED)
+            .tag("tool", tool)
+            .tag("reason", code.toLowerCase(Locale.ROOT))
+            .description("MCP tool calls rejected by admission control")
+            .register(registry)
+            .increment();
+        log.warn("MCP tool '{}' rejected: {}", tool, message);
+        return new ToolRejectedException(code, message);
+    }
+
+    /**
+     * Permits held by an admitted call.
+     */
+    public interface Admission extends AutoCloseable {
+
+        @Override
+        void close();
+    }
+
+    /**
+     * Calls of similar cost, sharing a fixed number of permits.
+     */
+    private static final class Lane {
+
+        private final String name;
+        private final Semaphore permits;
+        private final AtomicInteger queued = new AtomicInteger();
+        private final Timer wait;
+
+        Lane(String name, int maxConcurrent, MeterRegistry registry) {
+            this.name = name;
+            this.permits = new Semaphore(maxConcurrent, true);
+            Gauge.builder(QUEUED, queued, AtomicInteger::get)
+                .tag("lane", name)
+                .description("MCP tool calls waiting for admission")
+                .register(registry);
+            Gauge.builder(ACTIVE, permits, available -> maxConcurrent - available.availablePermits())
+                .tag("lane", name)
+                .description("MCP tool calls admitted and running")
+                .register(registry);
+            this.wait = Timer.builder(WAIT)
+                .tag("lane", name)
+                .description("Time MCP tool calls wait for admission")
+                .publishPercentileHistogram()
+                .register(registry);
+        }
+    }
+}
@@ -0,0 +1,42 @@
+package com.theociobanoiu.kycmcp.mcp.admission;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+import java.util.Map;
+
+/**
+ * Admission control for MCP tool calls, bound from {@code kyc.admission}.
+ *
+ * @param enabled                 admit tool calls through {@link ToolAdmission}; false runs every call at once
+ * @param maxConcurrentPerSession tool calls one MCP session may have running or waiting; further calls are
+ *                                rejected at once rather than queued
+ * @param maxConcurrentPerTool    tool calls of one tool running at once, unless {@code toolLimits} says otherwise
+ * @param toolLimits              per-tool overrides of {@code maxConcurrentPerTool}, keyed by tool name
+ * @param expensiveRows           estimated rows from which a call runs in the expensive lane
+ * @param maxConcurrentCheap      calls running at once in the cheap lane
+ * @param maxConcurrentExpensive  calls running at once in the expensive lane
+ * @param maxQueued               calls waiting per lane; further calls are rejected at once
+ * @param queueTimeout            how long a call waits for its permits before it is rejected
+ */
+@ConfigurationProperties(prefix = "kyc.admission")
+public record ToolAdmissionProperties(
+    @DefaultValue("true") boolean enabled,
+    @DefaultValue("8") int maxConcurrentPerSession,
+    @DefaultValue("32") int maxConcurrentPerTool,
+    @DefaultValue Map<String, Integer> toolLimits,
+    @DefaultValue("200") long expensiveRows,
+    @DefaultValue("64") int maxConcurrentCheap,
+    @DefaultValue("4") int maxConcurrentExpensive,
+    @DefaultValue("200") int maxQueued,
+    @DefaultValue("5s") Duration queueTimeout
+) {
+
+    /**
+     * Calls of the given tool allowed to run at once.
+     */
+    public int toolLimit(String tool) {
+        return toolLimits.getOrDefault(tool, maxConcurrentPerTool);
+    }
+}
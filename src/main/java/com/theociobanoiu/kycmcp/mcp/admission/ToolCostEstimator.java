@@ -0,0 +1,72 @@
+package com.theociobanoiu.kycmcp.mcp.admission;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.MissingNode;
+import com.theociobanoiu.kycmcp.ownership.OwnershipProperties;
+import com.theociobanoiu.kycmcp.review.ReviewProperties;
+import com.theociobanoiu.kycmcp.search.ClientSearchProperties;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+/**
+ * Estimates how many rows a tool call reads or writes, from the tool and its arguments, before it runs.
+ * <p>
+ * Paged tools cost the page size they will actually use, resolved the way their service resolves it; batch
+ * lookups cost the number of ids passed; tools working through the whole client book cost {@link #UNBOUNDED}.
+ * Everything else costs one row: single client or person lookups, but also tools whose cost stays below
+ * {@code kyc.admission.expensive-rows} at their largest, such as {@code search_persons} (at most 100 matches) and
+ * {@code add_persons_to_client} (at most 50 persons), and checking one client for duplicates, which compares it with
+ * candidates from the in-memory index. Arguments that do not parse cost one row too: the tool rejects them without
+ * reading anything.
+ */
+@Component
+@RequiredArgsConstructor
+public class ToolCostEstimator {
+
+    /**
+     * Estimate for calls whose cost grows with the size of the client book.
+     */
+    public static final long UNBOUNDED = Long.MAX_VALUE;
+
+    private final ObjectMapper objectMapper;
+    private final ClientSearchProperties clientSearchProperties;
+    private final OwnershipProperties ownershipProperties;
+    private final ReviewProperties reviewProperties;
+
+    /**
+     * @param tool  the tool's name
+     * @param input the call's JSON arguments
+     * @return the expected number of rows
+     */
+    public long estimateRows(String tool, String input) {
+        JsonNode arguments = parse(input);
+        return switch (tool) {
+            case "search_clients" -> clientSearchProperties.resolveLimit(integer(arguments, "limit"));
+            case "get_all_clients" -> clientSearchProperties.resolveLimit(integer(arguments, "pageSize"));
+            case "get_beneficial_owners" -> ownershipProperties.resolvePageSize(integer(arguments, "limit"));
+            case "get_due_reviews" -> reviewProperties.resolveLimit(integer(arguments, "limit"));
+            case "get_clients_batch" -> Math.max(1, arguments.path("clientIds").size());
+            case "find_duplicate_clients" -> arguments.hasNonNull("clientId") ? 1 : UNBOUNDED;
+            case "import_records", "export_records", "recompute_risk_scores" -> UNBOUNDED;
+            default -> 1;
+        };
+    }
+
+    private JsonNode parse(String input) {
+        if (input == null || input.isBlank()) {
+            return MissingNode.getInstance();
+        }
+        try {
+            return objectMapper.readTree(input);
+        } catch (JsonProcessingException e) {
+            return MissingNode.getInstance();
+        }
+    }
+
+    private static Integer integer(JsonNode arguments, String name) {
+        JsonNode value = arguments.path(name);
+        return value.canConvertToInt() ? value.intValue() : null;
+    }
+}
@@ -0,0 +1,17 @@
+package com.theociobanoiu.kycmcp.mcp.admission;
+
+import lombok.Getter;
+
+/**
+ * A tool call turned away by {@link ToolAdmission}, with the error code reported to the caller.
+ */
+@Getter
+public class ToolRejectedException extends RuntimeException {
+
+    private final String code;
+
+    ToolRejectedException(String code, String message) {
+        super(message, null, false, false);
+        this.code = code;
+    }
+}
@@ -1,16 +1,18 @@
 package com.theociobanoiu.kycmcp.mcp.config;
 
 
+import com.theociobanoiu.kycmcp.mcp.admission.ToolAdmission;
+import com.theociobanoiu.kycmcp.mcp.metrics.ToolMetrics;
 import com.theociobanoiu.kycmcp.mcp.tools.KycMcpTools;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.ai.tool.ToolCallbackProvider;
-import org.springframework.ai.tool.method.MethodToolCallbackProvider;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
 /**
  * Configuration class for registering MCP tools with the Spring AI MCP server.
- * This configuration automatically discovers and registers all @Tool annotated methods.
+ * This configuration automatically discovers and registers all @Tool annotated methods,
+ * each one measured by {@link ToolMetrics} and admitted by {@link ToolAdmission}.
  */
 @Configuration
 @Slf4j
@@ -22,12 +24,13 @@ public class McpConfiguration {
      * and make them available to MCP clients like Claude.
      */
     @Bean
-    public ToolCallbackProvider kycToolCallbackProvider(KycMcpTools kycMcpTools) {
+    public ToolCallbackProvider kycToolCallbackProvider(KycMcpTools kycMcpTools, ToolMetrics toolMetrics,
+                                                         ToolAdmission toolAdmission) {
         log.info("Registering KYC MCP tools with Spring AI MCP server");
 
-        ToolCallbackProvider provider = MethodToolCallbackProvider.builder()
-                .toolObjects(kycMcpTools)  // Scan this object for @Tool methods
-                .build();
+        // Admission sits outside the metrics, so tool latency does not include the wait for a permit
+        ToolCallbackProvider provider = ToolCallbackProvider.from(toolAdmission.admitted(
+                toolMetrics.toolCallbacks(kycMcpTools)));  // Scan this object for @Tool methods
 
         log.info("KYC MCP tools registered successfully");
         return provider;
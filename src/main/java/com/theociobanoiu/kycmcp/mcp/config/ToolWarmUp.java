@@ -0,0 +1,81 @@
+package com.theociobanoiu.kycmcp.mcp.config;
+
+import com.theociobanoiu.kycmcp.config.FastStartProperties;
+import com.theociobanoiu.kycmcp.model.dto.ClientDTO;
+import com.theociobanoiu.kycmcp.service.api.ClientService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.ai.tool.ToolCallback;
+import org.springframework.ai.tool.ToolCallbackProvider;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Calls every read-only tool {@code kyc.fast-start.warm-up-iterations} times before the instance reports itself
+ * ready.
+ * <p>
+ * Application runners finish before Spring Boot publishes the readiness state {@code ACCEPTING_TRAFFIC}, so
+ * {@code /actuator/health/readiness} stays down until the warm-up is done. The calls go through the same tool
+ * callbacks as MCP requests (argument conversion, the service and repository code, result serialization), so the
+ * first agent requests do not pay for class loading, lazy initialization and interpreted code. Tools that write
+ * are left out. The warm-up calls show up in the {@code kyc.mcp.tool.*} metrics like any other call.
+ */
+@Component
+@Order(Ordered.LOWEST_PRECEDENCE)
+@RequiredArgsConstructor
+@Slf4j
+public class ToolWarmUp implements ApplicationRunner {
+
+    /**
+     * Arguments per tool; {@code %d} is replaced with the id of an existing client.
+     */
+    private static final Map<String, String> READ_ONLY_TOOLS = Map.ofEntries(
+        Map.entry("search_clients", "{\"name\":\"holdings\",\"limit\":10}"),
+        Map.entry("search_persons", "{\"query\":\"smith\",\"limit\":10}"),
+        Map.entry("get_client_details", "{\"clientId\":%d}"),
+        Map.entry("get_clients_batch", "{\"clientIds\":[%d]}"),
+        Map.entry("get_client_dossier", "{\"clientId\":%d}"),
+        Map.entry("get_ultimate_beneficial_owners", "{\"clientId\":%d}"),
+        Map.entry("get_beneficial_owners", "{\"limit\":10}"),
+        Map.entry("get_all_clients", "{\"pageSize\":10}"),
+        Map.entry("get_due_reviews", "{\"limit\":10}"),
+        Map.entry("screen_client", "{\"clientId\":%d}"),
+        Map.entry("find_duplicate_clients", "{\"clientId\":%d}"));
+
+    private final ToolCallbackProvider toolCallbackProvider;
+    private final ClientService clientService;
+    private final FastStartProperties properties;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        int iterations = properties.warmUpIterations();
+        if (iterations <= 0) {
+            return;
+        }
+        List<ClientDTO> clients = clientService.getClients(null, 1).items();
+        long clientId = clients.isEmpty() ? 1 : clients.getFirst().id();
+        Map<String, ToolCallback> tools = Arrays.stream(toolCallbackProvider.getToolCallbacks())
+            .collect(Collectors.toMap(tool -> tool.getToolDefinition().name(), Function.identity()));
+
+        long start = System.nanoTime();
+        for (int i = 0; i < iterations; i++) {
+            READ_ONLY_TOOLS.forEach((name, arguments) -> {
+                ToolCallback tool = tools.get(name);
+                if (tool != null) {
+                    tool.call(arguments.formatted(clientId));
+                }
+            });
+        }
+        log.info("Warmed up {} tools with {} calls each in {} ms", READ_ONLY_TOOLS.size(), iterations,
+            (System.nanoTime() - start) / 1_000_000);
+    }
+}
@@ -0,0 +1,52 @@
+package com.theociobanoiu.kycmcp.mcp.metrics;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.ai.chat.model.ToolContext;
+import org.springframework.ai.tool.ToolCallback;
+import org.springframework.ai.tool.definition.ToolDefinition;
+import org.springframework.ai.tool.metadata.ToolMetadata;
+import org.springframework.core.NestedExceptionUtils;
+
+/**
+ * Times a tool call and records what happened during it into the tool's {@link ToolMetrics.Meters}.
+ * <p>
+ * A tool method's exception reaches this callback wrapped in a {@code ToolExecutionException}, so a failed call
+ * is tagged with the simple name of the root cause instead.
+ */
+@RequiredArgsConstructor
+final class InstrumentedToolCallback implements ToolCallback {
+
+    private final ToolCallback delegate;
+    private final ToolMetrics.Meters meters;
+
+    @Override
+    public ToolDefinition getToolDefinition() {
+        return delegate.getToolDefinition();
+    }
+
+    @Override
+    public ToolMetadata getToolMetadata() {
+        return delegate.getToolMetadata();
+    }
+
+    @Override
+    public String call(String toolInput) {
+        return call(toolInput, null);
+    }
+
+    @Override
+    public String call(String toolInput, ToolContext toolContext) {
+        ToolInvocation invocation = ToolInvocation.begin();
+        long start = System.nanoTime();
+        String exceptionCode = null;
+        try {
+            return delegate.call(toolInput, toolContext);
+        } catch (RuntimeException e) {
+            exceptionCode = NestedExceptionUtils.getMostSpecificCause(e).getClass().getSimpleName();
+            throw e;
+        } finally {
+            ToolInvocation.end();
+            meters.record(invocation, System.nanoTime() - start, exceptionCode);
+        }
+    }
+}
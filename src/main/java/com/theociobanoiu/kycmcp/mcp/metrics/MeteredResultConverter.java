@@ -0,0 +1,83 @@
+package com.theociobanoiu.kycmcp.mcp.metrics;
+
+import com.theociobanoiu.kycmcp.model.dto.ClientBatchDTO;
+import com.theociobanoiu.kycmcp.model.dto.CursorPage;
+import com.theociobanoiu.kycmcp.model.response.McpServerResponse;
+import com.theociobanoiu.kycmcp.model.response.Status;
+import lombok.RequiredArgsConstructor;
+import org.springframework.ai.tool.execution.ToolCallResultConverter;
+
+import java.lang.reflect.Type;
+import java.util.Collection;
+
+/**
+ * Serializes a tool's return value with the tool's own converter, recording the number of items and the size
+ * of the serialized response on the way. Sees the value before serialization, so an error response is
+ * recognised without parsing the JSON back.
+ */
+@RequiredArgsConstructor
+final class MeteredResultConverter implements ToolCallResultConverter {
+
+    /**
+     * Error code recorded for an error response that carries no error details.
+     */
+    static final String UNSPECIFIED_ERROR = "ERROR";
+
+    private final ToolCallResultConverter delegate;
+    private final ToolMetrics.Meters meters;
+
+    @Override
+    public String convert(Object result, Type returnType) {
+        ToolInvocation invocation = ToolInvocation.current();
+        if (invocation != null) {
+            String errorCode = errorCode(result);
+            if (errorCode != null) {
+                invocation.errorResponse(errorCode);
+            } else {
+                meters.results().record(count(result));
+            }
+        }
+
+        String json = delegate.convert(result, returnType);
+        meters.responseSize().record(utf8Length(json));
+        return json;
+    }
+
+    private static String errorCode(Object result) {
+        if (result instanceof McpServerResponse<?> response && response.getStatus() == Status.ERROR) {
+            return response.getError() != null ? response.getError().code() : UNSPECIFIED_ERROR;
+        }
+        return null;
+    }
+
+    /**
+     * Items in a result: the size of a list, page or batch, otherwise 1.
+     */
+    private static long count(Object result) {
+        return switch (result) {
+            case null -> 0;
+            case McpServerResponse<?> response -> count(response.getData());
+            case CursorPage<?> page -> page.items().size();
+            case ClientBatchDTO batch -> batch.clients().size();
+            case Collection<?> collection -> collection.size();
+            default -> 1;
+        };
+    }
+
+    private static long utf8Length(String text) {
+        if (text == null) {
+            return 0;
+        }
+        long bytes = text.length();
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (c >= 0x800) {
+                // Three bytes, or four for a surrogate pair counted as two chars of two bytes each
+                bytes += Character.isSurrogate(c) ? 1 : 2;
+            } else if (c >= 0x80) {
+                bytes += 1;
+            }
+        }
+        return bytes;
+    }
+}
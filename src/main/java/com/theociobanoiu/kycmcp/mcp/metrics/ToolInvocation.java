@@ -0,0 +1,61 @@
+package com.theociobanoiu.kycmcp.mcp.metrics;
+
+import com.theociobanoiu.kycmcp.config.SqlStatementScope;
+
+/**
+ * Per-call accumulator for what a tool invocation did besides returning: SQL statements, time spent in the
+ * database, and the error code when the tool answered with an error response.
+ * <p>
+ * Bound to the thread running the tool for the duration of the call, so the result converter on that thread can
+ * attribute the error code to it without the tool passing anything around. SQL is counted by the
+ * {@link SqlStatementScope} the call opens, which also follows work the tool hands to an executor propagating
+ * context snapshots.
+ */
+final class ToolInvocation {
+
+    private static final ThreadLocal<ToolInvocation> CURRENT = new ThreadLocal<>();
+
+    private final SqlStatementScope sql;
+    private volatile String errorCode;
+
+    private ToolInvocation(SqlStatementScope sql) {
+        this.sql = sql;
+    }
+
+    static ToolInvocation begin() {
+        ToolInvocation invocation = new ToolInvocation(SqlStatementScope.open());
+        CURRENT.set(invocation);
+        return invocation;
+    }
+
+    static void end() {
+        ToolInvocation invocation = CURRENT.get();
+        if (invocation != null) {
+            invocation.sql.close();
+        }
+        CURRENT.remove();
+    }
+
+    /**
+     * @return the invocation running on this thread, or {@code null} outside of a tool call
+     */
+    static ToolInvocation current() {
+        return CURRENT.get();
+    }
+
+    void errorResponse(String code) {
+        errorCode = code;
+    }
+
+    int statements() {
+        return sql.statements();
+    }
+
+    long databaseNanos() {
+        return sql.databaseNanos();
+    }
+
+    String errorCode() {
+        return errorCode;
+    }
+}
@@ -0,0 +1,159 @@
+package com.theociobanoiu.kycmcp.mcp.metrics;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.ai.tool.ToolCallback;
+import org.springframework.ai.tool.annotation.Tool;
+import org.springframework.ai.tool.method.MethodToolCallback;
+import org.springframework.ai.tool.metadata.ToolMetadata;
+import org.springframework.ai.tool.support.ToolDefinitions;
+import org.springframework.ai.tool.support.ToolUtils;
+import org.springframework.aop.support.AopUtils;
+import org.springframework.stereotype.Component;
+import org.springframework.util.ReflectionUtils;
+
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Builds the MCP tool callbacks for {@code @Tool} methods with metrics attached, so every tool is measured
+ * the same way without any code in the tool itself.
+ * <p>
+ * Meters, all tagged with the tool name:
+ * <ul>
+ *     <li>{@value #DURATION} - call latency, also tagged with the {@code outcome}: {@code success},
+ *     {@code error} for an error response, {@code exception} when the tool threw</li>
+ *     <li>{@value #ERRORS} - error responses and exceptions, tagged with the error {@code code}</li>
+ *     <li>{@value #RESULTS} - number of items returned (clients found, persons in a dossier, ...)</li>
+ *     <li>{@value #RESPONSE_SIZE} - size of the serialized response in bytes</li>
+ *     <li>{@value #SQL_STATEMENTS} and {@value #SQL_DURATION} - statements prepared and time spent executing
+ *     them during the call</li>
+ * </ul>
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class ToolMetrics {
+
+    static final String DURATION = "kyc.mcp.tool.duration";
+    static final String ERRORS = "kyc.mcp.tool.errors";
+    static final String RESULTS = "kyc.mcp.tool.results";
+    static final String RESPONSE_SIZE = "kyc.mcp.tool.response.size";
+    static final String SQL_STATEMENTS = "kyc.mcp.tool.sql.statements";
+    static final String SQL_DURATION = "kyc.mcp.tool.sql.duration";
+
+    static final String TOOL = "tool";
+    static final String OUTCOME = "outcome";
+    static final String CODE = "code";
+
+    private final MeterRegistry registry;
+
+    /**
+     * Creates a measured callback for every {@code @Tool} method of the given objects, the way
+     * {@link org.springframework.ai.tool.method.MethodToolCallbackProvider} would create a plain one.
+     *
+     * @throws IllegalStateException if two tools share a name
+     */
+    public ToolCallback[] toolCallbacks(Object... toolObjects) {
+        List<ToolCallback> callbacks = new ArrayList<>();
+        for (Object toolObject : toolObjects) {
+            for (Method method : ReflectionUtils.getDeclaredMethods(AopUtils.getTargetClass(toolObject))) {
+                if (!method.isAnnotationPresent(Tool.class)) {
+                    continue;
+                }
+                Meters meters = meters(ToolUtils.getToolName(method));
+                MethodToolCallback callback = MethodToolCallback.builder()
+                    .toolDefinition(ToolDefinitions.from(method))
+                    .toolMetadata(ToolMetadata.from(method))
+                    .toolMethod(method)
+                    .toolObject(toolObject)
+                    .toolCallResultConverter(
+                        new MeteredResultConverter(ToolUtils.getToolCallResultConverter(method), meters))
+                    .build();
+                callbacks.add(new InstrumentedToolCallback(callback, meters));
+            }
+        }
+
+        List<String> duplicates = ToolUtils.getDuplicateToolNames(callbacks);
+        if (!duplicates.isEmpty()) {
+            throw new IllegalStateException("Multiple tools with the same name: " + String.join(", ", duplicates));
+        }
+        log.info("Registered {} measured MCP tools", callbacks.size());
+        return callbacks.toArray(ToolCallback[]::new);
+    }
+
+    private Meters meters(String tool) {
+        return new Meters(
+            tool,
+            registry,
+            timer(tool, "success"),
+            timer(tool, "error"),
+            timer(tool, "exception"),
+            DistributionSummary.builder(RESULTS).tag(TOOL, tool)
+                .description("Items returned by an MCP tool call")
+                .publishPercentileHistogram()
+                .register(registry),
+            DistributionSummary.builder(RESPONSE_SIZE).tag(TOOL, tool)
+                .description("Serialized size of an MCP tool response")
+                .baseUnit("bytes")
+                .publishPercentileHistogram()
+                .register(registry),
+            DistributionSummary.builder(SQL_STATEMENTS).tag(TOOL, tool)
+                .description("SQL statements prepared during an MCP tool call")
+                .publishPercentileHistogram()
+                .register(registry),
+            Timer.builder(SQL_DURATION).tag(TOOL, tool)
+                .description("Time spent executing SQL during an MCP tool call")
+                .publishPercentileHistogram()
+                .register(registry));
+    }
+
+    private Timer timer(String tool, String outcome) {
+        return Timer.builder(DURATION)
+            .tag(TOOL, tool)
+            .tag(OUTCOME, outcome)
+            .description("MCP tool call latency")
+            .publishPercentileHistogram()
+            .register(registry);
+    }
+
+    /**
+     * The meters of one tool, registered once so a call only records into them.
+     */
+    record Meters(String tool,
+                  MeterRegistry registry,
+                  Timer success,
+                  Timer error,
+                  Timer exception,
+                  DistributionSummary results,
+                  DistributionSummary responseSize,
+                  DistributionSummary sqlStatements,
+                  Timer sqlDuration) {
+
+        void record(ToolInvocation invocation, long nanos, String exceptionCode) {
+            Timer timer = success;
+            String code = invocation.errorCode();
+            if (exceptionCode != null) {
+                timer = exception;
+                code = exceptionCode;
+            } else if (code != null) {
+                timer = error;
+            }
+            timer.record(nanos, TimeUnit.NANOSECONDS);
+            if (code != null) {
+                Counter.builder(ERRORS).tag(TOOL, tool).tag(CODE, code)
+                    .description("MCP tool calls that returned an error or threw")
+                    .register(registry)
+                    .increment();
+            }
+            sqlStatements.record(invocation.statements());
+            sqlDuration.record(invocation.databaseNanos(), TimeUnit.NANOSECONDS);
+        }
+    }
+}
@@ -1,16 +1,51 @@
 package com.theociobanoiu.kycmcp.mcp.tools;
 
+import com.theociobanoiu.kycmcp.bulkexport.ExportCompression;
+import com.theociobanoiu.kycmcp.bulkexport.ExportFormat;
+import com.theociobanoiu.kycmcp.bulkexport.ExportTarget;
+import com.theociobanoiu.kycmcp.bulkimport.ImportFormat;
+import com.theociobanoiu.kycmcp.bulkimport.ImportTarget;
+import com.theociobanoiu.kycmcp.model.dto.ClientBatchDTO;
 import com.theociobanoiu.kycmcp.model.dto.ClientDTO;
+import com.theociobanoiu.kycmcp.model.dto.ClientDossierDTO;
+import com.theociobanoiu.kycmcp.model.dto.ClientOwnershipDTO;
+import com.theociobanoiu.kycmcp.model.dto.ClientScreeningDTO;
+import com.theociobanoiu.kycmcp.model.dto.CursorPage;
+import com.theociobanoiu.kycmcp.model.dto.DueReviewDTO;
+import com.theociobanoiu.kycmcp.model.dto.DuplicateDetectionResultDTO;
+import com.theociobanoiu.kycmcp.model.dto.ExportResultDTO;
+import com.theociobanoiu.kycmcp.model.dto.ImportResultDTO;
+import com.theociobanoiu.kycmcp.model.dto.PersonDTO;
+import com.theociobanoiu.kycmcp.model.dto.PersonMatchDTO;
+import com.theociobanoiu.kycmcp.model.dto.RiskScoringResultDTO;
+import com.theociobanoiu.kycmcp.model.dto.ScreeningResultDTO;
+import com.theociobanoiu.kycmcp.model.dto.UltimateBeneficialOwnersDTO;
+import com.theociobanoiu.kycmcp.model.dto.request.BeneficialOwnerFilter;
+import com.theociobanoiu.kycmcp.model.dto.request.CreateClientOwnershipRequest;
+import com.theociobanoiu.kycmcp.model.dto.request.CreatePersonRequest;
 import com.theociobanoiu.kycmcp.model.enums.RiskLevel;
+import com.theociobanoiu.kycmcp.model.enums.RiskScoringMode;
+import com.theociobanoiu.kycmcp.model.response.McpServerResponse;
+import com.theociobanoiu.kycmcp.service.api.BulkImportService;
+import com.theociobanoiu.kycmcp.service.api.ClientDossierService;
 import com.theociobanoiu.kycmcp.service.api.ClientService;
+import com.theociobanoiu.kycmcp.service.api.DuplicateDetectionService;
+import com.theociobanoiu.kycmcp.service.api.ExportService;
+import com.theociobanoiu.kycmcp.service.api.OwnershipService;
+import com.theociobanoiu.kycmcp.service.api.PersonService;
+import com.theociobanoiu.kycmcp.service.api.ReviewService;
+import com.theociobanoiu.kycmcp.service.api.RiskScoringService;
+import com.theociobanoiu.kycmcp.service.api.ScreeningService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.ai.tool.annotation.Tool;
+import org.springframework.ai.tool.annotation.ToolParam;
 import org.springframework.stereotype.Component;
 
-import java.util.HashMap;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
 import java.util.List;
-import java.util.Map;
 
 /**
  * MCP Tools for KYC operations.
@@ -22,52 +57,567 @@ import java.util.Map;
 public class KycMcpTools {
 
     private final ClientService clientService;
+    private final ScreeningService screeningService;
+    private final BulkImportService bulkImportService;
+    private final ClientDossierService clientDossierService;
+    private final OwnershipService ownershipService;
+    private final RiskScoringService riskScoringService;
+    private final DuplicateDetectionService duplicateDetectionService;
+    private final PersonService personService;
+    private final ReviewService reviewService;
+    private final ExportService exportService;
 
     /**
-     * Search for clients by name, type, or risk level.
+     * Search for clients by name, or risk level.
      * All parameters are optional - Claude can call with any combination.
+     * Name searches are ranked by similarity, so the best matches come first even with typos.
+     * Searches without a name are paginated: the response carries a nextCursor while more clients remain.
      */
     @Tool(name = "search_clients",
             description = """
-                    Search for KYC clients by name (partial match), or risk level. \
-                    All parameters are optional. Returns a list of matching clients with basic information.""")
-    public Map<String, Object> searchClients(String name, RiskLevel riskLevel) {
-        log.info("MCP Tool 'search_clients' called with name='{}', riskLevel='{}'",
-                name, riskLevel);
+                    Search for KYC clients by name (partial or approximate match), or risk level. \
+                    All parameters are optional. When a name is given, results are ranked by name similarity, \
+                    best match first. Returns at most 'limit' matching clients with basic information. \
+                    Without a name, results are listed by name and paginated: pass the returned 'nextCursor' \
+                    as 'cursor' to get the next page; nextCursor is null on the last page. A name search is not \
+                    paginated: it always returns a null nextCursor, and passing a cursor together with a name is \
+                    rejected as invalid input; raise 'limit' to see more matches.""")
+    public McpServerResponse<CursorPage<ClientDTO>> searchClients(
+            @ToolParam(required = false, description = "Partial or approximate client name") String name,
+            @ToolParam(required = false, description = "Risk level filter (LOW, MEDIUM, HIGH)") RiskLevel riskLevel,
+            @ToolParam(required = false,
+                    description = "Cursor from a previous response's nextCursor; not allowed with a name") String cursor,
+            @ToolParam(required = false, description = "Maximum number of clients to return") Integer limit) {
+        log.info("MCP Tool 'search_clients' called with name='{}', riskLevel='{}', cursor='{}', limit='{}'",
+                name, riskLevel, cursor, limit);
 
         try {
-            // Call the service
-            List<ClientDTO> clients = clientService.searchClients(name, riskLevel);
+            CursorPage<ClientDTO> page = clientService.searchClients(name, riskLevel, cursor, limit);
+            log.info("MCP Tool 'search_clients' completed successfully. Found {} clients", page.items().size());
+            return McpServerResponse.success(page);
+        } catch (IllegalArgumentException e) {
+            log.warn("Invalid input for MCP tool 'search_clients': {}", e.getMessage());
+            return McpServerResponse.error("INVALID_INPUT", e.getMessage());
+        } catch (Exception e) {
+            log.error("Error in MCP tool 'search_clients': {}", e.getMessage(), e);
+            return McpServerResponse.error("INTERNAL_SERVER_ERROR", e.getMessage());
+        }
+    }
 
-            // Build standardized response
-            Map<String, Object> response = new HashMap<>();
-            response.put("success", true);
-            response.put("message", String.format("Found %d clients matching search criteria", clients.size()));
-            response.put("count", clients.size());
-            response.put("clients", clients);
-            response.put("searchCriteria", Map.of(
-                    "name", name != null ? name : "any",
-                    "riskLevel", riskLevel != null ? riskLevel : "any"
-            ));
+    /**
+     * Search persons across all clients by name, identification number, nationality or address.
+     */
+    @Tool(name = "search_persons",
+            description = """
+                    Search persons (directors, shareholders, beneficial owners, ...) across all KYC clients by \
+                    any mix of first name, last name, identification number, nationality and address words, in \
+                    any order. Returns the best matching persons first, each with the client they are linked to \
+                    and the attributes the query matched on. Use it to find every client a person is involved in.""")
+    public McpServerResponse<List<PersonMatchDTO>> searchPersons(
+            @ToolParam(description = "Names, identification number, nationality or address words") String query,
+            @ToolParam(required = false, description = "Maximum number of persons to return") Integer limit) {
+        log.info("MCP Tool 'search_persons' called with query='{}', limit='{}'", query, limit);
 
-            log.info("MCP Tool 'search_clients' completed successfully. Found {} clients", clients.size());
-            return response;
+        try {
+            List<PersonMatchDTO> persons = personService.searchPersons(query, limit);
+            log.info("MCP Tool 'search_persons' completed successfully. Found {} persons", persons.size());
+            return McpServerResponse.success(persons);
+        } catch (IllegalArgumentException e) {
+            log.warn("Invalid input for MCP tool 'search_persons': {}", e.getMessage());
+            return McpServerResponse.error("INVALID_INPUT", e.getMessage());
+        } catch (Exception e) {
+            log.error("Error in MCP tool 'search_persons': {}", e.getMessage(), e);
+            return McpServerResponse.error("INTERNAL_SERVER_ERROR", e.getMessage());
+        }
+    }
+
+    /**
+     * Get a client's complete profile, including all associated persons.
+     */
+    @Tool(name = "get_client_details",
+            description = """
+                    Get the complete profile of a single KYC client, including all associated persons \
+                    (directors, shareholders, beneficial owners, ...).""")
+    public McpServerResponse<ClientDTO> getClientDetails(
+            @ToolParam(description = "The client's unique identifier") Long clientId) {
+        log.info("MCP Tool 'get_client_details' called with clientId='{}'", clientId);
 
+        try {
+            return clientService.getClientDetails(clientId)
+                    .map(client -> {
+                        log.info("MCP Tool 'get_client_details' completed successfully. Found {} persons",
+                                client.persons().size());
+                        return McpServerResponse.success(client);
+                    })
+                    .orElseGet(() -> McpServerResponse.error("NOT_FOUND", "Client not found with ID: " + clientId));
         } catch (Exception e) {
-            log.error("Error in MCP tool 'search_clients': {}", e.getMessage(), e);
-            return createErrorResponse("search_clients", e.getMessage());
+            log.error("Error in MCP tool 'get_client_details': {}", e.getMessage(), e);
+            return McpServerResponse.error("INTERNAL_SERVER_ERROR", e.getMessage());
+        }
+    }
+
+    /**
+     * Get the profiles of many clients at once, for working through a case list in one call.
+     */
+    @Tool(name = "get_clients_batch",
+            description = """
+                    Get the complete profiles of several KYC clients in one call, each with all associated \
+                    persons. Takes up to 200 client IDs; clients are returned in the order of the IDs, and IDs \
+                    with no client are listed in 'missingIds'. Prefer this over repeated get_client_details \
+                    calls when several clients are needed.""")
+    public McpServerResponse<ClientBatchDTO> getClientsBatch(
+            @ToolParam(description = "The clients' unique identifiers") List<Long> clientIds) {
+        log.info("MCP Tool 'get_clients_batch' called with {} clientIds", clientIds != null ? clientIds.size() : 0);
+
+        try {
+            ClientBatchDTO batch = clientService.getClientsBatch(clientIds);
+            log.info("MCP Tool 'get_clients_batch' completed successfully. Found {} clients, {} missing",
+                    batch.clients().size(), batch.missingIds().size());
+            return McpServerResponse.success(batch);
+        } catch (IllegalArgumentException e) {
+            log.warn("Invalid input for MCP tool 'get_clients_batch': {}", e.getMessage());
+            return McpServerResponse.error("INVALID_INPUT", e.getMessage());
+        } catch (Exception e) {
+            log.error("Error in MCP tool 'get_clients_batch': {}", e.getMessage(), e);
+            return McpServerResponse.error("INTERNAL_SERVER_ERROR", e.getMessage());
+        }
+    }
+
+    /**
+     * Get a client's full KYC dossier, assembled from sections loaded in parallel.
+     * Sections that fail or miss their deadline are reported in 'errors' instead of failing the call.
+     */
+    @Tool(name = "get_client_dossier",
+            description = """
+                    Get the full KYC dossier of a client: profile, associated persons, beneficial owners, \
+                    declared ownership totals, watchlist screening and the risk factors derived from them. \
+                    Sections are loaded in parallel under a deadline; a section that fails or times out is null \
+                    and listed in 'errors' with its reason, and 'complete' is false.""")
+    public McpServerResponse<ClientDossierDTO> getClientDossier(
+            @ToolParam(description = "The client's unique identifier") Long clientId) {
+        log.info("MCP Tool 'get_client_dossier' called with clientId='{}'", clientId);
+
+        try {
+            return clientDossierService.getClientDossier(clientId)
+                    .map(dossier -> {
+                        log.info("MCP Tool 'get_client_dossier' completed in {} ms. Complete: {}, risk factors: {}",
+                                dossier.elapsedMillis(), dossier.complete(), dossier.riskFactors().size());
+                        return McpServerResponse.success(dossier);
+                    })
+                    .orElseGet(() -> McpServerResponse.error("NOT_FOUND", "Client not found with ID: " + clientId));
+        } catch (Exception e) {
+            log.error("Error in MCP tool 'get_client_dossier': {}", e.getMessage(), e);
+            return McpServerResponse.error("INTERNAL_SERVER_ERROR", e.getMessage());
+        }
+    }
+
+    /**
+     * Trace the persons who ultimately own a client through any number of client-owns-client layers.
+     */
+    @Tool(name = "get_ultimate_beneficial_owners",
+            description = """
+                    Trace the ultimate beneficial owners of a KYC client through every layer of ownership \
+                    (a company owned by a company owned by a trust, ...). Returns the persons whose effective \
+                    ownership - the product of the percentages along each chain, summed over all chains - is at \
+                    least 'minPercentage' (default: the configured beneficial owner threshold, 25%), the \
+                    intermediate clients the ownership flows through, and any circular holdings found.""")
+    public McpServerResponse<UltimateBeneficialOwnersDTO> getUltimateBeneficialOwners(
+            @ToolParam(description = "The client's unique identifier") Long clientId,
+            @ToolParam(required = false, description = "Smallest effective ownership percentage to report (0-100)")
+            BigDecimal minPercentage) {
+        log.info("MCP Tool 'get_ultimate_beneficial_owners' called with clientId='{}', minPercentage='{}'",
+                clientId, minPercentage);
+
+        try {
+            return ownershipService.getUltimateBeneficialOwners(clientId, minPercentage)
+                    .map(owners -> {
+                        log.info("MCP Tool 'get_ultimate_beneficial_owners' completed successfully. Found {} owners",
+                                owners.beneficialOwners().size());
+                        return McpServerResponse.success(owners);
+                    })
+                    .orElseGet(() -> McpServerResponse.error("NOT_FOUND", "Client not found with ID: " + clientId));
+        } catch (IllegalArgumentException e) {
+            log.warn("Invalid input for MCP tool 'get_ultimate_beneficial_owners': {}", e.getMessage());
+            return McpServerResponse.error("INVALID_INPUT", e.getMessage());
+        } catch (Exception e) {
+            log.error("Error in MCP tool 'get_ultimate_beneficial_owners': {}", e.getMessage(), e);
+            return McpServerResponse.error("INTERNAL_SERVER_ERROR", e.getMessage());
+        }
+    }
+
+    /**
+     * List or summarize declared beneficial owners across all clients, filtered and paginated.
+     */
+    @Tool(name = "get_beneficial_owners",
+            description = """
+                    List declared beneficial owners across all KYC clients, optionally filtered by nationality, \
+                    minimum ownership percentage, the client's risk level and a date of birth range. Results are \
+                    paginated: pass the returned 'nextCursor' as 'cursor' to get the next page; nextCursor is null \
+                    on the last page. With aggregate=true, returns one row per client instead: the number of \
+                    matching beneficial owners and the sum and maximum of their ownership percentages.""")
+    public McpServerResponse<CursorPage<?>> getBeneficialOwners(
+            @ToolParam(required = false, description = "Nationality, e.g. 'US'") String nationality,
+            @ToolParam(required = false, description = "Smallest declared ownership percentage (0-100)")
+            BigDecimal minOwnershipPercentage,
+            @ToolParam(required = false, description = "Risk level of the owned client (LOW, MEDIUM, HIGH)")
+            RiskLevel clientRiskLevel,
+            @ToolParam(required = false, description = "Earliest date of birth, YYYY-MM-DD") String bornFrom,
+            @ToolParam(required = false, description = "Latest date of birth, YYYY-MM-DD") String bornTo,
+            @ToolParam(required = false, description = "Per-client counts and ownership sums instead of persons")
+            Boolean aggregate,
+            @ToolParam(required = false, description = "Cursor from a previous response's nextCursor") String cursor,
+            @ToolParam(required = false, description = "Maximum number of rows to return") Integer limit) {
+        log.info("MCP Tool 'get_beneficial_owners' called with nationality='{}', minOwnershipPercentage='{}', "
+                        + "clientRiskLevel='{}', bornFrom='{}', bornTo='{}', aggregate='{}', cursor='{}', limit='{}'",
+                nationality, minOwnershipPercentage, clientRiskLevel, bornFrom, bornTo, aggregate, cursor, limit);
+
+        try {
+            BeneficialOwnerFilter filter = new BeneficialOwnerFilter(nationality, minOwnershipPercentage,
+                    clientRiskLevel, parseDate("bornFrom", bornFrom), parseDate("bornTo", bornTo));
+            CursorPage<?> page = Boolean.TRUE.equals(aggregate)
+                    ? personService.summarizeBeneficialOwners(filter, cursor, limit)
+                    : personService.findBeneficialOwners(filter, cursor, limit);
+            log.info("MCP Tool 'get_beneficial_owners' completed successfully. Returned {} rows, more available: {}",
+                    page.items().size(), page.hasMore());
+            return McpServerResponse.success(page);
+        } catch (IllegalArgumentException e) {
+            log.warn("Invalid input for MCP tool 'get_beneficial_owners': {}", e.getMessage());
+            return McpServerResponse.error("INVALID_INPUT", e.getMessage());
+        } catch (Exception e) {
+            log.error("Error in MCP tool 'get_beneficial_owners': {}", e.getMessage(), e);
+            return McpServerResponse.error("INTERNAL_SERVER_ERROR", e.getMessage());
+        }
+    }
+
+    /**
+     * Add the directors, shareholders, signatories and other persons of a client in one call.
+     */
+    @Tool(name = "add_persons_to_client",
+            description = """
+                    Add up to 50 persons (directors, shareholders, beneficial owners, signatories, ...) to a KYC \
+                    client in one call, all or none. Each person needs firstName, lastName and relationshipType; \
+                    clientId inside a person may be omitted. The batch is rejected, listing every problem, if any \
+                    person is invalid, an identification number is already taken, or the ownership percentages \
+                    together with those already declared for the client exceed 100%.""")
+    public McpServerResponse<List<PersonDTO>> addPersonsToClient(
+            @ToolParam(description = "The client's unique identifier") Long clientId,
+            @ToolParam(description = "The persons to add") List<CreatePersonRequest> persons) {
+        log.info("MCP Tool 'add_persons_to_client' called with clientId='{}', {} persons",
+                clientId, persons != null ? persons.size() : 0);
+
+        try {
+            List<PersonDTO> added = personService.addPersonsToClient(clientId, persons);
+            log.info("MCP Tool 'add_persons_to_client' completed successfully. Added {} persons", added.size());
+            return McpServerResponse.success(added);
+        } catch (IllegalArgumentException e) {
+            log.warn("Invalid input for MCP tool 'add_persons_to_client': {}", e.getMessage());
+            return McpServerResponse.error("INVALID_INPUT", e.getMessage());
+        } catch (Exception e) {
+            log.error("Error in MCP tool 'add_persons_to_client': {}", e.getMessage(), e);
+            return McpServerResponse.error("INTERNAL_SERVER_ERROR", e.getMessage());
+        }
+    }
+
+    /**
+     * Record that one client holds a share of another.
+     */
+    @Tool(name = "record_client_ownership",
+            description = """
+                    Record that one KYC client owns a percentage of another client, e.g. a holding company \
+                    owning a subsidiary. Replaces the percentage recorded before for the same pair. Used by \
+                    get_ultimate_beneficial_owners to trace ownership through several layers.""")
+    public McpServerResponse<ClientOwnershipDTO> recordClientOwnership(
+            @ToolParam(description = "ID of the client holding the share") Long ownerClientId,
+            @ToolParam(description = "ID of the client being owned") Long ownedClientId,
+            @ToolParam(description = "Percentage held, above 0 and at most 100") BigDecimal ownershipPercentage) {
+        log.info("MCP Tool 'record_client_ownership' called with ownerClientId='{}', ownedClientId='{}', "
+                + "ownershipPercentage='{}'", ownerClientId, ownedClientId, ownershipPercentage);
+
+        try {
+            ClientOwnershipDTO ownership = ownershipService.recordClientOwnership(
+                    new CreateClientOwnershipRequest(ownerClientId, ownedClientId, ownershipPercentage));
+            log.info("MCP Tool 'record_client_ownership' completed successfully. Ownership ID: {}", ownership.id());
+            return McpServerResponse.success(ownership);
+        } catch (IllegalArgumentException e) {
+            log.warn("Invalid input for MCP tool 'record_client_ownership': {}", e.getMessage());
+            return McpServerResponse.error("INVALID_INPUT", e.getMessage());
+        } catch (Exception e) {
+            log.error("Error in MCP tool 'record_client_ownership': {}", e.getMessage(), e);
+            return McpServerResponse.error("INTERNAL_SERVER_ERROR", e.getMessage());
+        }
+    }
+
+    /**
+     * Screen a single person against the sanctions and PEP watchlists.
+     */
+    @Tool(name = "screen_person",
+            description = """
+                    Screen a person against sanctions and PEP watchlists using fuzzy name matching, \
+                    date of birth and nationality. Returns scored hits, best first; potentialMatch is true \
+                    when any hit needs review.""")
+    public McpServerResponse<ScreeningResultDTO> screenPerson(
+            @ToolParam(description = "The person's unique identifier") Long personId) {
+        log.info("MCP Tool 'screen_person' called with personId='{}'", personId);
+
+        try {
+            return screeningService.screenPerson(personId)
+                    .map(result -> {
+                        log.info("MCP Tool 'screen_person' completed successfully. Found {} hits",
+                                result.hits().size());
+                        return McpServerResponse.success(result);
+                    })
+                    .orElseGet(() -> McpServerResponse.error("NOT_FOUND", "Person not found with ID: " + personId));
+        } catch (IllegalStateException e) {
+            log.warn("MCP tool 'screen_person' unavailable: {}", e.getMessage());
+            return McpServerResponse.error("WATCHLIST_UNAVAILABLE", e.getMessage());
+        } catch (Exception e) {
+            log.error("Error in MCP tool 'screen_person': {}", e.getMessage(), e);
+            return McpServerResponse.error("INTERNAL_SERVER_ERROR", e.getMessage());
         }
     }
 
     /**
-     * Helper method to create standardized error responses
+     * Screen a client and all of its associated persons against the sanctions and PEP watchlists.
      */
-    private Map<String, Object> createErrorResponse(String toolName, String errorMessage) {
-        Map<String, Object> response = new HashMap<>();
-        response.put("success", false);
-        response.put("error", errorMessage);
-        response.put("tool", toolName);
-        response.put("timestamp", java.time.LocalDateTime.now().toString());
-        return response;
+    @Tool(name = "screen_client",
+            description = """
+                    Screen a client by name, together with all of its associated persons, against sanctions \
+                    and PEP watchlists. Returns per-subject scored hits; potentialMatch is true when the client \
+                    or any of its persons needs review.""")
+    public McpServerResponse<ClientScreeningDTO> screenClient(
+            @ToolParam(description = "The client's unique identifier") Long clientId) {
+        log.info("MCP Tool 'screen_client' called with clientId='{}'", clientId);
+
+        try {
+            return screeningService.screenClient(clientId)
+                    .map(result -> {
+                        log.info("MCP Tool 'screen_client' completed successfully. Potential match: {}",
+                                result.potentialMatch());
+                        return McpServerResponse.success(result);
+                    })
+                    .orElseGet(() -> McpServerResponse.error("NOT_FOUND", "Client not found with ID: " + clientId));
+        } catch (IllegalStateException e) {
+            log.warn("MCP tool 'screen_client' unavailable: {}", e.getMessage());
+            return McpServerResponse.error("WATCHLIST_UNAVAILABLE", e.getMessage());
+        } catch (Exception e) {
+            log.error("Error in MCP tool 'screen_client': {}", e.getMessage(), e);
+            return McpServerResponse.error("INTERNAL_SERVER_ERROR", e.getMessage());
+        }
+    }
+
+    /**
+     * List every client in the system, one page at a time, ordered by name.
+     */
+    @Tool(name = "get_all_clients",
+            description = """
+                    List all KYC clients ordered by name, one page at a time. Pass the returned 'nextCursor' \
+                    as 'cursor' to get the next page; nextCursor is null on the last page.""")
+    public McpServerResponse<CursorPage<ClientDTO>> getAllClients(
+            @ToolParam(required = false, description = "Cursor from a previous response's nextCursor") String cursor,
+            @ToolParam(required = false, description = "Number of clients per page") Integer pageSize) {
+        log.info("MCP Tool 'get_all_clients' called with cursor='{}', pageSize='{}'", cursor, pageSize);
+
+        try {
+            CursorPage<ClientDTO> page = clientService.getClients(cursor, pageSize);
+            log.info("MCP Tool 'get_all_clients' completed successfully. Returned {} clients, more available: {}",
+                    page.items().size(), page.hasMore());
+            return McpServerResponse.success(page);
+        } catch (IllegalArgumentException e) {
+            log.warn("Invalid input for MCP tool 'get_all_clients': {}", e.getMessage());
+            return McpServerResponse.error("INVALID_INPUT", e.getMessage());
+        } catch (Exception e) {
+            log.error("Error in MCP tool 'get_all_clients': {}", e.getMessage(), e);
+            return McpServerResponse.error("INTERNAL_SERVER_ERROR", e.getMessage());
+        }
+    }
+
+    /**
+     * Bulk import clients or persons from a CSV or JSONL file in the server's import directory.
+     */
+    @Tool(name = "import_records",
+            description = """
+                    Bulk import clients or persons from a CSV (with header) or JSONL file placed in the server's \
+                    import directory. Rows are validated individually: invalid rows are skipped and reported with \
+                    their line number while the rest are imported. Client columns: name, client_type, email, phone, \
+                    registration_number, risk_level. Person columns: client_id or client_registration_number, \
+                    first_name, last_name, email, phone, date_of_birth, nationality, identification_number, \
+                    relationship_type, position_title, ownership_percentage, address.""")
+    public McpServerResponse<ImportResultDTO> importRecords(
+            @ToolParam(description = "What the file contains (CLIENTS or PERSONS)") ImportTarget target,
+            @ToolParam(description = "File name relative to the import directory") String fileName,
+            @ToolParam(required = false, description = "File format (CSV or JSONL); inferred from the extension when omitted")
+            ImportFormat format) {
+        log.info("MCP Tool 'import_records' called with target='{}', fileName='{}', format='{}'",
+                target, fileName, format);
+
+        try {
+            ImportResultDTO result = bulkImportService.importFile(target, fileName, format);
+            log.info("MCP Tool 'import_records' completed successfully. Imported {} of {} rows",
+                    result.rowsImported(), result.rowsRead());
+            return McpServerResponse.success(result);
+        } catch (IllegalArgumentException e) {
+            log.warn("Invalid input for MCP tool 'import_records': {}", e.getMessage());
+            return McpServerResponse.error("INVALID_INPUT", e.getMessage());
+        } catch (IllegalStateException e) {
+            log.warn("MCP tool 'import_records' unavailable: {}", e.getMessage());
+            return McpServerResponse.error("IMPORT_UNAVAILABLE", e.getMessage());
+        } catch (Exception e) {
+            log.error("Error in MCP tool 'import_records': {}", e.getMessage(), e);
+            return McpServerResponse.error("INTERNAL_SERVER_ERROR", e.getMessage());
+        }
+    }
+
+    /**
+     * Export every client or person to a CSV or JSONL file in the server's export directory.
+     */
+    @Tool(name = "export_records",
+            description = """
+                    Export every KYC client or person, in id order, to a new CSV (with header) or JSONL file in \
+                    the server's export directory, optionally gzip-compressed, for regulators or the data \
+                    warehouse. Returns the file name, to download from /api/export/files/{fileName}, with the \
+                    number of rows and bytes written. Client columns: id, name, client_type, email, phone, \
+                    registration_number, risk_level, next_review_at, last_reviewed_at, created_at, updated_at. \
+                    Person columns: id, client_id, first_name, last_name, email, phone, date_of_birth, \
+                    nationality, identification_number, relationship_type, position_title, ownership_percentage, \
+                    address, created_at, updated_at.""")
+    public McpServerResponse<ExportResultDTO> exportRecords(
+            @ToolParam(description = "What to export (CLIENTS or PERSONS)") ExportTarget target,
+            @ToolParam(required = false, description = "File format (CSV or JSONL); defaults to CSV") ExportFormat format,
+            @ToolParam(required = false, description = "Columns to export, in order; defaults to every column")
+            List<String> columns,
+            @ToolParam(required = false, description = "NONE or GZIP; defaults to NONE") ExportCompression compression) {
+        log.info("MCP Tool 'export_records' called with target='{}', format='{}', columns='{}', compression='{}'",
+                target, format, columns, compression);
+
+        try {
+            ExportResultDTO result = exportService.exportFile(target, format, columns, compression);
+            log.info("MCP Tool 'export_records' completed successfully. Exported {} rows to {}",
+                    result.rowsExported(), result.fileName());
+            return McpServerResponse.success(result);
+        } catch (IllegalArgumentException e) {
+            log.warn("Invalid input for MCP tool 'export_records': {}", e.getMessage());
+            return McpServerResponse.error("INVALID_INPUT", e.getMessage());
+        } catch (IllegalStateException e) {
+            log.warn("MCP tool 'export_records' unavailable: {}", e.getMessage());
+            return McpServerResponse.error("EXPORT_UNAVAILABLE", e.getMessage());
+        } catch (Exception e) {
+            log.error("Error in MCP tool 'export_records': {}", e.getMessage(), e);
+            return McpServerResponse.error("INTERNAL_SERVER_ERROR", e.getMessage());
+        }
+    }
+
+    /**
+     * Recompute the stored risk level of clients from their type and persons.
+     */
+    @Tool(name = "recompute_risk_scores",
+            description = """
+                    Recompute the risk level (LOW, MEDIUM, HIGH) of KYC clients from their client type, the \
+                    nationalities and roles of their persons, and how their ownership is spread. FULL rescores \
+                    every client; INCREMENTAL (the default) rescores only clients changed since the last run. \
+                    Returns how many clients were scored, how many changed level, and the count per level.""")
+    public McpServerResponse<RiskScoringResultDTO> recomputeRiskScores(
+            @ToolParam(required = false, description = "FULL or INCREMENTAL; defaults to INCREMENTAL")
+            RiskScoringMode mode) {
+        log.info("MCP Tool 'recompute_risk_scores' called with mode='{}'", mode);
+
+        try {
+            RiskScoringResultDTO result = riskScoringService.recompute(
+                    mode != null ? mode : RiskScoringMode.INCREMENTAL);
+            log.info("MCP Tool 'recompute_risk_scores' completed successfully. Scored {} clients, {} changed",
+                    result.clientsScored(), result.clientsChanged());
+            return McpServerResponse.success(result);
+        } catch (IllegalStateException e) {
+            log.warn("MCP tool 'recompute_risk_scores' unavailable: {}", e.getMessage());
+            return McpServerResponse.error("SCORING_IN_PROGRESS", e.getMessage());
+        } catch (Exception e) {
+            log.error("Error in MCP tool 'recompute_risk_scores': {}", e.getMessage(), e);
+            return McpServerResponse.error("INTERNAL_SERVER_ERROR", e.getMessage());
+        }
+    }
+
+    /**
+     * List the clients due their periodic KYC review.
+     */
+    @Tool(name = "get_due_reviews",
+            description = """
+                    List KYC clients due their periodic review, most overdue first. Clients are reviewed again \
+                    every year (HIGH risk), 3 years (MEDIUM) or 5 years (LOW); a background worker rescores and \
+                    rescreens due clients and schedules their next review. Optionally filter by risk level, or \
+                    look ahead with dueBy to see the reviews coming up. Results are paginated: pass the returned \
+                    'nextCursor' as 'cursor' to get the next page; nextCursor is null on the last page.""")
+    public McpServerResponse<CursorPage<DueReviewDTO>> getDueReviews(
+            @ToolParam(required = false, description = "Risk level to filter by (LOW, MEDIUM, HIGH)")
+            RiskLevel riskLevel,
+            @ToolParam(required = false, description = "Include reviews due by the end of this date, YYYY-MM-DD; "
+                    + "defaults to now") String dueBy,
+            @ToolParam(required = false, description = "Cursor from a previous response's nextCursor") String cursor,
+            @ToolParam(required = false, description = "Maximum number of clients to return") Integer limit) {
+        log.info("MCP Tool 'get_due_reviews' called with riskLevel='{}', dueBy='{}', cursor='{}', limit='{}'",
+                riskLevel, dueBy, cursor, limit);
+
+        try {
+            CursorPage<DueReviewDTO> page = reviewService.getDueReviews(riskLevel, parseDate("dueBy", dueBy),
+                    cursor, limit);
+            log.info("MCP Tool 'get_due_reviews' completed successfully. Returned {} clients, more available: {}",
+                    page.items().size(), page.hasMore());
+            return McpServerResponse.success(page);
+        } catch (IllegalArgumentException e) {
+            log.warn("Invalid input for MCP tool 'get_due_reviews': {}", e.getMessage());
+            return McpServerResponse.error("INVALID_INPUT", e.getMessage());
+        } catch (Exception e) {
+            log.error("Error in MCP tool 'get_due_reviews': {}", e.getMessage(), e);
+            return McpServerResponse.error("INTERNAL_SERVER_ERROR", e.getMessage());
+        }
+    }
+
+    /**
+     * Find clients that were probably onboarded more than once.
+     */
+    @Tool(name = "find_duplicate_clients",
+            description = """
+                    Find KYC clients that are probably the same party onboarded more than once, under slightly \
+                    different names, emails, phone numbers or registration number formats. With a clientId, \
+                    lists the clients resembling that one. Without, checks the whole client book and returns \
+                    clusters of likely duplicates, best first, each with scored pairs and what they agree on.""")
+    public McpServerResponse<DuplicateDetectionResultDTO> findDuplicateClients(
+            @ToolParam(required = false, description = "Client to check; omit to check every client")
+            Long clientId) {
+        log.info("MCP Tool 'find_duplicate_clients' called with clientId='{}'", clientId);
+
+        try {
+            if (clientId == null) {
+                DuplicateDetectionResultDTO result = duplicateDetectionService.detectDuplicates();
+                log.info("MCP Tool 'find_duplicate_clients' completed successfully. Found {} clusters",
+                        result.clustersFound());
+                return McpServerResponse.success(result);
+            }
+            return duplicateDetectionService.findDuplicatesOf(clientId)
+                    .map(result -> {
+                        log.info("MCP Tool 'find_duplicate_clients' completed successfully. Found {} matches",
+                                result.clientsInClusters());
+                        return McpServerResponse.success(result);
+                    })
+                    .orElseGet(() -> McpServerResponse.error("NOT_FOUND", "Client not found with ID: " + clientId));
+        } catch (IllegalStateException e) {
+            log.warn("MCP tool 'find_duplicate_clients' unavailable: {}", e.getMessage());
+            return McpServerResponse.error("DETECTION_IN_PROGRESS", e.getMessage());
+        } catch (Exception e) {
+            log.error("Error in MCP tool 'find_duplicate_clients': {}", e.getMessage(), e);
+            return McpServerResponse.error("INTERNAL_SERVER_ERROR", e.getMessage());
+        }
+    }
+
+    /**
+     * Parses an optional ISO date parameter, reporting a malformed one as invalid input.
+     */
+    private static LocalDate parseDate(String name, String value) {
+        if (value == null || value.isBlank()) {
+            return null;
+        }
+        try {
+            return LocalDate.parse(value.trim());
+        } catch (DateTimeParseException e) {
+            throw new IllegalArgumentException(name + " must be a date in YYYY-MM-DD format: " + value, e);
+        }
     }
 }
\ No newline at end of file
@@ -0,0 +1,33 @@
+package com.theociobanoiu.kycmcp.model.dto;
+
+import com.theociobanoiu.kycmcp.model.enums.RiskLevel;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+/**
+ * A declared beneficial owner with the client they own, limited to what beneficial owner reporting needs so a
+ * page of thousands stays small.
+ *
+ * @param personId            the person's id
+ * @param firstName           the person's first name
+ * @param lastName            the person's last name
+ * @param nationality         the person's nationality, if recorded
+ * @param dateOfBirth         the person's date of birth, if recorded
+ * @param ownershipPercentage ownership the person declares in the client, if any
+ * @param clientId            id of the owned client
+ * @param clientName          name of the owned client
+ * @param clientRiskLevel     risk level of the owned client
+ */
+public record BeneficialOwnerDTO(
+    Long personId,
+    String firstName,
+    String lastName,
+    String nationality,
+    LocalDate dateOfBirth,
+    BigDecimal ownershipPercentage,
+    Long clientId,
+    String clientName,
+    RiskLevel clientRiskLevel
+) {
+}
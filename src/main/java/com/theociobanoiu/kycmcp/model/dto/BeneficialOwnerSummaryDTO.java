@@ -0,0 +1,25 @@
+package com.theociobanoiu.kycmcp.model.dto;
+
+import com.theociobanoiu.kycmcp.model.enums.RiskLevel;
+
+import java.math.BigDecimal;
+
+/**
+ * The declared beneficial owners of one client matching a beneficial owner query, counted and summed.
+ *
+ * @param clientId                 the client's id
+ * @param clientName               the client's name
+ * @param clientRiskLevel          the client's risk level
+ * @param beneficialOwners         number of matching beneficial owners
+ * @param totalOwnershipPercentage sum of their ownership percentages, null when none of them declares one
+ * @param maxOwnershipPercentage   the largest of their ownership percentages, null when none declares one
+ */
+public record BeneficialOwnerSummaryDTO(
+    Long clientId,
+    String clientName,
+    RiskLevel clientRiskLevel,
+    Long beneficialOwners,
+    BigDecimal totalOwnershipPercentage,
+    BigDecimal maxOwnershipPercentage
+) {
+}
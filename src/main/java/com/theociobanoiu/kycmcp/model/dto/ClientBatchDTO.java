@@ -0,0 +1,15 @@
+package com.theociobanoiu.kycmcp.model.dto;
+
+import java.util.List;
+
+/**
+ * Clients looked up together by id.
+ *
+ * @param clients    the clients found, with their persons, in the order their ids were given
+ * @param missingIds the given ids no client has, in the order they were given
+ */
+public record ClientBatchDTO(
+    List<ClientDTO> clients,
+    List<Long> missingIds
+) {
+}
@@ -0,0 +1,41 @@
+package com.theociobanoiu.kycmcp.model.dto;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * Keyset position in the client listing, ordered by {@code (name, id)}.
+ * Clients see it only in its encoded form, an opaque URL-safe string, so the ordering key can change
+ * without breaking the tool contract.
+ *
+ * @param name name of the last client returned
+ * @param id   id of the last client returned; breaks ties between equal names
+ */
+public record ClientCursor(String name, long id) {
+
+    private static final char SEPARATOR = '\n';
+
+    public String encode() {
+        String raw = id + String.valueOf(SEPARATOR) + name;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Decodes a cursor previously produced by {@link #encode()}.
+     *
+     * @return the decoded position, or {@code null} for a missing cursor (first page)
+     * @throws IllegalArgumentException if the cursor was not produced by this server
+     */
+    public static ClientCursor decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor.trim()), StandardCharsets.UTF_8);
+            int separator = raw.indexOf(SEPARATOR);
+            return new ClientCursor(raw.substring(separator + 1), Long.parseLong(raw.substring(0, separator)));
+        } catch (IllegalArgumentException | IndexOutOfBoundsException e) {
+            throw new IllegalArgumentException("Invalid cursor: " + cursor, e);
+        }
+    }
+}
@@ -22,6 +22,13 @@ public record ClientDTO(
     List<PersonDTO> persons
 ) {
 
+    // Constructor without persons, used by JPQL constructor expressions so reads skip entity hydration
+    public ClientDTO(Long id, String name, ClientType clientType, String email, String phone,
+                     String registrationNumber, RiskLevel riskLevel, LocalDateTime createdAt,
+                     LocalDateTime updatedAt) {
+        this(id, name, clientType, email, phone, registrationNumber, riskLevel, createdAt, updatedAt, null);
+    }
+
     // Factory method for creating from entity without persons
     public static ClientDTO from(Client client) {
         return new ClientDTO(
@@ -0,0 +1,30 @@
+package com.theociobanoiu.kycmcp.model.dto;
+
+import java.util.List;
+
+/**
+ * Full KYC dossier of a client. Sections are assembled independently, so any of them may be null when it
+ * failed or missed its deadline; {@code errors} then says which and why.
+ *
+ * @param client           the client, without persons
+ * @param persons          every person associated with the client
+ * @param beneficialOwners persons who are beneficial owners or hold at least the configured ownership
+ * @param ownership        declared ownership totals
+ * @param screening        watchlist screening of the client and its persons
+ * @param riskFactors      findings derived from the sections that were assembled
+ * @param errors           sections that are missing
+ * @param complete         true when every section was assembled
+ * @param elapsedMillis    wall-clock time spent assembling the dossier
+ */
+public record ClientDossierDTO(
+    ClientDTO client,
+    List<PersonDTO> persons,
+    List<PersonDTO> beneficialOwners,
+    OwnershipSummaryDTO ownership,
+    ClientScreeningDTO screening,
+    List<RiskFactorDTO> riskFactors,
+    List<DossierSectionErrorDTO> errors,
+    boolean complete,
+    long elapsedMillis
+) {
+}
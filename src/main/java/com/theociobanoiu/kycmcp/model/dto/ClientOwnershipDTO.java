@@ -0,0 +1,32 @@
+package com.theociobanoiu.kycmcp.model.dto;
+
+import com.theociobanoiu.kycmcp.model.entities.ClientOwnership;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+public record ClientOwnershipDTO(
+    Long id,
+    Long ownerClientId,
+    String ownerClientName,
+    Long ownedClientId,
+    String ownedClientName,
+    BigDecimal ownershipPercentage,
+    LocalDateTime createdAt,
+    LocalDateTime updatedAt
+) {
+
+    // Factory method for creating from entity
+    public static ClientOwnershipDTO from(ClientOwnership ownership) {
+        return new ClientOwnershipDTO(
+            ownership.getId(),
+            ownership.getOwnerClient().getId(),
+            ownership.getOwnerClient().getName(),
+            ownership.getOwnedClient().getId(),
+            ownership.getOwnedClient().getName(),
+            ownership.getOwnershipPercentage(),
+            ownership.getCreatedAt(),
+            ownership.getUpdatedAt()
+        );
+    }
+}
@@ -0,0 +1,23 @@
+package com.theociobanoiu.kycmcp.model.dto;
+
+import java.util.List;
+
+/**
+ * Screening of a client together with every person related to it.
+ *
+ * @param client         screening result for the client's own name
+ * @param persons        screening results for each associated person
+ * @param potentialMatch true when the client or any of its persons has a hit
+ */
+public record ClientScreeningDTO(
+    ScreeningResultDTO client,
+    List<ScreeningResultDTO> persons,
+    boolean potentialMatch
+) {
+
+    public static ClientScreeningDTO of(ScreeningResultDTO client, List<ScreeningResultDTO> persons) {
+        boolean potentialMatch = client.potentialMatch()
+            || persons.stream().anyMatch(ScreeningResultDTO::potentialMatch);
+        return new ClientScreeningDTO(client, persons, potentialMatch);
+    }
+}
@@ -0,0 +1,40 @@
+package com.theociobanoiu.kycmcp.model.dto;
+
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * One page of a keyset-paginated result.
+ * Pass {@code nextCursor} back to the same operation to fetch the following page; it is {@code null}
+ * on the last page.
+ *
+ * @param items      the items of this page, in order
+ * @param nextCursor opaque cursor positioned after the last item, or {@code null} if there is no more data
+ * @param <T>        the item type
+ */
+public record CursorPage<T>(List<T> items, String nextCursor) {
+
+    public static <T> CursorPage<T> last(List<T> items) {
+        return new CursorPage<>(items, null);
+    }
+
+    /**
+     * Builds a page from a query that fetched up to {@code pageSize + 1} rows; the extra row only
+     * signals that another page exists and is not returned.
+     *
+     * @param fetched  rows read from the database, at most {@code pageSize + 1}
+     * @param pageSize the page size requested by the caller
+     * @param cursorOf encodes the cursor that resumes after a given item
+     */
+    public static <T> CursorPage<T> of(List<T> fetched, int pageSize, Function<T, String> cursorOf) {
+        if (fetched.size() <= pageSize) {
+            return last(fetched);
+        }
+        List<T> page = fetched.subList(0, pageSize);
+        return new CursorPage<>(List.copyOf(page), cursorOf.apply(page.getLast()));
+    }
+
+    public boolean hasMore() {
+        return nextCursor != null;
+    }
+}
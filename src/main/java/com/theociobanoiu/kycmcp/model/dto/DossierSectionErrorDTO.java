@@ -0,0 +1,15 @@
+package com.theociobanoiu.kycmcp.model.dto;
+
+/**
+ * A dossier section that could not be assembled; the rest of the dossier is still returned.
+ *
+ * @param section the missing section, e.g. {@code screening}
+ * @param code    why it is missing: {@code TIMEOUT}, {@code WATCHLIST_UNAVAILABLE} or {@code FAILED}
+ * @param message details of the failure
+ */
+public record DossierSectionErrorDTO(
+    String section,
+    String code,
+    String message
+) {
+}
@@ -0,0 +1,26 @@
+package com.theociobanoiu.kycmcp.model.dto;
+
+import com.theociobanoiu.kycmcp.model.enums.ClientType;
+import com.theociobanoiu.kycmcp.model.enums.RiskLevel;
+
+import java.time.LocalDateTime;
+
+/**
+ * A client due its periodic KYC review.
+ *
+ * @param clientId       the client's id
+ * @param name           the client's name
+ * @param clientType     the client's type
+ * @param riskLevel      the client's current risk level, which sets the review interval
+ * @param nextReviewAt   when the review is due
+ * @param lastReviewedAt when the client was last reviewed, or null if never since onboarding
+ */
+public record DueReviewDTO(
+    Long clientId,
+    String name,
+    ClientType clientType,
+    RiskLevel riskLevel,
+    LocalDateTime nextReviewAt,
+    LocalDateTime lastReviewedAt
+) {
+}
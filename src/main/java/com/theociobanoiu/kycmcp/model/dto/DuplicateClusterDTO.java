@@ -0,0 +1,20 @@
+package com.theociobanoiu.kycmcp.model.dto;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+/**
+ * Clients that are probably one party, linked by scored pairs.
+ *
+ * @param clusterId id of the stored cluster; null for a check of a single client, which is not stored
+ * @param clientIds the members, ascending
+ * @param bestScore score of the strongest pair
+ * @param matches   the pairs linking the members, best first
+ */
+public record DuplicateClusterDTO(
+    Long clusterId,
+    List<Long> clientIds,
+    BigDecimal bestScore,
+    List<DuplicateMatchDTO> matches
+) {
+}
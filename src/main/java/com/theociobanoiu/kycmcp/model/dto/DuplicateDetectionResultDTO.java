@@ -0,0 +1,25 @@
+package com.theociobanoiu.kycmcp.model.dto;
+
+import java.util.List;
+
+/**
+ * Outcome of a duplicate check, over the whole book or for one client.
+ *
+ * @param clientId          the client checked, or null for a whole-book run
+ * @param clientsChecked    clients compared with their candidates
+ * @param clustersFound     clusters of possible duplicates
+ * @param clientsInClusters clients belonging to a cluster
+ * @param clusters          the best-scoring clusters, best first
+ * @param clustersTruncated true when more clusters were found than are listed
+ * @param elapsedMillis     wall-clock duration of the check
+ */
+public record DuplicateDetectionResultDTO(
+    Long clientId,
+    long clientsChecked,
+    long clustersFound,
+    long clientsInClusters,
+    List<DuplicateClusterDTO> clusters,
+    boolean clustersTruncated,
+    long elapsedMillis
+) {
+}
@@ -0,0 +1,26 @@
+package com.theociobanoiu.kycmcp.model.dto;
+
+import com.theociobanoiu.kycmcp.model.enums.DuplicateEvidence;
+
+import java.math.BigDecimal;
+import java.util.Set;
+
+/**
+ * Two clients that are possibly the same party.
+ *
+ * @param clientId          the first client
+ * @param clientName        its name
+ * @param matchedClientId   the client it resembles
+ * @param matchedClientName its name
+ * @param score             likelihood of a duplicate, 0.0 - 1.0
+ * @param matchedOn         attributes the two clients agree on
+ */
+public record DuplicateMatchDTO(
+    Long clientId,
+    String clientName,
+    Long matchedClientId,
+    String matchedClientName,
+    BigDecimal score,
+    Set<DuplicateEvidence> matchedOn
+) {
+}
@@ -0,0 +1,19 @@
+package com.theociobanoiu.kycmcp.model.dto;
+
+import java.math.BigDecimal;
+
+/**
+ * A person or client holding a share of a client, directly or through other clients.
+ *
+ * @param subjectType         {@code PERSON} or {@code CLIENT}
+ * @param subjectId           id of the person or client
+ * @param name                full name of the person, or name of the client
+ * @param effectivePercentage share held through all ownership layers, 0 - 100
+ */
+public record EffectiveOwnershipDTO(
+    String subjectType,
+    Long subjectId,
+    String name,
+    BigDecimal effectivePercentage
+) {
+}
@@ -0,0 +1,34 @@
+package com.theociobanoiu.kycmcp.model.dto;
+
+import com.theociobanoiu.kycmcp.bulkexport.ExportCompression;
+import com.theociobanoiu.kycmcp.bulkexport.ExportFormat;
+import com.theociobanoiu.kycmcp.bulkexport.ExportTarget;
+
+import java.util.List;
+
+/**
+ * Outcome of a bulk export.
+ *
+ * @param target        what was exported
+ * @param format        the format that was written
+ * @param compression   the compression applied
+ * @param columns       the columns written, in order
+ * @param rowsExported  rows written
+ * @param bytesWritten  size of the output, after compression
+ * @param fileName      name of the export file in the export directory, to download from
+ *                      {@code /api/export/files/{fileName}}; null for streamed exports
+ * @param elapsedMillis wall-clock duration of the export
+ * @param rowsPerSecond rows written per second of wall-clock time
+ */
+public record ExportResultDTO(
+    ExportTarget target,
+    ExportFormat format,
+    ExportCompression compression,
+    List<String> columns,
+    long rowsExported,
+    long bytesWritten,
+    String fileName,
+    long elapsedMillis,
+    long rowsPerSecond
+) {
+}
@@ -0,0 +1,36 @@
+package com.theociobanoiu.kycmcp.model.dto;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * Keyset position in a listing ordered by id alone.
+ * Like {@link ClientCursor}, clients see it only in its encoded form, an opaque URL-safe string.
+ *
+ * @param id id of the last item returned
+ */
+public record IdCursor(long id) {
+
+    public String encode() {
+        return Base64.getUrlEncoder().withoutPadding()
+            .encodeToString(Long.toString(id).getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Decodes a cursor previously produced by {@link #encode()}.
+     *
+     * @return the decoded position, or {@code null} for a missing cursor (first page)
+     * @throws IllegalArgumentException if the cursor was not produced by this server
+     */
+    public static IdCursor decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor.trim()), StandardCharsets.UTF_8);
+            return new IdCursor(Long.parseLong(raw));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Invalid cursor: " + cursor, e);
+        }
+    }
+}
@@ -0,0 +1,33 @@
+package com.theociobanoiu.kycmcp.model.dto;
+
+import com.theociobanoiu.kycmcp.bulkimport.ImportFormat;
+import com.theociobanoiu.kycmcp.bulkimport.ImportTarget;
+
+import java.util.List;
+
+/**
+ * Outcome of a bulk import. Rows are imported independently: a failed row does not stop the import,
+ * it is counted in {@code rowsFailed} and, up to the configured limit, listed in {@code errors}.
+ *
+ * @param target          what was imported
+ * @param format          the file format that was read
+ * @param rowsRead        non-blank data rows read from the file
+ * @param rowsImported    rows inserted
+ * @param rowsFailed      rows rejected
+ * @param errors          the first rejected rows with their reasons, in file order
+ * @param errorsTruncated true when more rows failed than are listed in {@code errors}
+ * @param elapsedMillis   wall-clock duration of the import
+ * @param rowsPerSecond   rows read per second of wall-clock time
+ */
+public record ImportResultDTO(
+    ImportTarget target,
+    ImportFormat format,
+    long rowsRead,
+    long rowsImported,
+    long rowsFailed,
+    List<ImportRowErrorDTO> errors,
+    boolean errorsTruncated,
+    long elapsedMillis,
+    long rowsPerSecond
+) {
+}
@@ -0,0 +1,10 @@
+package com.theociobanoiu.kycmcp.model.dto;
+
+/**
+ * A row that was not imported.
+ *
+ * @param line    1-based line number in the import file
+ * @param message why the row was rejected
+ */
+public record ImportRowErrorDTO(long line, String message) {
+}
@@ -0,0 +1,19 @@
+package com.theociobanoiu.kycmcp.model.dto;
+
+import com.theociobanoiu.kycmcp.model.enums.RelationshipType;
+
+import java.math.BigDecimal;
+
+/**
+ * Persons of one relationship type to a client and the ownership they declare between them.
+ *
+ * @param relationshipType the relationship to the client
+ * @param persons          number of persons with that relationship
+ * @param percentage       sum of their ownership percentages, null when none of them declares one
+ */
+public record OwnershipShareDTO(
+    RelationshipType relationshipType,
+    Long persons,
+    BigDecimal percentage
+) {
+}
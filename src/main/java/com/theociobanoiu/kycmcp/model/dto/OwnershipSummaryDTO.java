@@ -0,0 +1,34 @@
+package com.theociobanoiu.kycmcp.model.dto;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Ownership of a client as declared by its persons.
+ *
+ * @param declaredPercentage    total ownership declared across all persons; above 100 means the declarations
+ *                              are inconsistent
+ * @param unaccountedPercentage ownership no person declares, never negative
+ * @param byRelationship        the declared ownership broken down by relationship type
+ */
+public record OwnershipSummaryDTO(
+    BigDecimal declaredPercentage,
+    BigDecimal unaccountedPercentage,
+    List<OwnershipShareDTO> byRelationship
+) {
+
+    private static final BigDecimal WHOLE = BigDecimal.valueOf(100);
+
+    public static OwnershipSummaryDTO of(List<OwnershipShareDTO> shares) {
+        BigDecimal declared = shares.stream()
+            .map(OwnershipShareDTO::percentage)
+            .filter(Objects::nonNull)
+            .reduce(BigDecimal.ZERO, BigDecimal::add);
+        return new OwnershipSummaryDTO(declared, WHOLE.subtract(declared).max(BigDecimal.ZERO), shares);
+    }
+
+    public boolean exceedsWhole() {
+        return declaredPercentage.compareTo(WHOLE) > 0;
+    }
+}
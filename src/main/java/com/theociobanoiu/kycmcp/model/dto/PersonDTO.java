@@ -28,6 +28,17 @@ public record PersonDTO(
     String clientName
 ) {
 
+    // Constructor deriving the full name, used by JPQL constructor expressions so reads skip entity hydration
+    public PersonDTO(Long id, String firstName, String lastName, String email, String phone,
+                     LocalDate dateOfBirth, String nationality, String identificationNumber,
+                     RelationshipType relationshipType, String positionTitle, BigDecimal ownershipPercentage,
+                     String address, LocalDateTime createdAt, LocalDateTime updatedAt, Long clientId,
+                     String clientName) {
+        this(id, firstName, lastName, firstName + " " + lastName, email, phone, dateOfBirth, nationality,
+            identificationNumber, relationshipType, positionTitle, ownershipPercentage, address, createdAt,
+            updatedAt, clientId, clientName);
+    }
+
     // Factory method for creating from entity
     public static PersonDTO from(Person person) {
         return new PersonDTO(
@@ -51,6 +62,15 @@ public record PersonDTO(
         );
     }
 
+    // Factory method for a person whose client is an unloaded reference, so reading its name would load it
+    public static PersonDTO from(Person person, String clientName) {
+        return new PersonDTO(person.getId(), person.getFirstName(), person.getLastName(), person.getEmail(),
+            person.getPhone(), person.getDateOfBirth(), person.getNationality(), person.getIdentificationNumber(),
+            person.getRelationshipType(), person.getPositionTitle(), person.getOwnershipPercentage(),
+            person.getAddress(), person.getCreatedAt(), person.getUpdatedAt(), person.getClient().getId(),
+            clientName);
+    }
+
     // Factory method for creating a list from entities
     public static List<PersonDTO> fromList(List<Person> persons) {
         return persons.stream()
@@ -0,0 +1,36 @@
+package com.theociobanoiu.kycmcp.model.dto;
+
+import com.theociobanoiu.kycmcp.model.enums.PersonSearchField;
+import com.theociobanoiu.kycmcp.model.enums.RelationshipType;
+
+import java.util.Set;
+
+/**
+ * A person matching a person search, with the client they are linked to.
+ *
+ * @param personId             the person's id
+ * @param clientId             id of the client the person is linked to
+ * @param clientName           name of that client
+ * @param firstName            the person's first name
+ * @param lastName             the person's last name
+ * @param identificationNumber the person's identification number, if recorded
+ * @param nationality          the person's nationality, if recorded
+ * @param relationshipType     how the person relates to the client
+ * @param matchedTokens        number of distinct query tokens the person matched
+ * @param score                relevance: rarer tokens and matches on names and identification numbers weigh more
+ * @param matchedOn            the attributes the query tokens were found in
+ */
+public record PersonMatchDTO(
+    Long personId,
+    Long clientId,
+    String clientName,
+    String firstName,
+    String lastName,
+    String identificationNumber,
+    String nationality,
+    RelationshipType relationshipType,
+    int matchedTokens,
+    double score,
+    Set<PersonSearchField> matchedOn
+) {
+}
@@ -0,0 +1,17 @@
+package com.theociobanoiu.kycmcp.model.dto;
+
+import com.theociobanoiu.kycmcp.model.enums.RiskLevel;
+
+/**
+ * A finding in a client dossier that calls for review.
+ *
+ * @param code        stable identifier of the finding, e.g. {@code NO_BENEFICIAL_OWNER}
+ * @param severity    how much the finding weighs on the client's risk
+ * @param description human readable explanation
+ */
+public record RiskFactorDTO(
+    String code,
+    RiskLevel severity,
+    String description
+) {
+}
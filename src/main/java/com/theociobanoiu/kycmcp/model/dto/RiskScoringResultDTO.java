@@ -0,0 +1,29 @@
+package com.theociobanoiu.kycmcp.model.dto;
+
+import com.theociobanoiu.kycmcp.model.enums.RiskLevel;
+import com.theociobanoiu.kycmcp.model.enums.RiskScoringMode;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+
+/**
+ * Outcome of a risk scoring run.
+ *
+ * @param mode             how the run picked its clients; an incremental request with no earlier run is run in full
+ * @param since            for incremental runs, clients modified after this time were scored
+ * @param clientsScored    clients whose risk level was recomputed
+ * @param clientsChanged   clients whose stored risk level changed
+ * @param clientsByLevel   scored clients per resulting risk level
+ * @param elapsedMillis    wall-clock duration of the run
+ * @param clientsPerSecond clients scored per second of wall-clock time
+ */
+public record RiskScoringResultDTO(
+    RiskScoringMode mode,
+    LocalDateTime since,
+    long clientsScored,
+    long clientsChanged,
+    Map<RiskLevel, Long> clientsByLevel,
+    long elapsedMillis,
+    long clientsPerSecond
+) {
+}
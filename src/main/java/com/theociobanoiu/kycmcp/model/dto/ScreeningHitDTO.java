@@ -0,0 +1,33 @@
+package com.theociobanoiu.kycmcp.model.dto;
+
+import com.theociobanoiu.kycmcp.model.enums.WatchlistCategory;
+
+import java.time.LocalDate;
+
+/**
+ * A watchlist entry that resembles a screened subject closely enough to need review.
+ *
+ * @param entryId          identifier of the entry in its source list
+ * @param matchedName      the entry's name as published in the list
+ * @param listName         the source list (e.g. "OFAC SDN")
+ * @param category         kind of list the entry belongs to
+ * @param dateOfBirth      the entry's date of birth, if published
+ * @param nationality      the entry's nationality, if published
+ * @param score            overall match score from 0.0 to 1.0, name similarity adjusted by birth date and nationality
+ * @param nameScore        Jaro-Winkler based name similarity alone
+ * @param dateOfBirthMatch whether birth dates agree; null when either side is unknown
+ * @param nationalityMatch whether nationalities agree; null when either side is unknown
+ */
+public record ScreeningHitDTO(
+    String entryId,
+    String matchedName,
+    String listName,
+    WatchlistCategory category,
+    LocalDate dateOfBirth,
+    String nationality,
+    double score,
+    double nameScore,
+    Boolean dateOfBirthMatch,
+    Boolean nationalityMatch
+) {
+}
@@ -0,0 +1,26 @@
+package com.theociobanoiu.kycmcp.model.dto;
+
+import java.util.List;
+
+/**
+ * Outcome of screening one client or person against the loaded watchlists.
+ *
+ * @param subjectType    {@code CLIENT} or {@code PERSON}
+ * @param subjectId      id of the screened client or person
+ * @param subjectName    the name that was screened
+ * @param potentialMatch true when at least one hit reached the match threshold
+ * @param hits           hits ordered by score, best first
+ */
+public record ScreeningResultDTO(
+    String subjectType,
+    Long subjectId,
+    String subjectName,
+    boolean potentialMatch,
+    List<ScreeningHitDTO> hits
+) {
+
+    public static ScreeningResultDTO of(String subjectType, Long subjectId, String subjectName,
+                                        List<ScreeningHitDTO> hits) {
+        return new ScreeningResultDTO(subjectType, subjectId, subjectName, !hits.isEmpty(), hits);
+    }
+}
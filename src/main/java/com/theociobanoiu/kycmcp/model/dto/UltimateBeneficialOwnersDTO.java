@@ -0,0 +1,26 @@
+package com.theociobanoiu.kycmcp.model.dto;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+/**
+ * The persons ultimately owning a client through every layer of client-owns-client links.
+ *
+ * @param clientId            the client whose owners were traced
+ * @param clientName          its name
+ * @param thresholdPercentage smallest effective ownership reported
+ * @param beneficialOwners    persons holding at least the threshold, largest share first
+ * @param intermediateOwners  clients the ownership flows through that hold at least the threshold
+ * @param ownershipCycles     circular holdings found, each as the ids of the clients around the cycle
+ * @param converged           false if circular holdings did not settle, so shares are slightly understated
+ */
+public record UltimateBeneficialOwnersDTO(
+    Long clientId,
+    String clientName,
+    BigDecimal thresholdPercentage,
+    List<EffectiveOwnershipDTO> beneficialOwners,
+    List<EffectiveOwnershipDTO> intermediateOwners,
+    List<List<Long>> ownershipCycles,
+    boolean converged
+) {
+}
@@ -0,0 +1,42 @@
+package com.theociobanoiu.kycmcp.model.dto.request;
+
+import com.theociobanoiu.kycmcp.model.enums.RiskLevel;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+/**
+ * Criteria narrowing a beneficial owner query; every criterion is optional and null matches anything.
+ *
+ * @param nationality     the beneficial owner's nationality, matched exactly
+ * @param minOwnership    smallest declared ownership percentage, 0 - 100; persons declaring none are excluded
+ * @param clientRiskLevel risk level of the owned client
+ * @param bornFrom        earliest date of birth, inclusive; persons without one are excluded
+ * @param bornTo          latest date of birth, inclusive; persons without one are excluded
+ */
+public record BeneficialOwnerFilter(
+    String nationality,
+    BigDecimal minOwnership,
+    RiskLevel clientRiskLevel,
+    LocalDate bornFrom,
+    LocalDate bornTo
+) {
+
+    public static final BeneficialOwnerFilter ANY = new BeneficialOwnerFilter(null, null, null, null, null);
+
+    /**
+     * @throws IllegalArgumentException if the ownership threshold or the date range is invalid
+     */
+    public BeneficialOwnerFilter {
+        if (minOwnership != null
+            && (minOwnership.signum() < 0 || minOwnership.compareTo(BigDecimal.valueOf(100)) > 0)) {
+            throw new IllegalArgumentException("Minimum ownership must be between 0 and 100: " + minOwnership);
+        }
+        if (bornFrom != null && bornTo != null && bornFrom.isAfter(bornTo)) {
+            throw new IllegalArgumentException("Date of birth range is empty: " + bornFrom + " is after " + bornTo);
+        }
+        if (nationality != null) {
+            nationality = nationality.isBlank() ? null : nationality.trim();
+        }
+    }
+}
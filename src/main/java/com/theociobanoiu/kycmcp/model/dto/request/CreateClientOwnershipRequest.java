@@ -0,0 +1,24 @@
+package com.theociobanoiu.kycmcp.model.dto.request;
+
+import jakarta.validation.constraints.DecimalMax;
+import jakarta.validation.constraints.DecimalMin;
+import jakarta.validation.constraints.NotNull;
+
+import java.math.BigDecimal;
+
+/**
+ * Request DTO for recording that one client holds a share of another.
+ */
+public record CreateClientOwnershipRequest(
+        @NotNull(message = "Owner client ID is required")
+        Long ownerClientId,
+
+        @NotNull(message = "Owned client ID is required")
+        Long ownedClientId,
+
+        @NotNull(message = "Ownership percentage is required")
+        @DecimalMin(value = "0.0", inclusive = false, message = "Ownership percentage must be above 0 and at most 100")
+        @DecimalMax(value = "100.0", message = "Ownership percentage must be above 0 and at most 100")
+        BigDecimal ownershipPercentage
+) {
+}
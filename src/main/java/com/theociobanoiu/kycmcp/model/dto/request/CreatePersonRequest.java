@@ -43,6 +43,22 @@ public record CreatePersonRequest(
         String address
 ) {
 
+    /**
+     * Returns this request for the given client
+     */
+    public CreatePersonRequest withClientId(Long clientId) {
+        return new CreatePersonRequest(clientId, firstName, lastName, email, phone, dateOfBirth, nationality,
+            identificationNumber, relationshipType, positionTitle, ownershipPercentage, address);
+    }
+
+    /**
+     * Returns this request with the given identification number
+     */
+    public CreatePersonRequest withIdentificationNumber(String identificationNumber) {
+        return new CreatePersonRequest(clientId, firstName, lastName, email, phone, dateOfBirth, nationality,
+            identificationNumber, relationshipType, positionTitle, ownershipPercentage, address);
+    }
+
     /**
      * Converts this DTO to a Person entity (without client relationship)
      */
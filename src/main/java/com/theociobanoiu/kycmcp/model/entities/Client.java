@@ -2,6 +2,7 @@ package com.theociobanoiu.kycmcp.model.entities;
 
 import com.theociobanoiu.kycmcp.model.enums.ClientType;
 import com.theociobanoiu.kycmcp.model.enums.RiskLevel;
+import com.theociobanoiu.kycmcp.review.ReviewScheduleListener;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.Email;
 import jakarta.validation.constraints.NotBlank;
@@ -12,11 +13,14 @@ import java.time.LocalDateTime;
 
 @Entity
 @Table(name = "clients")
+@EntityListeners(ReviewScheduleListener.class)
 @Data
 public class Client {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    // Pooled sequence ids (blocks of 50) instead of IDENTITY, which would disable JDBC insert batching
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "clients_id_seq")
+    @SequenceGenerator(name = "clients_id_seq", sequenceName = "clients_id_seq", allocationSize = 50)
     private Long id;
 
     @NotBlank(message = "Client name is required")
@@ -48,6 +52,13 @@ public class Client {
     @Column(name = "updated_at")
     private LocalDateTime updatedAt;
 
+    // Set on persist by ReviewScheduleListener, then moved forward by every periodic review
+    @Column(name = "next_review_at", nullable = false)
+    private LocalDateTime nextReviewAt;
+
+    @Column(name = "last_reviewed_at")
+    private LocalDateTime lastReviewedAt;
+
 
     @PrePersist
     protected void onCreate() {
@@ -0,0 +1,72 @@
+package com.theociobanoiu.kycmcp.model.entities;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.JoinColumn;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.PrePersist;
+import jakarta.persistence.PreUpdate;
+import jakarta.persistence.SequenceGenerator;
+import jakarta.persistence.Table;
+import jakarta.validation.constraints.DecimalMax;
+import jakarta.validation.constraints.DecimalMin;
+import jakarta.validation.constraints.NotNull;
+import lombok.Data;
+import lombok.EqualsAndHashCode;
+import lombok.ToString;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * A share of one client held by another client, the layer {@link Person#getOwnershipPercentage()} cannot
+ * express: a company owning a company that owns a trust is one row per link.
+ */
+@Entity
+@Table(name = "client_ownerships")
+@Data
+@EqualsAndHashCode(exclude = {"ownerClient", "ownedClient"})
+@ToString(exclude = {"ownerClient", "ownedClient"})
+public class ClientOwnership {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "client_ownerships_id_seq")
+    @SequenceGenerator(name = "client_ownerships_id_seq", sequenceName = "client_ownerships_id_seq",
+        allocationSize = 50)
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "owner_client_id", nullable = false)
+    private Client ownerClient;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "owned_client_id", nullable = false)
+    private Client ownedClient;
+
+    @NotNull(message = "Ownership percentage is required")
+    @DecimalMin(value = "0.0", inclusive = false, message = "Ownership percentage must be above 0 and at most 100")
+    @DecimalMax(value = "100.0", message = "Ownership percentage must be above 0 and at most 100")
+    @Column(name = "ownership_percentage", nullable = false, precision = 5, scale = 2)
+    private BigDecimal ownershipPercentage;
+
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+
+    @PrePersist
+    protected void onCreate() {
+        createdAt = LocalDateTime.now();
+        updatedAt = LocalDateTime.now();
+    }
+
+    @PreUpdate
+    protected void onUpdate() {
+        updatedAt = LocalDateTime.now();
+    }
+}
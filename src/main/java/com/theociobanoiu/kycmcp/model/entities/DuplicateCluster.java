@@ -0,0 +1,49 @@
+package com.theociobanoiu.kycmcp.model.entities;
+
+import jakarta.persistence.CascadeType;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.OneToMany;
+import jakarta.persistence.SequenceGenerator;
+import jakarta.persistence.Table;
+import lombok.Data;
+import lombok.EqualsAndHashCode;
+import lombok.ToString;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Clients found to be probably the same party by one duplicate detection run, with the scored pairs
+ * linking them. Each run replaces the clusters of the previous one.
+ */
+@Entity
+@Table(name = "duplicate_clusters")
+@Data
+@EqualsAndHashCode(exclude = "matches")
+@ToString(exclude = "matches")
+public class DuplicateCluster {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "duplicate_clusters_id_seq")
+    @SequenceGenerator(name = "duplicate_clusters_id_seq", sequenceName = "duplicate_clusters_id_seq",
+        allocationSize = 50)
+    private Long id;
+
+    @Column(name = "detected_at", nullable = false)
+    private LocalDateTime detectedAt;
+
+    @Column(name = "member_count", nullable = false)
+    private int memberCount;
+
+    @Column(name = "best_score", nullable = false, precision = 5, scale = 4)
+    private BigDecimal bestScore;
+
+    @OneToMany(mappedBy = "cluster", cascade = CascadeType.PERSIST)
+    private List<DuplicateMatchRecord> matches = new ArrayList<>();
+}
@@ -0,0 +1,52 @@
+package com.theociobanoiu.kycmcp.model.entities;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.JoinColumn;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.SequenceGenerator;
+import jakarta.persistence.Table;
+import lombok.Data;
+import lombok.EqualsAndHashCode;
+import lombok.ToString;
+
+import java.math.BigDecimal;
+
+/**
+ * One scored pair of possibly duplicate clients within a {@link DuplicateCluster}. Clients are referenced by
+ * id only; the rows go away with either client.
+ */
+@Entity
+@Table(name = "duplicate_matches")
+@Data
+@EqualsAndHashCode(exclude = "cluster")
+@ToString(exclude = "cluster")
+public class DuplicateMatchRecord {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "duplicate_matches_id_seq")
+    @SequenceGenerator(name = "duplicate_matches_id_seq", sequenceName = "duplicate_matches_id_seq",
+        allocationSize = 50)
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "cluster_id", nullable = false)
+    private DuplicateCluster cluster;
+
+    @Column(name = "client_id", nullable = false)
+    private Long clientId;
+
+    @Column(name = "matched_client_id", nullable = false)
+    private Long matchedClientId;
+
+    @Column(name = "score", nullable = false, precision = 5, scale = 4)
+    private BigDecimal score;
+
+    // Comma-separated DuplicateEvidence names
+    @Column(name = "matched_on", nullable = false, length = 100)
+    private String matchedOn;
+}
@@ -0,0 +1,46 @@
+package com.theociobanoiu.kycmcp.model.entities;
+
+import com.theociobanoiu.kycmcp.model.enums.RiskScoringMode;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.SequenceGenerator;
+import jakarta.persistence.Table;
+import lombok.Data;
+
+import java.time.LocalDateTime;
+
+/**
+ * One recomputation of client risk levels. A run without {@code finishedAt} failed or is still going.
+ */
+@Entity
+@Table(name = "risk_scoring_runs")
+@Data
+public class RiskScoringRun {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "risk_scoring_runs_id_seq")
+    @SequenceGenerator(name = "risk_scoring_runs_id_seq", sequenceName = "risk_scoring_runs_id_seq",
+        allocationSize = 50)
+    private Long id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "mode", nullable = false)
+    private RiskScoringMode mode;
+
+    @Column(name = "started_at", nullable = false)
+    private LocalDateTime startedAt;
+
+    @Column(name = "finished_at")
+    private LocalDateTime finishedAt;
+
+    @Column(name = "clients_scored", nullable = false)
+    private long clientsScored;
+
+    @Column(name = "clients_changed", nullable = false)
+    private long clientsChanged;
+}
@@ -0,0 +1,11 @@
+package com.theociobanoiu.kycmcp.model.enums;
+
+/**
+ * What two clients reported as possible duplicates have in common.
+ */
+public enum DuplicateEvidence {
+    NAME,
+    REGISTRATION_NUMBER,
+    EMAIL,
+    PHONE
+}
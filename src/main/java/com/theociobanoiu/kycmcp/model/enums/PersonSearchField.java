@@ -0,0 +1,12 @@
+package com.theociobanoiu.kycmcp.model.enums;
+
+/**
+ * Person attributes covered by person search, in the order of their bit in the index's field masks.
+ */
+public enum PersonSearchField {
+    FIRST_NAME,
+    LAST_NAME,
+    IDENTIFICATION_NUMBER,
+    NATIONALITY,
+    ADDRESS
+}
@@ -0,0 +1,15 @@
+package com.theociobanoiu.kycmcp.model.enums;
+
+/**
+ * Result of a periodic client review.
+ */
+public enum ReviewOutcome {
+    /**
+     * Risk level unchanged or lower, and no watchlist hits.
+     */
+    CLEARED,
+    /**
+     * Risk level raised, or the client or one of its persons matched a watchlist entry; needs an analyst.
+     */
+    ESCALATED
+}
@@ -0,0 +1,15 @@
+package com.theociobanoiu.kycmcp.model.enums;
+
+/**
+ * Which clients a risk scoring run recomputes.
+ */
+public enum RiskScoringMode {
+    /**
+     * Every client.
+     */
+    FULL,
+    /**
+     * Only clients changed, or whose persons changed, since the last finished run.
+     */
+    INCREMENTAL
+}
@@ -0,0 +1,11 @@
+package com.theociobanoiu.kycmcp.model.enums;
+
+/**
+ * Kind of list a screening watchlist entry comes from.
+ */
+public enum WatchlistCategory {
+    SANCTIONS,
+    PEP,
+    ADVERSE_MEDIA,
+    OTHER
+}
@@ -0,0 +1,350 @@
+package com.theociobanoiu.kycmcp.ownership;
+
+import com.theociobanoiu.kycmcp.util.collections.IntArrayList;
+import com.theociobanoiu.kycmcp.util.collections.LongIntHashMap;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * In-memory graph of who owns which client, across any number of layers: persons own clients, and clients own
+ * other clients.
+ * <p>
+ * Every person and client taking part in an ownership link is a node, numbered densely and found through a
+ * primitive {@code id -> node} map. Each node keeps the owners holding a share of it as a pair of compact arrays,
+ * owner node numbers and ownership fractions, so a graph with millions of links costs a few bytes per link and
+ * no per-link objects. Links are added, re-weighted and removed in place, so the graph follows writes without
+ * being rebuilt.
+ * <p>
+ * {@link #ultimateOwners(long, double)} walks up from a client through its owners, their owners and so on, and
+ * returns every person and client with its effective share: the product of the fractions along a path, summed
+ * over all paths. Circular holdings (A owns B owns A) are reported and resolved iteratively, so shares that
+ * flow around a cycle are counted as the sum of the converging series rather than looping forever.
+ * <p>
+ * Safe for concurrent use: queries share a read lock, updates take the write lock.
+ */
+public final class OwnershipGraph {
+
+    /**
+     * Kind of node; persons only ever hold shares, clients are held and may hold shares themselves.
+     */
+    public enum OwnerType {
+        PERSON,
+        CLIENT
+    }
+
+    /**
+     * A person or client holding an effective share of the queried client.
+     *
+     * @param type     whether the holder is a person or a client
+     * @param id       the holder's database id
+     * @param fraction effective share, 0 - 1
+     */
+    public record Holding(OwnerType type, long id, double fraction) {
+    }
+
+    /**
+     * The ultimate owners of one client.
+     *
+     * @param persons   persons holding at least the requested share, largest first
+     * @param clients   intermediate clients holding at least the requested share, largest first
+     * @param cycles    circular holdings met on the way up, each as the client ids around the cycle
+     * @param converged false if circular holdings did not settle within the iteration limit, so shares are
+     *                  slightly understated
+     */
+    public record Result(List<Holding> persons, List<Holding> clients, List<long[]> cycles, boolean converged) {
+
+        static final Result EMPTY = new Result(List.of(), List.of(), List.of(), true);
+    }
+
+    // Shares left to distribute below this are dropped; far below the 0.01% resolution of the database
+    private static final double EPSILON = 1e-9;
+    private static final int MAX_PASSES = 1_000;
+    private static final int MAX_REPORTED_CYCLES = 100;
+    private static final int NO_NODE = -1;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final LongIntHashMap nodeByKey;
+    private long[] nodeKeys;
+    private int[][] owners;
+    private double[][] fractions;
+    private int[] ownerCounts;
+    private int nodeCount;
+    private long linkCount;
+
+    public OwnershipGraph() {
+        this(1024);
+    }
+
+    /**
+     * @param expectedNodes number of persons and clients the graph should hold without resizing
+     */
+    public OwnershipGraph(int expectedNodes) {
+        int capacity = Math.max(16, expectedNodes);
+        nodeByKey = new LongIntHashMap(capacity, NO_NODE);
+        nodeKeys = new long[capacity];
+        owners = new int[capacity][];
+        fractions = new double[capacity][];
+        ownerCounts = new int[capacity];
+    }
+
+    /**
+     * Records that a person holds a share of a client, replacing any share recorded before.
+     *
+     * @param fraction the share, 0 - 1; zero removes the link
+     */
+    public void putPersonOwnership(long personId, long clientId, double fraction) {
+        putLink(key(OwnerType.PERSON, personId), key(OwnerType.CLIENT, clientId), fraction);
+    }
+
+    /**
+     * Records that a client holds a share of another client, replacing any share recorded before.
+     *
+     * @param fraction the share, 0 - 1; zero removes the link
+     */
+    public void putClientOwnership(long ownerClientId, long ownedClientId, double fraction) {
+        putLink(key(OwnerType.CLIENT, ownerClientId), key(OwnerType.CLIENT, ownedClientId), fraction);
+    }
+
+    /**
+     * Finds everyone holding a share of a client, directly or through other clients.
+     *
+     * @param clientId    the client whose owners are wanted
+     * @param minFraction smallest effective share reported, 0 - 1
+     */
+    public Result ultimateOwners(long clientId, double minFraction) {
+        lock.readLock().lock();
+        try {
+            int start = nodeByKey.get(key(OwnerType.CLIENT, clientId));
+            return start == NO_NODE ? Result.EMPTY : new Traversal(start).run(minFraction);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int nodeCount() {
+        lock.readLock().lock();
+        try {
+            return nodeCount;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public long linkCount() {
+        lock.readLock().lock();
+        try {
+            return linkCount;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void putLink(long ownerKey, long ownedKey, double fraction) {
+        if (fraction < 0 || fraction > 1 || Double.isNaN(fraction)) {
+            throw new IllegalArgumentException("Ownership fraction must be between 0 and 1: " + fraction);
+        }
+        lock.writeLock().lock();
+        try {
+            boolean remove = fraction == 0;
+            int owned = remove ? nodeByKey.get(ownedKey) : node(ownedKey);
+            int owner = remove ? nodeByKey.get(ownerKey) : node(ownerKey);
+            if (owned == NO_NODE || owner == NO_NODE) {
+                return;
+            }
+
+            int[] ownerNodes = owners[owned];
+            int count = ownerCounts[owned];
+            for (int i = 0; i < count; i++) {
+                if (ownerNodes[i] == owner) {
+                    if (remove) {
+                        // Order of owners carries no meaning, so the last one fills the gap
+                        ownerNodes[i] = ownerNodes[count - 1];
+                        fractions[owned][i] = fractions[owned][count - 1];
+                        ownerCounts[owned]--;
+                        linkCount--;
+                    } else {
+                        fractions[owned][i] = fraction;
+                    }
+                    return;
+                }
+            }
+            if (remove) {
+                return;
+            }
+
+            if (ownerNodes == null) {
+                owners[owned] = new int[2];
+                fractions[owned] = new double[2];
+            } else if (count == ownerNodes.length) {
+                owners[owned] = Arrays.copyOf(ownerNodes, count << 1);
+                fractions[owned] = Arrays.copyOf(fractions[owned], count << 1);
+            }
+            owners[owned][count] = owner;
+            fractions[owned][count] = fraction;
+            ownerCounts[owned] = count + 1;
+            linkCount++;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private int node(long key) {
+        int node = nodeByKey.get(key);
+        if (node != NO_NODE) {
+            return node;
+        }
+        if (nodeCount == nodeKeys.length) {
+            int capacity = nodeCount + (nodeCount >> 1);
+            nodeKeys = Arrays.copyOf(nodeKeys, capacity);
+            owners = Arrays.copyOf(owners, capacity);
+            fractions = Arrays.copyOf(fractions, capacity);
+            ownerCounts = Arrays.copyOf(ownerCounts, capacity);
+        }
+        node = nodeCount++;
+        nodeKeys[node] = key;
+        nodeByKey.put(key, node);
+        return node;
+    }
+
+    // Persons and clients have separate id sequences, so the type goes into the lowest bit of the key
+    private static long key(OwnerType type, long id) {
+        return (id << 1) | (type == OwnerType.PERSON ? 1 : 0);
+    }
+
+    private static OwnerType type(long key) {
+        return (key & 1) == 1 ? OwnerType.PERSON : OwnerType.CLIENT;
+    }
+
+    /**
+     * One query: the part of the graph above the start client, numbered into local slots so the work and
+     * memory depend on the size of that part only, never on the whole graph.
+     */
+    private final class Traversal {
+
+        private final LongIntHashMap slotByNode = new LongIntHashMap(64, NO_NODE);
+        private final IntArrayList nodes = new IntArrayList(64);
+        private final IntArrayList postOrder = new IntArrayList(64);
+        private final List<long[]> cycles = new ArrayList<>();
+        private int[] stackDepth = new int[64];
+        private final int start;
+
+        Traversal(int start) {
+            this.start = start;
+        }
+
+        Result run(double minFraction) {
+            int[] order = topologicalOrder();
+            int size = nodes.size();
+            double[] share = new double[size];
+            double[] pending = new double[size];
+            pending[0] = 1;
+
+            // Push each slot's pending share up to its owners. Slots come in topological order, so without
+            // cycles a single pass settles every share; shares flowing around a cycle need further passes
+            boolean converged = false;
+            for (int pass = 0; pass < MAX_PASSES && !converged; pass++) {
+                converged = true;
+                for (int slot : order) {
+                    double amount = pending[slot];
+                    if (amount <= EPSILON) {
+                        continue;
+                    }
+                    converged = false;
+                    pending[slot] = 0;
+                    share[slot] += amount;
+                    int node = nodes.get(slot);
+                    int[] ownerNodes = owners[node];
+                    double[] ownerFractions = fractions[node];
+                    for (int i = 0; i < ownerCounts[node]; i++) {
+                        pending[slotByNode.get(ownerNodes[i])] += amount * ownerFractions[i];
+                    }
+                }
+            }
+
+            List<Holding> persons = new ArrayList<>();
+            List<Holding> clients = new ArrayList<>();
+            for (int slot = 1; slot < size; slot++) {
+                // The tolerance keeps a share of exactly the threshold from failing on a rounding error
+                if (share[slot] < minFraction - EPSILON || share[slot] <= EPSILON) {
+                    continue;
+                }
+                long key = nodeKeys[nodes.get(slot)];
+                OwnerType type = type(key);
+                Holding holding = new Holding(type, key >> 1, Math.min(1, share[slot]));
+                (type == OwnerType.PERSON ? persons : clients).add(holding);
+            }
+            Comparator<Holding> largestFirst = Comparator.comparingDouble(Holding::fraction).reversed()
+                .thenComparingLong(Holding::id);
+            persons.sort(largestFirst);
+            clients.sort(largestFirst);
+            return new Result(persons, clients, cycles, converged);
+        }
+
+        /**
+         * Iterative depth-first search up the owner links from the start client. Returns the reachable slots
+         * in reverse post-order, which lists every client before its owners; an owner found still on the
+         * search stack closes a cycle.
+         */
+        private int[] topologicalOrder() {
+            int[] stack = new int[64];
+            int[] nextOwner = new int[64];
+            int depth = 0;
+            stack[depth] = slot(start);
+            stackDepth[0] = 0;
+            nextOwner[depth++] = 0;
+
+            while (depth > 0) {
+                int slot = stack[depth - 1];
+                int node = nodes.get(slot);
+                int next = nextOwner[depth - 1];
+                if (next < ownerCounts[node]) {
+                    nextOwner[depth - 1]++;
+                    int owner = owners[node][next];
+                    int ownerSlot = slotByNode.get(owner);
+                    if (ownerSlot == NO_NODE) {
+                        ownerSlot = slot(owner);
+                        if (depth == stack.length) {
+                            stack = Arrays.copyOf(stack, depth << 1);
+                            nextOwner = Arrays.copyOf(nextOwner, depth << 1);
+                        }
+                        stackDepth[ownerSlot] = depth;
+                        stack[depth] = ownerSlot;
+                        nextOwner[depth++] = 0;
+                    } else if (stackDepth[ownerSlot] != NO_NODE && cycles.size() < MAX_REPORTED_CYCLES) {
+                        long[] cycle = new long[depth - stackDepth[ownerSlot]];
+                        for (int i = 0; i < cycle.length; i++) {
+                            cycle[i] = nodeKeys[nodes.get(stack[stackDepth[ownerSlot] + i])] >> 1;
+                        }
+                        cycles.add(cycle);
+                    }
+                } else {
+                    stackDepth[slot] = NO_NODE;
+                    postOrder.add(slot);
+                    depth--;
+                }
+            }
+
+            int[] order = new int[postOrder.size()];
+            for (int i = 0; i < order.length; i++) {
+                order[i] = postOrder.get(order.length - 1 - i);
+            }
+            return order;
+        }
+
+        private int slot(int node) {
+            int slot = nodes.size();
+            nodes.add(node);
+            slotByNode.put(node, slot);
+            if (slot == stackDepth.length) {
+                stackDepth = Arrays.copyOf(stackDepth, slot << 1);
+            }
+            stackDepth[slot] = NO_NODE;
+            return slot;
+        }
+    }
+}
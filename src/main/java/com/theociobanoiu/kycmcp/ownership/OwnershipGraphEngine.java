@@ -0,0 +1,111 @@
+package com.theociobanoiu.kycmcp.ownership;
+
+import com.theociobanoiu.kycmcp.model.entities.ClientOwnership;
+import com.theociobanoiu.kycmcp.model.entities.Person;
+import com.theociobanoiu.kycmcp.repository.ClientOwnershipRepository;
+import com.theociobanoiu.kycmcp.repository.PersonRepository;
+import com.theociobanoiu.kycmcp.repository.projection.OwnershipEdgeRow;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.util.stream.Stream;
+
+/**
+ * Keeps the {@link OwnershipGraph} of every person and client ownership link in memory, so ultimate
+ * beneficial owners are found without a recursive query per request.
+ * <p>
+ * The graph is loaded once at startup by streaming both kinds of links, and is kept current through
+ * {@link #recordPersonOwnership(Person)} and {@link #recordClientOwnership(ClientOwnership)}. Updates issued
+ * inside a transaction are applied only after it commits, so a rolled-back write never shows up in the graph.
+ */
+@Component
+@Slf4j
+public class OwnershipGraphEngine implements SmartInitializingSingleton {
+
+    private final PersonRepository personRepository;
+    private final ClientOwnershipRepository clientOwnershipRepository;
+    private final TransactionTemplate readOnlyTransaction;
+    private final OwnershipGraph graph = new OwnershipGraph();
+
+    public OwnershipGraphEngine(PersonRepository personRepository,
+                                ClientOwnershipRepository clientOwnershipRepository,
+                                PlatformTransactionManager transactionManager) {
+        this.personRepository = personRepository;
+        this.clientOwnershipRepository = clientOwnershipRepository;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+    }
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        long start = System.nanoTime();
+        readOnlyTransaction.executeWithoutResult(status -> {
+            try (Stream<OwnershipEdgeRow> links = personRepository.streamOwnershipEdges()) {
+                links.forEach(link -> graph.putPersonOwnership(
+                    link.ownerId(), link.ownedClientId(), fraction(link.ownershipPercentage())));
+            }
+            try (Stream<OwnershipEdgeRow> links = clientOwnershipRepository.streamOwnershipEdges()) {
+                links.forEach(link -> graph.putClientOwnership(
+                    link.ownerId(), link.ownedClientId(), fraction(link.ownershipPercentage())));
+            }
+        });
+        log.info("Built ownership graph with {} nodes and {} links in {} ms",
+            graph.nodeCount(), graph.linkCount(), (System.nanoTime() - start) / 1_000_000);
+    }
+
+    /**
+     * Adds a person's ownership of their client to the graph; persons declaring no ownership are ignored.
+     */
+    public void recordPersonOwnership(Person person) {
+        BigDecimal percentage = person.getOwnershipPercentage();
+        if (percentage == null || percentage.signum() <= 0) {
+            return;
+        }
+        long personId = person.getId();
+        long clientId = person.getClient().getId();
+        double fraction = fraction(percentage);
+        afterCommit(() -> graph.putPersonOwnership(personId, clientId, fraction));
+    }
+
+    /**
+     * Adds or re-weights a client's ownership of another client in the graph.
+     */
+    public void recordClientOwnership(ClientOwnership ownership) {
+        long ownerClientId = ownership.getOwnerClient().getId();
+        long ownedClientId = ownership.getOwnedClient().getId();
+        double fraction = fraction(ownership.getOwnershipPercentage());
+        afterCommit(() -> graph.putClientOwnership(ownerClientId, ownedClientId, fraction));
+    }
+
+    /**
+     * @param clientId      the client whose owners are wanted
+     * @param minPercentage smallest effective ownership reported, 0 - 100
+     * @return every person and intermediate client holding at least that share of the client
+     */
+    public OwnershipGraph.Result ultimateOwners(long clientId, BigDecimal minPercentage) {
+        return graph.ultimateOwners(clientId, fraction(minPercentage));
+    }
+
+    private static double fraction(BigDecimal percentage) {
+        return percentage.doubleValue() / 100;
+    }
+
+    private static void afterCommit(Runnable update) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    update.run();
+                }
+            });
+        } else {
+            update.run();
+        }
+    }
+}
@@ -0,0 +1,34 @@
+package com.theociobanoiu.kycmcp.ownership;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.math.BigDecimal;
+
+/**
+ * Configuration for beneficial ownership, bound from {@code kyc.ownership}.
+ *
+ * @param beneficialOwnerThreshold ownership percentage, direct or through other clients, from which a person
+ *                                 counts as a beneficial owner whatever their declared relationship
+ * @param defaultPageSize          beneficial owners (or clients, in aggregate mode) per page of a beneficial owner
+ *                                 query when the caller does not ask for a page size
+ * @param maxPageSize              upper bound applied to any requested page size, which bounds the response
+ */
+@ConfigurationProperties(prefix = "kyc.ownership")
+public record OwnershipProperties(
+    @DefaultValue("25") BigDecimal beneficialOwnerThreshold,
+    @DefaultValue("100") int defaultPageSize,
+    @DefaultValue("500") int maxPageSize
+) {
+
+    /**
+     * Resolves a caller-supplied page size: missing or non-positive values fall back to the default,
+     * anything above the maximum is capped.
+     */
+    public int resolvePageSize(Integer requested) {
+        if (requested == null || requested <= 0) {
+            return defaultPageSize;
+        }
+        return Math.min(requested, maxPageSize);
+    }
+}
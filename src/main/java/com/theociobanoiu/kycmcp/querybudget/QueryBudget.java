@@ -0,0 +1,36 @@
+package com.theociobanoiu.kycmcp.querybudget;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Declares how much database work one call of a service method may do: the number of SQL statements it executes
+ * while it runs, on its own thread or on threads it hands work to with context propagation, the flush when its
+ * transaction commits included, and optionally its duration. Calls exceeding the budget are logged or rejected depending on
+ * {@code kyc.query-budget.mode}; see {@link QueryBudgetProperties}.
+ * <p>
+ * Meant for interface methods of Spring beans, where it documents the contract next to the method; an
+ * annotation on the implementing method takes precedence.
+ * <p>
+ * Statements are counted at the data source, so SQL sent through {@code JdbcTemplate}, such as the batch updates
+ * of risk scoring and review claiming or the export cursor, counts like the SQL Hibernate sends; a JDBC batch is
+ * one statement.
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+public @interface QueryBudget {
+
+    /**
+     * Maximum number of SQL statements per call, nested budgeted calls included.
+     */
+    int statements();
+
+    /**
+     * Maximum duration of a call in milliseconds; 0 leaves the duration unchecked.
+     */
+    long millis() default 0;
+}
@@ -0,0 +1,40 @@
+package com.theociobanoiu.kycmcp.querybudget;
+
+import org.springframework.aop.Advisor;
+import org.springframework.aop.support.DefaultPointcutAdvisor;
+import org.springframework.aop.support.annotation.AnnotationMatchingPointcut;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Role;
+import org.springframework.core.Ordered;
+
+/**
+ * Wires {@link QueryBudget} enforcement: an advisor running budgeted methods in a
+ * {@link com.theociobanoiu.kycmcp.config.SqlStatementScope}, which counts every statement sent through the data
+ * source.
+ */
+@Configuration
+public class QueryBudgetConfiguration {
+
+    /**
+     * Runs outside the coalescing, caching and {@code @Transactional} advice, so the flush and commit at the end
+     * of the transaction count against the budget, and the duration is the one the caller sees.
+     */
+    static final int QUERY_BUDGET_ADVICE_ORDER = Ordered.LOWEST_PRECEDENCE - 3;
+
+    /**
+     * Infrastructure role, so the auto-proxy creator Spring registers for transactions and caching applies it
+     * without the AspectJ auto-proxy support.
+     */
+    @Bean
+    @Role(BeanDefinition.ROLE_INFRASTRUCTURE)
+    public static Advisor queryBudgetAdvisor(ObjectProvider<QueryBudgetProperties> properties) {
+        DefaultPointcutAdvisor advisor = new DefaultPointcutAdvisor(
+            new AnnotationMatchingPointcut(null, QueryBudget.class, true),
+            new QueryBudgetInterceptor(properties));
+        advisor.setOrder(QUERY_BUDGET_ADVICE_ORDER);
+        return advisor;
+    }
+}
@@ -0,0 +1,12 @@
+package com.theociobanoiu.kycmcp.querybudget;
+
+/**
+ * Thrown in {@link QueryBudgetProperties.Mode#REJECT} mode by a call that ran more SQL statements, or took
+ * longer, than its {@link QueryBudget} allows.
+ */
+public class QueryBudgetExceededException extends RuntimeException {
+
+    public QueryBudgetExceededException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,75 @@
+package com.theociobanoiu.kycmcp.querybudget;
+
+import com.theociobanoiu.kycmcp.config.SqlStatementScope;
+import lombok.extern.slf4j.Slf4j;
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+import org.springframework.aop.support.AopUtils;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Runs a {@link QueryBudget} method inside a {@link SqlStatementScope} and checks the statements counted and
+ * the time taken against its budget once it returns or throws. A call that throws is only ever logged, so its
+ * own exception is what the caller sees.
+ */
+@Slf4j
+final class QueryBudgetInterceptor implements MethodInterceptor {
+
+    private final ObjectProvider<QueryBudgetProperties> properties;
+    private final Map<Method, Optional<QueryBudget>> budgets = new ConcurrentHashMap<>();
+
+    QueryBudgetInterceptor(ObjectProvider<QueryBudgetProperties> properties) {
+        this.properties = properties;
+    }
+
+    @Override
+    public Object invoke(MethodInvocation invocation) throws Throwable {
+        QueryBudgetProperties.Mode mode = properties.getObject().mode();
+        QueryBudget budget = mode == QueryBudgetProperties.Mode.OFF ? null : budget(invocation);
+        if (budget == null) {
+            return invocation.proceed();
+        }
+
+        SqlStatementScope scope = SqlStatementScope.open();
+        long start = System.nanoTime();
+        boolean returned = false;
+        try {
+            Object result = invocation.proceed();
+            returned = true;
+            return result;
+        } finally {
+            scope.close();
+            check(invocation, budget, scope.statements(), (System.nanoTime() - start) / 1_000_000, mode, returned);
+        }
+    }
+
+    private static void check(MethodInvocation invocation, QueryBudget budget, int statements, long millis,
+                              QueryBudgetProperties.Mode mode, boolean returned) {
+        if (statements <= budget.statements() && (budget.millis() == 0 || millis <= budget.millis())) {
+            return;
+        }
+        String message = String.format("%s.%s ran %d SQL statements in %d ms%s, over its budget of %d statements%s",
+            invocation.getMethod().getDeclaringClass().getSimpleName(), invocation.getMethod().getName(),
+            statements, millis, returned ? "" : " before throwing", budget.statements(),
+            budget.millis() > 0 ? " in " + budget.millis() + " ms" : "");
+        if (mode == QueryBudgetProperties.Mode.REJECT && returned) {
+            throw new QueryBudgetExceededException(message);
+        }
+        log.warn(message);
+    }
+
+    private QueryBudget budget(MethodInvocation invocation) {
+        Class<?> targetClass = invocation.getThis() != null
+            ? AopUtils.getTargetClass(invocation.getThis()) : invocation.getMethod().getDeclaringClass();
+        return budgets.computeIfAbsent(invocation.getMethod(), method -> Optional.ofNullable(
+                AnnotatedElementUtils.findMergedAnnotation(AopUtils.getMostSpecificMethod(method, targetClass),
+                    QueryBudget.class)))
+            .orElse(null);
+    }
+}
@@ -0,0 +1,30 @@
+package com.theociobanoiu.kycmcp.querybudget;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * Configuration for {@link QueryBudget} enforcement, bound from {@code kyc.query-budget}.
+ *
+ * @param mode what happens to a call exceeding its budget
+ */
+@ConfigurationProperties(prefix = "kyc.query-budget")
+public record QueryBudgetProperties(@DefaultValue("LOG") Mode mode) {
+
+    public enum Mode {
+        /**
+         * Budgets are not checked and statements are not counted.
+         */
+        OFF,
+        /**
+         * Calls exceeding their budget log a warning and return normally.
+         */
+        LOG,
+        /**
+         * Calls exceeding their budget throw {@link QueryBudgetExceededException} once they return, and log a
+         * warning if they throw. Meant for tests and staging; a write that committed inside the call stays
+         * committed.
+         */
+        REJECT
+    }
+}
@@ -0,0 +1,42 @@
+package com.theociobanoiu.kycmcp.repository;
+
+import com.theociobanoiu.kycmcp.model.entities.ClientOwnership;
+import com.theociobanoiu.kycmcp.repository.projection.OwnershipEdgeRow;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+import java.util.stream.Stream;
+
+/**
+ * Repository for the client-owns-client links of multi-layer ownership structures.
+ */
+@Repository
+public interface ClientOwnershipRepository extends JpaRepository<ClientOwnership, Long> {
+
+    /**
+     * Find the link between two clients, if one is recorded
+     *
+     * @param ownerClientId the client holding the share
+     * @param ownedClientId the client held
+     * @return the link between them
+     */
+    Optional<ClientOwnership> findByOwnerClientIdAndOwnedClientId(Long ownerClientId, Long ownedClientId);
+
+    /**
+     * Streams every client-owns-client link for building the in-memory ownership graph.
+     * Must be consumed inside a transaction and closed by the caller.
+     *
+     * @return Stream over all links, fetched from the database in chunks
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+    @Query("""
+        SELECT new com.theociobanoiu.kycmcp.repository.projection.OwnershipEdgeRow(
+            o.ownerClient.id, o.ownedClient.id, o.ownershipPercentage)
+        FROM ClientOwnership o""")
+    Stream<OwnershipEdgeRow> streamOwnershipEdges();
+}
@@ -1,13 +1,32 @@
 package com.theociobanoiu.kycmcp.repository;
 
+import com.theociobanoiu.kycmcp.model.dto.ClientDTO;
+import com.theociobanoiu.kycmcp.model.dto.DueReviewDTO;
 import com.theociobanoiu.kycmcp.model.entities.Client;
 import com.theociobanoiu.kycmcp.model.enums.RiskLevel;
+import com.theociobanoiu.kycmcp.repository.projection.ClientDossierRow;
+import com.theociobanoiu.kycmcp.repository.projection.ClientIdentityRow;
+import com.theociobanoiu.kycmcp.repository.projection.ClientNameMatchView;
+import com.theociobanoiu.kycmcp.repository.projection.ClientNameView;
+import com.theociobanoiu.kycmcp.repository.projection.ClientReferenceView;
+import com.theociobanoiu.kycmcp.repository.projection.ClientReviewRow;
+import com.theociobanoiu.kycmcp.repository.projection.ClientRiskRow;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
 
 /**
  * Repository interface for managing Client entity persistence operations.
@@ -19,26 +38,271 @@ import java.util.List;
 public interface ClientRepository extends JpaRepository<Client, Long> {
 
     /**
-     * Retrieves a list of clients filtered by specific risk level and sorted alphabetically by name.
+     * Select clause building a {@link ClientDTO} (without persons) straight from the client columns,
+     * so read queries skip entity hydration and persistence-context snapshots.
+     */
+    String CLIENT_DTO = """
+        SELECT new com.theociobanoiu.kycmcp.model.dto.ClientDTO(
+            c.id, c.name, c.clientType, c.email, c.phone, c.registrationNumber, c.riskLevel,
+            c.createdAt, c.updatedAt)
+        """;
+
+    /**
+     * Select and join clauses building a {@link ClientRiskRow} per person, or one per client without persons.
+     */
+    String RISK_ROW = """
+        SELECT new com.theociobanoiu.kycmcp.repository.projection.ClientRiskRow(
+            c.id, c.name, c.clientType, c.riskLevel, p.id, p.nationality, p.relationshipType, p.ownershipPercentage)
+        FROM Client c LEFT JOIN Person p ON p.client = c
+        """;
+
+    /**
+     * Retrieves clients with a specific risk level, sorted alphabetically by name.
      *
      * @param riskLevel The risk level to filter clients by
-     * @return List of clients matching the specified risk level, ordered by name ascending
+     * @return Clients matching the specified risk level, ordered by name ascending
+     */
+    @Query(CLIENT_DTO + "FROM Client c WHERE c.riskLevel = :riskLevel ORDER BY c.name ASC, c.id ASC")
+    List<ClientDTO> findClientsByRiskLevel(@Param("riskLevel") RiskLevel riskLevel);
+
+    /**
+     * Retrieves the clients with the given ids, in no particular order; unknown ids are ignored.
+     *
+     * @param ids The client ids to look up
+     * @return The matching clients without persons
+     */
+    @Query(CLIENT_DTO + "FROM Client c WHERE c.id IN :ids")
+    List<ClientDTO> findClientsByIdIn(@Param("ids") Collection<Long> ids);
+
+    /**
+     * Loads a client and all of its persons in a single statement.
+     * The client columns are repeated on every person row; a client without persons yields one row
+     * with null person columns. Fold the rows with {@link ClientDossierRow#toDossier(List)}.
+     *
+     * @param clientId The client's unique identifier
+     * @return One row per person ordered by person id, or no rows when the client does not exist
+     */
+    @Query("""
+        SELECT new com.theociobanoiu.kycmcp.repository.projection.ClientDossierRow(
+            c.id, c.name, c.clientType, c.email, c.phone, c.registrationNumber, c.riskLevel,
+            c.createdAt, c.updatedAt,
+            p.id, p.firstName, p.lastName, p.email, p.phone, p.dateOfBirth, p.nationality,
+            p.identificationNumber, p.relationshipType, p.positionTitle, p.ownershipPercentage, p.address,
+            p.createdAt, p.updatedAt)
+        FROM Client c LEFT JOIN Person p ON p.client = c
+        WHERE c.id = :clientId
+        ORDER BY p.id ASC""")
+    List<ClientDossierRow> findDossierRows(@Param("clientId") Long clientId);
+
+    /**
+     * Loads many clients and all of their persons in a single statement, like {@link #findDossierRows(Long)}.
+     * Fold the rows with {@link ClientDossierRow#toDossiers(List)}.
+     *
+     * @param clientIds The clients' unique identifiers
+     * @return One row per person ordered by client id, then person id; ids of clients that do not exist
+     * yield no rows
+     */
+    @Query("""
+        SELECT new com.theociobanoiu.kycmcp.repository.projection.ClientDossierRow(
+            c.id, c.name, c.clientType, c.email, c.phone, c.registrationNumber, c.riskLevel,
+            c.createdAt, c.updatedAt,
+            p.id, p.firstName, p.lastName, p.email, p.phone, p.dateOfBirth, p.nationality,
+            p.identificationNumber, p.relationshipType, p.positionTitle, p.ownershipPercentage, p.address,
+            p.createdAt, p.updatedAt)
+        FROM Client c LEFT JOIN Person p ON p.client = c
+        WHERE c.id IN :clientIds
+        ORDER BY c.id ASC, p.id ASC""")
+    List<ClientDossierRow> findDossierRowsByClientIdIn(@Param("clientIds") Collection<Long> clientIds);
+
+    /**
+     * Keyset-paginated listing of clients ordered by name, then id, optionally filtered by risk level.
+     * Resumes strictly after the given {@code (afterName, afterId)} position, so each page costs an
+     * index range scan on {@code idx_clients_name_id} regardless of how deep the caller has paged.
+     * Rows are streamed with a fixed fetch size; the stream must be consumed inside a transaction and closed.
+     *
+     * @param riskLevel The risk level to filter by, or null for any
+     * @param afterName Name of the last client of the previous page, or null for the first page
+     * @param afterId   Id of the last client of the previous page, ignored when afterName is null
+     * @param limit     Maximum number of clients to return
+     * @return Stream of clients after the given position, ordered by name and id
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "200"))
+    @Query(CLIENT_DTO + """
+        FROM Client c WHERE
+            (:riskLevel IS NULL OR c.riskLevel = :riskLevel) AND
+            (:afterName IS NULL OR c.name > :afterName OR (c.name = :afterName AND c.id > :afterId))
+        ORDER BY c.name ASC, c.id ASC""")
+    Stream<ClientDTO> streamClientsAfter(@Param("riskLevel") RiskLevel riskLevel,
+                                      @Param("afterName") String afterName,
+                                      @Param("afterId") Long afterId,
+                                      Limit limit);
+
+    /**
+     * Similarity-ranked name search backed by the {@code idx_clients_name_trgm} GIN index (PostgreSQL only).
+     * A client matches when its lower-cased name contains the fragment or is trigram-similar to it
+     * above {@code pg_trgm.similarity_threshold}.
+     *
+     * @param name        The name fragment to search for
+     * @param namePattern The fragment as a {@code LIKE} pattern matching names that contain it, its own
+     *                    {@code %}, {@code _} and backslash characters escaped with a backslash
+     * @param riskLevel   The risk level name to filter by, or null for any
+     * @param limit       Maximum number of matches to return
+     * @return Client ids with their similarity score, best match first
+     */
+    @Query(value = """
+        SELECT c.id AS "clientId",
+               CAST(similarity(LOWER(c.name), LOWER(:name)) AS DOUBLE PRECISION) AS "score"
+        FROM clients c
+        WHERE (LOWER(c.name) LIKE LOWER(:namePattern) ESCAPE '\\' OR LOWER(c.name) % LOWER(:name))
+          AND (CAST(:riskLevel AS VARCHAR) IS NULL OR c.risk_level = CAST(:riskLevel AS VARCHAR))
+        ORDER BY "score" DESC, c.name ASC, c.id ASC
+        LIMIT :limit""", nativeQuery = true)
+    List<ClientNameMatchView> searchByNameSimilarity(@Param("name") String name,
+                                                     @Param("namePattern") String namePattern,
+                                                     @Param("riskLevel") String riskLevel,
+                                                     @Param("limit") int limit);
+
+    /**
+     * Which of the given client ids exist.
+     *
+     * @param ids The client ids to check
+     * @return Id, registration number and name of every client with one of the given ids
+     */
+    @Query("SELECT c.id AS id, c.registrationNumber AS registrationNumber, c.name AS name FROM Client c "
+        + "WHERE c.id IN :ids")
+    List<ClientReferenceView> findReferencesByIdIn(@Param("ids") Collection<Long> ids);
+
+    /**
+     * Looks up a client and locks its row until the transaction ends, so that persons are added to one client
+     * at a time. Read the declared ownership in a later statement, once the lock is held: under READ COMMITTED
+     * a statement that had to wait for the lock still reads the data as it was when the statement started.
+     *
+     * @param clientId The client's unique identifier
+     * @return Id, registration number and name of the client, or empty if it does not exist
      */
-    List<Client> findByRiskLevelOrderByNameAsc(RiskLevel riskLevel);
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT c.id AS id, c.registrationNumber AS registrationNumber, c.name AS name FROM Client c "
+        + "WHERE c.id = :clientId")
+    Optional<ClientReferenceView> lockReferenceById(@Param("clientId") Long clientId);
+
+    /**
+     * Resolves registration numbers to client ids.
+     *
+     * @param registrationNumbers The registration numbers to look up
+     * @return Id, registration number and name of every client with one of the given numbers
+     */
+    @Query("SELECT c.id AS id, c.registrationNumber AS registrationNumber, c.name AS name FROM Client c "
+        + "WHERE c.registrationNumber IN :registrationNumbers")
+    List<ClientReferenceView> findReferencesByRegistrationNumberIn(
+        @Param("registrationNumbers") Collection<String> registrationNumbers);
+
+    /**
+     * Streams the id, name and risk level of every client for building in-memory indexes.
+     * Must be consumed inside a transaction and closed by the caller.
+     *
+     * @return Stream over all clients, fetched from the database in chunks
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+    @Query("SELECT c.id AS id, c.name AS name, c.riskLevel AS riskLevel FROM Client c")
+    Stream<ClientNameView> streamNameIndexEntries();
+
+    /**
+     * Streams the identifying attributes of every client for building the duplicate detection index.
+     * Must be consumed inside a transaction and closed by the caller.
+     *
+     * @return Stream over all clients, fetched from the database in chunks
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+    @Query("""
+        SELECT new com.theociobanoiu.kycmcp.repository.projection.ClientIdentityRow(
+            c.id, c.name, c.email, c.phone, c.registrationNumber)
+        FROM Client c""")
+    Stream<ClientIdentityRow> streamIdentityRows();
+
+    /**
+     * Streams every client id in ascending order, for cutting the clients into keyset ranges.
+     * Must be consumed inside a transaction and closed by the caller.
+     *
+     * @return Stream over all client ids, fetched from the database in chunks
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "10000"))
+    @Query("SELECT c.id FROM Client c ORDER BY c.id ASC")
+    Stream<Long> streamIds();
+
+    /**
+     * Streams, in ascending order, the ids of clients modified since the given time or with a person
+     * modified since then. Must be consumed inside a transaction and closed by the caller.
+     *
+     * @param since Modification time to look after
+     * @return Stream over the touched client ids, fetched from the database in chunks
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "10000"))
+    @Query("""
+        SELECT c.id FROM Client c
+        WHERE c.updatedAt > :since
+           OR c.id IN (SELECT p.client.id FROM Person p WHERE p.updatedAt > :since)
+        ORDER BY c.id ASC""")
+    Stream<Long> streamIdsTouchedSince(@Param("since") LocalDateTime since);
+
+    /**
+     * Loads the risk scoring inputs of the clients in an id range, one row per person.
+     *
+     * @param firstId Lowest client id of the range
+     * @param lastId  Highest client id of the range
+     * @return Rows ordered by client id, so the rows of one client are adjacent
+     */
+    @Query(RISK_ROW + "WHERE c.id BETWEEN :firstId AND :lastId ORDER BY c.id ASC")
+    List<ClientRiskRow> findRiskRowsBetween(@Param("firstId") Long firstId, @Param("lastId") Long lastId);
+
+    /**
+     * Loads the risk scoring inputs of the given clients, one row per person.
+     *
+     * @param ids The client ids to load
+     * @return Rows ordered by client id, so the rows of one client are adjacent
+     */
+    @Query(RISK_ROW + "WHERE c.id IN :ids ORDER BY c.id ASC")
+    List<ClientRiskRow> findRiskRowsByIdIn(@Param("ids") Collection<Long> ids);
+
+    /**
+     * Loads the review inputs of the given clients, one row per person: the risk scoring attributes and the
+     * persons' names and dates of birth for watchlist screening.
+     *
+     * @param ids The client ids to load
+     * @return Rows ordered by client id, so the rows of one client are adjacent
+     */
+    @Query("""
+        SELECT new com.theociobanoiu.kycmcp.repository.projection.ClientReviewRow(
+            c.id, c.name, c.clientType, c.riskLevel, p.id, p.firstName, p.lastName, p.dateOfBirth,
+            p.nationality, p.relationshipType, p.ownershipPercentage)
+        FROM Client c LEFT JOIN Person p ON p.client = c
+        WHERE c.id IN :ids
+        ORDER BY c.id ASC, p.id ASC""")
+    List<ClientReviewRow> findReviewRowsByIdIn(@Param("ids") Collection<Long> ids);
 
     /**
-     * Performs a flexible search for clients based on multiple optional criteria.
-     * Any parameter can be null, in which case it won't be used as a filter.
+     * Keyset-paginated listing of clients due a periodic review, most overdue first, backed by
+     * {@code idx_clients_next_review_at_id}. Resumes strictly after the given {@code (afterDue, afterId)}
+     * position. Must be consumed inside a transaction and closed by the caller.
      *
-     * @param name       The client name to search for (partial matches supported)
-     * @param clientType The type of client to filter by
-     * @param riskLevel  The risk level to filter by
-     * @return List of clients matching all provided criteria
+     * @param dueBy     Only clients due at or before this time
+     * @param riskLevel The risk level to filter by, or null for any
+     * @param afterDue  Due time of the last client of the previous page, or null for the first page
+     * @param afterId   Id of the last client of the previous page, ignored when afterDue is null
+     * @param limit     Maximum number of clients to return
+     * @return Stream of due clients after the given position, ordered by due time and id
      */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "200"))
     @Query("""
-        SELECT c FROM Client c WHERE
-            (:name IS NULL OR LOWER(c.name) LIKE LOWER(CONCAT('%', :name, '%'))) AND
-        (:riskLevel IS NULL OR c.riskLevel = :riskLevel)""")
-    List<Client> searchClients(@Param("name") String name,
-                               @Param("riskLevel") RiskLevel riskLevel);
-}
\ No newline at end of file
+        SELECT new com.theociobanoiu.kycmcp.model.dto.DueReviewDTO(
+            c.id, c.name, c.clientType, c.riskLevel, c.nextReviewAt, c.lastReviewedAt)
+        FROM Client c WHERE
+            c.nextReviewAt <= :dueBy AND
+            (:riskLevel IS NULL OR c.riskLevel = :riskLevel) AND
+            (:afterDue IS NULL OR c.nextReviewAt > :afterDue OR (c.nextReviewAt = :afterDue AND c.id > :afterId))
+        ORDER BY c.nextReviewAt ASC, c.id ASC""")
+    Stream<DueReviewDTO> streamDueReviewsAfter(@Param("dueBy") LocalDateTime dueBy,
+                                               @Param("riskLevel") RiskLevel riskLevel,
+                                               @Param("afterDue") LocalDateTime afterDue,
+                                               @Param("afterId") Long afterId,
+                                               Limit limit);
+}
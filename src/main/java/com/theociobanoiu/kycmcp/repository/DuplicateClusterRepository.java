@@ -0,0 +1,13 @@
+package com.theociobanoiu.kycmcp.repository;
+
+import com.theociobanoiu.kycmcp.model.entities.DuplicateCluster;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Repository for the client duplicate clusters stored by the last detection run. Matches are removed with
+ * their cluster by the database ({@code ON DELETE CASCADE}), so {@link #deleteAllInBatch()} clears both.
+ */
+@Repository
+public interface DuplicateClusterRepository extends JpaRepository<DuplicateCluster, Long> {
+}
@@ -1,15 +1,42 @@
 package com.theociobanoiu.kycmcp.repository;
 
+import com.theociobanoiu.kycmcp.model.dto.BeneficialOwnerDTO;
+import com.theociobanoiu.kycmcp.model.dto.BeneficialOwnerSummaryDTO;
+import com.theociobanoiu.kycmcp.model.dto.OwnershipShareDTO;
+import com.theociobanoiu.kycmcp.model.dto.PersonDTO;
 import com.theociobanoiu.kycmcp.model.entities.Person;
+import com.theociobanoiu.kycmcp.model.enums.RiskLevel;
+import com.theociobanoiu.kycmcp.repository.projection.OwnershipEdgeRow;
+import com.theociobanoiu.kycmcp.repository.projection.PersonSearchRow;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
+import java.util.stream.Stream;
 
 @Repository
 public interface PersonRepository extends JpaRepository<Person, Long> {
 
+    /**
+     * Select clause building a {@link PersonDTO} straight from the person and client columns, so read
+     * queries skip entity hydration and the per-client lazy load of the client name.
+     */
+    String PERSON_DTO = """
+        SELECT new com.theociobanoiu.kycmcp.model.dto.PersonDTO(
+            p.id, p.firstName, p.lastName, p.email, p.phone, p.dateOfBirth, p.nationality,
+            p.identificationNumber, p.relationshipType, p.positionTitle, p.ownershipPercentage, p.address,
+            p.createdAt, p.updatedAt, c.id, c.name)
+        """;
+
     /**
      * Find all persons associated with a client
      *
@@ -19,11 +46,159 @@ public interface PersonRepository extends JpaRepository<Person, Long> {
     List<Person> findByClientId(Long clientId);
 
     /**
-     * Find all beneficial owners across all clients
+     * Find all persons associated with a client as DTOs
+     *
+     * @param clientId the ID of the client to search for
+     * @return persons associated with the specified client, ordered by id
+     */
+    @Query(PERSON_DTO + "FROM Person p JOIN p.client c WHERE c.id = :clientId ORDER BY p.id ASC")
+    List<PersonDTO> findPersonsByClientId(@Param("clientId") Long clientId);
+
+    /**
+     * Filter of the beneficial owner queries: declared beneficial owners matching every non-null criterion
+     */
+    String BENEFICIAL_OWNER_FILTER = """
+        FROM Person p JOIN p.client c
+        WHERE p.relationshipType = com.theociobanoiu.kycmcp.model.enums.RelationshipType.BENEFICIAL_OWNER
+          AND (:nationality IS NULL OR p.nationality = :nationality)
+          AND (:minOwnership IS NULL OR p.ownershipPercentage >= :minOwnership)
+          AND (:riskLevel IS NULL OR c.riskLevel = :riskLevel)
+          AND (:bornFrom IS NULL OR p.dateOfBirth >= :bornFrom)
+          AND (:bornTo IS NULL OR p.dateOfBirth <= :bornTo)
+        """;
+
+    /**
+     * Find one keyset page of declared beneficial owners across all clients, ordered by person id
+     *
+     * @param afterId id of the last person of the previous page, null for the first page
+     * @param limit   maximum number of persons to return
+     * @return Stream of matching beneficial owners after the given id
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "200"))
+    @Query("""
+        SELECT new com.theociobanoiu.kycmcp.model.dto.BeneficialOwnerDTO(
+            p.id, p.firstName, p.lastName, p.nationality, p.dateOfBirth, p.ownershipPercentage,
+            c.id, c.name, c.riskLevel)
+        """ + BENEFICIAL_OWNER_FILTER + """
+          AND (:afterId IS NULL OR p.id > :afterId)
+        ORDER BY p.id ASC""")
+    Stream<BeneficialOwnerDTO> streamBeneficialOwnersAfter(@Param("nationality") String nationality,
+                                                           @Param("minOwnership") BigDecimal minOwnership,
+                                                           @Param("riskLevel") RiskLevel riskLevel,
+                                                           @Param("bornFrom") LocalDate bornFrom,
+                                                           @Param("bornTo") LocalDate bornTo,
+                                                           @Param("afterId") Long afterId,
+                                                           Limit limit);
+
+    /**
+     * Count and sum the declared beneficial owners of each client, one keyset page of clients ordered by id
+     *
+     * @param afterClientId id of the last client of the previous page, null for the first page
+     * @param limit         maximum number of clients to return
+     * @return Stream of per-client counts and ownership sums, for clients with at least one matching owner
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "200"))
+    @Query("""
+        SELECT new com.theociobanoiu.kycmcp.model.dto.BeneficialOwnerSummaryDTO(
+            c.id, c.name, c.riskLevel, COUNT(p), SUM(p.ownershipPercentage), MAX(p.ownershipPercentage))
+        """ + BENEFICIAL_OWNER_FILTER + """
+          AND (:afterClientId IS NULL OR c.id > :afterClientId)
+        GROUP BY c.id, c.name, c.riskLevel
+        ORDER BY c.id ASC""")
+    Stream<BeneficialOwnerSummaryDTO> streamBeneficialOwnerSummariesAfter(
+        @Param("nationality") String nationality,
+        @Param("minOwnership") BigDecimal minOwnership,
+        @Param("riskLevel") RiskLevel riskLevel,
+        @Param("bornFrom") LocalDate bornFrom,
+        @Param("bornTo") LocalDate bornTo,
+        @Param("afterClientId") Long afterClientId,
+        Limit limit);
+
+    /**
+     * Find the beneficial owners of a client: persons declared as such, and persons holding at least the given
+     * ownership whatever their declared relationship
+     *
+     * @param clientId  the ID of the client to search for
+     * @param threshold ownership percentage from which a person counts as a beneficial owner
+     * @return the beneficial owners, largest ownership first
+     */
+    @Query(PERSON_DTO + """
+        FROM Person p JOIN p.client c
+        WHERE c.id = :clientId
+          AND (p.relationshipType = com.theociobanoiu.kycmcp.model.enums.RelationshipType.BENEFICIAL_OWNER
+               OR p.ownershipPercentage >= :threshold)
+        ORDER BY p.ownershipPercentage DESC NULLS LAST, p.id ASC""")
+    List<PersonDTO> findBeneficialOwnersByClientId(@Param("clientId") Long clientId,
+                                                   @Param("threshold") BigDecimal threshold);
+
+    /**
+     * Sum the ownership declared by a client's persons, per relationship type
+     *
+     * @param clientId the ID of the client to summarize
+     * @return one share per relationship type present, ordered by relationship type
+     */
+    @Query("""
+        SELECT new com.theociobanoiu.kycmcp.model.dto.OwnershipShareDTO(
+            p.relationshipType, COUNT(p), SUM(p.ownershipPercentage))
+        FROM Person p
+        WHERE p.client.id = :clientId
+        GROUP BY p.relationshipType
+        ORDER BY p.relationshipType""")
+    List<OwnershipShareDTO> summarizeOwnershipByClientId(@Param("clientId") Long clientId);
+
+    /**
+     * Find the persons with the given ids as DTOs, in no particular order; unknown ids are ignored
      *
-     * @return list of all persons who are beneficial owners
+     * @param ids the person ids to look up
+     * @return the matching persons
      */
-    @Query("SELECT p FROM Person p WHERE p.relationshipType = 'BENEFICIAL_OWNER'")
-    List<Person> findAllBeneficialOwners();
+    @Query(PERSON_DTO + "FROM Person p JOIN p.client c WHERE p.id IN :ids")
+    List<PersonDTO> findPersonsByIdIn(@Param("ids") Collection<Long> ids);
 
-}
\ No newline at end of file
+    /**
+     * Streams the ownership every person declares in their client, for building the in-memory ownership graph.
+     * Must be consumed inside a transaction and closed by the caller.
+     *
+     * @return Stream over persons with a positive ownership percentage, fetched from the database in chunks
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+    @Query("""
+        SELECT new com.theociobanoiu.kycmcp.repository.projection.OwnershipEdgeRow(
+            p.id, p.client.id, p.ownershipPercentage)
+        FROM Person p
+        WHERE p.ownershipPercentage > 0""")
+    Stream<OwnershipEdgeRow> streamOwnershipEdges();
+
+    /**
+     * Streams the searchable attributes of every person for building the in-memory person search index.
+     * Must be consumed inside a transaction and closed by the caller.
+     *
+     * @return Stream over all persons, fetched from the database in chunks
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+    @Query("""
+        SELECT new com.theociobanoiu.kycmcp.repository.projection.PersonSearchRow(
+            p.id, c.id, c.name, p.firstName, p.lastName, p.identificationNumber, p.nationality, p.address,
+            p.relationshipType)
+        FROM Person p JOIN p.client c""")
+    Stream<PersonSearchRow> streamSearchIndexRows();
+
+    /**
+     * The ownership percentage a client's persons declare in total.
+     *
+     * @param clientId the client's unique identifier
+     * @return the sum of their percentages, 0 without persons or percentages
+     */
+    @Query("SELECT COALESCE(SUM(p.ownershipPercentage), 0) FROM Person p WHERE p.client.id = :clientId")
+    BigDecimal sumOwnershipPercentageByClientId(@Param("clientId") Long clientId);
+
+    /**
+     * Finds which of the given identification numbers are already taken.
+     *
+     * @param identificationNumbers the numbers to check
+     * @return the numbers some person already has
+     */
+    @Query("SELECT p.identificationNumber FROM Person p WHERE p.identificationNumber IN :identificationNumbers")
+    List<String> findExistingIdentificationNumbers(
+        @Param("identificationNumbers") Collection<String> identificationNumbers);
+}
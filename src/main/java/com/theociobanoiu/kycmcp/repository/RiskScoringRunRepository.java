@@ -0,0 +1,18 @@
+package com.theociobanoiu.kycmcp.repository;
+
+import com.theociobanoiu.kycmcp.model.entities.RiskScoringRun;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+
+@Repository
+public interface RiskScoringRunRepository extends JpaRepository<RiskScoringRun, Long> {
+
+    /**
+     * Find the most recently started run that finished
+     *
+     * @return the last finished run, empty if none has finished yet
+     */
+    Optional<RiskScoringRun> findFirstByFinishedAtIsNotNullOrderByStartedAtDesc();
+}
@@ -0,0 +1,85 @@
+package com.theociobanoiu.kycmcp.repository.projection;
+
+import com.theociobanoiu.kycmcp.model.dto.ClientDTO;
+import com.theociobanoiu.kycmcp.model.dto.PersonDTO;
+import com.theociobanoiu.kycmcp.model.enums.ClientType;
+import com.theociobanoiu.kycmcp.model.enums.RelationshipType;
+import com.theociobanoiu.kycmcp.model.enums.RiskLevel;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * One row of the client dossier query: the client's columns joined with one of its persons.
+ * A client without persons yields a single row whose person columns are all null.
+ */
+public record ClientDossierRow(
+    Long clientId,
+    String clientName,
+    ClientType clientType,
+    String clientEmail,
+    String clientPhone,
+    String registrationNumber,
+    RiskLevel riskLevel,
+    LocalDateTime clientCreatedAt,
+    LocalDateTime clientUpdatedAt,
+    Long personId,
+    String firstName,
+    String lastName,
+    String personEmail,
+    String personPhone,
+    LocalDate dateOfBirth,
+    String nationality,
+    String identificationNumber,
+    RelationshipType relationshipType,
+    String positionTitle,
+    BigDecimal ownershipPercentage,
+    String address,
+    LocalDateTime personCreatedAt,
+    LocalDateTime personUpdatedAt
+) {
+
+    /**
+     * Folds the rows of one client back into a dossier; rows must all belong to the same client.
+     *
+     * @param rows the query result, at least one row
+     * @return the client with its persons, in row order
+     */
+    public static ClientDTO toDossier(List<ClientDossierRow> rows) {
+        ClientDossierRow first = rows.getFirst();
+        List<PersonDTO> persons = rows.stream()
+            .filter(row -> row.personId() != null)
+            .map(ClientDossierRow::toPerson)
+            .toList();
+        return new ClientDTO(first.clientId, first.clientName, first.clientType, first.clientEmail,
+            first.clientPhone, first.registrationNumber, first.riskLevel, first.clientCreatedAt,
+            first.clientUpdatedAt, persons);
+    }
+
+    /**
+     * Folds the rows of several clients back into dossiers; the rows of each client must be adjacent.
+     *
+     * @param rows the query result
+     * @return the clients with their persons, in row order
+     */
+    public static List<ClientDTO> toDossiers(List<ClientDossierRow> rows) {
+        List<ClientDTO> clients = new ArrayList<>();
+        int start = 0;
+        for (int i = 1; i <= rows.size(); i++) {
+            if (i == rows.size() || !rows.get(i).clientId.equals(rows.get(start).clientId)) {
+                clients.add(toDossier(rows.subList(start, i)));
+                start = i;
+            }
+        }
+        return clients;
+    }
+
+    private PersonDTO toPerson() {
+        return new PersonDTO(personId, firstName, lastName, personEmail, personPhone, dateOfBirth, nationality,
+            identificationNumber, relationshipType, positionTitle, ownershipPercentage, address, personCreatedAt,
+            personUpdatedAt, clientId, clientName);
+    }
+}
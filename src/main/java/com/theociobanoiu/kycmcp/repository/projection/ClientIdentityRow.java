@@ -0,0 +1,7 @@
+package com.theociobanoiu.kycmcp.repository.projection;
+
+/**
+ * The identifying attributes of a client, for building the in-memory duplicate detection index.
+ */
+public record ClientIdentityRow(Long id, String name, String email, String phone, String registrationNumber) {
+}
@@ -0,0 +1,11 @@
+package com.theociobanoiu.kycmcp.repository.projection;
+
+/**
+ * Row returned by the trigram similarity search: a client id and its similarity to the query.
+ */
+public interface ClientNameMatchView {
+
+    Long getClientId();
+
+    Double getScore();
+}
@@ -0,0 +1,15 @@
+package com.theociobanoiu.kycmcp.repository.projection;
+
+import com.theociobanoiu.kycmcp.model.enums.RiskLevel;
+
+/**
+ * Minimal client projection used to build in-memory name indexes without hydrating full entities.
+ */
+public interface ClientNameView {
+
+    Long getId();
+
+    String getName();
+
+    RiskLevel getRiskLevel();
+}
@@ -0,0 +1,13 @@
+package com.theociobanoiu.kycmcp.repository.projection;
+
+/**
+ * Id of a client together with its registration number and name, for resolving references from imported rows.
+ */
+public interface ClientReferenceView {
+
+    Long getId();
+
+    String getRegistrationNumber();
+
+    String getName();
+}
@@ -0,0 +1,32 @@
+package com.theociobanoiu.kycmcp.repository.projection;
+
+import com.theociobanoiu.kycmcp.model.enums.ClientType;
+import com.theociobanoiu.kycmcp.model.enums.RelationshipType;
+import com.theociobanoiu.kycmcp.model.enums.RiskLevel;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+/**
+ * One row of the periodic review query: the risk scoring inputs of {@link ClientRiskRow} plus what watchlist
+ * screening needs of the person. A client without persons yields a single row whose person columns are all null.
+ */
+public record ClientReviewRow(
+    Long clientId,
+    String clientName,
+    ClientType clientType,
+    RiskLevel riskLevel,
+    Long personId,
+    String firstName,
+    String lastName,
+    LocalDate dateOfBirth,
+    String nationality,
+    RelationshipType relationshipType,
+    BigDecimal ownershipPercentage
+) {
+
+    public ClientRiskRow toRiskRow() {
+        return new ClientRiskRow(clientId, clientName, clientType, riskLevel, personId, nationality,
+            relationshipType, ownershipPercentage);
+    }
+}
@@ -0,0 +1,23 @@
+package com.theociobanoiu.kycmcp.repository.projection;
+
+import com.theociobanoiu.kycmcp.model.enums.ClientType;
+import com.theociobanoiu.kycmcp.model.enums.RelationshipType;
+import com.theociobanoiu.kycmcp.model.enums.RiskLevel;
+
+import java.math.BigDecimal;
+
+/**
+ * One row of the risk scoring query: the client attributes that feed the risk rules joined with one of its
+ * persons. A client without persons yields a single row whose person columns are all null.
+ */
+public record ClientRiskRow(
+    Long clientId,
+    String clientName,
+    ClientType clientType,
+    RiskLevel riskLevel,
+    Long personId,
+    String nationality,
+    RelationshipType relationshipType,
+    BigDecimal ownershipPercentage
+) {
+}
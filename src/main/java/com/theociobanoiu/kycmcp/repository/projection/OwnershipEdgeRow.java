@@ -0,0 +1,14 @@
+package com.theociobanoiu.kycmcp.repository.projection;
+
+import java.math.BigDecimal;
+
+/**
+ * One ownership link for building the in-memory ownership graph: a person or client holding a share of a
+ * client. Whether the owner is a person or a client follows from the query that produced the row.
+ *
+ * @param ownerId             id of the person or client holding the share
+ * @param ownedClientId       id of the client held
+ * @param ownershipPercentage the share held, 0 - 100
+ */
+public record OwnershipEdgeRow(Long ownerId, Long ownedClientId, BigDecimal ownershipPercentage) {
+}
@@ -0,0 +1,20 @@
+package com.theociobanoiu.kycmcp.repository.projection;
+
+import com.theociobanoiu.kycmcp.model.enums.RelationshipType;
+
+/**
+ * The searchable attributes of a person and the client they are linked to, for building the in-memory
+ * person search index.
+ */
+public record PersonSearchRow(
+    Long id,
+    Long clientId,
+    String clientName,
+    String firstName,
+    String lastName,
+    String identificationNumber,
+    String nationality,
+    String address,
+    RelationshipType relationshipType
+) {
+}
@@ -0,0 +1,198 @@
+package com.theociobanoiu.kycmcp.review;
+
+import com.theociobanoiu.kycmcp.config.CacheConfiguration;
+import com.theociobanoiu.kycmcp.model.entities.Client;
+import com.theociobanoiu.kycmcp.model.enums.ReviewOutcome;
+import com.theociobanoiu.kycmcp.model.enums.RiskLevel;
+import com.theociobanoiu.kycmcp.ownership.OwnershipProperties;
+import com.theociobanoiu.kycmcp.repository.ClientRepository;
+import com.theociobanoiu.kycmcp.repository.projection.ClientReviewRow;
+import com.theociobanoiu.kycmcp.risk.RiskScorer;
+import com.theociobanoiu.kycmcp.risk.RiskScoringProperties;
+import com.theociobanoiu.kycmcp.screening.ScreeningQuery;
+import com.theociobanoiu.kycmcp.screening.WatchlistScreeningEngine;
+import com.theociobanoiu.kycmcp.search.ClientNameSearchEngine;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Reviews clients whose periodic KYC review is due, one batch per transaction.
+ * <p>
+ * A batch claims up to {@code kyc.review.batch-size} due clients, most overdue first, with
+ * {@code SELECT ... FOR UPDATE SKIP LOCKED}: the claimed rows stay locked until the batch commits, and concurrent
+ * batches, on this instance or any other, skip them and claim the next due clients instead of waiting. The batch
+ * then loads the clients and their persons with one query, rescores them with the {@link RiskScorer} rules,
+ * screens them against the watchlist when one is loaded, and with one batched {@code UPDATE} and one batched
+ * {@code INSERT} stores the new levels, moves each client's next review one interval of its new level ahead and
+ * records the review in {@code client_reviews}. A failed batch rolls back and its clients are claimed again later.
+ * <p>
+ * Like risk scoring, the columns are written with plain SQL, leaving {@code updated_at} alone. Clients whose level
+ * changed are evicted from the dossier cache and re-indexed for name search.
+ */
+@Component
+public class ClientReviewEngine {
+
+    private static final String CLAIM_DUE = """
+        SELECT id FROM clients WHERE next_review_at <= ?
+        ORDER BY next_review_at, id
+        LIMIT ?
+        FOR UPDATE SKIP LOCKED""";
+    private static final String UPDATE_REVIEWED =
+        "UPDATE clients SET risk_level = ?, next_review_at = ?, last_reviewed_at = ? WHERE id = ?";
+    private static final String INSERT_REVIEW = """
+        INSERT INTO client_reviews (client_id, reviewed_at, previous_risk_level, risk_level, screening_hits, outcome)
+        VALUES (?, ?, ?, ?, ?, ?)""";
+
+    private final ClientRepository clientRepository;
+    private final ClientNameSearchEngine clientNameSearchEngine;
+    private final WatchlistScreeningEngine screeningEngine;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transaction;
+    private final Cache dossierCache;
+    private final RiskScorer scorer;
+    private final ReviewProperties properties;
+
+    public ClientReviewEngine(ClientRepository clientRepository,
+                              ClientNameSearchEngine clientNameSearchEngine,
+                              WatchlistScreeningEngine screeningEngine,
+                              JdbcTemplate jdbcTemplate,
+                              PlatformTransactionManager transactionManager,
+                              CacheManager cacheManager,
+                              ReviewProperties properties,
+                              RiskScoringProperties riskProperties,
+                              OwnershipProperties ownershipProperties) {
+        this.clientRepository = clientRepository;
+        this.clientNameSearchEngine = clientNameSearchEngine;
+        this.screeningEngine = screeningEngine;
+        this.jdbcTemplate = jdbcTemplate;
+        this.transaction = new TransactionTemplate(transactionManager);
+        this.dossierCache = Objects.requireNonNull(cacheManager.getCache(CacheConfiguration.CLIENT_DOSSIERS));
+        this.scorer = new RiskScorer(riskProperties, ownershipProperties.beneficialOwnerThreshold());
+        this.properties = properties;
+    }
+
+    /**
+     * Outcome of a review batch.
+     *
+     * @param cleared     clients reviewed without findings
+     * @param escalated   clients whose risk level rose or who matched the watchlist
+     * @param riskChanged clients whose stored risk level changed, either way
+     */
+    public record Result(int cleared, int escalated, int riskChanged) {
+
+        static final Result EMPTY = new Result(0, 0, 0);
+
+        public int reviewed() {
+            return cleared + escalated;
+        }
+    }
+
+    /**
+     * Claims and reviews one batch of clients due at {@code now}.
+     *
+     * @return the batch's tally; fewer than {@code kyc.review.batch-size} clients reviewed means no more are due,
+     * or the others are claimed by concurrent batches
+     */
+    public Result reviewDueBatch(LocalDateTime now) {
+        return transaction.execute(status -> {
+            List<Long> ids = jdbcTemplate.queryForList(CLAIM_DUE, Long.class, Timestamp.valueOf(now),
+                properties.batchSize());
+            if (ids.isEmpty()) {
+                return Result.EMPTY;
+            }
+
+            List<ClientReviewRow> rows = clientRepository.findReviewRowsByIdIn(ids);
+            List<Review> reviews = new ArrayList<>(ids.size());
+            int from = 0;
+            while (from < rows.size()) {
+                ClientReviewRow first = rows.get(from);
+                int to = from + 1;
+                while (to < rows.size() && rows.get(to).clientId().equals(first.clientId())) {
+                    to++;
+                }
+                reviews.add(review(rows.subList(from, to)));
+                from = to;
+            }
+
+            jdbcTemplate.batchUpdate(UPDATE_REVIEWED, reviews, reviews.size(), (statement, review) -> {
+                statement.setString(1, review.riskLevel().name());
+                statement.setTimestamp(2, Timestamp.valueOf(properties.nextReviewAt(review.riskLevel(), now)));
+                statement.setTimestamp(3, Timestamp.valueOf(now));
+                statement.setLong(4, review.clientId());
+            });
+            jdbcTemplate.batchUpdate(INSERT_REVIEW, reviews, reviews.size(), (statement, review) -> {
+                statement.setLong(1, review.clientId());
+                statement.setTimestamp(2, Timestamp.valueOf(now));
+                statement.setString(3, review.previousRiskLevel().name());
+                statement.setString(4, review.riskLevel().name());
+                if (review.screeningHits() != null) {
+                    statement.setInt(5, review.screeningHits());
+                } else {
+                    statement.setNull(5, Types.INTEGER);
+                }
+                statement.setString(6, review.outcome().name());
+            });
+
+            int escalated = 0;
+            int riskChanged = 0;
+            for (Review review : reviews) {
+                if (review.outcome() == ReviewOutcome.ESCALATED) {
+                    escalated++;
+                }
+                if (review.riskLevel() != review.previousRiskLevel()) {
+                    Client client = new Client();
+                    client.setId(review.clientId());
+                    client.setName(review.clientName());
+                    client.setRiskLevel(review.riskLevel());
+                    clientNameSearchEngine.index(client);
+                    dossierCache.evict(review.clientId());
+                    riskChanged++;
+                }
+            }
+            return new Result(reviews.size() - escalated, escalated, riskChanged);
+        });
+    }
+
+    private Review review(List<ClientReviewRow> rows) {
+        ClientReviewRow first = rows.getFirst();
+        RiskLevel level = scorer.riskLevel(first.clientType(),
+            rows.stream().map(ClientReviewRow::toRiskRow).toList());
+
+        Integer hits = null;
+        if (screeningEngine.isLoaded()) {
+            // Clients carry no birth date or nationality, so they are matched on name alone
+            int count = screeningEngine.screen(new ScreeningQuery(first.clientName(), null, null)).size();
+            for (ClientReviewRow row : rows) {
+                if (row.personId() != null) {
+                    count += screeningEngine.screen(new ScreeningQuery(row.firstName() + " " + row.lastName(),
+                        row.dateOfBirth(), row.nationality())).size();
+                }
+            }
+            hits = count;
+        }
+
+        boolean escalate = level.compareTo(first.riskLevel()) > 0 || (hits != null && hits > 0);
+        return new Review(first.clientId(), first.clientName(), first.riskLevel(), level, hits,
+            escalate ? ReviewOutcome.ESCALATED : ReviewOutcome.CLEARED);
+    }
+
+    /**
+     * The result of reviewing one client.
+     *
+     * @param screeningHits watchlist hits of the client and its persons, or null when no watchlist is loaded
+     */
+    private record Review(Long clientId, String clientName, RiskLevel previousRiskLevel, RiskLevel riskLevel,
+                          Integer screeningHits, ReviewOutcome outcome) {
+    }
+}
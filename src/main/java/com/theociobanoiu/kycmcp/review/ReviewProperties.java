@@ -0,0 +1,60 @@
+package com.theociobanoiu.kycmcp.review;
+
+import com.theociobanoiu.kycmcp.model.enums.RiskLevel;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.Period;
+
+/**
+ * Configuration for periodic KYC reviews, bound from {@code kyc.review}.
+ *
+ * @param highRiskInterval   time between two reviews of a HIGH risk client
+ * @param mediumRiskInterval time between two reviews of a MEDIUM risk client
+ * @param lowRiskInterval    time between two reviews of a LOW risk client
+ * @param workerEnabled      run the review worker on this instance; instances share the due clients between them
+ * @param workers            batches reviewed at once; each holds a database connection while it runs
+ * @param batchSize          due clients claimed and reviewed per transaction
+ * @param pollInterval       pause between looking for due clients once none are left
+ * @param defaultLimit       due reviews per page of get_due_reviews when the caller does not ask for a limit
+ * @param maxLimit           upper bound applied to any requested limit
+ */
+@ConfigurationProperties(prefix = "kyc.review")
+public record ReviewProperties(
+    @DefaultValue("1y") Period highRiskInterval,
+    @DefaultValue("3y") Period mediumRiskInterval,
+    @DefaultValue("5y") Period lowRiskInterval,
+    @DefaultValue("true") boolean workerEnabled,
+    @DefaultValue("2") int workers,
+    @DefaultValue("100") int batchSize,
+    @DefaultValue("30s") Duration pollInterval,
+    @DefaultValue("25") int defaultLimit,
+    @DefaultValue("200") int maxLimit
+) {
+
+    /**
+     * When a client of the given risk level reviewed at {@code from} is due its next review; a client without a
+     * level yet is treated as HIGH risk.
+     */
+    public LocalDateTime nextReviewAt(RiskLevel riskLevel, LocalDateTime from) {
+        Period interval = riskLevel == null ? highRiskInterval : switch (riskLevel) {
+            case HIGH -> highRiskInterval;
+            case MEDIUM -> mediumRiskInterval;
+            case LOW -> lowRiskInterval;
+        };
+        return from.plus(interval);
+    }
+
+    /**
+     * Resolves a caller-supplied limit: missing or non-positive values fall back to the default, anything above
+     * the maximum is capped.
+     */
+    public int resolveLimit(Integer requested) {
+        if (requested == null || requested <= 0) {
+            return defaultLimit;
+        }
+        return Math.min(requested, maxLimit);
+    }
+}
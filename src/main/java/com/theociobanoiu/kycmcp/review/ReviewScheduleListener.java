@@ -0,0 +1,27 @@
+package com.theociobanoiu.kycmcp.review;
+
+import com.theociobanoiu.kycmcp.model.entities.Client;
+import jakarta.persistence.PrePersist;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+
+/**
+ * Schedules the first periodic review of every client persisted through JPA (created, imported or generated),
+ * one review interval of its initial risk level from now. Hibernate obtains entity listeners from the Spring
+ * context, so this is the bean with the configured intervals.
+ */
+@Component
+@RequiredArgsConstructor
+public class ReviewScheduleListener {
+
+    private final ReviewProperties properties;
+
+    @PrePersist
+    void scheduleFirstReview(Client client) {
+        if (client.getNextReviewAt() == null) {
+            client.setNextReviewAt(properties.nextReviewAt(client.getRiskLevel(), LocalDateTime.now()));
+        }
+    }
+}
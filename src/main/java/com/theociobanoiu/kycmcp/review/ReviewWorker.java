@@ -0,0 +1,128 @@
+package com.theociobanoiu.kycmcp.review;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Works through the clients due a periodic review in the background, with {@code kyc.review.workers} threads.
+ * <p>
+ * Each worker reviews batch after batch through {@link ClientReviewEngine} until a batch comes back short, then
+ * waits {@code kyc.review.poll-interval} before looking again; the workers start staggered over one interval so
+ * their polls spread out. Batches claim their clients with {@code SKIP LOCKED}, so workers, and every instance
+ * running with {@code kyc.review.worker-enabled}, share the due clients without reviewing one twice or waiting on
+ * each other's locks. A failing batch is logged and retried at the next poll.
+ * <p>
+ * Meters:
+ * <ul>
+ *     <li>{@value #REVIEWS} - clients reviewed, tagged with the {@code outcome} ({@code cleared},
+ *     {@code escalated}); its rate is the review throughput</li>
+ *     <li>{@value #BATCH_DURATION} - time per batch that reviewed clients, tagged {@code outcome} {@code success},
+ *     or {@code error} for a batch that failed</li>
+ * </ul>
+ */
+@Component
+@Slf4j
+public class ReviewWorker implements SmartLifecycle {
+
+    static final String REVIEWS = "kyc.review.clients";
+    static final String BATCH_DURATION = "kyc.review.batch.duration";
+
+    private final ClientReviewEngine engine;
+    private final ReviewProperties properties;
+    private final Counter cleared;
+    private final Counter escalated;
+    private final Timer succeeded;
+    private final Timer failed;
+    private ScheduledExecutorService executor;
+    private volatile boolean running;
+
+    public ReviewWorker(ClientReviewEngine engine, ReviewProperties properties, MeterRegistry registry) {
+        this.engine = engine;
+        this.properties = properties;
+        this.cleared = reviews(registry, "cleared");
+        this.escalated = reviews(registry, "escalated");
+        this.succeeded = batchDuration(registry, "success");
+        this.failed = batchDuration(registry, "error");
+    }
+
+    @Override
+    public boolean isAutoStartup() {
+        return properties.workerEnabled();
+    }
+
+    @Override
+    public void start() {
+        int workers = properties.workers();
+        long interval = properties.pollInterval().toNanos();
+        executor = Executors.newScheduledThreadPool(workers,
+            Thread.ofPlatform().name("review-worker-", 0).daemon().factory());
+        running = true;
+        for (int i = 0; i < workers; i++) {
+            executor.scheduleWithFixedDelay(this::drain, interval * i / workers, interval, TimeUnit.NANOSECONDS);
+        }
+        log.info("Started {} review workers, batches of {}, polling every {}", workers, properties.batchSize(),
+            properties.pollInterval());
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        if (executor != null) {
+            // Batches in progress finish and commit; the workers take no new ones
+            executor.shutdown();
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    private void drain() {
+        while (running) {
+            long start = System.nanoTime();
+            ClientReviewEngine.Result result;
+            try {
+                result = engine.reviewDueBatch(LocalDateTime.now());
+            } catch (RuntimeException e) {
+                failed.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+                log.warn("Review batch failed, retrying in {}: {}", properties.pollInterval(), e.getMessage(), e);
+                return;
+            }
+            if (result.reviewed() == 0) {
+                return;
+            }
+            succeeded.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            cleared.increment(result.cleared());
+            escalated.increment(result.escalated());
+            log.debug("Reviewed {} clients: {} escalated, {} with a new risk level", result.reviewed(),
+                result.escalated(), result.riskChanged());
+            if (result.reviewed() < properties.batchSize()) {
+                return;
+            }
+        }
+    }
+
+    private static Counter reviews(MeterRegistry registry, String outcome) {
+        return Counter.builder(REVIEWS)
+            .description("Clients given their periodic KYC review")
+            .tag("outcome", outcome)
+            .register(registry);
+    }
+
+    private static Timer batchDuration(MeterRegistry registry, String outcome) {
+        return Timer.builder(BATCH_DURATION)
+            .description("Time to claim, review and reschedule a batch of due clients")
+            .tag("outcome", outcome)
+            .register(registry);
+    }
+}
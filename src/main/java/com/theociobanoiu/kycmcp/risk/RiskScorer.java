@@ -0,0 +1,123 @@
+package com.theociobanoiu.kycmcp.risk;
+
+import com.theociobanoiu.kycmcp.model.enums.ClientType;
+import com.theociobanoiu.kycmcp.model.enums.RelationshipType;
+import com.theociobanoiu.kycmcp.model.enums.RiskLevel;
+import com.theociobanoiu.kycmcp.repository.projection.ClientRiskRow;
+
+import java.math.BigDecimal;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Rates a client LOW, MEDIUM or HIGH from points awarded by fixed rules:
+ * <ul>
+ *     <li>client type: individuals 0, companies 10, partnerships 15, other 20, trusts 25</li>
+ *     <li>a person with a high-risk nationality: 40</li>
+ *     <li>trust roles (trustee, settlor, protector, beneficiary) on a client that is not a trust: 10</li>
+ *     <li>for legal entities, opaque ownership: no persons at all 20, no declared ownership 20, declared
+ *     ownership below 100% 10, and no person reaching the beneficial owner threshold 10</li>
+ * </ul>
+ * Stateless and thread-safe.
+ */
+public final class RiskScorer {
+
+    static final int HIGH_RISK_NATIONALITY = 40;
+    static final int TRUST_ROLES = 10;
+    static final int NO_PERSONS = 20;
+    static final int NO_DECLARED_OWNERSHIP = 20;
+    static final int PARTIAL_OWNERSHIP = 10;
+    static final int DISPERSED_OWNERSHIP = 10;
+
+    private static final BigDecimal WHOLE = BigDecimal.valueOf(100);
+    private static final Set<RelationshipType> TRUST_RELATIONSHIPS = EnumSet.of(RelationshipType.TRUSTEE,
+        RelationshipType.SETTLOR, RelationshipType.PROTECTOR, RelationshipType.BENEFICIARY);
+
+    private final Set<String> highRiskNationalities;
+    private final int mediumThreshold;
+    private final int highThreshold;
+    private final BigDecimal beneficialOwnerThreshold;
+
+    /**
+     * @param beneficialOwnerThreshold ownership percentage from which a person counts as a beneficial owner
+     */
+    public RiskScorer(RiskScoringProperties properties, BigDecimal beneficialOwnerThreshold) {
+        this.highRiskNationalities = properties.highRiskNationalities().stream()
+            .map(code -> code.trim().toUpperCase(Locale.ROOT))
+            .collect(Collectors.toUnmodifiableSet());
+        this.mediumThreshold = properties.mediumThreshold();
+        this.highThreshold = properties.highThreshold();
+        this.beneficialOwnerThreshold = beneficialOwnerThreshold;
+    }
+
+    /**
+     * @param clientType the client's type
+     * @param rows       the client's rows from the risk scoring query; rows without a person are ignored
+     * @return the client's risk level
+     */
+    public RiskLevel riskLevel(ClientType clientType, List<ClientRiskRow> rows) {
+        return level(score(clientType, rows));
+    }
+
+    int score(ClientType clientType, List<ClientRiskRow> rows) {
+        int score = switch (clientType) {
+            case INDIVIDUAL -> 0;
+            case COMPANY -> 10;
+            case PARTNERSHIP -> 15;
+            case OTHER -> 20;
+            case TRUST -> 25;
+        };
+
+        int persons = 0;
+        boolean highRiskNationality = false;
+        boolean trustRoles = false;
+        BigDecimal declared = BigDecimal.ZERO;
+        boolean beneficialOwner = false;
+        for (ClientRiskRow row : rows) {
+            if (row.personId() == null) {
+                continue;
+            }
+            persons++;
+            highRiskNationality |= row.nationality() != null
+                && highRiskNationalities.contains(row.nationality().trim().toUpperCase(Locale.ROOT));
+            trustRoles |= TRUST_RELATIONSHIPS.contains(row.relationshipType());
+            if (row.ownershipPercentage() != null) {
+                declared = declared.add(row.ownershipPercentage());
+                beneficialOwner |= row.ownershipPercentage().compareTo(beneficialOwnerThreshold) >= 0;
+            }
+        }
+
+        if (highRiskNationality) {
+            score += HIGH_RISK_NATIONALITY;
+        }
+        if (trustRoles && clientType != ClientType.TRUST) {
+            score += TRUST_ROLES;
+        }
+        if (clientType != ClientType.INDIVIDUAL) {
+            if (persons == 0) {
+                score += NO_PERSONS;
+            }
+            if (declared.signum() == 0) {
+                score += NO_DECLARED_OWNERSHIP;
+            } else {
+                if (declared.compareTo(WHOLE) < 0) {
+                    score += PARTIAL_OWNERSHIP;
+                }
+                if (!beneficialOwner) {
+                    score += DISPERSED_OWNERSHIP;
+                }
+            }
+        }
+        return score;
+    }
+
+    private RiskLevel level(int score) {
+        if (score >= highThreshold) {
+            return RiskLevel.HIGH;
+        }
+        return score >= mediumThreshold ? RiskLevel.MEDIUM : RiskLevel.LOW;
+    }
+}
@@ -0,0 +1,265 @@
+package com.theociobanoiu.kycmcp.risk;
+
+import com.theociobanoiu.kycmcp.config.CacheConfiguration;
+import com.theociobanoiu.kycmcp.model.entities.Client;
+import com.theociobanoiu.kycmcp.model.enums.ClientType;
+import com.theociobanoiu.kycmcp.model.enums.RiskLevel;
+import com.theociobanoiu.kycmcp.ownership.OwnershipProperties;
+import com.theociobanoiu.kycmcp.repository.ClientRepository;
+import com.theociobanoiu.kycmcp.repository.projection.ClientRiskRow;
+import com.theociobanoiu.kycmcp.review.ReviewProperties;
+import com.theociobanoiu.kycmcp.search.ClientNameSearchEngine;
+import io.micrometer.context.ContextSnapshot;
+import io.micrometer.context.ContextSnapshotFactory;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.stream.Stream;
+
+/**
+ * Recomputes stored client risk levels with the {@link RiskScorer} rules.
+ * <p>
+ * The clients to score are cut into keyset chunks of {@code kyc.risk.chunk-size} consecutive ids, from one
+ * streamed id query. A fork/join pool of {@code kyc.risk.parallelism} workers then splits the chunk list down
+ * to single chunks; each chunk loads its clients and persons with one range query, scores them, and writes
+ * the levels that changed with one batched {@code UPDATE}, all in a transaction of its own. Chunks never
+ * overlap, so workers never contend for the same rows.
+ * <p>
+ * Levels are written with plain SQL, leaving {@code updated_at} alone, so a rescore does not mark clients as
+ * touched for the next incremental run. The same statement brings a client's next review forward to one review
+ * interval of its new level from now when that is sooner, so a raised level shortens the wait for the next review
+ * while a lowered one does not postpone it. Changed clients are evicted from the dossier cache and re-indexed
+ * for name search once their chunk commits. Workers run with the caller's context snapshot, so the SQL of every
+ * chunk is counted against the caller's query budget and tool metrics.
+ */
+@Component
+@Slf4j
+public class RiskScoringEngine {
+
+    private static final String UPDATE_RISK_LEVEL =
+        "UPDATE clients SET risk_level = ?, next_review_at = LEAST(next_review_at, ?) WHERE id = ?";
+
+    private final ClientRepository clientRepository;
+    private final ClientNameSearchEngine clientNameSearchEngine;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transaction;
+    private final TransactionTemplate readOnlyTransaction;
+    private final Cache dossierCache;
+    private final RiskScorer scorer;
+    private final ReviewProperties reviewProperties;
+    private final int chunkSize;
+    private final ForkJoinPool pool;
+    private final ContextSnapshotFactory snapshots = ContextSnapshotFactory.builder().build();
+
+    public RiskScoringEngine(ClientRepository clientRepository,
+                             ClientNameSearchEngine clientNameSearchEngine,
+                             JdbcTemplate jdbcTemplate,
+                             PlatformTransactionManager transactionManager,
+                             CacheManager cacheManager,
+                             RiskScoringProperties properties,
+                             OwnershipProperties ownershipProperties,
+                             ReviewProperties reviewProperties) {
+        this.clientRepository = clientRepository;
+        this.clientNameSearchEngine = clientNameSearchEngine;
+        this.jdbcTemplate = jdbcTemplate;
+        this.transaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.dossierCache = Objects.requireNonNull(cacheManager.getCache(CacheConfiguration.CLIENT_DOSSIERS));
+        this.scorer = new RiskScorer(properties, ownershipProperties.beneficialOwnerThreshold());
+        this.reviewProperties = reviewProperties;
+        this.chunkSize = properties.chunkSize();
+        this.pool = new ForkJoinPool(properties.parallelism());
+    }
+
+    /**
+     * Outcome of a scoring pass.
+     *
+     * @param clientsScored  clients whose level was recomputed
+     * @param clientsChanged clients whose stored level changed
+     * @param clientsByLevel scored clients per resulting level
+     */
+    public record Result(long clientsScored, long clientsChanged, Map<RiskLevel, Long> clientsByLevel) {
+    }
+
+    /**
+     * Risk level of a client that has no persons yet, for clients being created.
+     */
+    public RiskLevel initialRiskLevel(ClientType clientType) {
+        return scorer.riskLevel(clientType, List.of());
+    }
+
+    /**
+     * Rescores clients and writes back the levels that changed.
+     *
+     * @param since only score clients modified, or with persons modified, after this time; null scores all
+     */
+    public Result score(LocalDateTime since) {
+        List<Chunk> chunks = readOnlyTransaction.execute(status -> plan(since));
+        log.info("Scoring {} chunks of up to {} clients{}", chunks.size(), chunkSize,
+            since != null ? " touched since " + since : "");
+        Tally tally = chunks.isEmpty() ? new Tally() : pool.invoke(
+            new ScoreChunks(chunks, 0, chunks.size(), snapshots.captureAll()));
+        return tally.toResult();
+    }
+
+    @PreDestroy
+    void shutdown() {
+        pool.shutdownNow();
+    }
+
+    /**
+     * Cuts the ids to score into chunks; a full run only keeps each chunk's id range, an incremental one
+     * also keeps the ids, since the range holds untouched clients too.
+     */
+    private List<Chunk> plan(LocalDateTime since) {
+        List<Chunk> chunks = new ArrayList<>();
+        List<Long> ids = new ArrayList<>(chunkSize);
+        try (Stream<Long> stream = since == null ? clientRepository.streamIds()
+            : clientRepository.streamIdsTouchedSince(since)) {
+            stream.forEach(id -> {
+                ids.add(id);
+                if (ids.size() == chunkSize) {
+                    chunks.add(Chunk.of(ids, since != null));
+                    ids.clear();
+                }
+            });
+        }
+        if (!ids.isEmpty()) {
+            chunks.add(Chunk.of(ids, since != null));
+        }
+        return chunks;
+    }
+
+    private Tally scoreChunk(Chunk chunk) {
+        return transaction.execute(status -> {
+            List<ClientRiskRow> rows = chunk.ids() == null
+                ? clientRepository.findRiskRowsBetween(chunk.firstId(), chunk.lastId())
+                : clientRepository.findRiskRowsByIdIn(chunk.ids());
+
+            Tally tally = new Tally();
+            List<Client> changed = new ArrayList<>();
+            int from = 0;
+            while (from < rows.size()) {
+                ClientRiskRow first = rows.get(from);
+                int to = from + 1;
+                while (to < rows.size() && rows.get(to).clientId().equals(first.clientId())) {
+                    to++;
+                }
+                RiskLevel level = scorer.riskLevel(first.clientType(), rows.subList(from, to));
+                tally.scored(level);
+                if (level != first.riskLevel()) {
+                    Client client = new Client();
+                    client.setId(first.clientId());
+                    client.setName(first.clientName());
+                    client.setRiskLevel(level);
+                    changed.add(client);
+                }
+                from = to;
+            }
+
+            if (!changed.isEmpty()) {
+                LocalDateTime now = LocalDateTime.now();
+                jdbcTemplate.batchUpdate(UPDATE_RISK_LEVEL, changed, changed.size(), (statement, client) -> {
+                    statement.setString(1, client.getRiskLevel().name());
+                    statement.setTimestamp(2,
+                        Timestamp.valueOf(reviewProperties.nextReviewAt(client.getRiskLevel(), now)));
+                    statement.setLong(3, client.getId());
+                });
+                for (Client client : changed) {
+                    clientNameSearchEngine.index(client);
+                    dossierCache.evict(client.getId());
+                }
+                tally.changed += changed.size();
+            }
+            return tally;
+        });
+    }
+
+    /**
+     * Consecutive client ids scored in one transaction.
+     *
+     * @param ids the ids to score, or null to score every client in the range
+     */
+    private record Chunk(long firstId, long lastId, List<Long> ids) {
+
+        static Chunk of(List<Long> ids, boolean keepIds) {
+            return new Chunk(ids.getFirst(), ids.getLast(), keepIds ? List.copyOf(ids) : null);
+        }
+    }
+
+    /**
+     * Splits a run of chunks in halves until a single chunk remains, and adds up the tallies.
+     */
+    private final class ScoreChunks extends RecursiveTask<Tally> {
+
+        private final List<Chunk> chunks;
+        private final int from;
+        private final int to;
+        private final ContextSnapshot context;
+
+        ScoreChunks(List<Chunk> chunks, int from, int to, ContextSnapshot context) {
+            this.chunks = chunks;
+            this.from = from;
+            this.to = to;
+            this.context = context;
+        }
+
+        @Override
+        protected Tally compute() {
+            if (to - from == 1) {
+                try (ContextSnapshot.Scope scope = context.setThreadLocals()) {
+                    return scoreChunk(chunks.get(from));
+                }
+            }
+            int middle = (from + to) >>> 1;
+            ScoreChunks left = new ScoreChunks(chunks, from, middle, context);
+            left.fork();
+            Tally right = new ScoreChunks(chunks, middle, to, context).compute();
+            return left.join().add(right);
+        }
+    }
+
+    private static final class Tally {
+
+        private final long[] byLevel = new long[RiskLevel.values().length];
+        private long changed;
+
+        void scored(RiskLevel level) {
+            byLevel[level.ordinal()]++;
+        }
+
+        Tally add(Tally other) {
+            for (int i = 0; i < byLevel.length; i++) {
+                byLevel[i] += other.byLevel[i];
+            }
+            changed += other.changed;
+            return this;
+        }
+
+        Result toResult() {
+            Map<RiskLevel, Long> clientsByLevel = new EnumMap<>(RiskLevel.class);
+            long scored = 0;
+            for (RiskLevel level : RiskLevel.values()) {
+                clientsByLevel.put(level, byLevel[level.ordinal()]);
+                scored += byLevel[level.ordinal()];
+            }
+            return new Result(scored, changed, clientsByLevel);
+        }
+    }
+}
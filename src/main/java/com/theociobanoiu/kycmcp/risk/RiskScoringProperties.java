@@ -0,0 +1,26 @@
+package com.theociobanoiu.kycmcp.risk;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.util.Set;
+
+/**
+ * Configuration for rule-based client risk scoring, bound from {@code kyc.risk}.
+ *
+ * @param highRiskNationalities nationality codes (as stored on persons) that raise a client's risk, e.g. the
+ *                              jurisdictions under a FATF call for action
+ * @param mediumThreshold       score from which a client is rated MEDIUM
+ * @param highThreshold         score from which a client is rated HIGH
+ * @param chunkSize             clients scored and written back per transaction
+ * @param parallelism           chunks scored at once; each holds a database connection while it runs
+ */
+@ConfigurationProperties(prefix = "kyc.risk")
+public record RiskScoringProperties(
+    @DefaultValue({"IR", "KP", "MM"}) Set<String> highRiskNationalities,
+    @DefaultValue("30") int mediumThreshold,
+    @DefaultValue("60") int highThreshold,
+    @DefaultValue("1000") int chunkSize,
+    @DefaultValue("4") int parallelism
+) {
+}
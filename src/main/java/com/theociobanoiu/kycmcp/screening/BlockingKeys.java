@@ -0,0 +1,124 @@
+package com.theociobanoiu.kycmcp.screening;
+
+import com.theociobanoiu.kycmcp.util.collections.LongArrayList;
+import org.apache.commons.codec.language.DoubleMetaphone;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Derives the blocking keys that decide which watchlist entries are compared with a screened name, and which
+ * clients are compared with each other when looking for duplicates.
+ * <p>
+ * Every name token of two or more characters contributes its Double Metaphone codes (catching
+ * transliteration variants such as Mohammed / Muhamad) and its leading and trailing character
+ * trigram (catching typos that change the phonetic code). Every unordered pair of tokens also
+ * contributes the pair of their primary phonetic codes: common given names and surnames are
+ * unselective on their own, but the combination of two is rare, which keeps candidate sets small.
+ * Keys are 64-bit hashes tagged with their kind in the top two bits so they can live in primitive maps.
+ */
+public final class BlockingKeys {
+
+    private static final long PAIR = 0L;
+    private static final long PHONETIC = 1L << 62;
+    private static final long PREFIX = 2L << 62;
+    private static final long SUFFIX = 3L << 62;
+    private static final int MAX_PAIRED_TOKENS = 5;
+    private static final long HASH_MASK = (1L << 62) - 1;
+    private static final int GRAM = 3;
+
+    private static final DoubleMetaphone METAPHONE = new DoubleMetaphone();
+
+    static {
+        METAPHONE.setMaxCodeLen(6);
+    }
+
+    private BlockingKeys() {
+    }
+
+    /**
+     * Appends the keys of the given name tokens to {@code out}. Keys may repeat; see {@link #distinct(LongArrayList)}.
+     */
+    public static void append(List<String> tokens, LongArrayList out) {
+        String[] primaryCodes = new String[Math.min(tokens.size(), MAX_PAIRED_TOKENS)];
+        for (int t = 0; t < tokens.size(); t++) {
+            String token = tokens.get(t);
+            if (token.length() < 2) {
+                continue;
+            }
+            if (Character.isLetter(token.charAt(0))) {
+                String primary = METAPHONE.doubleMetaphone(token);
+                String alternate = METAPHONE.doubleMetaphone(token, true);
+                if (primary != null && !primary.isEmpty()) {
+                    out.add(PHONETIC | hash(primary));
+                    if (t < primaryCodes.length) {
+                        primaryCodes[t] = primary;
+                    }
+                }
+                if (alternate != null && !alternate.isEmpty() && !alternate.equals(primary)) {
+                    out.add(PHONETIC | hash(alternate));
+                }
+            }
+            out.add(PREFIX | hash(token.substring(0, Math.min(GRAM, token.length()))));
+            if (token.length() > GRAM) {
+                out.add(SUFFIX | hash(token.substring(token.length() - GRAM)));
+            }
+        }
+
+        for (int i = 0; i < primaryCodes.length; i++) {
+            for (int j = i + 1; j < primaryCodes.length; j++) {
+                if (primaryCodes[i] != null && primaryCodes[j] != null) {
+                    out.add(PAIR | pairHash(primaryCodes[i], primaryCodes[j]));
+                }
+            }
+        }
+    }
+
+    /**
+     * Primary and alternate Double Metaphone codes of a token, or null for tokens that do not start
+     * with a letter. Two tokens sound alike when either code matches.
+     */
+    static String[] phoneticCodes(String token) {
+        if (token.isEmpty() || !Character.isLetter(token.charAt(0))) {
+            return null;
+        }
+        return new String[]{METAPHONE.doubleMetaphone(token), METAPHONE.doubleMetaphone(token, true)};
+    }
+
+    /**
+     * Sorted, de-duplicated copy of the collected keys.
+     */
+    public static long[] distinct(LongArrayList keys) {
+        long[] sorted = keys.toArray();
+        if (sorted.length < 2) {
+            return sorted;
+        }
+        Arrays.sort(sorted);
+        int unique = 1;
+        for (int i = 1; i < sorted.length; i++) {
+            if (sorted[i] != sorted[unique - 1]) {
+                sorted[unique++] = sorted[i];
+            }
+        }
+        return Arrays.copyOf(sorted, unique);
+    }
+
+    /**
+     * Order-independent hash of two phonetic codes, so "Smith John" and "John Smith" share the key.
+     */
+    private static long pairHash(String left, String right) {
+        return left.compareTo(right) <= 0 ? hash(left + '|' + right) : hash(right + '|' + left);
+    }
+
+    /**
+     * 64-bit FNV-1a hash truncated to 62 bits.
+     */
+    public static long hash(String value) {
+        long hash = 0xcbf29ce484222325L;
+        for (int i = 0; i < value.length(); i++) {
+            hash ^= value.charAt(i);
+            hash *= 0x100000001b3L;
+        }
+        return hash & HASH_MASK;
+    }
+}
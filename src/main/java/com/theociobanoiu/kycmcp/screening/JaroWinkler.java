@@ -0,0 +1,80 @@
+package com.theociobanoiu.kycmcp.screening;
+
+/**
+ * Jaro-Winkler string similarity, the usual metric for comparing personal names: it tolerates
+ * transpositions and gives extra weight to a common prefix, where spelling variants of names
+ * rarely differ.
+ */
+public final class JaroWinkler {
+
+    private static final double PREFIX_SCALE = 0.1;
+    private static final int MAX_PREFIX = 4;
+    private static final double BOOST_THRESHOLD = 0.7;
+
+    private JaroWinkler() {
+    }
+
+    /**
+     * @return similarity between 0.0 (nothing in common) and 1.0 (identical)
+     */
+    public static double similarity(String left, String right) {
+        if (left.equals(right)) {
+            return 1.0;
+        }
+        int leftLength = left.length();
+        int rightLength = right.length();
+        if (leftLength == 0 || rightLength == 0) {
+            return 0.0;
+        }
+
+        int window = Math.max(0, Math.max(leftLength, rightLength) / 2 - 1);
+        boolean[] leftMatched = new boolean[leftLength];
+        boolean[] rightMatched = new boolean[rightLength];
+
+        int matches = 0;
+        for (int i = 0; i < leftLength; i++) {
+            int from = Math.max(0, i - window);
+            int to = Math.min(rightLength, i + window + 1);
+            char c = left.charAt(i);
+            for (int j = from; j < to; j++) {
+                if (!rightMatched[j] && right.charAt(j) == c) {
+                    leftMatched[i] = true;
+                    rightMatched[j] = true;
+                    matches++;
+                    break;
+                }
+            }
+        }
+        if (matches == 0) {
+            return 0.0;
+        }
+
+        int transpositions = 0;
+        int j = 0;
+        for (int i = 0; i < leftLength; i++) {
+            if (!leftMatched[i]) {
+                continue;
+            }
+            while (!rightMatched[j]) {
+                j++;
+            }
+            if (left.charAt(i) != right.charAt(j)) {
+                transpositions++;
+            }
+            j++;
+        }
+
+        double m = matches;
+        double jaro = (m / leftLength + m / rightLength + (m - transpositions / 2.0) / m) / 3.0;
+        if (jaro < BOOST_THRESHOLD) {
+            return jaro;
+        }
+
+        int prefix = 0;
+        int maxPrefix = Math.min(MAX_PREFIX, Math.min(leftLength, rightLength));
+        while (prefix < maxPrefix && left.charAt(prefix) == right.charAt(prefix)) {
+            prefix++;
+        }
+        return jaro + prefix * PREFIX_SCALE * (1.0 - jaro);
+    }
+}
@@ -0,0 +1,59 @@
+package com.theociobanoiu.kycmcp.screening;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Brings names from watchlists and from the client book into one comparable form: diacritics are
+ * stripped ({@code "Müller"} becomes {@code "MULLER"}), letters are upper-cased and everything that is
+ * not a letter or digit separates tokens.
+ */
+public final class NameNormalizer {
+
+    private NameNormalizer() {
+    }
+
+    public static String normalize(String name) {
+        if (name == null) {
+            return "";
+        }
+        String decomposed = Normalizer.normalize(name, Normalizer.Form.NFD);
+        StringBuilder normalized = new StringBuilder(decomposed.length());
+        boolean pendingSpace = false;
+        for (int i = 0; i < decomposed.length(); i++) {
+            char c = decomposed.charAt(i);
+            if (Character.getType(c) == Character.NON_SPACING_MARK) {
+                continue;
+            }
+            if (Character.isLetterOrDigit(c)) {
+                if (pendingSpace && !normalized.isEmpty()) {
+                    normalized.append(' ');
+                }
+                normalized.append(Character.toUpperCase(c));
+                pendingSpace = false;
+            } else {
+                pendingSpace = true;
+            }
+        }
+        return normalized.toString().toUpperCase(Locale.ROOT);
+    }
+
+    /**
+     * Splits an already {@linkplain #normalize(String) normalized} name into its tokens.
+     */
+    public static List<String> tokens(String normalized) {
+        List<String> tokens = new ArrayList<>(4);
+        int start = 0;
+        for (int i = 0; i <= normalized.length(); i++) {
+            if (i == normalized.length() || normalized.charAt(i) == ' ') {
+                if (i > start) {
+                    tokens.add(normalized.substring(start, i));
+                }
+                start = i + 1;
+            }
+        }
+        return tokens;
+    }
+}
@@ -0,0 +1,90 @@
+package com.theociobanoiu.kycmcp.screening;
+
+import java.util.List;
+
+/**
+ * Scores how closely a watchlist name, or another client's name, resembles one screened name.
+ * <p>
+ * The score is token-level Jaro-Winkler: how well the screened tokens are covered by the entry
+ * (weighted most), blended with how well the entry tokens are covered by the screened name, so token
+ * order does not matter and extra middle names cost little. The whole-name comparison wins when it
+ * scores higher, which catches names split or joined differently ("Abdul Rahman" / "Abdulrahman").
+ * Tokens that sound alike (same Double Metaphone code) count as a strong match even when their spelling
+ * differs, e.g. "Muhamad" / "Mohammed".
+ * <p>
+ * One instance is created per screened name so its tokens and phonetic codes are computed once and
+ * reused for every candidate; instances are not thread-safe.
+ */
+public final class NameScorer {
+
+    private static final double FORWARD_WEIGHT = 0.7;
+    private static final double PHONETIC_MATCH_SCORE = 0.92;
+    private static final double PHONETIC_CHECK_FLOOR = 0.7;
+
+    private final List<String> queryTokens;
+    private final String[][] queryCodes;
+    private final String joinedQuery;
+
+    public NameScorer(List<String> queryTokens) {
+        this.queryTokens = queryTokens;
+        this.queryCodes = new String[queryTokens.size()][];
+        this.joinedQuery = String.join("", queryTokens);
+    }
+
+    public double score(List<String> entryTokens) {
+        int queryCount = queryTokens.size();
+        int entryCount = entryTokens.size();
+        if (entryCount == 0) {
+            return 0.0;
+        }
+
+        double[] bestForQuery = new double[queryCount];
+        double[] bestForEntry = new double[entryCount];
+        String[][] entryCodes = new String[entryCount][];
+        for (int i = 0; i < queryCount; i++) {
+            String queryToken = queryTokens.get(i);
+            for (int j = 0; j < entryCount; j++) {
+                String entryToken = entryTokens.get(j);
+                double similarity = JaroWinkler.similarity(queryToken, entryToken);
+                // Phonetic encoding is the costlier check, so only run it where it can change the outcome
+                if (similarity >= PHONETIC_CHECK_FLOOR && similarity < PHONETIC_MATCH_SCORE) {
+                    if (queryCodes[i] == null) {
+                        queryCodes[i] = codes(queryToken);
+                    }
+                    if (entryCodes[j] == null) {
+                        entryCodes[j] = codes(entryToken);
+                    }
+                    if (soundAlike(queryCodes[i], entryCodes[j])) {
+                        similarity = PHONETIC_MATCH_SCORE;
+                    }
+                }
+                bestForQuery[i] = Math.max(bestForQuery[i], similarity);
+                bestForEntry[j] = Math.max(bestForEntry[j], similarity);
+            }
+        }
+
+        double tokenScore = FORWARD_WEIGHT * average(bestForQuery) + (1 - FORWARD_WEIGHT) * average(bestForEntry);
+        if (tokenScore >= 1.0) {
+            return tokenScore;
+        }
+        double wholeScore = JaroWinkler.similarity(joinedQuery, String.join("", entryTokens));
+        return Math.max(tokenScore, wholeScore);
+    }
+
+    private static String[] codes(String token) {
+        String[] codes = BlockingKeys.phoneticCodes(token);
+        return codes != null ? codes : new String[]{"", ""};
+    }
+
+    private static boolean soundAlike(String[] left, String[] right) {
+        return (!left[0].isEmpty() && left[0].equals(right[0])) || (!left[1].isEmpty() && left[1].equals(right[1]));
+    }
+
+    private static double average(double[] values) {
+        double total = 0;
+        for (double value : values) {
+            total += value;
+        }
+        return total / values.length;
+    }
+}
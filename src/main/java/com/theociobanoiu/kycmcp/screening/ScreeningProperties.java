@@ -0,0 +1,25 @@
+package com.theociobanoiu.kycmcp.screening;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.nio.file.Path;
+
+/**
+ * Configuration for watchlist screening, bound from {@code kyc.screening}.
+ *
+ * @param watchlistPath  CSV or JSONL watchlist file loaded at startup; screening is unavailable when unset
+ * @param matchThreshold minimum score (0.0 - 1.0) for a watchlist entry to be reported as a hit
+ * @param maxHits        maximum number of hits reported per screened subject
+ * @param maxBlockSize   posting lists longer than this are too common to introduce candidates on their own
+ * @param maxCandidates  maximum number of entries scored with Jaro-Winkler per screened subject
+ */
+@ConfigurationProperties(prefix = "kyc.screening")
+public record ScreeningProperties(
+    Path watchlistPath,
+    @DefaultValue("0.85") double matchThreshold,
+    @DefaultValue("10") int maxHits,
+    @DefaultValue("1000") int maxBlockSize,
+    @DefaultValue("200") int maxCandidates
+) {
+}
@@ -0,0 +1,13 @@
+package com.theociobanoiu.kycmcp.screening;
+
+import java.time.LocalDate;
+
+/**
+ * The attributes of a client or person that are compared against the watchlists.
+ *
+ * @param name        full name to screen
+ * @param dateOfBirth date of birth, or null if unknown (always null for legal entities)
+ * @param nationality nationality code, or null if unknown
+ */
+public record ScreeningQuery(String name, LocalDate dateOfBirth, String nationality) {
+}
@@ -0,0 +1,27 @@
+package com.theociobanoiu.kycmcp.screening;
+
+import com.theociobanoiu.kycmcp.model.enums.WatchlistCategory;
+
+import java.time.LocalDate;
+
+/**
+ * One record read from a watchlist file, before it is packed into the {@link WatchlistIndex}.
+ *
+ * @param entryId       identifier in the source list
+ * @param name          full name as published
+ * @param dateOfBirth   date of birth, or null if unknown; for year-only records the 1st of January
+ * @param birthYearOnly true when the list only publishes the year of birth
+ * @param nationality   nationality code, or null if unknown
+ * @param listName      name of the source list
+ * @param category      kind of list
+ */
+public record WatchlistEntry(
+    String entryId,
+    String name,
+    LocalDate dateOfBirth,
+    boolean birthYearOnly,
+    String nationality,
+    String listName,
+    WatchlistCategory category
+) {
+}
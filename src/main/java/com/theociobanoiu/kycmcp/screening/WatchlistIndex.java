@@ -0,0 +1,384 @@
+package com.theociobanoiu.kycmcp.screening;
+
+import com.theociobanoiu.kycmcp.model.dto.ScreeningHitDTO;
+import com.theociobanoiu.kycmcp.model.enums.WatchlistCategory;
+import com.theociobanoiu.kycmcp.util.collections.IntArrayList;
+import com.theociobanoiu.kycmcp.util.collections.LongArrayList;
+import com.theociobanoiu.kycmcp.util.collections.LongIntHashMap;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.PriorityQueue;
+
+/**
+ * Immutable, compact in-memory index of watchlist entries for fuzzy name screening.
+ * <p>
+ * Entries are stored column-wise in parallel arrays. Blocking keys (see {@link BlockingKeys}) are kept
+ * as a compressed posting structure: a primitive {@code key -> row} map plus one flat {@code int[]} of
+ * entry numbers sliced by an offsets array, so a million-name list costs a few tens of megabytes and no
+ * per-entry objects beyond the name strings.
+ * <p>
+ * Screening a name looks up its keys, counts how many keys each entry shares with it, and runs
+ * the Jaro-Winkler based {@link NameScorer} only on entries sharing enough keys. Keys whose posting list exceeds the configured block
+ * size (very common names) never introduce candidates on their own; they only reinforce candidates found
+ * through rarer keys, and when a name has nothing but common keys the two smallest lists are
+ * merge-intersected. The per-query cost therefore depends on how many entries look alike, not on the
+ * list size.
+ * <p>
+ * Instances are safe for concurrent reads; reloading a list builds a new instance.
+ */
+public final class WatchlistIndex {
+
+    private static final int UNKNOWN_DATE = Integer.MIN_VALUE;
+    private static final double DATE_OF_BIRTH_MATCH_BONUS = 0.05;
+    private static final double DATE_OF_BIRTH_MISMATCH_PENALTY = 0.15;
+    private static final double NATIONALITY_MATCH_BONUS = 0.03;
+    private static final double NATIONALITY_MISMATCH_PENALTY = 0.05;
+
+    private static final WatchlistCategory[] CATEGORIES = WatchlistCategory.values();
+
+    private final int size;
+    private final String[] entryIds;
+    private final String[] names;
+    private final String[] normalizedNames;
+    private final int[] birthDates;
+    private final BitSet birthYearOnly;
+    private final String[] nationalities;
+    private final String[] listNames;
+    private final byte[] categories;
+
+    private final LongIntHashMap rowByKey;
+    private final int[] offsets;
+    private final int[] postings;
+    private final int maxBlockSize;
+    private final int maxCandidates;
+
+    private WatchlistIndex(Builder builder, LongIntHashMap rowByKey, int[] offsets, int[] postings) {
+        this.size = builder.entryIds.size();
+        this.entryIds = builder.entryIds.toArray(String[]::new);
+        this.names = builder.names.toArray(String[]::new);
+        this.normalizedNames = builder.normalizedNames.toArray(String[]::new);
+        this.birthDates = builder.birthDates.toArray();
+        this.birthYearOnly = builder.birthYearOnly;
+        this.nationalities = builder.nationalities.toArray(String[]::new);
+        this.listNames = builder.listNames.toArray(String[]::new);
+        this.categories = Arrays.copyOf(builder.categories, size);
+        this.rowByKey = rowByKey;
+        this.offsets = offsets;
+        this.postings = postings;
+        this.maxBlockSize = builder.maxBlockSize;
+        this.maxCandidates = builder.maxCandidates;
+    }
+
+    public static Builder builder(int maxBlockSize, int maxCandidates) {
+        return new Builder(maxBlockSize, maxCandidates);
+    }
+
+    public static WatchlistIndex empty() {
+        return builder(1, 1).build();
+    }
+
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Screens one subject against the list.
+     *
+     * @param query     name, date of birth and nationality of the subject
+     * @param threshold minimum overall score for an entry to be reported
+     * @param maxHits   maximum number of hits to return
+     * @return hits ordered by score, best first
+     */
+    public List<ScreeningHitDTO> screen(ScreeningQuery query, double threshold, int maxHits) {
+        List<String> tokens = NameNormalizer.tokens(NameNormalizer.normalize(query.name()));
+        if (tokens.isEmpty() || size == 0 || maxHits <= 0) {
+            return List.of();
+        }
+
+        int[] candidates = candidates(tokens);
+        int queryDate = query.dateOfBirth() != null ? (int) query.dateOfBirth().toEpochDay() : UNKNOWN_DATE;
+        String queryNationality = normalizeNationality(query.nationality());
+
+        NameScorer nameScorer = new NameScorer(tokens);
+        PriorityQueue<Scored> top = new PriorityQueue<>(maxHits + 1, Comparator.comparingDouble(Scored::score));
+        for (int entry : candidates) {
+            double nameScore = nameScorer.score(NameNormalizer.tokens(normalizedNames[entry]));
+            Boolean dateOfBirthMatch = dateOfBirthMatch(entry, queryDate);
+            Boolean nationalityMatch = queryNationality == null || nationalities[entry] == null
+                ? null
+                : queryNationality.equals(nationalities[entry]);
+
+            double score = nameScore;
+            if (dateOfBirthMatch != null) {
+                score += dateOfBirthMatch ? DATE_OF_BIRTH_MATCH_BONUS : -DATE_OF_BIRTH_MISMATCH_PENALTY;
+            }
+            if (nationalityMatch != null) {
+                score += nationalityMatch ? NATIONALITY_MATCH_BONUS : -NATIONALITY_MISMATCH_PENALTY;
+            }
+            score = Math.max(0.0, Math.min(1.0, score));
+
+            if (score >= threshold) {
+                top.add(new Scored(entry, score, nameScore, dateOfBirthMatch, nationalityMatch));
+                if (top.size() > maxHits) {
+                    top.poll();
+                }
+            }
+        }
+
+        List<Scored> ranked = new ArrayList<>(top);
+        ranked.sort(Comparator.comparingDouble(Scored::score).reversed());
+        return ranked.stream().map(this::toHit).toList();
+    }
+
+    /**
+     * Entries sharing enough blocking keys with the query tokens, capped at {@code maxCandidates}
+     * (those sharing the most keys win).
+     */
+    private int[] candidates(List<String> tokens) {
+        LongArrayList collected = new LongArrayList(tokens.size() * 4);
+        BlockingKeys.append(tokens, collected);
+        long[] keys = BlockingKeys.distinct(collected);
+
+        int[] rows = new int[keys.length];
+        int rowCount = 0;
+        for (long key : keys) {
+            int row = rowByKey.get(key);
+            if (row >= 0) {
+                rows[rowCount++] = row;
+            }
+        }
+        if (rowCount == 0) {
+            return new int[0];
+        }
+        // Smallest posting lists first, so rare keys seed the candidate set
+        Integer[] order = new Integer[rowCount];
+        for (int i = 0; i < rowCount; i++) {
+            order[i] = rows[i];
+        }
+        Arrays.sort(order, Comparator.comparingInt(this::rowLength));
+
+        LongIntHashMap sharedKeys = new LongIntHashMap(256, -1);
+        IntArrayList seen = new IntArrayList(256);
+        int next = 0;
+        while (next < rowCount && rowLength(order[next]) <= maxBlockSize) {
+            int row = order[next++];
+            for (int p = offsets[row]; p < offsets[row + 1]; p++) {
+                if (sharedKeys.addTo(postings[p], 1) == 1) {
+                    seen.add(postings[p]);
+                }
+            }
+        }
+        if (seen.isEmpty() && next < rowCount) {
+            // Only common keys: entries on both of the two smallest lists are the candidates
+            // (one list alone is all we have for a single-key name)
+            if (next + 1 < rowCount) {
+                intersect(order[next], order[next + 1], sharedKeys, seen);
+                next += 2;
+            } else {
+                int row = order[next++];
+                for (int p = offsets[row]; p < offsets[row + 1] && seen.size() < maxBlockSize; p++) {
+                    sharedKeys.addTo(postings[p], 1);
+                    seen.add(postings[p]);
+                }
+            }
+        }
+        // Remaining common keys only reinforce candidates that are already known
+        for (; next < rowCount; next++) {
+            int row = order[next];
+            int[] seenEntries = seen.rawArray();
+            for (int s = 0, n = seen.size(); s < n; s++) {
+                if (Arrays.binarySearch(postings, offsets[row], offsets[row + 1], seenEntries[s]) >= 0) {
+                    sharedKeys.addTo(seenEntries[s], 1);
+                }
+            }
+        }
+
+        int minShared = tokens.size() >= 2 ? 2 : 1;
+        LongArrayList ranked = new LongArrayList(seen.size());
+        int[] seenEntries = seen.rawArray();
+        for (int s = 0, n = seen.size(); s < n; s++) {
+            int shared = sharedKeys.get(seenEntries[s]);
+            if (shared >= minShared) {
+                // shared count in the high bits so a plain sort orders by it
+                ranked.add(((long) shared << 32) | seenEntries[s]);
+            }
+        }
+
+        long[] packed = ranked.toArray();
+        if (packed.length > maxCandidates) {
+            Arrays.sort(packed);
+            packed = Arrays.copyOfRange(packed, packed.length - maxCandidates, packed.length);
+        }
+        int[] candidates = new int[packed.length];
+        for (int i = 0; i < packed.length; i++) {
+            candidates[i] = (int) packed[i];
+        }
+        return candidates;
+    }
+
+    /**
+     * Merge-intersects two posting lists (both sorted by entry number) into the candidate set.
+     */
+    private void intersect(int leftRow, int rightRow, LongIntHashMap sharedKeys, IntArrayList seen) {
+        int i = offsets[leftRow];
+        int j = offsets[rightRow];
+        int leftEnd = offsets[leftRow + 1];
+        int rightEnd = offsets[rightRow + 1];
+        while (i < leftEnd && j < rightEnd) {
+            if (postings[i] == postings[j]) {
+                sharedKeys.put(postings[i], 2);
+                seen.add(postings[i]);
+                i++;
+                j++;
+            } else if (postings[i] < postings[j]) {
+                i++;
+            } else {
+                j++;
+            }
+        }
+    }
+
+    private int rowLength(int row) {
+        return offsets[row + 1] - offsets[row];
+    }
+
+    private Boolean dateOfBirthMatch(int entry, int queryDate) {
+        int entryDate = birthDates[entry];
+        if (queryDate == UNKNOWN_DATE || entryDate == UNKNOWN_DATE) {
+            return null;
+        }
+        if (birthYearOnly.get(entry)) {
+            return LocalDate.ofEpochDay(entryDate).getYear() == LocalDate.ofEpochDay(queryDate).getYear();
+        }
+        return entryDate == queryDate;
+    }
+
+    private ScreeningHitDTO toHit(Scored scored) {
+        int entry = scored.entry();
+        LocalDate dateOfBirth = birthDates[entry] != UNKNOWN_DATE ? LocalDate.ofEpochDay(birthDates[entry]) : null;
+        return new ScreeningHitDTO(
+            entryIds[entry],
+            names[entry],
+            listNames[entry],
+            CATEGORIES[categories[entry]],
+            dateOfBirth,
+            nationalities[entry],
+            scored.score(),
+            scored.nameScore(),
+            scored.dateOfBirthMatch(),
+            scored.nationalityMatch()
+        );
+    }
+
+    private static String normalizeNationality(String nationality) {
+        return nationality == null || nationality.isBlank() ? null : nationality.trim().toUpperCase(Locale.ROOT);
+    }
+
+    private record Scored(int entry, double score, double nameScore, Boolean dateOfBirthMatch,
+                          Boolean nationalityMatch) {
+    }
+
+    /**
+     * Accumulates entries and packs them into an immutable {@link WatchlistIndex}.
+     * Strings that repeat across entries (list names, nationalities) are shared.
+     */
+    public static final class Builder {
+
+        private final int maxBlockSize;
+        private final int maxCandidates;
+
+        private final List<String> entryIds = new ArrayList<>();
+        private final List<String> names = new ArrayList<>();
+        private final List<String> normalizedNames = new ArrayList<>();
+        private final IntArrayList birthDates = new IntArrayList(1024);
+        private final BitSet birthYearOnly = new BitSet();
+        private final List<String> nationalities = new ArrayList<>();
+        private final List<String> listNames = new ArrayList<>();
+        private byte[] categories = new byte[1024];
+        private final Map<String, String> sharedStrings = new HashMap<>();
+
+        // (key, entry) pairs in entry order; turned into posting lists by build()
+        private final LongArrayList pairKeys = new LongArrayList(1024);
+        private final IntArrayList pairEntries = new IntArrayList(1024);
+        private final LongArrayList scratch = new LongArrayList();
+
+        private Builder(int maxBlockSize, int maxCandidates) {
+            this.maxBlockSize = maxBlockSize;
+            this.maxCandidates = maxCandidates;
+        }
+
+        /**
+         * Adds an entry; entries without a usable name are ignored.
+         *
+         * @return true if the entry was added
+         */
+        public boolean add(WatchlistEntry entry) {
+            String normalized = NameNormalizer.normalize(entry.name());
+            if (normalized.isEmpty()) {
+                return false;
+            }
+            int index = entryIds.size();
+            entryIds.add(entry.entryId());
+            names.add(entry.name());
+            normalizedNames.add(normalized);
+            birthDates.add(entry.dateOfBirth() != null ? (int) entry.dateOfBirth().toEpochDay() : UNKNOWN_DATE);
+            if (entry.birthYearOnly()) {
+                birthYearOnly.set(index);
+            }
+            nationalities.add(share(normalizeNationality(entry.nationality())));
+            listNames.add(share(entry.listName()));
+            if (index == categories.length) {
+                categories = Arrays.copyOf(categories, index << 1);
+            }
+            categories[index] = (byte) (entry.category() != null ? entry.category() : WatchlistCategory.OTHER).ordinal();
+
+            scratch.clear();
+            BlockingKeys.append(NameNormalizer.tokens(normalized), scratch);
+            for (long key : BlockingKeys.distinct(scratch)) {
+                pairKeys.add(key);
+                pairEntries.add(index);
+            }
+            return true;
+        }
+
+        public WatchlistIndex build() {
+            LongIntHashMap rowByKey = new LongIntHashMap(Math.max(16, pairKeys.size() / 8), -1);
+            IntArrayList rowSizes = new IntArrayList(1024);
+            for (int i = 0; i < pairKeys.size(); i++) {
+                long key = pairKeys.get(i);
+                int row = rowByKey.get(key);
+                if (row < 0) {
+                    row = rowSizes.size();
+                    rowByKey.put(key, row);
+                    rowSizes.add(0);
+                }
+                rowSizes.rawArray()[row]++;
+            }
+
+            int rows = rowSizes.size();
+            int[] offsets = new int[rows + 1];
+            for (int row = 0; row < rows; row++) {
+                offsets[row + 1] = offsets[row] + rowSizes.get(row);
+            }
+            int[] fill = Arrays.copyOf(offsets, rows);
+            int[] postings = new int[pairKeys.size()];
+            int[] entries = pairEntries.rawArray();
+            for (int i = 0; i < pairKeys.size(); i++) {
+                postings[fill[rowByKey.get(pairKeys.get(i))]++] = entries[i];
+            }
+            return new WatchlistIndex(this, rowByKey, offsets, postings);
+        }
+
+        private String share(String value) {
+            return value == null ? null : sharedStrings.computeIfAbsent(value, v -> v);
+        }
+    }
+}
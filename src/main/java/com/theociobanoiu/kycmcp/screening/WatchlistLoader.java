@@ -0,0 +1,179 @@
+package com.theociobanoiu.kycmcp.screening;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.theociobanoiu.kycmcp.model.enums.WatchlistCategory;
+import com.theociobanoiu.kycmcp.util.csv.CsvLines;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Reads a watchlist file line by line into a {@link WatchlistIndex}.
+ * <p>
+ * Two formats are accepted, chosen by file extension:
+ * <ul>
+ *     <li>{@code .csv} with a header row; columns {@code name} (required), {@code id}, {@code date_of_birth},
+ *     {@code nationality}, {@code list} and {@code category}, in any order. Fields may be double-quoted.</li>
+ *     <li>{@code .jsonl} with one object per line using the keys {@code name}, {@code id}, {@code dateOfBirth},
+ *     {@code nationality}, {@code list} and {@code category}.</li>
+ * </ul>
+ * Dates are ISO {@code yyyy-MM-dd} or a bare year. Malformed lines are skipped and counted.
+ */
+@RequiredArgsConstructor
+@Slf4j
+public class WatchlistLoader {
+
+    private final ObjectMapper objectMapper;
+    private final ScreeningProperties properties;
+
+    public WatchlistIndex load(Path path) throws IOException {
+        String fileName = path.getFileName().toString().toLowerCase(Locale.ROOT);
+        WatchlistIndex.Builder builder = WatchlistIndex.builder(properties.maxBlockSize(), properties.maxCandidates());
+        long start = System.nanoTime();
+        int skipped;
+
+        try (BufferedReader reader = Files.newBufferedReader(path, StandardCharsets.UTF_8)) {
+            if (fileName.endsWith(".jsonl") || fileName.endsWith(".ndjson")) {
+                skipped = readJsonLines(reader, builder);
+            } else if (fileName.endsWith(".csv")) {
+                skipped = readCsv(reader, builder);
+            } else {
+                throw new IllegalArgumentException("Unsupported watchlist format: " + fileName + " (expected .csv or .jsonl)");
+            }
+        }
+
+        WatchlistIndex index = builder.build();
+        log.info("Loaded watchlist {} with {} entries ({} skipped) in {} ms",
+            path, index.size(), skipped, (System.nanoTime() - start) / 1_000_000);
+        return index;
+    }
+
+    private int readJsonLines(BufferedReader reader, WatchlistIndex.Builder builder) throws IOException {
+        int skipped = 0;
+        String line;
+        int lineNumber = 0;
+        while ((line = reader.readLine()) != null) {
+            lineNumber++;
+            if (line.isBlank()) {
+                continue;
+            }
+            try {
+                JsonNode node = objectMapper.readTree(line);
+                WatchlistEntry entry = entry(
+                    text(node, "id"), text(node, "name"), text(node, "dateOfBirth"),
+                    text(node, "nationality"), text(node, "list"), text(node, "category"), lineNumber);
+                if (!builder.add(entry)) {
+                    skipped++;
+                }
+            } catch (IOException | RuntimeException e) {
+                log.debug("Skipping watchlist line {}: {}", lineNumber, e.getMessage());
+                skipped++;
+            }
+        }
+        return skipped;
+    }
+
+    private int readCsv(BufferedReader reader, WatchlistIndex.Builder builder) throws IOException {
+        String header = reader.readLine();
+        if (header == null) {
+            return 0;
+        }
+        Map<String, Integer> columns = new HashMap<>();
+        List<String> headerFields = CsvLines.split(header);
+        for (int i = 0; i < headerFields.size(); i++) {
+            columns.put(headerFields.get(i).trim().toLowerCase(Locale.ROOT), i);
+        }
+        if (!columns.containsKey("name")) {
+            throw new IllegalArgumentException("Watchlist CSV must have a 'name' column");
+        }
+
+        int skipped = 0;
+        String line;
+        int lineNumber = 1;
+        while ((line = reader.readLine()) != null) {
+            lineNumber++;
+            if (line.isBlank()) {
+                continue;
+            }
+            try {
+                List<String> fields = CsvLines.split(line);
+                WatchlistEntry entry = entry(
+                    field(fields, columns, "id"), field(fields, columns, "name"),
+                    field(fields, columns, "date_of_birth"), field(fields, columns, "nationality"),
+                    field(fields, columns, "list"), field(fields, columns, "category"), lineNumber);
+                if (!builder.add(entry)) {
+                    skipped++;
+                }
+            } catch (RuntimeException e) {
+                log.debug("Skipping watchlist line {}: {}", lineNumber, e.getMessage());
+                skipped++;
+            }
+        }
+        return skipped;
+    }
+
+    private static WatchlistEntry entry(String id, String name, String dateOfBirth, String nationality,
+                                        String list, String category, int lineNumber) {
+        LocalDate date = null;
+        boolean yearOnly = false;
+        if (dateOfBirth != null && !dateOfBirth.isBlank()) {
+            String trimmed = dateOfBirth.trim();
+            try {
+                if (trimmed.length() == 4) {
+                    date = LocalDate.of(Integer.parseInt(trimmed), 1, 1);
+                    yearOnly = true;
+                } else {
+                    date = LocalDate.parse(trimmed);
+                }
+            } catch (DateTimeParseException | NumberFormatException e) {
+                log.debug("Ignoring unparseable date of birth '{}' on watchlist line {}", trimmed, lineNumber);
+            }
+        }
+        return new WatchlistEntry(
+            id != null ? id : "line-" + lineNumber,
+            name,
+            date,
+            yearOnly,
+            nationality,
+            list,
+            parseCategory(category)
+        );
+    }
+
+    private static WatchlistCategory parseCategory(String category) {
+        if (category == null || category.isBlank()) {
+            return WatchlistCategory.OTHER;
+        }
+        try {
+            return WatchlistCategory.valueOf(category.trim().toUpperCase(Locale.ROOT).replace(' ', '_'));
+        } catch (IllegalArgumentException e) {
+            return WatchlistCategory.OTHER;
+        }
+    }
+
+    private static String text(JsonNode node, String field) {
+        JsonNode value = node.get(field);
+        return value == null || value.isNull() ? null : value.asText();
+    }
+
+    private static String field(List<String> fields, Map<String, Integer> columns, String column) {
+        Integer index = columns.get(column);
+        if (index == null || index >= fields.size()) {
+            return null;
+        }
+        String value = fields.get(index).trim();
+        return value.isEmpty() ? null : value;
+    }
+}
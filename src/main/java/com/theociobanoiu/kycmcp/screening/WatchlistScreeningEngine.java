@@ -0,0 +1,73 @@
+package com.theociobanoiu.kycmcp.screening;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.theociobanoiu.kycmcp.model.dto.ScreeningHitDTO;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Holds the active {@link WatchlistIndex} and screens subjects against it.
+ * <p>
+ * The configured watchlist is loaded once at startup. {@link #reload(Path)} builds a complete new index
+ * off to the side and swaps it in atomically, so screening keeps running against the previous list
+ * while a new one loads.
+ */
+@Component
+@Slf4j
+public class WatchlistScreeningEngine implements SmartInitializingSingleton {
+
+    private final ScreeningProperties properties;
+    private final WatchlistLoader loader;
+    private final AtomicReference<WatchlistIndex> index = new AtomicReference<>(WatchlistIndex.empty());
+    private volatile boolean loaded;
+
+    public WatchlistScreeningEngine(ScreeningProperties properties, ObjectMapper objectMapper) {
+        this.properties = properties;
+        this.loader = new WatchlistLoader(objectMapper, properties);
+    }
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        if (properties.watchlistPath() == null || properties.watchlistPath().toString().isBlank()) {
+            log.warn("No watchlist configured (kyc.screening.watchlist-path); screening tools are unavailable");
+            return;
+        }
+        try {
+            reload(properties.watchlistPath());
+        } catch (IOException | RuntimeException e) {
+            log.error("Failed to load watchlist {}: {}", properties.watchlistPath(), e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Loads a watchlist file and makes it the active list.
+     */
+    public void reload(Path path) throws IOException {
+        index.set(loader.load(path));
+        loaded = true;
+    }
+
+    public boolean isLoaded() {
+        return loaded;
+    }
+
+    public int size() {
+        return index.get().size();
+    }
+
+    /**
+     * @throws IllegalStateException if no watchlist has been loaded
+     */
+    public List<ScreeningHitDTO> screen(ScreeningQuery query) {
+        if (!loaded) {
+            throw new IllegalStateException("No watchlist is loaded");
+        }
+        return index.get().screen(query, properties.matchThreshold(), properties.maxHits());
+    }
+}
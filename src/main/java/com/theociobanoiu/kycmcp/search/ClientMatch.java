@@ -0,0 +1,10 @@
+package com.theociobanoiu.kycmcp.search;
+
+/**
+ * A client returned by a {@link ClientNameSearchEngine}, with its name similarity to the query.
+ *
+ * @param clientId the matched client's id
+ * @param score    trigram similarity between the query and the client name, from 0.0 to 1.0
+ */
+public record ClientMatch(long clientId, double score) {
+}
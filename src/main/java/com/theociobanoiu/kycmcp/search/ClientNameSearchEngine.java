@@ -0,0 +1,32 @@
+package com.theociobanoiu.kycmcp.search;
+
+import com.theociobanoiu.kycmcp.model.entities.Client;
+import com.theociobanoiu.kycmcp.model.enums.RiskLevel;
+
+import java.util.List;
+
+/**
+ * Strategy for similarity-ranked client name search.
+ * <p>
+ * On PostgreSQL the ranking is delegated to the {@code pg_trgm} GIN index ({@link TrigramClientNameSearchEngine});
+ * on databases without trigram support an in-process {@link NGramIndex} is used instead
+ * ({@link NGramClientNameSearchEngine}). Both engines return the same ordering for the same data.
+ */
+public interface ClientNameSearchEngine {
+
+    /**
+     * Finds clients whose name contains or closely resembles the given fragment.
+     *
+     * @param name      name fragment to search for (must not be blank)
+     * @param riskLevel optional risk level filter, {@code null} for any
+     * @param limit     maximum number of matches to return
+     * @return matches ordered by similarity descending, then name, then id
+     */
+    List<ClientMatch> search(String name, RiskLevel riskLevel, int limit);
+
+    /**
+     * Notifies the engine that a client was created or changed. Engines backed by the database ignore it.
+     */
+    default void index(Client client) {
+    }
+}
@@ -0,0 +1,53 @@
+package com.theociobanoiu.kycmcp.search;
+
+import com.theociobanoiu.kycmcp.repository.ClientRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.support.JdbcUtils;
+import org.springframework.jdbc.support.MetaDataAccessException;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import javax.sql.DataSource;
+import java.sql.DatabaseMetaData;
+
+/**
+ * Selects the {@link ClientNameSearchEngine} for the configured database.
+ * With {@code kyc.search.engine=AUTO} PostgreSQL gets the trigram engine and every other database
+ * falls back to the in-process n-gram index.
+ */
+@Configuration
+@Slf4j
+public class ClientSearchConfiguration {
+
+    private static final String POSTGRESQL = "PostgreSQL";
+
+    @Bean
+    public ClientNameSearchEngine clientNameSearchEngine(ClientSearchProperties properties,
+                                                         DataSource dataSource,
+                                                         ClientRepository clientRepository,
+                                                         PlatformTransactionManager transactionManager) {
+        ClientSearchProperties.Engine engine = properties.engine();
+        if (engine == ClientSearchProperties.Engine.AUTO) {
+            engine = POSTGRESQL.equals(databaseProductName(dataSource))
+                ? ClientSearchProperties.Engine.TRIGRAM
+                : ClientSearchProperties.Engine.NGRAM;
+        }
+
+        log.info("Using {} client name search engine", engine);
+        return switch (engine) {
+            case TRIGRAM -> new TrigramClientNameSearchEngine(clientRepository);
+            case NGRAM, AUTO ->
+                new NGramClientNameSearchEngine(clientRepository, transactionManager, properties.similarityThreshold());
+        };
+    }
+
+    private static String databaseProductName(DataSource dataSource) {
+        try {
+            return JdbcUtils.extractDatabaseMetaData(dataSource, DatabaseMetaData::getDatabaseProductName);
+        } catch (MetaDataAccessException e) {
+            log.warn("Could not determine database product, falling back to in-process name index: {}", e.getMessage());
+            return "";
+        }
+    }
+}
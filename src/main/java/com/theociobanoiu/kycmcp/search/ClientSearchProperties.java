@@ -0,0 +1,41 @@
+package com.theociobanoiu.kycmcp.search;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * Configuration for client name search, bound from {@code kyc.search}.
+ *
+ * @param engine              which {@link ClientNameSearchEngine} to use; {@code AUTO} picks by database product
+ * @param defaultLimit        number of results returned when the caller does not ask for a limit
+ * @param maxLimit            upper bound applied to any requested limit
+ * @param similarityThreshold minimum trigram similarity for a fuzzy match in the in-process engine
+ *                            (PostgreSQL uses {@code pg_trgm.similarity_threshold}, 0.3 by default)
+ * @param maxBatchSize        most client ids looked up by one {@code get_clients_batch} call
+ */
+@ConfigurationProperties(prefix = "kyc.search")
+public record ClientSearchProperties(
+    @DefaultValue("AUTO") Engine engine,
+    @DefaultValue("25") int defaultLimit,
+    @DefaultValue("200") int maxLimit,
+    @DefaultValue("0.3") double similarityThreshold,
+    @DefaultValue("200") int maxBatchSize
+) {
+
+    public enum Engine {
+        AUTO,
+        TRIGRAM,
+        NGRAM
+    }
+
+    /**
+     * Resolves a caller-supplied limit: missing or non-positive values fall back to the default,
+     * anything above the maximum is capped.
+     */
+    public int resolveLimit(Integer requested) {
+        if (requested == null || requested <= 0) {
+            return defaultLimit;
+        }
+        return Math.min(requested, maxLimit);
+    }
+}
@@ -0,0 +1,76 @@
+package com.theociobanoiu.kycmcp.search;
+
+import com.theociobanoiu.kycmcp.model.entities.Client;
+import com.theociobanoiu.kycmcp.model.enums.RiskLevel;
+import com.theociobanoiu.kycmcp.repository.ClientRepository;
+import com.theociobanoiu.kycmcp.repository.projection.ClientNameView;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * Name search engine for databases without trigram support (H2 in tests and local runs).
+ * <p>
+ * The {@link NGramIndex} is loaded once at startup by streaming every client's id, name and risk level,
+ * and is kept current through {@link #index(Client)}. Index updates issued inside a transaction are
+ * applied only after it commits, so a rolled-back insert never becomes searchable.
+ */
+@Slf4j
+public class NGramClientNameSearchEngine implements ClientNameSearchEngine, SmartInitializingSingleton {
+
+    private final ClientRepository clientRepository;
+    private final TransactionTemplate readOnlyTransaction;
+    private final double similarityThreshold;
+    private final NGramIndex index = new NGramIndex();
+
+    public NGramClientNameSearchEngine(ClientRepository clientRepository,
+                                       PlatformTransactionManager transactionManager,
+                                       double similarityThreshold) {
+        this.clientRepository = clientRepository;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.similarityThreshold = similarityThreshold;
+    }
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        long start = System.nanoTime();
+        readOnlyTransaction.executeWithoutResult(status -> {
+            try (Stream<ClientNameView> clients = clientRepository.streamNameIndexEntries()) {
+                clients.forEach(client -> index.put(client.getId(), client.getName(), client.getRiskLevel()));
+            }
+        });
+        log.info("Built in-process client name index with {} clients in {} ms",
+            index.size(), (System.nanoTime() - start) / 1_000_000);
+    }
+
+    @Override
+    public List<ClientMatch> search(String name, RiskLevel riskLevel, int limit) {
+        log.debug("N-gram search for name: {}, risk: {}, limit: {}", name, riskLevel, limit);
+        return index.search(name, riskLevel, limit, similarityThreshold);
+    }
+
+    @Override
+    public void index(Client client) {
+        long id = client.getId();
+        String name = client.getName();
+        RiskLevel riskLevel = client.getRiskLevel();
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    index.put(id, name, riskLevel);
+                }
+            });
+        } else {
+            index.put(id, name, riskLevel);
+        }
+    }
+}
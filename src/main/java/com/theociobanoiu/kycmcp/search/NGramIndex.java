@@ -0,0 +1,203 @@
+package com.theociobanoiu.kycmcp.search;
+
+import com.theociobanoiu.kycmcp.model.enums.RiskLevel;
+import com.theociobanoiu.kycmcp.util.collections.IntArrayList;
+import com.theociobanoiu.kycmcp.util.collections.LongIntHashMap;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * In-process trigram index over client names with pg_trgm compatible ranking.
+ * <p>
+ * Every indexed client occupies a slot in a set of parallel arrays (id, lower-cased name, risk level,
+ * trigram count). Each distinct trigram maps to a posting list of slots. A query counts, per slot, how
+ * many of its trigrams it shares with the candidate by walking only the posting lists of its own
+ * trigrams, so the cost is proportional to the number of candidates rather than to the table size.
+ * A client matches when its name contains the query or its similarity reaches the threshold, mirroring
+ * {@code LOWER(name) LIKE '%q%' OR LOWER(name) % q} on PostgreSQL.
+ * <p>
+ * Re-indexing a client whose name changed tombstones the old slot and appends a new one. Lookups share
+ * a read lock; writes take the write lock.
+ */
+public class NGramIndex {
+
+    private static final byte NO_RISK_LEVEL = -1;
+    private static final int INITIAL_CAPACITY = 1024;
+
+    private static final Comparator<Candidate> WORST_FIRST = Comparator
+        .comparingDouble(Candidate::score)
+        .thenComparing(Candidate::name, Comparator.reverseOrder())
+        .thenComparing(Candidate::id, Comparator.reverseOrder());
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<Long, IntArrayList> postings = new HashMap<>();
+    private final LongIntHashMap slotsById = new LongIntHashMap(INITIAL_CAPACITY, -1);
+
+    private long[] ids = new long[INITIAL_CAPACITY];
+    private String[] names = new String[INITIAL_CAPACITY];
+    private byte[] riskLevels = new byte[INITIAL_CAPACITY];
+    private int[] trigramCounts = new int[INITIAL_CAPACITY];
+    private int slots;
+    private int liveCount;
+
+    /**
+     * Adds a client to the index or refreshes an existing entry.
+     */
+    public void put(long id, String name, RiskLevel riskLevel) {
+        String normalized = Trigrams.normalize(name);
+        byte risk = riskLevel != null ? (byte) riskLevel.ordinal() : NO_RISK_LEVEL;
+
+        lock.writeLock().lock();
+        try {
+            int existing = slotsById.get(id);
+            if (existing >= 0) {
+                if (normalized.equals(names[existing])) {
+                    riskLevels[existing] = risk;
+                    return;
+                }
+                names[existing] = null;
+                liveCount--;
+            }
+
+            int slot = allocateSlot();
+            long[] grams = Trigrams.extract(normalized);
+            ids[slot] = id;
+            names[slot] = normalized;
+            riskLevels[slot] = risk;
+            trigramCounts[slot] = grams.length;
+            for (long gram : grams) {
+                postings.computeIfAbsent(gram, key -> new IntArrayList()).add(slot);
+            }
+            slotsById.put(id, slot);
+            liveCount++;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Finds the best matching clients for a name query.
+     *
+     * @param query     raw name fragment as typed by the caller
+     * @param riskLevel optional risk level filter, {@code null} for any
+     * @param limit     maximum number of matches to return
+     * @param threshold minimum similarity for a match that does not contain the query as a substring
+     * @return matches ordered by similarity descending, then name, then id
+     */
+    public List<ClientMatch> search(String query, RiskLevel riskLevel, int limit, double threshold) {
+        String normalized = Trigrams.normalize(query);
+        if (normalized.isEmpty() || limit <= 0) {
+            return List.of();
+        }
+        long[] queryGrams = Trigrams.extract(normalized);
+        byte risk = riskLevel != null ? (byte) riskLevel.ordinal() : NO_RISK_LEVEL;
+        PriorityQueue<Candidate> top = new PriorityQueue<>(limit + 1, WORST_FIRST);
+
+        lock.readLock().lock();
+        try {
+            if (normalized.length() < 3) {
+                // Too short to be selective through posting lists; a substring scan is cheaper.
+                scanForSubstring(normalized, queryGrams, risk, limit, top);
+            } else {
+                collectFromPostings(normalized, queryGrams, risk, threshold, limit, top);
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        List<Candidate> ranked = new ArrayList<>(top);
+        ranked.sort(WORST_FIRST.reversed());
+        return ranked.stream()
+            .map(candidate -> new ClientMatch(candidate.id(), candidate.score()))
+            .toList();
+    }
+
+    /**
+     * Number of clients currently searchable.
+     */
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return liveCount;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void collectFromPostings(String normalized, long[] queryGrams, byte risk, double threshold,
+                                     int limit, PriorityQueue<Candidate> top) {
+        // Sized by the candidates rather than by the index, so a query allocates little however many clients it holds
+        LongIntHashMap shared = new LongIntHashMap(256, 0);
+        IntArrayList touched = new IntArrayList(256);
+        for (long gram : queryGrams) {
+            IntArrayList list = postings.get(gram);
+            if (list == null) {
+                continue;
+            }
+            int[] raw = list.rawArray();
+            for (int i = 0, n = list.size(); i < n; i++) {
+                int slot = raw[i];
+                if (shared.addTo(slot, 1) == 1) {
+                    touched.add(slot);
+                }
+            }
+        }
+
+        int[] candidates = touched.rawArray();
+        for (int i = 0, n = touched.size(); i < n; i++) {
+            int slot = candidates[i];
+            String name = names[slot];
+            if (name == null || (risk != NO_RISK_LEVEL && riskLevels[slot] != risk)) {
+                continue;
+            }
+            double score = Trigrams.similarity(shared.get(slot), queryGrams.length, trigramCounts[slot]);
+            if (score >= threshold || name.contains(normalized)) {
+                offer(top, new Candidate(ids[slot], name, score), limit);
+            }
+        }
+    }
+
+    private void scanForSubstring(String normalized, long[] queryGrams, byte risk, int limit,
+                                  PriorityQueue<Candidate> top) {
+        for (int slot = 0; slot < slots; slot++) {
+            String name = names[slot];
+            if (name == null || (risk != NO_RISK_LEVEL && riskLevels[slot] != risk) || !name.contains(normalized)) {
+                continue;
+            }
+            long[] nameGrams = Trigrams.extract(name);
+            int shared = Trigrams.intersectionSize(queryGrams, nameGrams);
+            double score = Trigrams.similarity(shared, queryGrams.length, nameGrams.length);
+            offer(top, new Candidate(ids[slot], name, score), limit);
+        }
+    }
+
+    private static void offer(PriorityQueue<Candidate> top, Candidate candidate, int limit) {
+        if (top.size() < limit) {
+            top.add(candidate);
+        } else if (WORST_FIRST.compare(candidate, top.peek()) > 0) {
+            top.poll();
+            top.add(candidate);
+        }
+    }
+
+    private int allocateSlot() {
+        if (slots == ids.length) {
+            int capacity = ids.length << 1;
+            ids = Arrays.copyOf(ids, capacity);
+            names = Arrays.copyOf(names, capacity);
+            riskLevels = Arrays.copyOf(riskLevels, capacity);
+            trigramCounts = Arrays.copyOf(trigramCounts, capacity);
+        }
+        return slots++;
+    }
+
+    private record Candidate(long id, String name, double score) {
+    }
+}
@@ -0,0 +1,421 @@
+package com.theociobanoiu.kycmcp.search;
+
+import com.theociobanoiu.kycmcp.model.dto.PersonMatchDTO;
+import com.theociobanoiu.kycmcp.model.enums.PersonSearchField;
+import com.theociobanoiu.kycmcp.model.enums.RelationshipType;
+import com.theociobanoiu.kycmcp.repository.projection.PersonSearchRow;
+import com.theociobanoiu.kycmcp.screening.BlockingKeys;
+import com.theociobanoiu.kycmcp.screening.NameNormalizer;
+import com.theociobanoiu.kycmcp.util.collections.LongArrayList;
+import com.theociobanoiu.kycmcp.util.collections.LongIntHashMap;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * In-memory inverted token index over persons' first and last names, identification numbers, nationalities and
+ * addresses.
+ * <p>
+ * Every indexed person occupies a slot in a set of parallel arrays holding what a search result shows. Values
+ * are {@linkplain NameNormalizer normalized} and split into tokens; an identification number written with
+ * separators is also indexed in its joined form, so {@code "AB 123 456"} is found as {@code AB123456}. Each
+ * distinct token maps to a posting list of {@code slot << 5 | fields}, the fields being a bit per
+ * {@link PersonSearchField} the token occurs in. Slots are only ever appended, so posting lists stay sorted by
+ * slot and can be probed by binary search. Addresses are indexed but not stored.
+ * <p>
+ * A query token contributes its inverse document frequency, weighted by the most significant attribute it
+ * matched in. Results rank by the number of distinct query tokens matched, then by score. The posting lists of
+ * the query tokens are merged in slot order, so each candidate is scored once without per-candidate state. A
+ * list longer than {@code maxSeedPostings} (a common nationality or city) adds no candidates of its own and
+ * is only probed, by galloping search, for the candidates found through rarer tokens, so a query costs the size
+ * of its most selective lists rather than of the index.
+ * <p>
+ * Re-indexing a person tombstones the old slot and appends a new one. Lookups share a read lock; writes take
+ * the write lock.
+ */
+public final class PersonIndex {
+
+    private static final int FIELD_BITS = 5;
+    private static final int FIELD_MASK = (1 << FIELD_BITS) - 1;
+    private static final int MAX_QUERY_TOKENS = 8;
+    private static final int NO_SLOT = -1;
+    private static final long TOMBSTONE = -1;
+    private static final byte NO_RELATIONSHIP = -1;
+
+    private static final PersonSearchField[] FIELDS = PersonSearchField.values();
+    private static final RelationshipType[] RELATIONSHIP_TYPES = RelationshipType.values();
+    private static final double[] FIELD_WEIGHTS = new double[1 << FIELD_BITS];
+
+    static {
+        double[] weightByField = new double[FIELDS.length];
+        weightByField[PersonSearchField.IDENTIFICATION_NUMBER.ordinal()] = 3.0;
+        weightByField[PersonSearchField.LAST_NAME.ordinal()] = 2.0;
+        weightByField[PersonSearchField.FIRST_NAME.ordinal()] = 1.5;
+        weightByField[PersonSearchField.NATIONALITY.ordinal()] = 0.5;
+        weightByField[PersonSearchField.ADDRESS.ordinal()] = 0.5;
+        // Weight of a field mask is the weight of its most significant field
+        for (int mask = 1; mask < FIELD_WEIGHTS.length; mask++) {
+            for (int field = 0; field < FIELDS.length; field++) {
+                if ((mask & (1 << field)) != 0) {
+                    FIELD_WEIGHTS[mask] = Math.max(FIELD_WEIGHTS[mask], weightByField[field]);
+                }
+            }
+        }
+    }
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final LongIntHashMap termIds;
+    private final LongIntHashMap slotById;
+    private int[][] postings;
+    private int[] postingCounts;
+    private int termCount;
+
+    private long[] ids;
+    private long[] clientIds;
+    private String[] clientNames;
+    private String[] firstNames;
+    private String[] lastNames;
+    private String[] identificationNumbers;
+    private String[] nationalities;
+    private byte[] relationshipTypes;
+    private int slots;
+    private int liveCount;
+
+    public PersonIndex() {
+        this(1024);
+    }
+
+    /**
+     * @param expectedPersons number of persons the index should hold without resizing
+     */
+    public PersonIndex(int expectedPersons) {
+        int capacity = Math.max(16, expectedPersons);
+        termIds = new LongIntHashMap(capacity, NO_SLOT);
+        slotById = new LongIntHashMap(capacity, NO_SLOT);
+        postings = new int[capacity][];
+        postingCounts = new int[capacity];
+        ids = new long[capacity];
+        clientIds = new long[capacity];
+        clientNames = new String[capacity];
+        firstNames = new String[capacity];
+        lastNames = new String[capacity];
+        identificationNumbers = new String[capacity];
+        nationalities = new String[capacity];
+        relationshipTypes = new byte[capacity];
+    }
+
+    /**
+     * Adds a person to the index or replaces their existing entry.
+     */
+    public void put(PersonSearchRow person) {
+        LongArrayList terms = new LongArrayList(16);
+        LongIntHashMap fieldsByTerm = new LongIntHashMap(16, 0);
+        collect(person.firstName(), PersonSearchField.FIRST_NAME, terms, fieldsByTerm);
+        collect(person.lastName(), PersonSearchField.LAST_NAME, terms, fieldsByTerm);
+        collect(person.identificationNumber(), PersonSearchField.IDENTIFICATION_NUMBER, terms, fieldsByTerm);
+        collect(person.nationality(), PersonSearchField.NATIONALITY, terms, fieldsByTerm);
+        collect(person.address(), PersonSearchField.ADDRESS, terms, fieldsByTerm);
+
+        lock.writeLock().lock();
+        try {
+            int existing = slotById.get(person.id());
+            if (existing != NO_SLOT) {
+                ids[existing] = TOMBSTONE;
+                liveCount--;
+            }
+
+            int slot = allocateSlot();
+            ids[slot] = person.id();
+            clientIds[slot] = person.clientId();
+            clientNames[slot] = person.clientName();
+            firstNames[slot] = person.firstName();
+            lastNames[slot] = person.lastName();
+            identificationNumbers[slot] = person.identificationNumber();
+            nationalities[slot] = person.nationality();
+            relationshipTypes[slot] = person.relationshipType() != null
+                ? (byte) person.relationshipType().ordinal() : NO_RELATIONSHIP;
+            for (int i = 0; i < terms.size(); i++) {
+                long term = terms.get(i);
+                addPosting(termId(term), slot << FIELD_BITS | fieldsByTerm.get(term));
+            }
+            slotById.put(person.id(), slot);
+            liveCount++;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Finds the persons best matching the tokens of a free-text query.
+     *
+     * @param query           names, identification numbers, nationalities or address fragments, in any order
+     * @param limit           maximum number of matches to return
+     * @param maxSeedPostings tokens on more persons than this only rank candidates found through rarer tokens
+     * @return matches ordered by matched tokens descending, then score descending, then person id
+     */
+    public List<PersonMatchDTO> search(String query, int limit, int maxSeedPostings) {
+        List<String> tokens = NameNormalizer.tokens(NameNormalizer.normalize(query));
+        Set<Long> keys = new LinkedHashSet<>();
+        for (String token : tokens) {
+            if (keys.size() == MAX_QUERY_TOKENS) {
+                break;
+            }
+            keys.add(BlockingKeys.hash(token));
+        }
+
+        lock.readLock().lock();
+        try {
+            int[] queryTerms = keys.stream()
+                .mapToInt(termIds::get)
+                .filter(term -> term != NO_SLOT)
+                .boxed()
+                .sorted((a, b) -> Integer.compare(postingCounts[a], postingCounts[b]))
+                .mapToInt(Integer::intValue)
+                .toArray();
+            if (queryTerms.length == 0 || limit <= 0) {
+                return List.of();
+            }
+
+            // Document-at-a-time merge: every slot on a seeding list is visited once, in slot order, and the
+            // cursors of the other lists only ever move forward
+            int terms = queryTerms.length;
+            int[] cursors = new int[terms];
+            double[] idfs = new double[terms];
+            boolean[] seeding = new boolean[terms];
+            for (int i = 0; i < terms; i++) {
+                int count = postingCounts[queryTerms[i]];
+                idfs[i] = Math.log(1 + (double) liveCount / count);
+                seeding[i] = i == 0 || count <= maxSeedPostings;
+            }
+
+            TopMatches top = new TopMatches(limit);
+            while (true) {
+                int slot = Integer.MAX_VALUE;
+                for (int i = 0; i < terms; i++) {
+                    if (seeding[i] && cursors[i] < postingCounts[queryTerms[i]]) {
+                        slot = Math.min(slot, postings[queryTerms[i]][cursors[i]] >>> FIELD_BITS);
+                    }
+                }
+                if (slot == Integer.MAX_VALUE) {
+                    break;
+                }
+
+                int matched = 0;
+                int fields = 0;
+                double score = 0;
+                for (int i = 0; i < terms; i++) {
+                    int term = queryTerms[i];
+                    int cursor = seeding[i] ? cursors[i] : advance(term, cursors[i], slot);
+                    cursors[i] = cursor;
+                    if (cursor < postingCounts[term] && postings[term][cursor] >>> FIELD_BITS == slot) {
+                        int termFields = postings[term][cursor] & FIELD_MASK;
+                        matched++;
+                        fields |= termFields;
+                        score += idfs[i] * FIELD_WEIGHTS[termFields];
+                        cursors[i] = cursor + 1;
+                    }
+                }
+                top.offer(slot, matched, fields, score);
+            }
+            return top.matches();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return liveCount;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int termCount() {
+        lock.readLock().lock();
+        try {
+            return termCount;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private static void collect(String value, PersonSearchField field, LongArrayList terms,
+                                LongIntHashMap fieldsByTerm) {
+        String normalized = NameNormalizer.normalize(value);
+        if (normalized.isEmpty()) {
+            return;
+        }
+        List<String> tokens = NameNormalizer.tokens(normalized);
+        if (field == PersonSearchField.IDENTIFICATION_NUMBER && tokens.size() > 1) {
+            tokens.add(normalized.replace(" ", ""));
+        }
+        int bit = 1 << field.ordinal();
+        for (String token : tokens) {
+            long term = BlockingKeys.hash(token);
+            int fields = fieldsByTerm.get(term);
+            if (fields == 0) {
+                terms.add(term);
+            }
+            fieldsByTerm.put(term, fields | bit);
+        }
+    }
+
+    private int termId(long term) {
+        int id = termIds.get(term);
+        if (id != NO_SLOT) {
+            return id;
+        }
+        if (termCount == postings.length) {
+            int capacity = termCount + (termCount >> 1);
+            postings = Arrays.copyOf(postings, capacity);
+            postingCounts = Arrays.copyOf(postingCounts, capacity);
+        }
+        id = termCount++;
+        postings[id] = new int[2];
+        termIds.put(term, id);
+        return id;
+    }
+
+    private void addPosting(int term, int entry) {
+        int count = postingCounts[term];
+        if (count == postings[term].length) {
+            postings[term] = Arrays.copyOf(postings[term], count << 1);
+        }
+        postings[term][count] = entry;
+        postingCounts[term] = count + 1;
+    }
+
+    private int allocateSlot() {
+        if (slots == ids.length) {
+            int capacity = slots + (slots >> 1);
+            ids = Arrays.copyOf(ids, capacity);
+            clientIds = Arrays.copyOf(clientIds, capacity);
+            clientNames = Arrays.copyOf(clientNames, capacity);
+            firstNames = Arrays.copyOf(firstNames, capacity);
+            lastNames = Arrays.copyOf(lastNames, capacity);
+            identificationNumbers = Arrays.copyOf(identificationNumbers, capacity);
+            nationalities = Arrays.copyOf(nationalities, capacity);
+            relationshipTypes = Arrays.copyOf(relationshipTypes, capacity);
+        }
+        return slots++;
+    }
+
+    /**
+     * Galloping search of a term's posting list, starting at {@code from}, for the first entry at or after a slot.
+     * Costs the logarithm of the distance skipped, so probing a long list for a few candidates stays cheap.
+     *
+     * @return index of that entry, or the list's length if there is none
+     */
+    private int advance(int term, int from, int slot) {
+        int[] entries = postings[term];
+        int count = postingCounts[term];
+        int low = from;
+        int step = 1;
+        int high = from;
+        while (high < count && entries[high] >>> FIELD_BITS < slot) {
+            low = high + 1;
+            high = from + step;
+            step <<= 1;
+        }
+        high = Math.min(high, count);
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (entries[mid] >>> FIELD_BITS < slot) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * The best matches of one query so far, kept sorted best first; a candidate only costs a comparison with the
+     * worst kept match unless it displaces it.
+     */
+    private final class TopMatches {
+
+        private final int[] slots;
+        private final int[] matched;
+        private final int[] fields;
+        private final double[] scores;
+        private int size;
+
+        TopMatches(int limit) {
+            slots = new int[limit];
+            matched = new int[limit];
+            fields = new int[limit];
+            scores = new double[limit];
+        }
+
+        void offer(int slot, int matchedTokens, int matchedFields, double score) {
+            // Ranks first: most candidates are turned away there, without touching the slot's id
+            boolean full = size == slots.length;
+            if (full && !ranksAbove(matchedTokens, score, slot, size - 1) || ids[slot] == TOMBSTONE) {
+                return;
+            }
+            int position = Math.min(size, slots.length - 1);
+            while (position > 0 && ranksAbove(matchedTokens, score, slot, position - 1)) {
+                slots[position] = slots[position - 1];
+                matched[position] = matched[position - 1];
+                fields[position] = fields[position - 1];
+                scores[position] = scores[position - 1];
+                position--;
+            }
+            slots[position] = slot;
+            matched[position] = matchedTokens;
+            fields[position] = matchedFields;
+            scores[position] = score;
+            size = Math.min(size + 1, slots.length);
+        }
+
+        private boolean ranksAbove(int matchedTokens, double score, int slot, int position) {
+            if (matchedTokens != matched[position]) {
+                return matchedTokens > matched[position];
+            }
+            if (score != scores[position]) {
+                return score > scores[position];
+            }
+            return ids[slot] < ids[slots[position]];
+        }
+
+        List<PersonMatchDTO> matches() {
+            List<PersonMatchDTO> matches = new ArrayList<>(size);
+            for (int i = 0; i < size; i++) {
+                matches.add(match(i));
+            }
+            return matches;
+        }
+
+        private PersonMatchDTO match(int position) {
+            int slot = slots[position];
+            Set<PersonSearchField> matchedOn = EnumSet.noneOf(PersonSearchField.class);
+            for (PersonSearchField field : FIELDS) {
+                if ((fields[position] & (1 << field.ordinal())) != 0) {
+                    matchedOn.add(field);
+                }
+            }
+            byte relationship = relationshipTypes[slot];
+            return new PersonMatchDTO(
+                ids[slot],
+                clientIds[slot],
+                clientNames[slot],
+                firstNames[slot],
+                lastNames[slot],
+                identificationNumbers[slot],
+                nationalities[slot],
+                relationship != NO_RELATIONSHIP ? RELATIONSHIP_TYPES[relationship] : null,
+                matched[position],
+                Math.round(scores[position] * 1000) / 1000.0,
+                matchedOn);
+        }
+    }
+}
@@ -0,0 +1,99 @@
+package com.theociobanoiu.kycmcp.search;
+
+import com.theociobanoiu.kycmcp.model.dto.PersonMatchDTO;
+import com.theociobanoiu.kycmcp.model.entities.Person;
+import com.theociobanoiu.kycmcp.repository.PersonRepository;
+import com.theociobanoiu.kycmcp.repository.projection.PersonSearchRow;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * Keeps the {@link PersonIndex} of every person in memory, so persons are found by name, identification number,
+ * nationality or address without a query.
+ * <p>
+ * The index is loaded once at startup by streaming the searchable attributes of every person, and is kept
+ * current through {@link #index(Person, String)}. Updates issued inside a transaction are applied only after it
+ * commits, so a rolled-back insert never becomes searchable.
+ */
+@Component
+@Slf4j
+public class PersonSearchEngine implements SmartInitializingSingleton {
+
+    private final PersonRepository personRepository;
+    private final PersonSearchProperties properties;
+    private final TransactionTemplate readOnlyTransaction;
+    private final PersonIndex index = new PersonIndex();
+
+    public PersonSearchEngine(PersonRepository personRepository,
+                              PersonSearchProperties properties,
+                              PlatformTransactionManager transactionManager) {
+        this.personRepository = personRepository;
+        this.properties = properties;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+    }
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        long start = System.nanoTime();
+        readOnlyTransaction.executeWithoutResult(status -> {
+            try (Stream<PersonSearchRow> persons = personRepository.streamSearchIndexRows()) {
+                persons.forEach(index::put);
+            }
+        });
+        log.info("Built person search index with {} persons and {} tokens in {} ms",
+            index.size(), index.termCount(), (System.nanoTime() - start) / 1_000_000);
+    }
+
+    /**
+     * Finds the persons best matching a free-text query.
+     *
+     * @param query names, identification numbers, nationalities or address fragments, in any order
+     * @param limit maximum number of matches to return
+     */
+    public List<PersonMatchDTO> search(String query, int limit) {
+        return index.search(query, limit, properties.maxSeedPostings());
+    }
+
+    /**
+     * Adds a created or changed person to the index.
+     *
+     * @param clientName name of the person's client, passed separately so an unloaded client reference is not
+     *                   initialized for it
+     */
+    public void index(Person person, String clientName) {
+        PersonSearchRow row = new PersonSearchRow(
+            person.getId(),
+            person.getClient().getId(),
+            clientName,
+            person.getFirstName(),
+            person.getLastName(),
+            person.getIdentificationNumber(),
+            person.getNationality(),
+            person.getAddress(),
+            person.getRelationshipType());
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    index.put(row);
+                }
+            });
+        } else {
+            index.put(row);
+        }
+    }
+
+    public int size() {
+        return index.size();
+    }
+}
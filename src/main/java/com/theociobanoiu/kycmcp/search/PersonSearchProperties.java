@@ -0,0 +1,31 @@
+package com.theociobanoiu.kycmcp.search;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * Configuration for person search, bound from {@code kyc.person-search}.
+ *
+ * @param defaultLimit    number of results returned when the caller does not ask for a limit
+ * @param maxLimit        upper bound applied to any requested limit
+ * @param maxSeedPostings query tokens found on more persons than this (a common nationality or city) do not
+ *                        add candidates of their own, they only rank the candidates found through rarer tokens
+ */
+@ConfigurationProperties(prefix = "kyc.person-search")
+public record PersonSearchProperties(
+    @DefaultValue("10") int defaultLimit,
+    @DefaultValue("100") int maxLimit,
+    @DefaultValue("10000") int maxSeedPostings
+) {
+
+    /**
+     * Resolves a caller-supplied limit: missing or non-positive values fall back to the default,
+     * anything above the maximum is capped.
+     */
+    public int resolveLimit(Integer requested) {
+        if (requested == null || requested <= 0) {
+            return defaultLimit;
+        }
+        return Math.min(requested, maxLimit);
+    }
+}
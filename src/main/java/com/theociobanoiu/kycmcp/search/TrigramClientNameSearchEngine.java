@@ -0,0 +1,47 @@
+package com.theociobanoiu.kycmcp.search;
+
+import com.theociobanoiu.kycmcp.model.enums.RiskLevel;
+import com.theociobanoiu.kycmcp.repository.ClientRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.List;
+
+/**
+ * PostgreSQL name search engine. Matching and ranking run in the database against the
+ * {@code idx_clients_name_trgm} GIN index created by the {@code 007-add-client-name-search-indexes} changeset,
+ * so the cost no longer grows with the size of the {@code clients} table.
+ */
+@RequiredArgsConstructor
+@Slf4j
+public class TrigramClientNameSearchEngine implements ClientNameSearchEngine {
+
+    private final ClientRepository clientRepository;
+
+    @Override
+    public List<ClientMatch> search(String name, RiskLevel riskLevel, int limit) {
+        log.debug("Trigram search for name: {}, risk: {}, limit: {}", name, riskLevel, limit);
+
+        return clientRepository.searchByNameSimilarity(name, containsPattern(name),
+                riskLevel != null ? riskLevel.name() : null, limit)
+            .stream()
+            .map(match -> new ClientMatch(match.getClientId(), match.getScore()))
+            .toList();
+    }
+
+    /**
+     * LIKE pattern for names containing the fragment literally: its wildcards are escaped, so a {@code %} or
+     * {@code _} typed by the caller does not match every name.
+     */
+    static String containsPattern(String fragment) {
+        StringBuilder pattern = new StringBuilder(fragment.length() + 8).append('%');
+        for (int i = 0; i < fragment.length(); i++) {
+            char c = fragment.charAt(i);
+            if (c == '%' || c == '_' || c == '\\') {
+                pattern.append('\\');
+            }
+            pattern.append(c);
+        }
+        return pattern.append('%').toString();
+    }
+}
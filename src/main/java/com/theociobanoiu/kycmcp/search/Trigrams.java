@@ -0,0 +1,108 @@
+package com.theociobanoiu.kycmcp.search;
+
+import java.util.Arrays;
+import java.util.Locale;
+
+/**
+ * Trigram extraction compatible with PostgreSQL's {@code pg_trgm} extension.
+ * <p>
+ * Text is lower-cased and split into words on every non-alphanumeric character. Each word is padded
+ * with two leading blanks and one trailing blank before taking every run of three characters, so
+ * {@code "cat"} yields {@code "  c", " ca", "cat", "at "}. Trigrams are packed into a {@code long}
+ * (three 16-bit chars) so that sets of them can be sorted and intersected without allocation.
+ */
+public final class Trigrams {
+
+    private static final long[] NONE = new long[0];
+
+    private Trigrams() {
+    }
+
+    /**
+     * Lower-cases and trims a name the same way the database side does with {@code LOWER(name)}.
+     */
+    public static String normalize(String text) {
+        return text == null ? "" : text.trim().toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * Returns the distinct trigrams of an already {@linkplain #normalize(String) normalized} text, sorted ascending.
+     */
+    public static long[] extract(String normalized) {
+        if (normalized.isEmpty()) {
+            return NONE;
+        }
+        long[] grams = new long[normalized.length() * 3 + 3];
+        int count = 0;
+        int wordStart = -1;
+        for (int i = 0; i <= normalized.length(); i++) {
+            boolean wordChar = i < normalized.length() && Character.isLetterOrDigit(normalized.charAt(i));
+            if (wordChar && wordStart < 0) {
+                wordStart = i;
+            } else if (!wordChar && wordStart >= 0) {
+                count = appendWord(normalized, wordStart, i, grams, count);
+                wordStart = -1;
+            }
+        }
+        if (count == 0) {
+            return NONE;
+        }
+        Arrays.sort(grams, 0, count);
+        int distinct = 1;
+        for (int i = 1; i < count; i++) {
+            if (grams[i] != grams[distinct - 1]) {
+                grams[distinct++] = grams[i];
+            }
+        }
+        return Arrays.copyOf(grams, distinct);
+    }
+
+    /**
+     * Number of trigrams two sorted, distinct trigram arrays have in common.
+     */
+    public static int intersectionSize(long[] left, long[] right) {
+        int i = 0;
+        int j = 0;
+        int shared = 0;
+        while (i < left.length && j < right.length) {
+            if (left[i] == right[j]) {
+                shared++;
+                i++;
+                j++;
+            } else if (left[i] < right[j]) {
+                i++;
+            } else {
+                j++;
+            }
+        }
+        return shared;
+    }
+
+    /**
+     * pg_trgm similarity: shared trigrams divided by the size of the union of both sets.
+     */
+    public static double similarity(int shared, int leftCount, int rightCount) {
+        int union = leftCount + rightCount - shared;
+        return union == 0 ? 0.0 : (double) shared / union;
+    }
+
+    private static int appendWord(String text, int start, int end, long[] grams, int count) {
+        // Padded form: "  " + word + " "
+        int paddedLength = end - start + 3;
+        for (int p = 0; p + 3 <= paddedLength; p++) {
+            grams[count++] = pack(paddedChar(text, start, end, p),
+                paddedChar(text, start, end, p + 1),
+                paddedChar(text, start, end, p + 2));
+        }
+        return count;
+    }
+
+    private static char paddedChar(String text, int start, int end, int paddedIndex) {
+        int index = start + paddedIndex - 2;
+        return index < start || index >= end ? ' ' : text.charAt(index);
+    }
+
+    private static long pack(char a, char b, char c) {
+        return ((long) a << 32) | ((long) b << 16) | c;
+    }
+}
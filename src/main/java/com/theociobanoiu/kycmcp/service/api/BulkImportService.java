@@ -0,0 +1,47 @@
+package com.theociobanoiu.kycmcp.service.api;
+
+import com.theociobanoiu.kycmcp.bulkimport.ImportFormat;
+import com.theociobanoiu.kycmcp.bulkimport.ImportTarget;
+import com.theociobanoiu.kycmcp.model.dto.ImportResultDTO;
+
+import java.io.InputStream;
+
+/**
+ * Service interface for bulk loading clients and persons from CSV or JSONL files.
+ * <p>
+ * Files are streamed and inserted in batched chunks, so memory use does not grow with the file size.
+ * Each row is validated like a single create request; invalid rows are reported with their line number
+ * and skipped while the rest of the file is imported.
+ * <p>
+ * Client columns: {@code name}, {@code client_type}, {@code email}, {@code phone},
+ * {@code registration_number}, {@code risk_level}. Person columns: {@code client_id} or
+ * {@code client_registration_number}, {@code first_name}, {@code last_name}, {@code email}, {@code phone},
+ * {@code date_of_birth}, {@code nationality}, {@code identification_number}, {@code relationship_type},
+ * {@code position_title}, {@code ownership_percentage}, {@code address}. JSONL keys may also be written in
+ * camelCase ({@code clientType}).
+ */
+public interface BulkImportService {
+
+    /**
+     * Import a file from the configured import directory.
+     *
+     * @param target   whether the file holds clients or persons
+     * @param fileName file name relative to the import directory
+     * @param format   file format, or null to infer it from the file extension
+     * @return counts and the rejected rows
+     * @throws IllegalStateException    if no import directory is configured
+     * @throws IllegalArgumentException if the file does not exist, lies outside the import directory or has
+     *                                  an unknown format
+     */
+    ImportResultDTO importFile(ImportTarget target, String fileName, ImportFormat format);
+
+    /**
+     * Import rows read from a stream, such as an HTTP request body. The stream is not closed.
+     *
+     * @param target whether the content holds clients or persons
+     * @param format content format
+     * @param input  UTF-8 encoded content
+     * @return counts and the rejected rows
+     */
+    ImportResultDTO importStream(ImportTarget target, ImportFormat format, InputStream input);
+}
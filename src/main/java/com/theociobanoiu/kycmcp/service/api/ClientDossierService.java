@@ -0,0 +1,22 @@
+package com.theociobanoiu.kycmcp.service.api;
+
+import com.theociobanoiu.kycmcp.model.dto.ClientDossierDTO;
+
+import java.util.Optional;
+
+/**
+ * Service interface for assembling the full KYC dossier of a client.
+ * The sections of the dossier (client, persons, beneficial owners, ownership totals, screening) are loaded
+ * concurrently under a shared deadline, so the dossier takes about as long as its slowest section and a
+ * section that fails or runs late is reported instead of failing the whole dossier.
+ */
+public interface ClientDossierService {
+
+    /**
+     * Assemble a client's dossier.
+     *
+     * @param clientId the client's unique identifier
+     * @return the dossier, possibly partial, or empty if the client does not exist
+     */
+    Optional<ClientDossierDTO> getClientDossier(Long clientId);
+}
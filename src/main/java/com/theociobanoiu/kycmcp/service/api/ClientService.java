@@ -1,8 +1,12 @@
 package com.theociobanoiu.kycmcp.service.api;
 
+import com.theociobanoiu.kycmcp.coalescing.Coalesced;
+import com.theociobanoiu.kycmcp.model.dto.ClientBatchDTO;
 import com.theociobanoiu.kycmcp.model.dto.ClientDTO;
+import com.theociobanoiu.kycmcp.model.dto.CursorPage;
 import com.theociobanoiu.kycmcp.model.dto.request.CreateClientRequest;
 import com.theociobanoiu.kycmcp.model.enums.RiskLevel;
+import com.theociobanoiu.kycmcp.querybudget.QueryBudget;
 import jakarta.validation.constraints.NotNull;
 
 import java.util.List;
@@ -19,35 +23,75 @@ public interface ClientService {
      *
      * @param request the request object containing client creation data (must not be null)
      * @return The created client in a {@link ClientDTO} format
-     * @throws IllegalArgumentException if the request contains invalid data
+     * @throws IllegalArgumentException if the request contains invalid data, or the client is all but
+     *                                  certainly a duplicate of an existing one
      */
+    @QueryBudget(statements = 2)
     ClientDTO createClient(@NotNull CreateClientRequest request);
 
     /**
-     * Search for clients by name, type, or risk level.
+     * Search for clients by name or risk level.
      * All parameters are optional - null values are ignored in the search.
+     * <p>
+     * When a name is given, results are ranked by trigram similarity to it (best match first), include
+     * near misses such as typos, and are capped at {@code limit}; the returned page never has a next cursor,
+     * and a cursor cannot be combined with a name.
+     * Without a name, clients are listed by name and id using keyset pagination: pass the returned
+     * {@code nextCursor} back to continue where the previous page stopped.
      *
-     * @param name       partial name to search for (case-insensitive)
-     * @param clientType specific client type to filter by
-     * @param riskLevel  specific risk level to filter by
-     * @return list of matching clients
+     * @param name      partial name to search for (case-insensitive)
+     * @param riskLevel specific risk level to filter by
+     * @param cursor    cursor returned by a previous call, or null for the first page
+     * @param limit     maximum number of clients to return; null falls back to the configured default
+     *                  and values above the configured maximum are capped
+     * @return page of matching clients, at most {@code limit} long
+     * @throws IllegalArgumentException if the cursor is not one issued by this service, or is given with a name
      */
-    List<ClientDTO> searchClients(String name, RiskLevel riskLevel);
+    // A name search ranks ids in one statement and loads those clients in a second; on PostgreSQL both go to the
+    // database, the in-process n-gram index only issues the second
+    @QueryBudget(statements = 2, millis = 500)
+    @Coalesced(key = "{#name == null || #name.isBlank() ? null : #name.trim().toLowerCase(T(java.util.Locale).ROOT), "
+        + "#riskLevel, #cursor, #limit}")
+    CursorPage<ClientDTO> searchClients(String name, RiskLevel riskLevel, String cursor, Integer limit);
+
+    /**
+     * List all clients ordered by name using keyset pagination.
+     * Each page is read with a bounded, streamed query, so memory use and latency do not depend on the
+     * size of the client book or on how far the caller has paged.
+     *
+     * @param cursor   cursor returned by a previous call, or null for the first page
+     * @param pageSize number of clients per page; null falls back to the configured default
+     * @return page of clients without persons data
+     * @throws IllegalArgumentException if the cursor is not one issued by this service
+     */
+    @QueryBudget(statements = 1, millis = 500)
+    @Coalesced
+    CursorPage<ClientDTO> getClients(String cursor, Integer pageSize);
 
     /**
      * Retrieve full client information with associated persons.
+     * Dossiers are served from a bounded in-memory cache, so repeated lookups of the same client run no
+     * SQL; the entry is invalidated whenever the client or its persons are changed through this service
+     * layer and otherwise expires after the configured time to live.
      *
      * @param clientId the client's unique identifier
      * @return client with all associated persons, or empty if not found
      */
+    @QueryBudget(statements = 1, millis = 500)
     Optional<ClientDTO> getClientDetails(Long clientId);
 
     /**
-     * Retrieve all clients in the system.
+     * Retrieve several clients with their associated persons in one call.
+     * Dossiers in the cache used by {@link #getClientDetails(Long)} are served from it; all others are loaded
+     * with a single joined statement however many there are, and cached.
      *
-     * @return list of all clients without persons data
+     * @param clientIds the clients' unique identifiers, at most the configured maximum; an id given twice is
+     *                  looked up once
+     * @return the clients found in the order their ids were given, and the ids no client has
+     * @throws IllegalArgumentException if no ids or a null id are given, or more ids than the maximum
      */
-    List<ClientDTO> getAllClients();
+    @QueryBudget(statements = 1, millis = 500)
+    ClientBatchDTO getClientsBatch(List<Long> clientIds);
 
     /**
      * Retrieve all high-risk clients for compliance review.
@@ -55,6 +99,7 @@ public interface ClientService {
      *
      * @return list of high-risk clients ordered by name
      */
+    @QueryBudget(statements = 1)
     List<ClientDTO> getHighRiskClients();
 
     /**
@@ -64,5 +109,6 @@ public interface ClientService {
      * @param clientId the client's unique identifier
      * @return true if client exists, false otherwise
      */
+    @QueryBudget(statements = 1, millis = 500)
     boolean clientExists(Long clientId);
 }
\ No newline at end of file
@@ -0,0 +1,29 @@
+package com.theociobanoiu.kycmcp.service.api;
+
+import com.theociobanoiu.kycmcp.model.dto.DuplicateDetectionResultDTO;
+
+import java.util.Optional;
+
+/**
+ * Service interface for finding clients that were onboarded more than once under slightly different names,
+ * emails, phone numbers or registration number formats.
+ */
+public interface DuplicateDetectionService {
+
+    /**
+     * Compare every client with its likely duplicates and store the resulting clusters, replacing those of
+     * the previous run.
+     *
+     * @return the clusters found, the best-scoring first
+     * @throws IllegalStateException if another whole-book run is in progress
+     */
+    DuplicateDetectionResultDTO detectDuplicates();
+
+    /**
+     * Find the clients resembling one client, without storing anything.
+     *
+     * @param clientId the client's unique identifier
+     * @return a single cluster of the client and its matches, if any, or empty if the client does not exist
+     */
+    Optional<DuplicateDetectionResultDTO> findDuplicatesOf(Long clientId);
+}
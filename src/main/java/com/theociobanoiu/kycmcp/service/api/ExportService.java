@@ -0,0 +1,62 @@
+package com.theociobanoiu.kycmcp.service.api;
+
+import com.theociobanoiu.kycmcp.bulkexport.ExportCompression;
+import com.theociobanoiu.kycmcp.bulkexport.ExportFormat;
+import com.theociobanoiu.kycmcp.bulkexport.ExportTarget;
+import com.theociobanoiu.kycmcp.model.dto.ExportResultDTO;
+
+import java.io.OutputStream;
+import java.nio.file.Path;
+import java.util.List;
+
+/**
+ * Service interface for full extracts of the client book, for regulators and the data warehouse.
+ * <p>
+ * Exports stream every client or person, in id order, from a database cursor to a CSV or JSONL file or stream,
+ * optionally gzip-compressed, so memory use does not grow with the number of rows. Any subset of the target's
+ * columns can be selected; by default every column is written. Column names match the bulk import's, so an
+ * export can be imported again.
+ */
+public interface ExportService {
+
+    /**
+     * Checks the requested columns before an export starts.
+     *
+     * @param columns column names, or null for every column
+     * @return the columns the export will write
+     * @throws IllegalArgumentException if the target or a column is unknown
+     */
+    List<String> resolveColumns(ExportTarget target, List<String> columns);
+
+    /**
+     * Export to a new file in the configured export directory.
+     *
+     * @param format      file format, or null for CSV
+     * @param columns     column names, or null for every column
+     * @param compression compression, or null for none
+     * @return counts and the name of the written file
+     * @throws IllegalStateException    if no export directory is configured
+     * @throws IllegalArgumentException if the target or a column is unknown
+     */
+    ExportResultDTO exportFile(ExportTarget target, ExportFormat format, List<String> columns,
+                               ExportCompression compression);
+
+    /**
+     * Export to a stream, such as an HTTP response body. The stream is flushed but not closed.
+     *
+     * @param format      content format, or null for CSV
+     * @param columns     column names, or null for every column
+     * @param compression compression, or null for none
+     * @return counts; no file name
+     */
+    ExportResultDTO exportStream(ExportTarget target, ExportFormat format, List<String> columns,
+                                 ExportCompression compression, OutputStream output);
+
+    /**
+     * Resolves the name of a finished export file in the export directory.
+     *
+     * @throws IllegalStateException    if no export directory is configured
+     * @throws IllegalArgumentException if there is no such export file
+     */
+    Path exportedFile(String fileName);
+}
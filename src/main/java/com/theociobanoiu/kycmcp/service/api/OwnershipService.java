@@ -0,0 +1,39 @@
+package com.theociobanoiu.kycmcp.service.api;
+
+import com.theociobanoiu.kycmcp.model.dto.ClientOwnershipDTO;
+import com.theociobanoiu.kycmcp.model.dto.UltimateBeneficialOwnersDTO;
+import com.theociobanoiu.kycmcp.model.dto.request.CreateClientOwnershipRequest;
+import jakarta.validation.constraints.NotNull;
+
+import java.math.BigDecimal;
+import java.util.Optional;
+
+/**
+ * Service interface for multi-layer ownership: clients owning other clients, and the persons who ultimately
+ * own a client through any number of such layers.
+ */
+public interface OwnershipService {
+
+    /**
+     * Record that one client holds a share of another, replacing the share recorded before, if any.
+     * Circular holdings are allowed; they are reported when owners are traced.
+     *
+     * @param request the owner, the owned client and the share (must not be null)
+     * @return the recorded ownership
+     * @throws IllegalArgumentException if a client does not exist, both are the same client, or the
+     *                                  percentage is not above 0 and at most 100
+     */
+    ClientOwnershipDTO recordClientOwnership(@NotNull CreateClientOwnershipRequest request);
+
+    /**
+     * Trace the persons who own a client, directly or through other clients, with their effective share.
+     * Answered from the in-memory ownership graph, not with a recursive query.
+     *
+     * @param clientId      the client's unique identifier
+     * @param minPercentage smallest effective ownership to report; null uses the configured
+     *                      beneficial owner threshold
+     * @return the ultimate owners, or empty if the client does not exist
+     * @throws IllegalArgumentException if the percentage is not between 0 and 100
+     */
+    Optional<UltimateBeneficialOwnersDTO> getUltimateBeneficialOwners(Long clientId, BigDecimal minPercentage);
+}
@@ -1,7 +1,14 @@
 package com.theociobanoiu.kycmcp.service.api;
 
+import com.theociobanoiu.kycmcp.coalescing.Coalesced;
+import com.theociobanoiu.kycmcp.model.dto.BeneficialOwnerDTO;
+import com.theociobanoiu.kycmcp.model.dto.BeneficialOwnerSummaryDTO;
+import com.theociobanoiu.kycmcp.model.dto.CursorPage;
 import com.theociobanoiu.kycmcp.model.dto.PersonDTO;
+import com.theociobanoiu.kycmcp.model.dto.PersonMatchDTO;
+import com.theociobanoiu.kycmcp.model.dto.request.BeneficialOwnerFilter;
 import com.theociobanoiu.kycmcp.model.dto.request.CreatePersonRequest;
+import com.theociobanoiu.kycmcp.querybudget.QueryBudget;
 import jakarta.validation.constraints.NotNull;
 
 import java.util.List;
@@ -12,30 +19,89 @@ import java.util.List;
  */
 public interface PersonService {
 
+    /**
+     * Most persons {@link #addPersonsToClient(Long, List)} adds in one call: one JDBC batch, and one block of
+     * pooled person ids.
+     */
+    int MAX_PERSONS_PER_BATCH = 50;
+
     /**
      * Add a person to a client using a request DTO.
      * This is the primary method for associating individuals with clients.
      *
      * @param request the request object containing person data (must not be null)
      * @return the created person with full details
-     * @throws IllegalArgumentException if required parameters are missing or invalid
+     * @throws IllegalArgumentException if required parameters are missing or invalid, or the client's persons
+     *                                  would declare more than 100% ownership together
      * @throws RuntimeException         if client doesn't exist or creation fails
      */
+    @QueryBudget(statements = 4)
     PersonDTO addPersonToClient(@NotNull CreatePersonRequest request);
 
+    /**
+     * Add several persons to a client at once, all or none.
+     * The whole batch is validated before anything is written: every request on its own, identification numbers
+     * against each other and against existing persons, and the ownership percentages the batch declares together
+     * with those the client's persons already declare, which may not exceed 100%. The client is looked up once
+     * and the persons are inserted as one JDBC batch in a single transaction.
+     *
+     * @param clientId the client to add the persons to
+     * @param persons  the persons, at most {@value #MAX_PERSONS_PER_BATCH}; a request's own client id may be
+     *                 null but must otherwise equal {@code clientId}
+     * @return the created persons, in request order
+     * @throws IllegalArgumentException if the client does not exist or any request is invalid, naming every
+     *                                  problem found
+     */
+    @QueryBudget(statements = 5, millis = 1000)
+    List<PersonDTO> addPersonsToClient(Long clientId, List<CreatePersonRequest> persons);
+
     /**
      * Get all persons associated with a specific client.
      *
      * @param clientId the client's unique identifier
      * @return list of persons associated with the client, empty if none found
      */
+    @QueryBudget(statements = 1, millis = 500)
     List<PersonDTO> getPersonsByClient(Long clientId);
 
     /**
-     * Find all beneficial owners across all clients.
+     * Find declared beneficial owners across all clients, one keyset page at a time.
      * Essential for compliance reporting and risk assessment.
      *
-     * @return list of all persons with BENEFICIAL_OWNER relationship type
+     * @param filter   criteria the beneficial owners must match
+     * @param cursor   opaque cursor from a previous page's nextCursor, null for the first page
+     * @param pageSize persons per page; null or non-positive for the default, capped at the configured maximum
+     * @return matching beneficial owners with their client, ordered by person id
+     * @throws IllegalArgumentException if the cursor is invalid
+     */
+    @QueryBudget(statements = 1, millis = 500)
+    @Coalesced
+    CursorPage<BeneficialOwnerDTO> findBeneficialOwners(BeneficialOwnerFilter filter, String cursor, Integer pageSize);
+
+    /**
+     * Count and sum the declared beneficial owners of every client, computed by the database, one keyset page of
+     * clients at a time.
+     *
+     * @param filter   criteria the counted beneficial owners must match
+     * @param cursor   opaque cursor from a previous page's nextCursor, null for the first page
+     * @param pageSize clients per page; null or non-positive for the default, capped at the configured maximum
+     * @return per-client counts and ownership sums for clients with at least one match, ordered by client id
+     * @throws IllegalArgumentException if the cursor is invalid
+     */
+    @QueryBudget(statements = 1, millis = 1000)
+    @Coalesced
+    CursorPage<BeneficialOwnerSummaryDTO> summarizeBeneficialOwners(BeneficialOwnerFilter filter, String cursor,
+                                                                   Integer pageSize);
+
+    /**
+     * Find persons by any mix of first name, last name, identification number, nationality and address tokens.
+     * Served from an in-memory index, without a database query.
+     *
+     * @param query free text, tokens in any order (must not be blank)
+     * @param limit maximum number of persons to return; null or non-positive for the default
+     * @return matching persons with their client, best match first
+     * @throws IllegalArgumentException if the query is blank
      */
-    List<PersonDTO> getBeneficialOwners();
-}
\ No newline at end of file
+    @QueryBudget(statements = 0, millis = 50)
+    List<PersonMatchDTO> searchPersons(String query, Integer limit);
+}
@@ -0,0 +1,28 @@
+package com.theociobanoiu.kycmcp.service.api;
+
+import com.theociobanoiu.kycmcp.model.dto.CursorPage;
+import com.theociobanoiu.kycmcp.model.dto.DueReviewDTO;
+import com.theociobanoiu.kycmcp.model.enums.RiskLevel;
+import com.theociobanoiu.kycmcp.querybudget.QueryBudget;
+
+import java.time.LocalDate;
+
+/**
+ * Service interface for the periodic KYC review schedule. Due clients are reviewed in the background by the
+ * review worker; this service reports what is due.
+ */
+public interface ReviewService {
+
+    /**
+     * List the clients due a periodic review, most overdue first, one keyset page at a time.
+     *
+     * @param riskLevel only clients of this risk level, or null for any
+     * @param dueBy     only clients due by the end of this day, or null for those due now
+     * @param cursor    opaque cursor from a previous page's nextCursor, null for the first page
+     * @param limit     clients per page; null or non-positive for the default, capped at the configured maximum
+     * @return due clients ordered by due time, then id
+     * @throws IllegalArgumentException if the cursor is invalid
+     */
+    @QueryBudget(statements = 1, millis = 500)
+    CursorPage<DueReviewDTO> getDueReviews(RiskLevel riskLevel, LocalDate dueBy, String cursor, Integer limit);
+}
@@ -0,0 +1,21 @@
+package com.theociobanoiu.kycmcp.service.api;
+
+import com.theociobanoiu.kycmcp.model.dto.RiskScoringResultDTO;
+import com.theociobanoiu.kycmcp.model.enums.RiskScoringMode;
+import jakarta.validation.constraints.NotNull;
+
+/**
+ * Service interface for recomputing the stored risk level of clients from their type and persons.
+ */
+public interface RiskScoringService {
+
+    /**
+     * Rescore clients and store the levels that changed. A full run scores every client; an incremental
+     * run scores the clients modified, or whose persons were modified, since the last finished run.
+     *
+     * @param mode which clients to score (must not be null)
+     * @return counts of clients scored and changed
+     * @throws IllegalStateException if another run is in progress
+     */
+    RiskScoringResultDTO recompute(@NotNull RiskScoringMode mode);
+}
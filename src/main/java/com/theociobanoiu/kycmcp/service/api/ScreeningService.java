@@ -0,0 +1,32 @@
+package com.theociobanoiu.kycmcp.service.api;
+
+import com.theociobanoiu.kycmcp.model.dto.ClientScreeningDTO;
+import com.theociobanoiu.kycmcp.model.dto.ScreeningResultDTO;
+
+import java.util.Optional;
+
+/**
+ * Service interface for screening clients and persons against sanctions and PEP watchlists.
+ * Matching is fuzzy (phonetic and n-gram blocking, Jaro-Winkler scoring) and runs against an
+ * in-memory copy of the configured watchlist, so screening never queries the watchlist source.
+ */
+public interface ScreeningService {
+
+    /**
+     * Screen one person by name, date of birth and nationality.
+     *
+     * @param personId the person's unique identifier
+     * @return the screening result, or empty if the person does not exist
+     * @throws IllegalStateException if no watchlist is loaded
+     */
+    Optional<ScreeningResultDTO> screenPerson(Long personId);
+
+    /**
+     * Screen a client by name together with every person associated with it.
+     *
+     * @param clientId the client's unique identifier
+     * @return the screening results, or empty if the client does not exist
+     * @throws IllegalStateException if no watchlist is loaded
+     */
+    Optional<ClientScreeningDTO> screenClient(Long clientId);
+}
@@ -0,0 +1,98 @@
+package com.theociobanoiu.kycmcp.service.impl;
+
+import com.theociobanoiu.kycmcp.bulkimport.BulkImporter;
+import com.theociobanoiu.kycmcp.bulkimport.ImportFormat;
+import com.theociobanoiu.kycmcp.bulkimport.ImportProperties;
+import com.theociobanoiu.kycmcp.bulkimport.ImportTarget;
+import com.theociobanoiu.kycmcp.model.dto.ImportResultDTO;
+import com.theociobanoiu.kycmcp.service.api.BulkImportService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * Not transactional: the importer commits every chunk on its own, so a failure late in a large file
+ * keeps the rows already imported.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class BulkImportServiceImpl implements BulkImportService {
+
+    private final BulkImporter bulkImporter;
+    private final ImportProperties importProperties;
+
+    @Override
+    public ImportResultDTO importFile(ImportTarget target, String fileName, ImportFormat format) {
+        log.debug("Importing {} from file: {}, format: {}", target, fileName, format);
+
+        if (target == null) {
+            throw new IllegalArgumentException("Import target is required");
+        }
+        Path file = resolveImportFile(fileName);
+        ImportFormat resolvedFormat = format != null ? format : ImportFormat.fromFileName(file.getFileName().toString());
+
+        try (BufferedReader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+            return bulkImporter.importRecords(target, resolvedFormat, reader);
+        } catch (IOException e) {
+            log.error("Error importing {} from file {}: {}", target, file, e.getMessage(), e);
+            throw new UncheckedIOException("Failed to read import file " + fileName + ": " + e.getMessage(), e);
+        }
+    }
+
+    @Override
+    public ImportResultDTO importStream(ImportTarget target, ImportFormat format, InputStream input) {
+        log.debug("Importing {} from stream, format: {}", target, format);
+
+        if (target == null || format == null) {
+            throw new IllegalArgumentException("Import target and format are required");
+        }
+        BufferedReader reader = new BufferedReader(new InputStreamReader(input, StandardCharsets.UTF_8));
+        try {
+            return bulkImporter.importRecords(target, format, reader);
+        } catch (IOException e) {
+            log.error("Error importing {} from stream: {}", target, e.getMessage(), e);
+            throw new UncheckedIOException("Failed to read import content: " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Resolves a file name inside the import directory, refusing anything that would escape it.
+     */
+    private Path resolveImportFile(String fileName) {
+        Path directory = importProperties.directory();
+        if (directory == null) {
+            throw new IllegalStateException("File imports are disabled: no kyc.import.directory is configured");
+        }
+        if (fileName == null || fileName.isBlank()) {
+            throw new IllegalArgumentException("Import file name is required");
+        }
+
+        Path root = directory.toAbsolutePath().normalize();
+        Path file = root.resolve(fileName).normalize();
+        if (!file.startsWith(root)) {
+            throw new IllegalArgumentException("Import file must be inside the import directory: " + fileName);
+        }
+        if (!Files.isRegularFile(file)) {
+            throw new IllegalArgumentException("Import file not found: " + fileName);
+        }
+        try {
+            // Symbolic links could still point outside the directory
+            if (!file.toRealPath().startsWith(root.toRealPath())) {
+                throw new IllegalArgumentException("Import file must be inside the import directory: " + fileName);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to resolve import file " + fileName + ": " + e.getMessage(), e);
+        }
+        return file;
+    }
+}
@@ -0,0 +1,194 @@
+package com.theociobanoiu.kycmcp.service.impl;
+
+import com.theociobanoiu.kycmcp.config.DossierProperties;
+import com.theociobanoiu.kycmcp.model.dto.ClientDTO;
+import com.theociobanoiu.kycmcp.model.dto.ClientDossierDTO;
+import com.theociobanoiu.kycmcp.model.dto.ClientScreeningDTO;
+import com.theociobanoiu.kycmcp.model.dto.DossierSectionErrorDTO;
+import com.theociobanoiu.kycmcp.model.dto.OwnershipSummaryDTO;
+import com.theociobanoiu.kycmcp.model.dto.PersonDTO;
+import com.theociobanoiu.kycmcp.model.dto.RiskFactorDTO;
+import com.theociobanoiu.kycmcp.model.enums.ClientType;
+import com.theociobanoiu.kycmcp.model.enums.RiskLevel;
+import com.theociobanoiu.kycmcp.ownership.OwnershipProperties;
+import com.theociobanoiu.kycmcp.repository.ClientRepository;
+import com.theociobanoiu.kycmcp.repository.PersonRepository;
+import com.theociobanoiu.kycmcp.service.api.ClientDossierService;
+import com.theociobanoiu.kycmcp.service.api.ScreeningService;
+import io.micrometer.context.ContextExecutorService;
+import io.micrometer.context.ContextSnapshotFactory;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class ClientDossierServiceImpl implements ClientDossierService {
+
+    static final String SECTION_CLIENT = "client";
+    static final String SECTION_PERSONS = "persons";
+    static final String SECTION_BENEFICIAL_OWNERS = "beneficialOwners";
+    static final String SECTION_OWNERSHIP = "ownership";
+    static final String SECTION_SCREENING = "screening";
+
+    private final ClientRepository clientRepository;
+    private final PersonRepository personRepository;
+    private final ScreeningService screeningService;
+    private final PlatformTransactionManager transactionManager;
+    private final DossierProperties dossierProperties;
+    private final OwnershipProperties ownershipProperties;
+
+    // One virtual thread per section; the snapshot carries thread-bound context such as the tool call's metrics
+    private final ExecutorService sections = ContextExecutorService.wrap(
+        Executors.newVirtualThreadPerTaskExecutor(), ContextSnapshotFactory.builder().build()::captureAll);
+
+    @Override
+    public Optional<ClientDossierDTO> getClientDossier(Long clientId) {
+        log.debug("Assembling dossier for client ID: {}", clientId);
+
+        if (clientId == null) {
+            log.warn("Client ID is null");
+            return Optional.empty();
+        }
+
+        long start = System.nanoTime();
+        long deadline = start + dossierProperties.sectionTimeout().toNanos();
+
+        // Every section starts now, so the dossier waits for the slowest one rather than for their sum
+        Future<List<ClientDTO>> client = submit(() -> clientRepository.findClientsByIdIn(List.of(clientId)));
+        Future<List<PersonDTO>> persons = submit(() -> personRepository.findPersonsByClientId(clientId));
+        Future<List<PersonDTO>> beneficialOwners = submit(() -> personRepository.findBeneficialOwnersByClientId(
+            clientId, ownershipProperties.beneficialOwnerThreshold()));
+        Future<OwnershipSummaryDTO> ownership = submit(() -> OwnershipSummaryDTO.of(
+            personRepository.summarizeOwnershipByClientId(clientId)));
+        // The screening service manages its own transaction
+        Future<ClientScreeningDTO> screening = sections.submit(() -> screeningService.screenClient(clientId)
+            .orElse(null));
+
+        List<DossierSectionErrorDTO> errors = new ArrayList<>();
+        List<ClientDTO> clientRows = join(SECTION_CLIENT, client, deadline, errors);
+        if (clientRows != null && clientRows.isEmpty()) {
+            List.of(persons, beneficialOwners, ownership, screening).forEach(section -> section.cancel(true));
+            log.debug("Client not found with ID: {}", clientId);
+            return Optional.empty();
+        }
+
+        ClientDTO clientSection = clientRows != null ? clientRows.getFirst() : null;
+        List<PersonDTO> personsSection = join(SECTION_PERSONS, persons, deadline, errors);
+        List<PersonDTO> ownersSection = join(SECTION_BENEFICIAL_OWNERS, beneficialOwners, deadline, errors);
+        OwnershipSummaryDTO ownershipSection = join(SECTION_OWNERSHIP, ownership, deadline, errors);
+        ClientScreeningDTO screeningSection = join(SECTION_SCREENING, screening, deadline, errors);
+
+        List<RiskFactorDTO> riskFactors =
+            riskFactors(clientSection, ownersSection, ownershipSection, screeningSection);
+        long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+        log.info("Assembled dossier for client ID: {} in {} ms with {} risk factors and {} missing sections",
+            clientId, elapsedMillis, riskFactors.size(), errors.size());
+        return Optional.of(new ClientDossierDTO(clientSection, personsSection, ownersSection, ownershipSection,
+            screeningSection, riskFactors, List.copyOf(errors), errors.isEmpty(), elapsedMillis));
+    }
+
+    @PreDestroy
+    void shutdown() {
+        sections.shutdownNow();
+    }
+
+    /**
+     * Runs a section in a read-only transaction of its own: sections running in parallel cannot share one.
+     */
+    private <T> Future<T> submit(Callable<T> section) {
+        TransactionTemplate readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+        return sections.submit(() -> readOnly.execute(status -> {
+            try {
+                return section.call();
+            } catch (RuntimeException e) {
+                throw e;
+            } catch (Exception e) {
+                throw new IllegalStateException(e);
+            }
+        }));
+    }
+
+    /**
+     * Waits for a section until the dossier's deadline.
+     *
+     * @return the section, or null after recording why it is missing
+     */
+    private <T> T join(String name, Future<T> section, long deadline, List<DossierSectionErrorDTO> errors) {
+        try {
+            return section.get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+        } catch (TimeoutException e) {
+            section.cancel(true);
+            log.warn("Dossier section '{}' missed its deadline of {}", name, dossierProperties.sectionTimeout());
+            errors.add(new DossierSectionErrorDTO(name, "TIMEOUT",
+                "Not completed within " + dossierProperties.sectionTimeout().toMillis() + " ms"));
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof IllegalStateException && SECTION_SCREENING.equals(name)) {
+                log.warn("Dossier section '{}' unavailable: {}", name, cause.getMessage());
+                errors.add(new DossierSectionErrorDTO(name, "WATCHLIST_UNAVAILABLE", cause.getMessage()));
+            } else {
+                log.error("Dossier section '{}' failed: {}", name, cause.getMessage(), cause);
+                errors.add(new DossierSectionErrorDTO(name, "FAILED", cause.getMessage()));
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            section.cancel(true);
+            errors.add(new DossierSectionErrorDTO(name, "FAILED", "Interrupted"));
+        }
+        return null;
+    }
+
+    /**
+     * Derives the findings supported by the sections that were assembled; a missing section adds none.
+     */
+    private static List<RiskFactorDTO> riskFactors(ClientDTO client,
+                                                   List<PersonDTO> beneficialOwners,
+                                                   OwnershipSummaryDTO ownership,
+                                                   ClientScreeningDTO screening) {
+        List<RiskFactorDTO> factors = new ArrayList<>();
+        boolean legalEntity = client != null && client.clientType() != ClientType.INDIVIDUAL;
+
+        if (client != null && client.riskLevel() == RiskLevel.HIGH) {
+            factors.add(new RiskFactorDTO("HIGH_RISK_RATING", RiskLevel.HIGH, "Client is rated high risk"));
+        }
+        if (screening != null && screening.potentialMatch()) {
+            factors.add(new RiskFactorDTO("WATCHLIST_MATCH", RiskLevel.HIGH,
+                "Client or one of its persons potentially matches a watchlist entry"));
+        }
+        if (legalEntity && beneficialOwners != null && beneficialOwners.isEmpty()) {
+            factors.add(new RiskFactorDTO("NO_BENEFICIAL_OWNER", RiskLevel.HIGH,
+                "No beneficial owner is identified for a " + client.clientType()));
+        }
+        if (beneficialOwners != null) {
+            beneficialOwners.stream()
+                .filter(owner -> owner.identificationNumber() == null || owner.identificationNumber().isBlank())
+                .forEach(owner -> factors.add(new RiskFactorDTO("UNIDENTIFIED_BENEFICIAL_OWNER", RiskLevel.MEDIUM,
+                    "Beneficial owner " + owner.fullName() + " has no identification number")));
+        }
+        if (ownership != null && ownership.exceedsWhole()) {
+            factors.add(new RiskFactorDTO("OWNERSHIP_EXCEEDS_TOTAL", RiskLevel.HIGH,
+                "Declared ownership adds up to " + ownership.declaredPercentage().toPlainString() + "%"));
+        } else if (legalEntity && ownership != null && ownership.unaccountedPercentage().signum() > 0) {
+            factors.add(new RiskFactorDTO("OWNERSHIP_INCOMPLETE", RiskLevel.MEDIUM,
+                ownership.unaccountedPercentage().toPlainString() + "% of the ownership is not declared"));
+        }
+        return factors;
+    }
+}
@@ -1,39 +1,78 @@
 package com.theociobanoiu.kycmcp.service.impl;
 
+import com.theociobanoiu.kycmcp.config.CacheConfiguration;
+import com.theociobanoiu.kycmcp.duplicates.DuplicateDetectionEngine;
+import com.theociobanoiu.kycmcp.duplicates.DuplicateMatch;
+import com.theociobanoiu.kycmcp.model.dto.ClientBatchDTO;
+import com.theociobanoiu.kycmcp.model.dto.ClientCursor;
 import com.theociobanoiu.kycmcp.model.dto.ClientDTO;
+import com.theociobanoiu.kycmcp.model.dto.CursorPage;
 import com.theociobanoiu.kycmcp.model.dto.request.CreateClientRequest;
 import com.theociobanoiu.kycmcp.model.entities.Client;
-import com.theociobanoiu.kycmcp.model.entities.Person;
 import com.theociobanoiu.kycmcp.model.enums.RiskLevel;
 import com.theociobanoiu.kycmcp.repository.ClientRepository;
-import com.theociobanoiu.kycmcp.repository.PersonRepository;
+import com.theociobanoiu.kycmcp.repository.projection.ClientDossierRow;
+import com.theociobanoiu.kycmcp.risk.RiskScoringEngine;
+import com.theociobanoiu.kycmcp.search.ClientMatch;
+import com.theociobanoiu.kycmcp.search.ClientNameSearchEngine;
+import com.theociobanoiu.kycmcp.search.ClientSearchProperties;
 import com.theociobanoiu.kycmcp.service.api.ClientService;
 import jakarta.validation.constraints.NotNull;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Service
 @RequiredArgsConstructor
 @Slf4j
-@Transactional
+@Transactional(readOnly = true)
 public class ClientServiceImpl implements ClientService {
 
     private final ClientRepository clientRepository;
-    private final PersonRepository personRepository;
+    private final ClientNameSearchEngine clientNameSearchEngine;
+    private final ClientSearchProperties clientSearchProperties;
+    private final RiskScoringEngine riskScoringEngine;
+    private final DuplicateDetectionEngine duplicateDetectionEngine;
+    private final CacheManager cacheManager;
 
     @Override
+    // A lookup of the id before it existed may have cached the absence of the client
+    @CacheEvict(cacheNames = CacheConfiguration.CLIENT_DOSSIERS, key = "#result.id")
+    @Transactional
     public ClientDTO createClient(@NotNull CreateClientRequest request) {
         log.debug("Creating new client: {}", request.name());
 
         Client client = request.toEntity();
+        if (client.getRiskLevel() == null && client.getClientType() != null) {
+            // A new client has no persons yet; the next scoring run takes them into account
+            client.setRiskLevel(riskScoringEngine.initialRiskLevel(client.getClientType()));
+        }
+        checkForDuplicates(client);
 
         try {
-            Client savedClient = clientRepository.save(client);
+            // Pooled ids defer the INSERT; flushing here surfaces constraint violations inside this try
+            Client savedClient = clientRepository.saveAndFlush(client);
+            clientNameSearchEngine.index(savedClient);
+            duplicateDetectionEngine.index(savedClient);
             log.info("Successfully created client with ID: {} and name: {}",
                     savedClient.getId(), savedClient.getName());
             return ClientDTO.from(savedClient);
@@ -44,16 +83,54 @@ public class ClientServiceImpl implements ClientService {
     }
 
     @Override
-    public List<ClientDTO> searchClients(String name, RiskLevel riskLevel) {
-        log.debug("Searching clients with name: {}, risk: {}", name, riskLevel);
+    public CursorPage<ClientDTO> searchClients(String name, RiskLevel riskLevel, String cursor, Integer limit) {
+        int resolvedLimit = clientSearchProperties.resolveLimit(limit);
+        log.debug("Searching clients with name: {}, risk: {}, cursor: {}, limit: {}",
+                name, riskLevel, cursor, resolvedLimit);
+
+        if (name == null || name.isBlank()) {
+            CursorPage<ClientDTO> page = keysetPage(riskLevel, cursor, resolvedLimit);
+            log.debug("Found {} clients matching search criteria", page.items().size());
+            return page;
+        }
+        if (cursor != null && !cursor.isBlank()) {
+            // A ranked search has no stable order to resume from
+            throw new IllegalArgumentException(
+                    "A cursor cannot be combined with a name search; raise the limit instead");
+        }
+
+        List<ClientMatch> matches = clientNameSearchEngine.search(name.trim(), riskLevel, resolvedLimit);
+        if (matches.isEmpty()) {
+            log.debug("No clients matching name: {}", name);
+            return CursorPage.last(List.of());
+        }
+
+        Map<Long, ClientDTO> clientsById = clientRepository.findClientsByIdIn(
+                        matches.stream().map(ClientMatch::clientId).toList())
+                .stream()
+                .collect(Collectors.toMap(ClientDTO::id, Function.identity()));
 
-        List<Client> clients = clientRepository.searchClients(name, riskLevel);
-        log.debug("Found {} clients matching search criteria", clients.size());
+        // Keep the engine's ranking; ids deleted since they were indexed simply drop out
+        List<ClientDTO> ranked = matches.stream()
+                .map(match -> clientsById.get(match.clientId()))
+                .filter(Objects::nonNull)
+                .toList();
+        log.debug("Found {} clients matching search criteria", ranked.size());
+        return CursorPage.last(ranked);
+    }
+
+    @Override
+    public CursorPage<ClientDTO> getClients(String cursor, Integer pageSize) {
+        int resolvedPageSize = clientSearchProperties.resolveLimit(pageSize);
+        log.debug("Getting clients page after cursor: {}, page size: {}", cursor, resolvedPageSize);
 
-        return ClientDTO.fromList(clients);
+        CursorPage<ClientDTO> page = keysetPage(null, cursor, resolvedPageSize);
+        log.debug("Retrieved {} clients, more available: {}", page.items().size(), page.hasMore());
+        return page;
     }
 
     @Override
+    @Cacheable(cacheNames = CacheConfiguration.CLIENT_DOSSIERS, condition = "#clientId != null")
     public Optional<ClientDTO> getClientDetails(Long clientId) {
         log.debug("Getting client details for ID: {}", clientId);
 
@@ -62,33 +139,80 @@ public class ClientServiceImpl implements ClientService {
             return Optional.empty();
         }
 
-        return clientRepository.findById(clientId)
-                .map(client -> {
-                    log.debug("Found client: {}, fetching associated persons", client.getName());
-                    List<Person> persons = personRepository.findByClientId(clientId);
-                    log.debug("Found {} persons for client ID: {}", persons.size(), clientId);
-                    return ClientDTO.fromWithPersons(client, persons);
-                });
+        // Client and persons come back from one joined statement
+        List<ClientDossierRow> rows = clientRepository.findDossierRows(clientId);
+        if (rows.isEmpty()) {
+            log.debug("Client not found with ID: {}", clientId);
+            return Optional.empty();
+        }
+
+        ClientDTO client = ClientDossierRow.toDossier(rows);
+        log.debug("Found client: {} with {} persons", client.name(), client.persons().size());
+        return Optional.of(client);
     }
 
     @Override
-    public List<ClientDTO> getAllClients() {
-        log.debug("Getting all clients");
+    // Cached dossiers need no connection; the rest are read in the repository's own transaction
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public ClientBatchDTO getClientsBatch(List<Long> clientIds) {
+        log.debug("Getting client details for {} IDs", clientIds != null ? clientIds.size() : 0);
+
+        if (clientIds == null || clientIds.isEmpty()) {
+            throw new IllegalArgumentException("At least one client ID is required");
+        }
+        Set<Long> ids = new LinkedHashSet<>();
+        for (Long clientId : clientIds) {
+            if (clientId == null) {
+                throw new IllegalArgumentException("Client IDs must not be null");
+            }
+            ids.add(clientId);
+        }
+        if (ids.size() > clientSearchProperties.maxBatchSize()) {
+            throw new IllegalArgumentException("At most " + clientSearchProperties.maxBatchSize()
+                + " client IDs can be looked up at once, got " + ids.size());
+        }
 
-        List<Client> clients = clientRepository.findAll();
-        log.debug("Retrieved {} clients from database", clients.size());
+        Cache dossierCache = Objects.requireNonNull(cacheManager.getCache(CacheConfiguration.CLIENT_DOSSIERS));
+        Map<Long, ClientDTO> clientsById = new HashMap<>();
+        List<Long> uncached = new ArrayList<>();
+        for (Long clientId : ids) {
+            Cache.ValueWrapper cached = dossierCache.get(clientId);
+            if (cached == null) {
+                uncached.add(clientId);
+            } else if (cached.get() instanceof ClientDTO client) {
+                clientsById.put(clientId, client);
+            }
+        }
+        if (!uncached.isEmpty()) {
+            // Clients and persons of every uncached id come back from one joined statement
+            for (ClientDTO client : ClientDossierRow.toDossiers(clientRepository.findDossierRowsByClientIdIn(uncached))) {
+                clientsById.put(client.id(), client);
+                dossierCache.put(client.id(), client);
+            }
+        }
 
-        return ClientDTO.fromList(clients);
+        List<ClientDTO> clients = new ArrayList<>(clientsById.size());
+        List<Long> missingIds = new ArrayList<>();
+        for (Long clientId : ids) {
+            ClientDTO client = clientsById.get(clientId);
+            if (client != null) {
+                clients.add(client);
+            } else {
+                missingIds.add(clientId);
+            }
+        }
+        log.debug("Found {} of {} clients, {} not cached", clients.size(), ids.size(), uncached.size());
+        return new ClientBatchDTO(clients, missingIds);
     }
 
     @Override
     public List<ClientDTO> getHighRiskClients() {
         log.debug("Getting all high-risk clients");
 
-        List<Client> clients = clientRepository.findByRiskLevelOrderByNameAsc(RiskLevel.HIGH);
+        List<ClientDTO> clients = clientRepository.findClientsByRiskLevel(RiskLevel.HIGH);
         log.debug("Found {} high-risk clients", clients.size());
 
-        return ClientDTO.fromList(clients);
+        return clients;
     }
 
     @Override
@@ -101,4 +225,40 @@ public class ClientServiceImpl implements ClientService {
         log.debug("Client ID: {} exists: {}", clientId, exists);
         return exists;
     }
-}
\ No newline at end of file
+
+    /**
+     * Refuses a client that is all but certainly one already on the book, e.g. the same registration number
+     * written differently under a near-identical name; weaker resemblances are only logged, and reported by
+     * the next whole-book duplicate detection run.
+     */
+    private void checkForDuplicates(Client client) {
+        List<DuplicateMatch> duplicates = duplicateDetectionEngine.matches(client);
+        if (duplicates.isEmpty()) {
+            return;
+        }
+        DuplicateMatch best = duplicates.getFirst();
+        if (duplicateDetectionEngine.isCertainDuplicate(best)) {
+            throw new IllegalArgumentException(String.format(
+                "Client '%s' duplicates existing client %d (score %.2f, matched on %s)",
+                client.getName(), best.matchedClientId(), best.score(), best.evidence()));
+        }
+        log.warn("Client '{}' resembles {} existing clients, best match {} (score {}, matched on {})",
+            client.getName(), duplicates.size(), best.matchedClientId(), best.score(), best.evidence());
+    }
+
+    /**
+     * Reads one keyset page, fetching a single extra row to learn whether another page follows.
+     */
+    private CursorPage<ClientDTO> keysetPage(RiskLevel riskLevel, String cursor, int pageSize) {
+        ClientCursor after = ClientCursor.decode(cursor);
+
+        List<ClientDTO> fetched;
+        try (Stream<ClientDTO> clients = clientRepository.streamClientsAfter(riskLevel,
+                after != null ? after.name() : null,
+                after != null ? after.id() : null,
+                Limit.of(pageSize + 1))) {
+            fetched = clients.toList();
+        }
+        return CursorPage.of(fetched, pageSize, client -> new ClientCursor(client.name(), client.id()).encode());
+    }
+}
@@ -0,0 +1,123 @@
+package com.theociobanoiu.kycmcp.service.impl;
+
+import com.theociobanoiu.kycmcp.duplicates.DuplicateDetectionEngine;
+import com.theociobanoiu.kycmcp.duplicates.DuplicateMatch;
+import com.theociobanoiu.kycmcp.duplicates.DuplicateProperties;
+import com.theociobanoiu.kycmcp.model.dto.DuplicateClusterDTO;
+import com.theociobanoiu.kycmcp.model.dto.DuplicateDetectionResultDTO;
+import com.theociobanoiu.kycmcp.model.dto.DuplicateMatchDTO;
+import com.theociobanoiu.kycmcp.model.entities.DuplicateCluster;
+import com.theociobanoiu.kycmcp.model.entities.DuplicateMatchRecord;
+import com.theociobanoiu.kycmcp.repository.DuplicateClusterRepository;
+import com.theociobanoiu.kycmcp.service.api.DuplicateDetectionService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.Collectors;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class DuplicateDetectionServiceImpl implements DuplicateDetectionService {
+
+    private final DuplicateDetectionEngine duplicateDetectionEngine;
+    private final DuplicateClusterRepository duplicateClusterRepository;
+    private final DuplicateProperties duplicateProperties;
+    private final TransactionTemplate transactionTemplate;
+    private final ReentrantLock running = new ReentrantLock();
+
+    @Override
+    public DuplicateDetectionResultDTO detectDuplicates() {
+        if (!running.tryLock()) {
+            throw new IllegalStateException("A duplicate detection run is already in progress");
+        }
+        try {
+            long start = System.nanoTime();
+            int clientsChecked = duplicateDetectionEngine.size();
+            List<DuplicateDetectionEngine.Cluster> clusters = duplicateDetectionEngine.detect();
+            log.info("Found {} duplicate clusters among {} clients in {} ms", clusters.size(), clientsChecked,
+                TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+
+            // The scan runs outside any transaction; only replacing the stored clusters needs one
+            List<DuplicateCluster> stored = transactionTemplate.execute(status -> {
+                duplicateClusterRepository.deleteAllInBatch();
+                return duplicateClusterRepository.saveAll(toEntities(clusters));
+            });
+
+            int reported = Math.min(clusters.size(), duplicateProperties.maxReportedClusters());
+            List<DuplicateClusterDTO> dtos = new ArrayList<>(reported);
+            for (int i = 0; i < reported; i++) {
+                dtos.add(toDto(stored.get(i).getId(), clusters.get(i)));
+            }
+            long clientsInClusters = clusters.stream().mapToLong(cluster -> cluster.clientIds().size()).sum();
+            return new DuplicateDetectionResultDTO(null, clientsChecked, clusters.size(), clientsInClusters, dtos,
+                reported < clusters.size(), TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+        } finally {
+            running.unlock();
+        }
+    }
+
+    @Override
+    public Optional<DuplicateDetectionResultDTO> findDuplicatesOf(Long clientId) {
+        log.debug("Checking client {} for duplicates", clientId);
+        if (clientId == null) {
+            return Optional.empty();
+        }
+
+        long start = System.nanoTime();
+        List<DuplicateMatch> matches = duplicateDetectionEngine.matches(clientId);
+        if (matches == null) {
+            return Optional.empty();
+        }
+        List<DuplicateClusterDTO> clusters = matches.isEmpty() ? List.of()
+            : List.of(toDto(null, DuplicateDetectionEngine.cluster(matches).getFirst()));
+        return Optional.of(new DuplicateDetectionResultDTO(clientId, 1, clusters.size(),
+            clusters.isEmpty() ? 0 : clusters.getFirst().clientIds().size(), clusters, false,
+            TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start)));
+    }
+
+    private static List<DuplicateCluster> toEntities(List<DuplicateDetectionEngine.Cluster> clusters) {
+        LocalDateTime detectedAt = LocalDateTime.now();
+        List<DuplicateCluster> entities = new ArrayList<>(clusters.size());
+        for (DuplicateDetectionEngine.Cluster cluster : clusters) {
+            DuplicateCluster entity = new DuplicateCluster();
+            entity.setDetectedAt(detectedAt);
+            entity.setMemberCount(cluster.clientIds().size());
+            entity.setBestScore(score(cluster.bestScore()));
+            for (DuplicateMatch match : cluster.matches()) {
+                DuplicateMatchRecord record = new DuplicateMatchRecord();
+                record.setCluster(entity);
+                record.setClientId(match.clientId());
+                record.setMatchedClientId(match.matchedClientId());
+                record.setScore(score(match.score()));
+                record.setMatchedOn(match.evidence().stream().map(Enum::name).collect(Collectors.joining(",")));
+                entity.getMatches().add(record);
+            }
+            entities.add(entity);
+        }
+        return entities;
+    }
+
+    private DuplicateClusterDTO toDto(Long clusterId, DuplicateDetectionEngine.Cluster cluster) {
+        List<DuplicateMatchDTO> matches = cluster.matches().stream()
+            .map(match -> new DuplicateMatchDTO(match.clientId(), duplicateDetectionEngine.name(match.clientId()),
+                match.matchedClientId(), duplicateDetectionEngine.name(match.matchedClientId()),
+                score(match.score()), match.evidence()))
+            .toList();
+        return new DuplicateClusterDTO(clusterId, cluster.clientIds(), score(cluster.bestScore()), matches);
+    }
+
+    private static BigDecimal score(double score) {
+        return BigDecimal.valueOf(score).setScale(4, RoundingMode.HALF_UP);
+    }
+}
@@ -0,0 +1,123 @@
+package com.theociobanoiu.kycmcp.service.impl;
+
+import com.theociobanoiu.kycmcp.bulkexport.BulkExporter;
+import com.theociobanoiu.kycmcp.bulkexport.ExportCompression;
+import com.theociobanoiu.kycmcp.bulkexport.ExportFormat;
+import com.theociobanoiu.kycmcp.bulkexport.ExportProperties;
+import com.theociobanoiu.kycmcp.bulkexport.ExportTarget;
+import com.theociobanoiu.kycmcp.model.dto.ExportResultDTO;
+import com.theociobanoiu.kycmcp.service.api.ExportService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.Locale;
+import java.util.UUID;
+
+/**
+ * Not transactional: the exporter reads in a read-only transaction of its own. File exports are written under a
+ * {@value #PART_SUFFIX} name and renamed once complete, so a listed export file is always a whole one.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class ExportServiceImpl implements ExportService {
+
+    private static final String PART_SUFFIX = ".part";
+    private static final DateTimeFormatter FILE_TIMESTAMP = DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss");
+
+    private final BulkExporter bulkExporter;
+    private final ExportProperties exportProperties;
+
+    @Override
+    public List<String> resolveColumns(ExportTarget target, List<String> columns) {
+        if (target == null) {
+            throw new IllegalArgumentException("Export target is required");
+        }
+        return BulkExporter.resolveColumns(target, columns);
+    }
+
+    @Override
+    public ExportResultDTO exportFile(ExportTarget target, ExportFormat format, List<String> columns,
+                                      ExportCompression compression) {
+        log.debug("Exporting {} to a file, format: {}, columns: {}, compression: {}", target, format, columns,
+            compression);
+
+        List<String> resolvedColumns = resolveColumns(target, columns);
+        ExportFormat resolvedFormat = format != null ? format : ExportFormat.CSV;
+        ExportCompression resolvedCompression = compression != null ? compression : ExportCompression.NONE;
+        Path directory = exportDirectory();
+
+        String fileName = target.name().toLowerCase(Locale.ROOT) + "-" + LocalDateTime.now().format(FILE_TIMESTAMP)
+            + "-" + UUID.randomUUID().toString().substring(0, 8)
+            + resolvedFormat.extension() + resolvedCompression.extension();
+        Path file = directory.resolve(fileName);
+        Path part = directory.resolve(fileName + PART_SUFFIX);
+        try {
+            Files.createDirectories(directory);
+            ExportResultDTO result;
+            try (OutputStream output = Files.newOutputStream(part, StandardOpenOption.CREATE_NEW)) {
+                result = bulkExporter.export(target, resolvedFormat, resolvedCompression, resolvedColumns, output,
+                    fileName);
+            }
+            Files.move(part, file, StandardCopyOption.ATOMIC_MOVE);
+            return result;
+        } catch (IOException e) {
+            log.error("Error exporting {} to file {}: {}", target, file, e.getMessage(), e);
+            throw new UncheckedIOException("Failed to write export file " + fileName + ": " + e.getMessage(), e);
+        } finally {
+            try {
+                Files.deleteIfExists(part);
+            } catch (IOException e) {
+                log.warn("Could not remove incomplete export file {}: {}", part, e.getMessage());
+            }
+        }
+    }
+
+    @Override
+    public ExportResultDTO exportStream(ExportTarget target, ExportFormat format, List<String> columns,
+                                        ExportCompression compression, OutputStream output) {
+        log.debug("Exporting {} to a stream, format: {}, columns: {}, compression: {}", target, format, columns,
+            compression);
+
+        List<String> resolvedColumns = resolveColumns(target, columns);
+        try {
+            return bulkExporter.export(target, format != null ? format : ExportFormat.CSV,
+                compression != null ? compression : ExportCompression.NONE, resolvedColumns, output, null);
+        } catch (IOException e) {
+            log.warn("Export of {} to a stream aborted: {}", target, e.getMessage());
+            throw new UncheckedIOException("Failed to write export content: " + e.getMessage(), e);
+        }
+    }
+
+    @Override
+    public Path exportedFile(String fileName) {
+        Path root = exportDirectory().toAbsolutePath().normalize();
+        if (fileName == null || fileName.isBlank()) {
+            throw new IllegalArgumentException("Export file name is required");
+        }
+        Path file = root.resolve(fileName).normalize();
+        if (!file.getParent().equals(root) || fileName.endsWith(PART_SUFFIX) || !Files.isRegularFile(file)) {
+            throw new IllegalArgumentException("Export file not found: " + fileName);
+        }
+        return file;
+    }
+
+    private Path exportDirectory() {
+        Path directory = exportProperties.directory();
+        if (directory == null) {
+            throw new IllegalStateException("File exports are disabled: no kyc.export.directory is configured");
+        }
+        return directory;
+    }
+}
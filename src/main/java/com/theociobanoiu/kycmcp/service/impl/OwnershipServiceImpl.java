@@ -0,0 +1,141 @@
+package com.theociobanoiu.kycmcp.service.impl;
+
+import com.theociobanoiu.kycmcp.model.dto.ClientDTO;
+import com.theociobanoiu.kycmcp.model.dto.ClientOwnershipDTO;
+import com.theociobanoiu.kycmcp.model.dto.EffectiveOwnershipDTO;
+import com.theociobanoiu.kycmcp.model.dto.PersonDTO;
+import com.theociobanoiu.kycmcp.model.dto.UltimateBeneficialOwnersDTO;
+import com.theociobanoiu.kycmcp.model.dto.request.CreateClientOwnershipRequest;
+import com.theociobanoiu.kycmcp.model.entities.Client;
+import com.theociobanoiu.kycmcp.model.entities.ClientOwnership;
+import com.theociobanoiu.kycmcp.ownership.OwnershipGraph;
+import com.theociobanoiu.kycmcp.ownership.OwnershipGraphEngine;
+import com.theociobanoiu.kycmcp.ownership.OwnershipProperties;
+import com.theociobanoiu.kycmcp.repository.ClientOwnershipRepository;
+import com.theociobanoiu.kycmcp.repository.ClientRepository;
+import com.theociobanoiu.kycmcp.repository.PersonRepository;
+import com.theociobanoiu.kycmcp.service.api.OwnershipService;
+import jakarta.validation.constraints.NotNull;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+@Transactional(readOnly = true)
+public class OwnershipServiceImpl implements OwnershipService {
+
+    private static final BigDecimal HUNDRED = BigDecimal.valueOf(100);
+
+    private final ClientOwnershipRepository clientOwnershipRepository;
+    private final ClientRepository clientRepository;
+    private final PersonRepository personRepository;
+    private final OwnershipGraphEngine ownershipGraphEngine;
+    private final OwnershipProperties ownershipProperties;
+
+    @Override
+    @Transactional
+    public ClientOwnershipDTO recordClientOwnership(@NotNull CreateClientOwnershipRequest request) {
+        log.debug("Recording that client ID: {} owns {}% of client ID: {}",
+                request.ownerClientId(), request.ownershipPercentage(), request.ownedClientId());
+
+        if (request.ownerClientId() == null || request.ownedClientId() == null) {
+            throw new IllegalArgumentException("Owner and owned client IDs are required");
+        }
+        if (request.ownerClientId().equals(request.ownedClientId())) {
+            throw new IllegalArgumentException("A client cannot own itself");
+        }
+        BigDecimal percentage = request.ownershipPercentage();
+        if (percentage == null || percentage.signum() <= 0 || percentage.compareTo(HUNDRED) > 0) {
+            throw new IllegalArgumentException("Ownership percentage must be above 0 and at most 100");
+        }
+
+        Client owner = findClient(request.ownerClientId());
+        Client owned = findClient(request.ownedClientId());
+        ClientOwnership ownership = clientOwnershipRepository
+                .findByOwnerClientIdAndOwnedClientId(owner.getId(), owned.getId())
+                .orElseGet(ClientOwnership::new);
+        ownership.setOwnerClient(owner);
+        ownership.setOwnedClient(owned);
+        ownership.setOwnershipPercentage(percentage);
+
+        ClientOwnership saved = clientOwnershipRepository.save(ownership);
+        ownershipGraphEngine.recordClientOwnership(saved);
+        log.info("Recorded that client {} (ID: {}) owns {}% of client {} (ID: {})",
+                owner.getName(), owner.getId(), percentage, owned.getName(), owned.getId());
+        return ClientOwnershipDTO.from(saved);
+    }
+
+    @Override
+    public Optional<UltimateBeneficialOwnersDTO> getUltimateBeneficialOwners(Long clientId, BigDecimal minPercentage) {
+        BigDecimal threshold = minPercentage != null ? minPercentage : ownershipProperties.beneficialOwnerThreshold();
+        log.debug("Tracing ultimate owners of client ID: {} holding at least {}%", clientId, threshold);
+
+        if (clientId == null) {
+            log.warn("Client ID is null");
+            return Optional.empty();
+        }
+        if (threshold.signum() < 0 || threshold.compareTo(HUNDRED) > 0) {
+            throw new IllegalArgumentException("Minimum percentage must be between 0 and 100");
+        }
+
+        long start = System.nanoTime();
+        OwnershipGraph.Result result = ownershipGraphEngine.ultimateOwners(clientId, threshold);
+
+        // Names of the client and every holder come from two flat id lookups, whatever the depth of the graph
+        List<Long> clientIds = new ArrayList<>();
+        clientIds.add(clientId);
+        result.clients().forEach(holding -> clientIds.add(holding.id()));
+        Map<Long, String> clientNames = clientRepository.findClientsByIdIn(clientIds).stream()
+                .collect(Collectors.toMap(ClientDTO::id, ClientDTO::name));
+        if (!clientNames.containsKey(clientId)) {
+            log.debug("Client not found with ID: {}", clientId);
+            return Optional.empty();
+        }
+        Map<Long, PersonDTO> persons = result.persons().isEmpty() ? Map.of()
+                : personRepository.findPersonsByIdIn(result.persons().stream().map(OwnershipGraph.Holding::id).toList())
+                    .stream()
+                    .collect(Collectors.toMap(PersonDTO::id, Function.identity()));
+
+        // Holders deleted since the graph was built simply drop out
+        List<EffectiveOwnershipDTO> beneficialOwners = result.persons().stream()
+                .filter(holding -> persons.containsKey(holding.id()))
+                .map(holding -> effective(holding, persons.get(holding.id()).fullName()))
+                .toList();
+        List<EffectiveOwnershipDTO> intermediateOwners = result.clients().stream()
+                .filter(holding -> clientNames.containsKey(holding.id()))
+                .map(holding -> effective(holding, clientNames.get(holding.id())))
+                .toList();
+        List<List<Long>> cycles = result.cycles().stream()
+                .map(cycle -> Arrays.stream(cycle).boxed().toList())
+                .toList();
+
+        log.info("Traced {} beneficial owners of client ID: {} through {} intermediate clients in {} us, {} cycles",
+                beneficialOwners.size(), clientId, intermediateOwners.size(),
+                (System.nanoTime() - start) / 1_000, cycles.size());
+        return Optional.of(new UltimateBeneficialOwnersDTO(clientId, clientNames.get(clientId), threshold,
+                beneficialOwners, intermediateOwners, cycles, result.converged()));
+    }
+
+    private Client findClient(Long clientId) {
+        return clientRepository.findById(clientId)
+                .orElseThrow(() -> new IllegalArgumentException("Client not found with ID: " + clientId));
+    }
+
+    private static EffectiveOwnershipDTO effective(OwnershipGraph.Holding holding, String name) {
+        BigDecimal percentage = BigDecimal.valueOf(holding.fraction() * 100).setScale(2, RoundingMode.HALF_UP);
+        return new EffectiveOwnershipDTO(holding.type().name(), holding.id(), name, percentage);
+    }
+}
@@ -1,48 +1,88 @@
 package com.theociobanoiu.kycmcp.service.impl;
 
+import com.theociobanoiu.kycmcp.config.CacheConfiguration;
+import com.theociobanoiu.kycmcp.model.dto.BeneficialOwnerDTO;
+import com.theociobanoiu.kycmcp.model.dto.BeneficialOwnerSummaryDTO;
+import com.theociobanoiu.kycmcp.model.dto.CursorPage;
+import com.theociobanoiu.kycmcp.model.dto.IdCursor;
 import com.theociobanoiu.kycmcp.model.dto.PersonDTO;
+import com.theociobanoiu.kycmcp.model.dto.PersonMatchDTO;
+import com.theociobanoiu.kycmcp.model.dto.request.BeneficialOwnerFilter;
 import com.theociobanoiu.kycmcp.model.dto.request.CreatePersonRequest;
 import com.theociobanoiu.kycmcp.model.entities.Client;
 import com.theociobanoiu.kycmcp.model.entities.Person;
+import com.theociobanoiu.kycmcp.ownership.OwnershipGraphEngine;
+import com.theociobanoiu.kycmcp.ownership.OwnershipProperties;
 import com.theociobanoiu.kycmcp.repository.ClientRepository;
 import com.theociobanoiu.kycmcp.repository.PersonRepository;
+import com.theociobanoiu.kycmcp.search.PersonSearchEngine;
+import com.theociobanoiu.kycmcp.search.PersonSearchProperties;
 import com.theociobanoiu.kycmcp.service.api.PersonService;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
 import jakarta.validation.constraints.NotNull;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Stream;
 
 @Service
 @RequiredArgsConstructor
 @Slf4j
-@Transactional
+@Transactional(readOnly = true)
 public class PersonServiceImpl implements PersonService {
 
+    private static final BigDecimal WHOLE = BigDecimal.valueOf(100);
+
     private final PersonRepository personRepository;
     private final ClientRepository clientRepository;
+    private final OwnershipGraphEngine ownershipGraphEngine;
+    private final PersonSearchEngine personSearchEngine;
+    private final PersonSearchProperties personSearchProperties;
+    private final OwnershipProperties ownershipProperties;
+    private final Validator validator;
 
     @Override
+    @CacheEvict(cacheNames = CacheConfiguration.CLIENT_DOSSIERS, key = "#request.clientId()")
+    @Transactional
     public PersonDTO addPersonToClient(@NotNull CreatePersonRequest request) {
         log.debug("Adding person {} {} to client ID: {}",
                 request.firstName(), request.lastName(), request.clientId());
 
-        // Verify client exists
-        Client client = clientRepository.findById(request.clientId())
+        // Verify client exists, and lock it like a batch does so the two cannot exceed 100% together
+        LockedClient client = lockClient(request.clientId())
                 .orElseThrow(() -> new RuntimeException("Client not found with ID: " + request.clientId()));
+        if (request.ownershipPercentage() != null) {
+            String problem = ownershipProblem(client, client.declaredOwnership().add(request.ownershipPercentage()));
+            if (problem != null) {
+                throw new IllegalArgumentException(problem);
+            }
+        }
 
-        // Create a person entity from request
+        // Create a person entity from request; a reference proxy sets the foreign key without loading the client
         Person person = request.toEntity();
-        person.setClient(client);
+        person.setClient(clientRepository.getReferenceById(client.id()));
 
         try {
-            Person savedPerson = personRepository.save(person);
+            // Pooled ids defer the INSERT; flushing here surfaces constraint violations inside this try
+            Person savedPerson = personRepository.saveAndFlush(person);
+            ownershipGraphEngine.recordPersonOwnership(savedPerson);
+            personSearchEngine.index(savedPerson, client.name());
             log.info("Successfully added person {} {} (ID: {}) to client {} (ID: {})",
                     savedPerson.getFirstName(), savedPerson.getLastName(), savedPerson.getId(),
-                    client.getName(), request.clientId());
-            return PersonDTO.from(savedPerson);
+                    client.name(), request.clientId());
+            return PersonDTO.from(savedPerson, client.name());
         } catch (Exception e) {
             log.error("Error adding person {} {} to client ID {}: {}",
                     request.firstName(), request.lastName(), request.clientId(), e.getMessage(), e);
@@ -50,6 +90,135 @@ public class PersonServiceImpl implements PersonService {
         }
     }
 
+    @Override
+    @CacheEvict(cacheNames = CacheConfiguration.CLIENT_DOSSIERS, key = "#clientId")
+    @Transactional
+    public List<PersonDTO> addPersonsToClient(Long clientId, List<CreatePersonRequest> persons) {
+        log.debug("Adding {} persons to client ID: {}", persons != null ? persons.size() : 0, clientId);
+
+        if (clientId == null) {
+            throw new IllegalArgumentException("Client ID is required");
+        }
+        if (persons == null || persons.isEmpty()) {
+            throw new IllegalArgumentException("At least one person is required");
+        }
+        if (persons.size() > MAX_PERSONS_PER_BATCH) {
+            throw new IllegalArgumentException("At most " + MAX_PERSONS_PER_BATCH
+                    + " persons can be added at once, got " + persons.size());
+        }
+
+        // Locks the client row, so concurrent additions to it check their ownership total one after the other
+        LockedClient client = lockClient(clientId)
+                .orElseThrow(() -> new IllegalArgumentException("Client not found with ID: " + clientId));
+        List<CreatePersonRequest> requests = validateBatch(client, persons);
+
+        // A reference proxy sets the foreign key without loading the client
+        Client reference = clientRepository.getReferenceById(clientId);
+        List<Person> entities = new ArrayList<>(requests.size());
+        for (CreatePersonRequest request : requests) {
+            Person person = request.toEntity();
+            person.setClient(reference);
+            entities.add(person);
+        }
+        // Ids come from the pooled sequence, so the flush sends every insert as one JDBC batch
+        personRepository.saveAll(entities);
+        personRepository.flush();
+
+        List<PersonDTO> added = new ArrayList<>(entities.size());
+        for (Person person : entities) {
+            ownershipGraphEngine.recordPersonOwnership(person);
+            personSearchEngine.index(person, client.name());
+            added.add(PersonDTO.from(person, client.name()));
+        }
+        log.info("Successfully added {} persons to client {} (ID: {})", added.size(), client.name(), clientId);
+        return added;
+    }
+
+    /**
+     * Locks the client row, then reads the ownership its persons declare. Two statements on purpose: the sum
+     * must be read after the lock is granted to see what the previous holder of the lock committed.
+     */
+    private Optional<LockedClient> lockClient(Long clientId) {
+        return clientRepository.lockReferenceById(clientId)
+                .map(client -> new LockedClient(client.getId(), client.getName(),
+                        personRepository.sumOwnershipPercentageByClientId(client.getId())));
+    }
+
+    /**
+     * @return why the client's persons may not declare {@code declared} in total, or null if they may
+     */
+    private static String ownershipProblem(LockedClient client, BigDecimal declared) {
+        // Each percentage is 0 - 100 on its own (chk_ownership_percentage); together they may not exceed the whole
+        if (declared.compareTo(WHOLE) <= 0) {
+            return null;
+        }
+        return "ownershipPercentage: persons of client " + client.id() + " would declare "
+                + declared.stripTrailingZeros().toPlainString() + "% in total, "
+                + client.declaredOwnership().stripTrailingZeros().toPlainString()
+                + "% of it already declared; at most 100% can be";
+    }
+
+    private record LockedClient(Long id, String name, BigDecimal declaredOwnership) {
+    }
+
+    /**
+     * Checks the whole batch and reports every problem at once, so the caller can fix them in one go.
+     *
+     * @return the requests, each with the client id filled in
+     */
+    private List<CreatePersonRequest> validateBatch(LockedClient client,
+                                                    List<CreatePersonRequest> persons) {
+        List<String> problems = new ArrayList<>();
+        List<CreatePersonRequest> requests = new ArrayList<>(persons.size());
+        Map<String, Integer> identificationNumbers = new HashMap<>();
+        BigDecimal declared = client.declaredOwnership();
+        for (int i = 0; i < persons.size(); i++) {
+            CreatePersonRequest request = persons.get(i);
+            if (request == null) {
+                problems.add("persons[" + i + "]: must not be null");
+                continue;
+            }
+            if (request.clientId() != null && !request.clientId().equals(client.id())) {
+                problems.add("persons[" + i + "].clientId: must be " + client.id() + " or omitted");
+            }
+            // Checked for duplicates as it is stored: trimmed, and absent when blank
+            String identificationNumber = request.identificationNumber() != null
+                    && !request.identificationNumber().isBlank()
+                    ? request.identificationNumber().trim()
+                    : null;
+            request = request.withClientId(client.id()).withIdentificationNumber(identificationNumber);
+            for (ConstraintViolation<CreatePersonRequest> violation : validator.validate(request)) {
+                problems.add("persons[" + i + "]." + violation.getPropertyPath() + ": " + violation.getMessage());
+            }
+            if (identificationNumber != null) {
+                Integer first = identificationNumbers.putIfAbsent(identificationNumber, i);
+                if (first != null) {
+                    problems.add("persons[" + i + "].identificationNumber: same as persons[" + first + "]");
+                }
+            }
+            if (request.ownershipPercentage() != null) {
+                declared = declared.add(request.ownershipPercentage());
+            }
+            requests.add(request);
+        }
+
+        String ownershipProblem = ownershipProblem(client, declared);
+        if (ownershipProblem != null) {
+            problems.add(ownershipProblem);
+        }
+        if (!identificationNumbers.isEmpty()) {
+            for (String taken : personRepository.findExistingIdentificationNumbers(identificationNumbers.keySet())) {
+                problems.add("persons[" + identificationNumbers.get(taken) + "].identificationNumber: " + taken
+                        + " already belongs to another person");
+            }
+        }
+
+        if (!problems.isEmpty()) {
+            throw new IllegalArgumentException(String.join("; ", problems));
+        }
+        return requests;
+    }
+
     @Override
     public List<PersonDTO> getPersonsByClient(Long clientId) {
         log.debug("Getting persons for client ID: {}", clientId);
@@ -59,19 +228,74 @@ public class PersonServiceImpl implements PersonService {
             return List.of();
         }
 
-        List<Person> persons = personRepository.findByClientId(clientId);
+        List<PersonDTO> persons = personRepository.findPersonsByClientId(clientId);
         log.debug("Found {} persons for client ID: {}", persons.size(), clientId);
 
-        return PersonDTO.fromList(persons);
+        return persons;
+    }
+
+    @Override
+    public CursorPage<BeneficialOwnerDTO> findBeneficialOwners(BeneficialOwnerFilter filter, String cursor,
+                                                               Integer pageSize) {
+        BeneficialOwnerFilter criteria = filter != null ? filter : BeneficialOwnerFilter.ANY;
+        IdCursor after = IdCursor.decode(cursor);
+        int resolvedPageSize = ownershipProperties.resolvePageSize(pageSize);
+        log.debug("Getting beneficial owners matching {} after cursor: {}, page size: {}",
+                criteria, cursor, resolvedPageSize);
+
+        List<BeneficialOwnerDTO> fetched;
+        try (Stream<BeneficialOwnerDTO> owners = personRepository.streamBeneficialOwnersAfter(
+                criteria.nationality(), criteria.minOwnership(), criteria.clientRiskLevel(),
+                criteria.bornFrom(), criteria.bornTo(),
+                after != null ? after.id() : null,
+                Limit.of(resolvedPageSize + 1))) {
+            fetched = owners.toList();
+        }
+        CursorPage<BeneficialOwnerDTO> page = CursorPage.of(fetched, resolvedPageSize,
+                owner -> new IdCursor(owner.personId()).encode());
+        log.debug("Found {} beneficial owners, more available: {}", page.items().size(), page.hasMore());
+
+        return page;
     }
 
     @Override
-    public List<PersonDTO> getBeneficialOwners() {
-        log.debug("Getting all beneficial owners");
+    public CursorPage<BeneficialOwnerSummaryDTO> summarizeBeneficialOwners(BeneficialOwnerFilter filter,
+                                                                          String cursor, Integer pageSize) {
+        BeneficialOwnerFilter criteria = filter != null ? filter : BeneficialOwnerFilter.ANY;
+        IdCursor after = IdCursor.decode(cursor);
+        int resolvedPageSize = ownershipProperties.resolvePageSize(pageSize);
+        log.debug("Summarizing beneficial owners matching {} after cursor: {}, page size: {}",
+                criteria, cursor, resolvedPageSize);
+
+        List<BeneficialOwnerSummaryDTO> fetched;
+        try (Stream<BeneficialOwnerSummaryDTO> summaries = personRepository.streamBeneficialOwnerSummariesAfter(
+                criteria.nationality(), criteria.minOwnership(), criteria.clientRiskLevel(),
+                criteria.bornFrom(), criteria.bornTo(),
+                after != null ? after.id() : null,
+                Limit.of(resolvedPageSize + 1))) {
+            fetched = summaries.toList();
+        }
+        CursorPage<BeneficialOwnerSummaryDTO> page = CursorPage.of(fetched, resolvedPageSize,
+                summary -> new IdCursor(summary.clientId()).encode());
+        log.debug("Summarized beneficial owners of {} clients, more available: {}",
+                page.items().size(), page.hasMore());
+
+        return page;
+    }
+
+    @Override
+    // Served from memory; opening the class-level transaction would borrow a connection for nothing
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public List<PersonMatchDTO> searchPersons(String query, Integer limit) {
+        log.debug("Searching persons for query: {}, limit: {}", query, limit);
+
+        if (query == null || query.isBlank()) {
+            throw new IllegalArgumentException("Search query is required");
+        }
 
-        List<Person> persons = personRepository.findAllBeneficialOwners();
-        log.debug("Found {} beneficial owners", persons.size());
+        List<PersonMatchDTO> persons = personSearchEngine.search(query, personSearchProperties.resolveLimit(limit));
+        log.debug("Found {} persons for query: {}", persons.size(), query);
 
-        return PersonDTO.fromList(persons);
+        return persons;
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,53 @@
+package com.theociobanoiu.kycmcp.service.impl;
+
+import com.theociobanoiu.kycmcp.model.dto.CursorPage;
+import com.theociobanoiu.kycmcp.model.dto.DueReviewDTO;
+import com.theociobanoiu.kycmcp.model.dto.ReviewCursor;
+import com.theociobanoiu.kycmcp.model.enums.RiskLevel;
+import com.theociobanoiu.kycmcp.repository.ClientRepository;
+import com.theociobanoiu.kycmcp.review.ReviewProperties;
+import com.theociobanoiu.kycmcp.service.api.ReviewService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.List;
+import java.util.stream.Stream;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+@Transactional(readOnly = true)
+public class ReviewServiceImpl implements ReviewService {
+
+    private final ClientRepository clientRepository;
+    private final ReviewProperties reviewProperties;
+
+    @Override
+    public CursorPage<DueReviewDTO> getDueReviews(RiskLevel riskLevel, LocalDate dueBy, String cursor,
+                                                  Integer limit) {
+        ReviewCursor after = ReviewCursor.decode(cursor);
+        LocalDateTime dueAt = dueBy != null ? dueBy.atTime(LocalTime.MAX) : LocalDateTime.now();
+        int resolvedLimit = reviewProperties.resolveLimit(limit);
+        log.debug("Getting reviews due by {} with risk level: {} after cursor: {}, limit: {}",
+                dueAt, riskLevel, cursor, resolvedLimit);
+
+        List<DueReviewDTO> fetched;
+        try (Stream<DueReviewDTO> reviews = clientRepository.streamDueReviewsAfter(dueAt, riskLevel,
+                after != null ? after.nextReviewAt() : null,
+                after != null ? after.id() : null,
+                Limit.of(resolvedLimit + 1))) {
+            fetched = reviews.toList();
+        }
+        CursorPage<DueReviewDTO> page = CursorPage.of(fetched, resolvedLimit,
+                review -> new ReviewCursor(review.nextReviewAt(), review.clientId()).encode());
+        log.debug("Found {} due reviews, more available: {}", page.items().size(), page.hasMore());
+
+        return page;
+    }
+}
@@ -0,0 +1,80 @@
+package com.theociobanoiu.kycmcp.service.impl;
+
+import com.theociobanoiu.kycmcp.model.dto.ClientScreeningDTO;
+import com.theociobanoiu.kycmcp.model.dto.ScreeningHitDTO;
+import com.theociobanoiu.kycmcp.model.dto.ScreeningResultDTO;
+import com.theociobanoiu.kycmcp.model.entities.Client;
+import com.theociobanoiu.kycmcp.model.entities.Person;
+import com.theociobanoiu.kycmcp.repository.ClientRepository;
+import com.theociobanoiu.kycmcp.repository.PersonRepository;
+import com.theociobanoiu.kycmcp.screening.ScreeningQuery;
+import com.theociobanoiu.kycmcp.screening.WatchlistScreeningEngine;
+import com.theociobanoiu.kycmcp.service.api.ScreeningService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.Optional;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+@Transactional(readOnly = true)
+public class ScreeningServiceImpl implements ScreeningService {
+
+    private static final String SUBJECT_CLIENT = "CLIENT";
+    private static final String SUBJECT_PERSON = "PERSON";
+
+    private final WatchlistScreeningEngine screeningEngine;
+    private final ClientRepository clientRepository;
+    private final PersonRepository personRepository;
+
+    @Override
+    public Optional<ScreeningResultDTO> screenPerson(Long personId) {
+        log.debug("Screening person ID: {}", personId);
+
+        if (personId == null) {
+            log.warn("Person ID is null");
+            return Optional.empty();
+        }
+
+        return personRepository.findById(personId).map(this::screen);
+    }
+
+    @Override
+    public Optional<ClientScreeningDTO> screenClient(Long clientId) {
+        log.debug("Screening client ID: {} and its persons", clientId);
+
+        if (clientId == null) {
+            log.warn("Client ID is null");
+            return Optional.empty();
+        }
+
+        return clientRepository.findById(clientId).map(client -> {
+            ScreeningResultDTO clientResult = screen(client);
+            List<ScreeningResultDTO> personResults = personRepository.findByClientId(clientId).stream()
+                    .map(this::screen)
+                    .toList();
+            ClientScreeningDTO result = ClientScreeningDTO.of(clientResult, personResults);
+            log.info("Screened client ID: {} with {} persons, potential match: {}",
+                    clientId, personResults.size(), result.potentialMatch());
+            return result;
+        });
+    }
+
+    private ScreeningResultDTO screen(Client client) {
+        // Clients carry no birth date or nationality, so they are matched on name alone
+        List<ScreeningHitDTO> hits = screeningEngine.screen(new ScreeningQuery(client.getName(), null, null));
+        log.debug("Screened client ID: {} with {} hits", client.getId(), hits.size());
+        return ScreeningResultDTO.of(SUBJECT_CLIENT, client.getId(), client.getName(), hits);
+    }
+
+    private ScreeningResultDTO screen(Person person) {
+        List<ScreeningHitDTO> hits = screeningEngine.screen(
+                new ScreeningQuery(person.getFullName(), person.getDateOfBirth(), person.getNationality()));
+        log.debug("Screened person ID: {} with {} hits", person.getId(), hits.size());
+        return ScreeningResultDTO.of(SUBJECT_PERSON, person.getId(), person.getFullName(), hits);
+    }
+}
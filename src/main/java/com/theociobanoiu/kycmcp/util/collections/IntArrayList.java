@@ -0,0 +1,60 @@
+package com.theociobanoiu.kycmcp.util.collections;
+
+import java.util.Arrays;
+
+/**
+ * Growable list of primitive {@code int} values. Backs the posting lists of the in-memory indexes,
+ * where a {@code List<Integer>} would cost four to five times the memory.
+ * <p>
+ * Not thread-safe; owners guard it with their own lock.
+ */
+public class IntArrayList {
+
+    private int[] elements;
+    private int size;
+
+    public IntArrayList() {
+        this(4);
+    }
+
+    public IntArrayList(int initialCapacity) {
+        this.elements = new int[Math.max(1, initialCapacity)];
+    }
+
+    public void add(int value) {
+        if (size == elements.length) {
+            elements = Arrays.copyOf(elements, size + (size >> 1) + 1);
+        }
+        elements[size++] = value;
+    }
+
+    public int get(int index) {
+        if (index >= size) {
+            throw new IndexOutOfBoundsException("Index " + index + " out of bounds for size " + size);
+        }
+        return elements[index];
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public void clear() {
+        size = 0;
+    }
+
+    /**
+     * Exposes the backing array for tight loops; only the first {@link #size()} elements are valid.
+     */
+    public int[] rawArray() {
+        return elements;
+    }
+
+    public int[] toArray() {
+        return Arrays.copyOf(elements, size);
+    }
+}
@@ -0,0 +1,49 @@
+package com.theociobanoiu.kycmcp.util.collections;
+
+import java.util.Arrays;
+
+/**
+ * Growable list of primitive {@code long} values, used for transient key buffers while building
+ * the in-memory indexes.
+ * <p>
+ * Not thread-safe; owners guard it with their own lock.
+ */
+public class LongArrayList {
+
+    private long[] elements;
+    private int size;
+
+    public LongArrayList() {
+        this(16);
+    }
+
+    public LongArrayList(int initialCapacity) {
+        this.elements = new long[Math.max(1, initialCapacity)];
+    }
+
+    public void add(long value) {
+        if (size == elements.length) {
+            elements = Arrays.copyOf(elements, size + (size >> 1) + 1);
+        }
+        elements[size++] = value;
+    }
+
+    public long get(int index) {
+        if (index >= size) {
+            throw new IndexOutOfBoundsException("Index " + index + " out of bounds for size " + size);
+        }
+        return elements[index];
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public void clear() {
+        size = 0;
+    }
+
+    public long[] toArray() {
+        return Arrays.copyOf(elements, size);
+    }
+}
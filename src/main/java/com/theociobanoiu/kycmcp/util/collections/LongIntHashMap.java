@@ -0,0 +1,134 @@
+package com.theociobanoiu.kycmcp.util.collections;
+
+import java.util.Arrays;
+
+/**
+ * Open-addressing hash map from primitive {@code long} keys to primitive {@code int} values.
+ * Used by the in-memory indexes to map database ids to array slots without boxing one
+ * {@code Long}/{@code Integer} pair per entry, which matters once an index holds millions of rows.
+ * <p>
+ * Not thread-safe; owners guard it with their own lock. Removal is not supported because the
+ * indexes only ever re-point an id to a new slot.
+ */
+public class LongIntHashMap {
+
+    private static final long EMPTY_KEY = Long.MIN_VALUE;
+    private static final float LOAD_FACTOR = 0.6f;
+
+    private final int missingValue;
+    private long[] keys;
+    private int[] values;
+    private int size;
+    private int resizeAt;
+
+    public LongIntHashMap() {
+        this(16, -1);
+    }
+
+    /**
+     * @param expectedSize initial number of entries the map should hold without resizing
+     * @param missingValue value returned by {@link #get(long)} for absent keys
+     */
+    public LongIntHashMap(int expectedSize, int missingValue) {
+        this.missingValue = missingValue;
+        allocate(tableSizeFor(expectedSize));
+    }
+
+    public int get(long key) {
+        checkKey(key);
+        int mask = keys.length - 1;
+        int index = mix(key) & mask;
+        while (true) {
+            long existing = keys[index];
+            if (existing == EMPTY_KEY) {
+                return missingValue;
+            }
+            if (existing == key) {
+                return values[index];
+            }
+            index = (index + 1) & mask;
+        }
+    }
+
+    public boolean containsKey(long key) {
+        return get(key) != missingValue;
+    }
+
+    public void put(long key, int value) {
+        checkKey(key);
+        int mask = keys.length - 1;
+        int index = mix(key) & mask;
+        while (true) {
+            long existing = keys[index];
+            if (existing == EMPTY_KEY) {
+                keys[index] = key;
+                values[index] = value;
+                if (++size >= resizeAt) {
+                    rehash(keys.length << 1);
+                }
+                return;
+            }
+            if (existing == key) {
+                values[index] = value;
+                return;
+            }
+            index = (index + 1) & mask;
+        }
+    }
+
+    /**
+     * Adds {@code delta} to the value stored under {@code key}, treating an absent key as zero.
+     *
+     * @return the updated value
+     */
+    public int addTo(long key, int delta) {
+        int current = get(key);
+        int updated = (current == missingValue ? 0 : current) + delta;
+        put(key, updated);
+        return updated;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public void clear() {
+        Arrays.fill(keys, EMPTY_KEY);
+        size = 0;
+    }
+
+    private void rehash(int newCapacity) {
+        long[] oldKeys = keys;
+        int[] oldValues = values;
+        allocate(newCapacity);
+        size = 0;
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (oldKeys[i] != EMPTY_KEY) {
+                put(oldKeys[i], oldValues[i]);
+            }
+        }
+    }
+
+    private void allocate(int capacity) {
+        keys = new long[capacity];
+        values = new int[capacity];
+        Arrays.fill(keys, EMPTY_KEY);
+        resizeAt = (int) (capacity * LOAD_FACTOR);
+    }
+
+    private static int tableSizeFor(int expectedSize) {
+        int capacity = Integer.highestOneBit(Math.max(4, (int) (expectedSize / LOAD_FACTOR)) - 1) << 1;
+        return Math.max(16, capacity);
+    }
+
+    private static int mix(long key) {
+        long h = key * 0x9E3779B97F4A7C15L;
+        return (int) (h ^ (h >>> 32));
+    }
+
+    private static void checkKey(long key) {
+        if (key == EMPTY_KEY) {
+            throw new IllegalArgumentException("Long.MIN_VALUE is reserved as the empty key");
+        }
+    }
+}
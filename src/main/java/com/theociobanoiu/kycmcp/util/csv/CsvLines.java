@@ -0,0 +1,45 @@
+package com.theociobanoiu.kycmcp.util.csv;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Minimal line-oriented CSV support for the file formats this application reads.
+ * Fields may be double-quoted, with doubled quotes inside them; quoted fields cannot span lines.
+ */
+public final class CsvLines {
+
+    private CsvLines() {
+    }
+
+    /**
+     * Splits one CSV line into its fields, honouring double-quoted fields and doubled quotes inside them.
+     */
+    public static List<String> split(String line) {
+        List<String> fields = new ArrayList<>();
+        StringBuilder current = new StringBuilder();
+        boolean quoted = false;
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (quoted) {
+                if (c == '"' && i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                    current.append('"');
+                    i++;
+                } else if (c == '"') {
+                    quoted = false;
+                } else {
+                    current.append(c);
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == ',') {
+                fields.add(current.toString());
+                current.setLength(0);
+            } else {
+                current.append(c);
+            }
+        }
+        fields.add(current.toString());
+        return fields;
+    }
+}
@@ -0,0 +1,11 @@
+--liquibase formatted sql
+
+--changeset theociobanoiu:13 dbms:postgresql
+--comment: Enable pg_trgm for similarity-ranked client name search
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+--rollback DROP EXTENSION IF EXISTS pg_trgm;
+
+--changeset theociobanoiu:14 dbms:postgresql
+--comment: Create trigram index on lower-cased client name (serves LIKE '%..%' and similarity search)
+CREATE INDEX idx_clients_name_trgm ON clients USING gin (LOWER(name) gin_trgm_ops);
+--rollback DROP INDEX IF EXISTS idx_clients_name_trgm;
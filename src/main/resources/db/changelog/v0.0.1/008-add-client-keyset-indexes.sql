@@ -0,0 +1,7 @@
+--liquibase formatted sql
+
+--changeset theociobanoiu:15
+--comment: Create composite indexes backing keyset pagination of clients by (name, id)
+CREATE INDEX idx_clients_name_id ON clients (name, id);
+CREATE INDEX idx_clients_risk_level_name_id ON clients (risk_level, name, id);
+--rollback DROP INDEX IF EXISTS idx_clients_name_id, idx_clients_risk_level_name_id;
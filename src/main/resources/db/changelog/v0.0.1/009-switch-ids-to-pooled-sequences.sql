@@ -0,0 +1,17 @@
+--liquibase formatted sql
+
+--changeset theociobanoiu:16 dbms:postgresql
+--comment: Hand out client and person ids in blocks of 50 so Hibernate can batch inserts (pooled optimizer)
+ALTER SEQUENCE clients_id_seq INCREMENT BY 50;
+ALTER SEQUENCE persons_id_seq INCREMENT BY 50;
+--rollback ALTER SEQUENCE clients_id_seq INCREMENT BY 1;
+--rollback ALTER SEQUENCE persons_id_seq INCREMENT BY 1;
+
+--changeset theociobanoiu:17 dbms:h2
+--comment: H2 maps BIGSERIAL to an identity column without a named sequence, so create the pooled sequences past the existing ids
+CREATE SEQUENCE clients_id_seq START WITH 1 INCREMENT BY 50;
+ALTER SEQUENCE clients_id_seq RESTART WITH (SELECT COALESCE(MAX(id), 0) + 50 FROM clients);
+CREATE SEQUENCE persons_id_seq START WITH 1 INCREMENT BY 50;
+ALTER SEQUENCE persons_id_seq RESTART WITH (SELECT COALESCE(MAX(id), 0) + 50 FROM persons);
+--rollback DROP SEQUENCE IF EXISTS clients_id_seq;
+--rollback DROP SEQUENCE IF EXISTS persons_id_seq;
@@ -0,0 +1,26 @@
+--liquibase formatted sql
+
+--changeset theociobanoiu:18
+--comment: Create client ownerships table recording that one client holds a share of another
+CREATE SEQUENCE client_ownerships_id_seq START WITH 1 INCREMENT BY 50;
+CREATE TABLE client_ownerships
+(
+    id                   BIGINT        PRIMARY KEY,
+    owner_client_id      BIGINT        NOT NULL,
+    owned_client_id      BIGINT        NOT NULL,
+    ownership_percentage DECIMAL(5, 2) NOT NULL,
+    created_at           TIMESTAMP     NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    updated_at           TIMESTAMP     NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    CONSTRAINT fk_client_ownerships_owner FOREIGN KEY (owner_client_id) REFERENCES clients (id) ON DELETE CASCADE,
+    CONSTRAINT fk_client_ownerships_owned FOREIGN KEY (owned_client_id) REFERENCES clients (id) ON DELETE CASCADE,
+    CONSTRAINT uk_client_ownerships_owned_owner UNIQUE (owned_client_id, owner_client_id),
+    CONSTRAINT chk_client_ownerships_not_self CHECK (owner_client_id <> owned_client_id),
+    CONSTRAINT chk_client_ownerships_percentage CHECK (ownership_percentage > 0 AND ownership_percentage <= 100)
+);
+--rollback DROP TABLE IF EXISTS client_ownerships;
+--rollback DROP SEQUENCE IF EXISTS client_ownerships_id_seq;
+
+--changeset theociobanoiu:19
+--comment: Index the owner side of client ownerships; the unique constraint already covers lookups by owned client
+CREATE INDEX idx_client_ownerships_owner_client_id ON client_ownerships (owner_client_id);
+--rollback DROP INDEX IF EXISTS idx_client_ownerships_owner_client_id;
@@ -0,0 +1,20 @@
+--liquibase formatted sql
+
+--changeset theociobanoiu:20
+--comment: Create risk scoring runs table; the start of the last finished run is where an incremental run resumes
+CREATE TABLE risk_scoring_runs
+(
+    id              BIGSERIAL PRIMARY KEY,
+    mode            VARCHAR(20) NOT NULL,
+    started_at      TIMESTAMP   NOT NULL,
+    finished_at     TIMESTAMP,
+    clients_scored  BIGINT      NOT NULL DEFAULT 0,
+    clients_changed BIGINT      NOT NULL DEFAULT 0
+);
+--rollback DROP TABLE IF EXISTS risk_scoring_runs;
+
+--changeset theociobanoiu:21
+--comment: Index modification times so incremental risk scoring finds recently touched clients and persons
+CREATE INDEX idx_clients_updated_at ON clients (updated_at);
+CREATE INDEX idx_persons_updated_at ON persons (updated_at);
+--rollback DROP INDEX IF EXISTS idx_clients_updated_at, idx_persons_updated_at;
@@ -0,0 +1,36 @@
+--liquibase formatted sql
+
+--changeset theociobanoiu:22
+--comment: Create tables for client duplicate clusters and the scored pairs that link their members
+CREATE SEQUENCE duplicate_clusters_id_seq START WITH 1 INCREMENT BY 50;
+CREATE TABLE duplicate_clusters
+(
+    id           BIGINT        PRIMARY KEY,
+    detected_at  TIMESTAMP     NOT NULL,
+    member_count INT           NOT NULL,
+    best_score   DECIMAL(5, 4) NOT NULL
+);
+CREATE SEQUENCE duplicate_matches_id_seq START WITH 1 INCREMENT BY 50;
+CREATE TABLE duplicate_matches
+(
+    id                BIGINT        PRIMARY KEY,
+    cluster_id        BIGINT        NOT NULL,
+    client_id         BIGINT        NOT NULL,
+    matched_client_id BIGINT        NOT NULL,
+    score             DECIMAL(5, 4) NOT NULL,
+    matched_on        VARCHAR(100)  NOT NULL,
+    CONSTRAINT fk_duplicate_matches_cluster FOREIGN KEY (cluster_id) REFERENCES duplicate_clusters (id) ON DELETE CASCADE,
+    CONSTRAINT fk_duplicate_matches_client FOREIGN KEY (client_id) REFERENCES clients (id) ON DELETE CASCADE,
+    CONSTRAINT fk_duplicate_matches_matched_client FOREIGN KEY (matched_client_id) REFERENCES clients (id) ON DELETE CASCADE
+);
+--rollback DROP TABLE IF EXISTS duplicate_matches;
+--rollback DROP SEQUENCE IF EXISTS duplicate_matches_id_seq;
+--rollback DROP TABLE IF EXISTS duplicate_clusters;
+--rollback DROP SEQUENCE IF EXISTS duplicate_clusters_id_seq;
+
+--changeset theociobanoiu:23
+--comment: Index duplicate matches by cluster and by both clients, for cluster reads and cascading client deletes
+CREATE INDEX idx_duplicate_matches_cluster_id ON duplicate_matches (cluster_id);
+CREATE INDEX idx_duplicate_matches_client_id ON duplicate_matches (client_id);
+CREATE INDEX idx_duplicate_matches_matched_client_id ON duplicate_matches (matched_client_id);
+--rollback DROP INDEX IF EXISTS idx_duplicate_matches_cluster_id, idx_duplicate_matches_client_id, idx_duplicate_matches_matched_client_id;
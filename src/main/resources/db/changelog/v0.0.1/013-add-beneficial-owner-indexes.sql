@@ -0,0 +1,19 @@
+--liquibase formatted sql
+
+--changeset theociobanoiu:24 dbms:postgresql
+--comment: Create partial indexes over declared beneficial owners backing the filtered keyset and per-client aggregate queries
+CREATE INDEX idx_persons_beneficial_owners_id ON persons (id)
+    INCLUDE (client_id, nationality, ownership_percentage, date_of_birth)
+    WHERE relationship_type = 'BENEFICIAL_OWNER';
+CREATE INDEX idx_persons_beneficial_owners_nationality_id ON persons (nationality, id)
+    WHERE relationship_type = 'BENEFICIAL_OWNER';
+CREATE INDEX idx_persons_beneficial_owners_client_id ON persons (client_id)
+    INCLUDE (ownership_percentage, nationality, date_of_birth)
+    WHERE relationship_type = 'BENEFICIAL_OWNER';
+--rollback DROP INDEX IF EXISTS idx_persons_beneficial_owners_id, idx_persons_beneficial_owners_nationality_id, idx_persons_beneficial_owners_client_id;
+
+--changeset theociobanoiu:25 dbms:!postgresql
+--comment: Create composite indexes standing in for the beneficial owner partial indexes on databases without them
+CREATE INDEX idx_persons_relationship_type_nationality_id ON persons (relationship_type, nationality, id);
+CREATE INDEX idx_persons_relationship_type_client_id ON persons (relationship_type, client_id);
+--rollback DROP INDEX IF EXISTS idx_persons_relationship_type_nationality_id, idx_persons_relationship_type_client_id;
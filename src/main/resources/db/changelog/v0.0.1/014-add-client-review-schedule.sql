@@ -0,0 +1,31 @@
+--liquibase formatted sql
+
+--changeset theociobanoiu:26
+--comment: Schedule periodic KYC reviews; existing clients are due a review interval after onboarding, shorter the higher their risk
+ALTER TABLE clients ADD COLUMN next_review_at TIMESTAMP;
+ALTER TABLE clients ADD COLUMN last_reviewed_at TIMESTAMP;
+UPDATE clients SET next_review_at = CASE risk_level
+    WHEN 'HIGH' THEN created_at + INTERVAL '1' YEAR
+    WHEN 'MEDIUM' THEN created_at + INTERVAL '3' YEAR
+    ELSE created_at + INTERVAL '5' YEAR END;
+ALTER TABLE clients ALTER COLUMN next_review_at SET NOT NULL;
+CREATE INDEX idx_clients_next_review_at_id ON clients (next_review_at, id);
+--rollback DROP INDEX IF EXISTS idx_clients_next_review_at_id;
+--rollback ALTER TABLE clients DROP COLUMN last_reviewed_at;
+--rollback ALTER TABLE clients DROP COLUMN next_review_at;
+
+--changeset theociobanoiu:27
+--comment: Create client reviews table recording the outcome of every periodic review
+CREATE TABLE client_reviews
+(
+    id                  BIGSERIAL PRIMARY KEY,
+    client_id           BIGINT      NOT NULL,
+    reviewed_at         TIMESTAMP   NOT NULL,
+    previous_risk_level VARCHAR(20) NOT NULL,
+    risk_level          VARCHAR(20) NOT NULL,
+    screening_hits      INT,
+    outcome             VARCHAR(20) NOT NULL,
+    CONSTRAINT fk_client_reviews_client FOREIGN KEY (client_id) REFERENCES clients (id) ON DELETE CASCADE
+);
+CREATE INDEX idx_client_reviews_client_id_reviewed_at ON client_reviews (client_id, reviewed_at);
+--rollback DROP TABLE IF EXISTS client_reviews;
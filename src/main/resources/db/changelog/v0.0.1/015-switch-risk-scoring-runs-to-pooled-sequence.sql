@@ -0,0 +1,12 @@
+--liquibase formatted sql
+
+--changeset theociobanoiu:28 dbms:postgresql
+--comment: Hand out risk scoring run ids in blocks of 50 like the other entities (pooled optimizer)
+ALTER SEQUENCE risk_scoring_runs_id_seq INCREMENT BY 50;
+--rollback ALTER SEQUENCE risk_scoring_runs_id_seq INCREMENT BY 1;
+
+--changeset theociobanoiu:29 dbms:h2
+--comment: H2 maps BIGSERIAL to an identity column without a named sequence, so create the pooled sequence past the existing ids
+CREATE SEQUENCE risk_scoring_runs_id_seq START WITH 1 INCREMENT BY 50;
+ALTER SEQUENCE risk_scoring_runs_id_seq RESTART WITH (SELECT COALESCE(MAX(id), 0) + 50 FROM risk_scoring_runs);
+--rollback DROP SEQUENCE IF EXISTS risk_scoring_runs_id_seq;
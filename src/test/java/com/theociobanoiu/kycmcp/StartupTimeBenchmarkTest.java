@@ -0,0 +1,137 @@
+package com.theociobanoiu.kycmcp;
+
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * Time from launching a JVM until {@code /actuator/health/readiness} reports UP, for a plain start and for the
+ * fast-start build (AOT-processed classes, class-data-sharing archive, Liquibase skipped, tools warmed up).
+ * <p>
+ * Starts the jar extracted by the fast-start build, with H2 appended to its classpath and a file database in a
+ * temporary directory. A training run migrates the database and records the class-data-sharing archive; then
+ * {@code startup.runs} (default 3) starts of each kind are timed and their medians reported. The fast-start median
+ * must stay within {@code startup.budget-seconds} (default 30). Excluded from the default build; run with
+ * {@code ./mvnw package -Pfast-start -Dcds.skip -DskipTests && ./mvnw test -Pbenchmark -Dtest=StartupTimeBenchmarkTest}.
+ */
+@Tag("benchmark")
+@Slf4j
+class StartupTimeBenchmarkTest {
+
+    private static final Path APPLICATION = Path.of("target", "fast-start", "kyc-mcp-0.0.1-SNAPSHOT.jar");
+    private static final int RUNS = Integer.getInteger("startup.runs", 3);
+    private static final long BUDGET_SECONDS = Long.getLong("startup.budget-seconds", 30);
+    private static final Duration START_TIMEOUT = Duration.ofMinutes(3);
+
+    private final HttpClient http = HttpClient.newHttpClient();
+
+    @TempDir
+    private Path directory;
+
+    @Test
+    void fastStartIsReadyWithinBudget() throws Exception {
+        assumeTrue(Files.exists(APPLICATION), "Build the fast-start jar first: ./mvnw package -Pfast-start -Dcds.skip");
+        Path archive = directory.resolve("kyc-mcp.jsa");
+        List<String> fastStart = List.of("-XX:SharedArchiveFile=" + archive, "-Dspring.aot.enabled=true",
+            "-Dspring.profiles.active=fast-start");
+
+        Process training = launch(List.of("-XX:ArchiveClassesAtExit=" + archive, "-Dspring.aot.enabled=true",
+            "-Dspring.profiles.active=fast-start", "-Dspring.context.exit=onRefresh"), freePort());
+        assertThat(training.waitFor()).as("training run exit code").isZero();
+        assertThat(archive).exists();
+
+        long[] plain = new long[RUNS];
+        long[] fast = new long[RUNS];
+        for (int i = 0; i < RUNS; i++) {
+            plain[i] = timeToReady(List.of());
+            fast[i] = timeToReady(fastStart);
+        }
+
+        log.info("Ready after, median of {} starts: plain {} ms {}, fast-start {} ms {}", RUNS,
+            median(plain), Arrays.toString(plain), median(fast), Arrays.toString(fast));
+        assertThat(median(fast)).as("fast-start time to ready, ms").isLessThanOrEqualTo(BUDGET_SECONDS * 1000);
+    }
+
+    /**
+     * Milliseconds from launching the JVM until the readiness probe answers UP.
+     */
+    private long timeToReady(List<String> jvmOptions) throws Exception {
+        int port = freePort();
+        long start = System.nanoTime();
+        Process process = launch(jvmOptions, port);
+        try {
+            HttpRequest readiness = HttpRequest.newBuilder(
+                URI.create("http://localhost:" + port + "/actuator/health/readiness")).GET().build();
+            while (System.nanoTime() - start < START_TIMEOUT.toNanos()) {
+                assertThat(process.isAlive()).as("application running").isTrue();
+                try {
+                    HttpResponse<String> response = http.send(readiness, HttpResponse.BodyHandlers.ofString());
+                    if (response.statusCode() == 200 && response.body().contains("UP")) {
+                        return (System.nanoTime() - start) / 1_000_000;
+                    }
+                } catch (IOException e) {
+                    // not listening yet
+                }
+                Thread.sleep(20);
+            }
+            throw new AssertionError("Not ready within " + START_TIMEOUT);
+        } finally {
+            process.destroy();
+            process.waitFor();
+        }
+    }
+
+    private Process launch(List<String> jvmOptions, int port) throws IOException, URISyntaxException {
+        Path h2 = Path.of(org.h2.Driver.class.getProtectionDomain().getCodeSource().getLocation().toURI());
+        List<String> command = new ArrayList<>();
+        command.add(Path.of(System.getProperty("java.home"), "bin", "java").toString());
+        command.addAll(jvmOptions);
+        command.addAll(List.of("-cp", APPLICATION + File.pathSeparator + h2, KycMcpApplication.class.getName(),
+            "--server.port=" + port,
+            // Without DATABASE_TO_LOWER, unlike the tests: Liquibase does not find its own lower-case tables again on
+            // a restart
+            "--spring.datasource.url=jdbc:h2:file:" + directory.resolve("kyc_db")
+                + ";MODE=PostgreSQL;DEFAULT_NULL_ORDERING=HIGH",
+            "--spring.datasource.driver-class-name=org.h2.Driver",
+            "--spring.datasource.username=sa",
+            "--spring.datasource.password=",
+            "--spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+            "--management.endpoint.health.probes.enabled=true",
+            "--logging.level.com.theociobanoiu.kycmcp=INFO"));
+        return new ProcessBuilder(command)
+            .redirectErrorStream(true)
+            .redirectOutput(ProcessBuilder.Redirect.appendTo(directory.resolve("application.log").toFile()))
+            .start();
+    }
+
+    private static int freePort() throws IOException {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        }
+    }
+
+    private static long median(long[] values) {
+        long[] sorted = values.clone();
+        Arrays.sort(sorted);
+        return sorted[sorted.length / 2];
+    }
+}
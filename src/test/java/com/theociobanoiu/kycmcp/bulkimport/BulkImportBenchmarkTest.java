@@ -0,0 +1,63 @@
+package com.theociobanoiu.kycmcp.bulkimport;
+
+import com.theociobanoiu.kycmcp.model.dto.ImportResultDTO;
+import com.theociobanoiu.kycmcp.service.api.BulkImportService;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Import throughput into the embedded H2 database. Excluded from the default build;
+ * run with {@code ./mvnw test -Pbenchmark}.
+ */
+@Tag("benchmark")
+@SpringBootTest
+@ActiveProfiles("test")
+@Slf4j
+class BulkImportBenchmarkTest {
+
+    private static final int CLIENTS = 100_000;
+    private static final int PERSONS_PER_CLIENT = 2;
+    private static final String[] RELATIONSHIPS = {"DIRECTOR", "SHAREHOLDER", "BENEFICIAL_OWNER"};
+
+    @Autowired
+    private BulkImportService bulkImportService;
+
+    @Test
+    void importThroughput() {
+        Random random = new Random(42);
+        StringBuilder clients = new StringBuilder("name,client_type,email,registration_number,risk_level\n");
+        for (int i = 0; i < CLIENTS; i++) {
+            clients.append("Bench Client ").append(i).append(" Ltd,COMPANY,client").append(i)
+                .append("@example.com,BENCH-").append(i).append(',')
+                .append(random.nextBoolean() ? "LOW" : "HIGH").append('\n');
+        }
+        StringBuilder persons = new StringBuilder();
+        for (int i = 0; i < CLIENTS * PERSONS_PER_CLIENT; i++) {
+            persons.append("{\"clientRegistrationNumber\":\"BENCH-").append(i / PERSONS_PER_CLIENT)
+                .append("\",\"firstName\":\"First").append(i).append("\",\"lastName\":\"Last").append(i)
+                .append("\",\"relationshipType\":\"").append(RELATIONSHIPS[random.nextInt(RELATIONSHIPS.length)])
+                .append("\",\"ownershipPercentage\":").append(random.nextInt(50)).append("}\n");
+        }
+
+        ImportResultDTO clientResult = bulkImportService.importStream(ImportTarget.CLIENTS, ImportFormat.CSV,
+            new ByteArrayInputStream(clients.toString().getBytes(StandardCharsets.UTF_8)));
+        ImportResultDTO personResult = bulkImportService.importStream(ImportTarget.PERSONS, ImportFormat.JSONL,
+            new ByteArrayInputStream(persons.toString().getBytes(StandardCharsets.UTF_8)));
+
+        log.info("Imported {} clients at {} rows/s and {} persons at {} rows/s",
+            clientResult.rowsImported(), clientResult.rowsPerSecond(),
+            personResult.rowsImported(), personResult.rowsPerSecond());
+        assertThat(clientResult.rowsFailed()).isZero();
+        assertThat(personResult.rowsFailed()).isZero();
+    }
+}
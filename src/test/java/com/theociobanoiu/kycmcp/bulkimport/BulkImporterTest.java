@@ -0,0 +1,109 @@
+package com.theociobanoiu.kycmcp.bulkimport;
+
+import com.theociobanoiu.kycmcp.model.dto.ClientDTO;
+import com.theociobanoiu.kycmcp.model.dto.ImportResultDTO;
+import com.theociobanoiu.kycmcp.model.dto.ImportRowErrorDTO;
+import com.theociobanoiu.kycmcp.model.dto.PersonDTO;
+import com.theociobanoiu.kycmcp.model.entities.Client;
+import com.theociobanoiu.kycmcp.model.enums.RiskLevel;
+import com.theociobanoiu.kycmcp.repository.ClientRepository;
+import com.theociobanoiu.kycmcp.service.api.BulkImportService;
+import com.theociobanoiu.kycmcp.service.api.ClientService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Not transactional on purpose: the importer commits every chunk in its own transaction.
+ */
+@SpringBootTest(properties = "kyc.import.chunk-size=2")
+@ActiveProfiles("test")
+class BulkImporterTest {
+
+    private static final String PREFIX = "IMP-";
+
+    @Autowired
+    private BulkImportService bulkImportService;
+
+    @Autowired
+    private ClientService clientService;
+
+    @Autowired
+    private ClientRepository clientRepository;
+
+    @AfterEach
+    void deleteImportedClients() {
+        // Persons go with their clients through ON DELETE CASCADE
+        clientRepository.deleteAll(clientRepository.findAll().stream()
+            .filter(client -> client.getRegistrationNumber() != null)
+            .filter(client -> client.getRegistrationNumber().startsWith(PREFIX))
+            .toList());
+    }
+
+    @Test
+    void invalidRowsAreReportedAndTheRestImported() {
+        ImportResultDTO result = importClients("""
+            name,client_type,email,registration_number,risk_level
+            Importer One Ltd,COMPANY,one@example.com,IMP-1,HIGH
+            Importer Two Ltd,SPACESHIP,,IMP-2,
+            ,COMPANY,,IMP-3,
+            Importer Four Ltd,COMPANY,,IMP-1,
+            Importer Five Ltd,COMPANY,,IMP-5,
+            """);
+
+        assertThat(result.rowsRead()).isEqualTo(5);
+        assertThat(result.rowsImported()).isEqualTo(2);
+        assertThat(result.rowsFailed()).isEqualTo(3);
+        assertThat(result.errors()).extracting(ImportRowErrorDTO::line).containsExactly(3L, 4L, 5L);
+        assertThat(result.errors().get(0).message()).contains("client_type");
+        assertThat(result.errors().get(1).message()).contains("name");
+
+        Client imported = clientRepository.findAll().stream()
+            .filter(client -> "IMP-5".equals(client.getRegistrationNumber()))
+            .findFirst()
+            .orElseThrow();
+        assertThat(imported.getRiskLevel()).isEqualTo(RiskLevel.MEDIUM);
+    }
+
+    @Test
+    void personsAreAttachedToClientsByRegistrationNumberOrId() {
+        importClients("""
+            name,client_type,registration_number
+            Importer Holdings,COMPANY,IMP-10
+            """);
+        Long clientId = clientRepository.findReferencesByRegistrationNumberIn(List.of("IMP-10")).getFirst().getId();
+        // Cache the dossier so the test also proves the import invalidates it
+        assertThat(clientService.getClientDetails(clientId).orElseThrow().persons()).isEmpty();
+
+        ImportResultDTO result = bulkImportService.importStream(ImportTarget.PERSONS, ImportFormat.JSONL,
+            stream("""
+                {"clientRegistrationNumber": "IMP-10", "firstName": "Ana", "lastName": "Ionescu", "relationshipType": "director"}
+                {"client_id": %d, "first_name": "Dan", "last_name": "Popa", "relationship_type": "SHAREHOLDER", "ownership_percentage": 40}
+                {"clientRegistrationNumber": "IMP-404", "firstName": "No", "lastName": "Client", "relationshipType": "DIRECTOR"}
+                {"firstName": "Broken"
+                """.formatted(clientId)));
+
+        assertThat(result.rowsImported()).isEqualTo(2);
+        assertThat(result.errors()).extracting(ImportRowErrorDTO::line).containsExactly(3L, 4L);
+        assertThat(result.errors().get(0).message()).contains("IMP-404");
+
+        ClientDTO dossier = clientService.getClientDetails(clientId).orElseThrow();
+        assertThat(dossier.persons()).extracting(PersonDTO::fullName).containsExactlyInAnyOrder("Ana Ionescu", "Dan Popa");
+    }
+
+    private ImportResultDTO importClients(String csv) {
+        return bulkImportService.importStream(ImportTarget.CLIENTS, ImportFormat.CSV, stream(csv));
+    }
+
+    private static ByteArrayInputStream stream(String content) {
+        return new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8));
+    }
+}
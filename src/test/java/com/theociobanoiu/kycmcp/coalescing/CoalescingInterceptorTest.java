@@ -0,0 +1,148 @@
+package com.theociobanoiu.kycmcp.coalescing;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.framework.ProxyFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.support.DefaultListableBeanFactory;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class CoalescingInterceptorTest {
+
+    private final MeterRegistry registry = new SimpleMeterRegistry();
+    private final CountingLookup target = new CountingLookup();
+
+    @Test
+    void identicalConcurrentCallsShareOneExecution() throws Exception {
+        target.release = new CountDownLatch(1);
+        Lookup lookup = proxy(Duration.ZERO);
+        int callers = 8;
+        List<Future<String>> results = new ArrayList<>();
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < callers; i++) {
+                String name = i % 2 == 0 ? "Acme" : " ACME ";
+                results.add(executor.submit(() -> lookup.find(name)));
+            }
+            while (calls("coalesced") < callers - 1) {
+                Thread.sleep(5);
+            }
+            target.release.countDown();
+            for (Future<String> result : results) {
+                assertThat(result.get(10, TimeUnit.SECONDS)).isEqualTo("acme#1");
+            }
+        }
+
+        assertThat(target.executions).hasValue(1);
+        assertThat(calls("executed")).isEqualTo(1);
+        assertThat(lookup.find("other")).isEqualTo("other#2");
+    }
+
+    @Test
+    void finishedResultsAreOnlyReusedWithinTheWindow() {
+        assertThat(proxy(Duration.ZERO).find("acme")).isEqualTo("acme#1");
+        assertThat(proxy(Duration.ZERO).find("acme")).isEqualTo("acme#2");
+
+        Lookup windowed = proxy(Duration.ofMinutes(1));
+        assertThat(windowed.find("acme")).isEqualTo("acme#3");
+        assertThat(windowed.find("Acme")).isEqualTo("acme#3");
+        assertThat(calls("cached")).isEqualTo(1);
+    }
+
+    @Test
+    void failuresAreNotReused() {
+        Lookup lookup = proxy(Duration.ofMinutes(1));
+
+        assertThatThrownBy(() -> lookup.find("")).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> lookup.find("")).isInstanceOf(IllegalArgumentException.class);
+        assertThat(target.executions).hasValue(2);
+    }
+
+    private Lookup proxy(Duration window) {
+        return proxy(window, Duration.ofSeconds(10));
+    }
+
+    private Lookup proxy(Duration window, Duration waitTimeout) {
+        ProxyFactory factory = new ProxyFactory(target);
+        factory.addAdvice(new CoalescingInterceptor(provider(new CoalescingProperties(true, window, waitTimeout)),
+            provider(registry)));
+        return (Lookup) factory.getProxy();
+    }
+
+    @Test
+    void callsStopWaitingAfterTheTimeoutAndRunTheMethodThemselves() throws Exception {
+        target.release = new CountDownLatch(1);
+        Lookup lookup = proxy(Duration.ZERO, Duration.ofMillis(50));
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            Future<String> first = executor.submit(() -> lookup.find("acme"));
+            while (target.executions.get() < 1) {
+                Thread.sleep(5);
+            }
+            Future<String> second = executor.submit(() -> lookup.find("Acme"));
+            while (target.executions.get() < 2) {
+                Thread.sleep(5);
+            }
+            target.release.countDown();
+
+            assertThat(first.get(10, TimeUnit.SECONDS)).isEqualTo("acme#1");
+            assertThat(second.get(10, TimeUnit.SECONDS)).isEqualTo("acme#2");
+        }
+
+        assertThat(calls("coalesced")).isEqualTo(1);
+        assertThat(calls("timed_out")).isEqualTo(1);
+    }
+
+    private double calls(String outcome) {
+        Counter counter = registry.find(CoalescingInterceptor.CALLS).tag("outcome", outcome).counter();
+        return counter != null ? counter.count() : 0;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> ObjectProvider<T> provider(T bean) {
+        DefaultListableBeanFactory beanFactory = new DefaultListableBeanFactory();
+        beanFactory.registerSingleton("bean", bean);
+        return (ObjectProvider<T>) beanFactory.getBeanProvider(bean.getClass());
+    }
+
+    interface Lookup {
+
+        @Coalesced(key = "#name.trim().toLowerCase()")
+        String find(String name);
+    }
+
+    static final class CountingLookup implements Lookup {
+
+        final AtomicInteger executions = new AtomicInteger();
+        volatile CountDownLatch release;
+
+        @Override
+        public String find(String name) {
+            int execution = executions.incrementAndGet();
+            if (name.isBlank()) {
+                throw new IllegalArgumentException("Name is required");
+            }
+            if (release != null) {
+                try {
+                    release.await(10, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+            return name.trim().toLowerCase(Locale.ROOT) + "#" + execution;
+        }
+    }
+}
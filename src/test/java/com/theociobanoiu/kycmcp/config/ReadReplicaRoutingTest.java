@@ -0,0 +1,65 @@
+package com.theociobanoiu.kycmcp.config;
+
+import com.theociobanoiu.kycmcp.model.enums.ClientType;
+import com.theociobanoiu.kycmcp.model.dto.request.CreateClientRequest;
+import com.theociobanoiu.kycmcp.service.api.ClientService;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Two replica pools on the primary's own H2 database, so they see its schema and data: one up to date, one
+ * reporting a minute of lag.
+ */
+@SpringBootTest(properties = {
+    "spring.datasource.url=" + ReadReplicaRoutingTest.URL,
+    "kyc.read-replicas.replicas[0].name=fresh",
+    "kyc.read-replicas.replicas[0].url=" + ReadReplicaRoutingTest.URL,
+    "kyc.read-replicas.replicas[0].username=sa",
+    "kyc.read-replicas.replicas[1].name=lagging",
+    "kyc.read-replicas.replicas[1].url=" + ReadReplicaRoutingTest.URL,
+    "kyc.read-replicas.replicas[1].username=sa",
+    "kyc.read-replicas.replicas[1].lag-query=SELECT 60000",
+    "kyc.read-replicas.read-your-writes-margin=" + ReadReplicaRoutingTest.MARGIN_MILLIS + "ms"
+})
+@ActiveProfiles("test")
+class ReadReplicaRoutingTest {
+
+    static final String URL = "jdbc:h2:mem:kyc_db_read_replicas;MODE=PostgreSQL;DATABASE_TO_LOWER=TRUE;"
+        + "DEFAULT_NULL_ORDERING=HIGH;DB_CLOSE_DELAY=-1";
+    static final long MARGIN_MILLIS = 500;
+
+    @Autowired
+    private ClientService clientService;
+
+    @Autowired
+    private MeterRegistry registry;
+
+    @Test
+    void readsGoToAnUpToDateReplicaUnlessAWriteJustCommitted() throws InterruptedException {
+        Thread.sleep(MARGIN_MILLIS);
+        double fromReplica = reads("fresh", "replica");
+
+        clientService.getClients(null, 5);
+
+        assertThat(reads("fresh", "replica")).isEqualTo(fromReplica + 1);
+
+        clientService.createClient(new CreateClientRequest("Replica Lag Ltd", ClientType.COMPANY, null, null, null));
+        double afterWrite = reads(ReadReplicaRouter.PRIMARY, "recent-write");
+
+        clientService.getClients(null, 5);
+
+        assertThat(reads(ReadReplicaRouter.PRIMARY, "recent-write")).isEqualTo(afterWrite + 1);
+        assertThat(reads("lagging", "replica")).isZero();
+        assertThat(registry.get("hikaricp.connections").tag("pool", "fresh").gauge().value()).isPositive();
+    }
+
+    private double reads(String target, String reason) {
+        return registry.get(ReadReplicaRouter.READS).tags("target", target, "reason", reason)
+            .functionCounter().count();
+    }
+}
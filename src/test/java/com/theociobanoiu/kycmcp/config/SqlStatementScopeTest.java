@@ -0,0 +1,48 @@
+package com.theociobanoiu.kycmcp.config;
+
+import com.theociobanoiu.kycmcp.repository.ClientRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class SqlStatementScopeTest {
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private ClientRepository clientRepository;
+
+    @Test
+    void jdbcTemplateAndHibernateStatementsCountAgainstEveryOpenScope() {
+        SqlStatementScope outer = SqlStatementScope.open();
+        SqlStatementScope inner;
+        try {
+            jdbcTemplate.queryForObject("SELECT COUNT(*) FROM clients", Long.class);
+            inner = SqlStatementScope.open();
+            try {
+                clientRepository.findClientsByIdIn(List.of(1L));
+                jdbcTemplate.batchUpdate("UPDATE clients SET phone = phone WHERE id = ?",
+                    List.of(new Object[]{1L}, new Object[]{2L}));
+            } finally {
+                inner.close();
+            }
+        } finally {
+            outer.close();
+        }
+
+        assertThat(inner.statements()).isEqualTo(2);
+        assertThat(outer.statements()).isEqualTo(3);
+        assertThat(outer.databaseNanos()).isGreaterThanOrEqualTo(inner.databaseNanos()).isPositive();
+        jdbcTemplate.queryForObject("SELECT COUNT(*) FROM clients", Long.class);
+        assertThat(outer.statements()).isEqualTo(3);
+    }
+}
@@ -0,0 +1,68 @@
+package com.theociobanoiu.kycmcp.config;
+
+import liquibase.integration.spring.SpringLiquibase;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class UnchangedMigrationsConfigurationTest {
+
+    private static final String LAST_CHANGESET =
+        "orderexecuted = (SELECT MAX(orderexecuted) FROM DATABASECHANGELOG)";
+
+    @Autowired
+    private SpringLiquibase liquibase;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @AfterEach
+    void restoreMigrationHistory() {
+        jdbcTemplate.update("DELETE FROM DATABASECHANGELOG WHERE id = 'applied-by-another-build'");
+        jdbcTemplate.update("UPDATE DATABASECHANGELOG SET tag = NULL");
+        jdbcTemplate.execute("DROP TABLE IF EXISTS " + UnchangedMigrationsConfiguration.FINGERPRINT_TABLE);
+    }
+
+    @Test
+    void fingerprintIsStoredOutsideTheChangelogTags() {
+        jdbcTemplate.update("UPDATE DATABASECHANGELOG SET tag = 'release-1' WHERE " + LAST_CHANGESET);
+
+        assertThat(UnchangedMigrationsConfiguration.recordedFingerprint(liquibase)).isNull();
+        UnchangedMigrationsConfiguration.recordFingerprint(liquibase, "first");
+        UnchangedMigrationsConfiguration.recordFingerprint(liquibase, "second");
+
+        assertThat(UnchangedMigrationsConfiguration.recordedFingerprint(liquibase)).isEqualTo("second");
+        assertThat(jdbcTemplate.queryForObject(
+            "SELECT tag FROM DATABASECHANGELOG WHERE " + LAST_CHANGESET, String.class)).isEqualTo("release-1");
+    }
+
+    @Test
+    void fingerprintOfEarlierBuildsIsClearedFromTheTags() {
+        jdbcTemplate.update("UPDATE DATABASECHANGELOG SET tag = 'changelog-sha256:0123' WHERE " + LAST_CHANGESET);
+
+        UnchangedMigrationsConfiguration.recordFingerprint(liquibase, "current");
+
+        assertThat(jdbcTemplate.queryForObject(
+            "SELECT COUNT(*) FROM DATABASECHANGELOG WHERE tag IS NOT NULL", Long.class)).isZero();
+    }
+
+    @Test
+    void changesetAppliedSinceDoesNotMatch() {
+        UnchangedMigrationsConfiguration.recordFingerprint(liquibase, "current");
+
+        jdbcTemplate.update("""
+            INSERT INTO DATABASECHANGELOG (id, author, filename, dateexecuted, orderexecuted, exectype)
+            SELECT 'applied-by-another-build', 'other', 'other.sql', CURRENT_TIMESTAMP, MAX(orderexecuted) + 1,
+                   'EXECUTED'
+            FROM DATABASECHANGELOG""");
+
+        assertThat(UnchangedMigrationsConfiguration.recordedFingerprint(liquibase)).isNull();
+    }
+}
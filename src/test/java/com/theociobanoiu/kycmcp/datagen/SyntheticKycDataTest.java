@@ -0,0 +1,119 @@
+package com.theociobanoiu.kycmcp.datagen;
+
+import com.theociobanoiu.kycmcp.model.entities.Client;
+import com.theociobanoiu.kycmcp.model.entities.Person;
+import com.theociobanoiu.kycmcp.util.csv.CsvLines;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SyntheticKycDataTest {
+
+    private static final int CLIENTS = 5_000;
+
+    @Test
+    void sameSeedGeneratesTheSameData() throws IOException {
+        assertThat(clients(new SyntheticKycData(7, 0.02, 0.05)))
+            .isEqualTo(clients(new SyntheticKycData(7, 0.02, 0.05)))
+            .isNotEqualTo(clients(new SyntheticKycData(8, 0.02, 0.05)));
+    }
+
+    @Test
+    void clientsAreUniqueAndNamesCollide() throws IOException {
+        List<List<String>> rows = rows(clients(new SyntheticKycData(1, 0.02, 0.05)));
+
+        assertThat(rows).hasSize(CLIENTS);
+        Set<String> registrationNumbers = new HashSet<>();
+        Set<String> names = new HashSet<>();
+        long withoutRegistrationNumber = 0;
+        for (List<String> row : rows) {
+            names.add(row.get(0));
+            if (row.get(4).isEmpty()) {
+                withoutRegistrationNumber++;
+            } else {
+                assertThat(registrationNumbers.add(row.get(4))).as("unique %s", row.get(4)).isTrue();
+            }
+        }
+        // Re-onboarded duplicates are written without a registration number
+        assertThat(withoutRegistrationNumber).isBetween(50L, 150L);
+        assertThat(names.size()).isLessThan(CLIENTS * 3 / 4);
+    }
+
+    @Test
+    void personsReferenceClientsAndSharesNeverExceedTheWhole() throws IOException {
+        SyntheticKycData data = new SyntheticKycData(1, 0.02, 0.05);
+        Set<String> registrationNumbers = new HashSet<>();
+        for (List<String> row : rows(clients(data))) {
+            registrationNumbers.add(row.get(4));
+        }
+        StringBuilder persons = new StringBuilder();
+        data.writePersons(CLIENTS, persons);
+
+        Map<String, BigDecimal> heldByClient = new HashMap<>();
+        Set<String> identificationNumbers = new HashSet<>();
+        for (List<String> row : rows(persons.toString())) {
+            assertThat(registrationNumbers).contains(row.get(0));
+            assertThat(identificationNumbers.add(row.get(7))).isTrue();
+            if (!row.get(10).isEmpty()) {
+                heldByClient.merge(row.get(0), new BigDecimal(row.get(10)), BigDecimal::add);
+            }
+        }
+        assertThat(identificationNumbers.size()).isGreaterThan(CLIENTS);
+        assertThat(heldByClient.values()).allSatisfy(held ->
+            assertThat(held).isLessThanOrEqualTo(BigDecimal.valueOf(100)));
+
+        long links = 0;
+        for (int index = 0; index < CLIENTS; index++) {
+            SyntheticKycData.ClientOwnershipLink link = data.clientOwnership(index);
+            if (link != null) {
+                links++;
+                assertThat(registrationNumbers).contains(link.ownerRegistrationNumber(), link.ownedRegistrationNumber());
+            }
+        }
+        assertThat(links).isPositive();
+    }
+
+    @Test
+    void entitiesMatchTheWrittenRows() throws IOException {
+        SyntheticKycData data = new SyntheticKycData(1, 0.02, 0.05);
+        List<List<String>> clientRows = rows(clients(data));
+        List<Client> clients = data.clients(100);
+        for (int index = 0; index < clients.size(); index++) {
+            Client client = clients.get(index);
+            assertThat(client.getId()).isEqualTo(index + 1L);
+            assertThat(client.getEmail()).isEqualTo(clientRows.get(index).get(2));
+            assertThat(Objects.toString(client.getRegistrationNumber(), "")).isEqualTo(clientRows.get(index).get(4));
+        }
+
+        StringBuilder personsCsv = new StringBuilder();
+        data.writePersons(CLIENTS, personsCsv);
+        List<List<String>> personRows = rows(personsCsv.toString());
+        List<Person> persons = data.persons(500);
+        assertThat(persons).hasSize(500);
+        for (int i = 0; i < persons.size(); i++) {
+            Person person = persons.get(i);
+            assertThat(person.getId()).isEqualTo(i + 1L);
+            assertThat(person.getClient().getRegistrationNumber()).isEqualTo(personRows.get(i).get(0));
+            assertThat(person.getIdentificationNumber()).isEqualTo(personRows.get(i).get(7));
+        }
+    }
+
+    private static String clients(SyntheticKycData data) throws IOException {
+        StringBuilder out = new StringBuilder();
+        data.writeClients(CLIENTS, out);
+        return out.toString();
+    }
+
+    private static List<List<String>> rows(String csv) {
+        return csv.lines().skip(1).map(CsvLines::split).toList();
+    }
+}
@@ -0,0 +1,80 @@
+package com.theociobanoiu.kycmcp.duplicates;
+
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Create-time check latency and whole-book scan time over a million synthetic clients, one in a hundred of
+ * them a re-keyed copy of another. Excluded from the default build; run with {@code ./mvnw test -Pbenchmark}.
+ */
+@Tag("benchmark")
+@Slf4j
+class DuplicateDetectionBenchmarkTest {
+
+    private static final int CLIENTS = 1_000_000;
+    private static final int QUERIES = 10_000;
+    private static final String[] WORDS = {"Global", "Trade", "Capital", "Nordic", "Alpine", "Delta", "Orion",
+        "Summit", "Harbor", "Vertex", "Cedar", "Falcon", "Atlas", "Pioneer", "Crescent", "Quantum", "Sterling",
+        "Meridian", "Beacon", "Horizon"};
+    private static final String[] FORMS = {"Ltd", "Limited", "SRL", "GmbH", "Inc", "Corp"};
+
+    @Test
+    void checkLatencyAndScanTime() {
+        Random random = new Random(5);
+        DuplicateIndex index = new DuplicateIndex(200, 200);
+        String[] names = new String[CLIENTS];
+        long buildStart = System.nanoTime();
+        for (int i = 0; i < CLIENTS; i++) {
+            long id = i + 1;
+            if (i > 0 && i % 100 == 0) {
+                // A copy of an earlier client with the legal form and registration number format changed
+                int original = random.nextInt(i);
+                names[i] = names[original].replace(" Ltd", " Limited");
+                index.put(ClientFingerprint.of(id, names[i], null, null, "R-" + (original + 1)));
+                continue;
+            }
+            names[i] = WORDS[random.nextInt(WORDS.length)] + " " + WORDS[random.nextInt(WORDS.length)] + " "
+                + Integer.toString(i, 36).toUpperCase() + " " + FORMS[random.nextInt(FORMS.length)];
+            index.put(ClientFingerprint.of(id, names[i], "office" + i + "@example.com",
+                "+40 7" + String.format("%08d", i), "R" + id));
+        }
+        log.info("Indexed {} clients in {} ms", index.size(), (System.nanoTime() - buildStart) / 1_000_000);
+
+        ClientFingerprint[] queries = new ClientFingerprint[QUERIES];
+        for (int i = 0; i < QUERIES; i++) {
+            int target = random.nextInt(CLIENTS);
+            queries[i] = ClientFingerprint.of(null, names[target] + " ", null, null, null);
+        }
+        for (ClientFingerprint query : queries) {
+            index.matches(query, 0.7);
+        }
+        long[] latencies = new long[QUERIES];
+        for (int i = 0; i < QUERIES; i++) {
+            long start = System.nanoTime();
+            index.matches(queries[i], 0.7);
+            latencies[i] = System.nanoTime() - start;
+        }
+        Arrays.sort(latencies);
+        log.info("Create-time check over {} clients: p50={} us, p99={} us, max={} us", CLIENTS,
+            latencies[QUERIES / 2] / 1_000, latencies[QUERIES * 99 / 100] / 1_000, latencies[QUERIES - 1] / 1_000);
+
+        ForkJoinPool pool = new ForkJoinPool(4);
+        long scanStart = System.nanoTime();
+        List<DuplicateMatch> matches = index.scan(0.7, pool);
+        List<DuplicateDetectionEngine.Cluster> clusters = DuplicateDetectionEngine.cluster(matches);
+        log.info("Scanned {} clients in {} ms: {} matches in {} clusters", CLIENTS,
+            (System.nanoTime() - scanStart) / 1_000_000, matches.size(), clusters.size());
+        pool.shutdown();
+
+        assertThat(latencies[QUERIES * 99 / 100]).isLessThan(5_000_000L);
+        assertThat(clusters.size()).isGreaterThanOrEqualTo(CLIENTS / 100 / 2);
+    }
+}
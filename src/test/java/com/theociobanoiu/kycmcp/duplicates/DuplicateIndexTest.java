@@ -0,0 +1,69 @@
+package com.theociobanoiu.kycmcp.duplicates;
+
+import com.theociobanoiu.kycmcp.model.enums.DuplicateEvidence;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class DuplicateIndexTest {
+
+    private static final double THRESHOLD = 0.7;
+
+    private DuplicateIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new DuplicateIndex(200, 200);
+        index.put(ClientFingerprint.of(1L, "ABC Corporation", "contact@abccorp.com", "+1-555-0123", "REG001"));
+        index.put(ClientFingerprint.of(2L, "John Smith", "john.smith@email.com", "+1-555-0124", "ID001"));
+        index.put(ClientFingerprint.of(3L, "High Risk Holdings Ltd", "info@highrisk.com", "+1-555-0125", "REG002"));
+    }
+
+    @Test
+    void identifiersAreNormalized() {
+        ClientFingerprint fingerprint = ClientFingerprint.of(null, "A.B.C. Corp.", " Contact+KYC@ABCcorp.com ",
+            "(555) 01-23", "reg-0001");
+
+        assertThat(fingerprint.nameTokens()).containsExactly("A", "B", "C");
+        assertThat(fingerprint.registrationNumber()).isEqualTo("REG1");
+        assertThat(fingerprint.email()).isEqualTo("contact@abccorp.com");
+        assertThat(fingerprint.phone()).isEqualTo("5550123");
+    }
+
+    @Test
+    void reformattedRegistrationNumberAndLegalFormMatch() {
+        List<DuplicateMatch> matches = index.matches(
+            ClientFingerprint.of(null, "ABC Corp", null, null, "reg 001"), THRESHOLD);
+
+        assertThat(matches).hasSize(1);
+        assertThat(matches.getFirst().matchedClientId()).isEqualTo(1L);
+        assertThat(matches.getFirst().score()).isEqualTo(1.0);
+        assertThat(matches.getFirst().evidence())
+            .containsExactlyInAnyOrder(DuplicateEvidence.NAME, DuplicateEvidence.REGISTRATION_NUMBER);
+    }
+
+    @Test
+    void sameNameUnderAnotherRegistrationNumberIsNotADuplicate() {
+        assertThat(index.matches(ClientFingerprint.of(null, "High Risk Holdings", null, null, "REG999"), THRESHOLD))
+            .isEmpty();
+        assertThat(index.matches(ClientFingerprint.of(null, "High Risk Holdings", null, null, null), THRESHOLD))
+            .extracting(DuplicateMatch::matchedClientId).containsExactly(3L);
+    }
+
+    @Test
+    void scanClustersTransitiveMatchesAndReportsEachPairOnce() {
+        index.put(ClientFingerprint.of(4L, "Jon Smith", null, "555 0124", null));
+        index.put(ClientFingerprint.of(5L, "J. Smith", "john.smith@email.com", null, null));
+
+        List<DuplicateMatch> matches = index.scan(THRESHOLD, ForkJoinPool.commonPool());
+        List<DuplicateDetectionEngine.Cluster> clusters = DuplicateDetectionEngine.cluster(matches);
+
+        assertThat(matches).allSatisfy(match -> assertThat(match.clientId()).isLessThan(match.matchedClientId()));
+        assertThat(clusters).hasSize(1);
+        assertThat(clusters.getFirst().clientIds()).containsExactly(2L, 4L, 5L);
+    }
+}
@@ -0,0 +1,262 @@
+package com.theociobanoiu.kycmcp.mcp;
+
+import com.theociobanoiu.kycmcp.KycMcpApplication;
+import com.theociobanoiu.kycmcp.util.collections.LongArrayList;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.servlet.context.ServletWebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * A mixed read workload against a generated client book, through the MCP SSE transport and the debug REST
+ * controller at once, reporting throughput and latency percentiles per operation.
+ * <p>
+ * The application starts on H2 with {@code loadtest.clients} synthetic clients (default 100000) loaded by the
+ * data generator. {@code loadtest.sessions} concurrent sessions (default 64) each open an MCP session and then,
+ * for {@code loadtest.seconds} (default 30) after a short warm-up, issue operations picked at random by weight,
+ * one at a time. Excluded from the default build; run with
+ * {@code ./mvnw test -Pbenchmark -Dtest=KycLoadHarnessBenchmarkTest -Dloadtest.clients=1000000}.
+ */
+@Tag("benchmark")
+@Slf4j
+class KycLoadHarnessBenchmarkTest {
+
+    private static final int CLIENTS = Integer.getInteger("loadtest.clients", 100_000);
+    private static final int SESSIONS = Integer.getInteger("loadtest.sessions", 64);
+    private static final long SECONDS = Long.getLong("loadtest.seconds", 30);
+    private static final long WARMUP_SECONDS = 5;
+    private static final String[] NAME_WORDS = {"Global", "Capital", "Smith", "Garcia", "Holdings", "Nordic",
+        "Trust", "Partners", "Muller", "Popescu", "Trading", "Apex"};
+    private static final String[] PERSONS = {"John Smith", "Maria Garcia", "David Muller", "Anna Popescu",
+        "Elena Rossi", "Michael Novak"};
+    private static final String[] NATIONALITIES = {"US", "GB", "DE", "RO", "FR"};
+
+    private enum Channel {
+        MCP,
+        REST
+    }
+
+    /**
+     * One kind of request: an MCP tool call with its arguments, or a REST GET of a path.
+     */
+    private record Operation(String name, Channel channel, int weight, Request request) {
+    }
+
+    @FunctionalInterface
+    private interface Request {
+
+        String next(SplittableRandom random);
+    }
+
+    private static final List<Operation> OPERATIONS = List.of(
+        new Operation("search_clients", Channel.MCP, 20, random ->
+            "{\"name\":\"%s\",\"limit\":25}".formatted(pick(random, NAME_WORDS))),
+        new Operation("get_client_details", Channel.MCP, 20, random ->
+            "{\"clientId\":%d}".formatted(clientId(random))),
+        new Operation("get_client_dossier", Channel.MCP, 10, random ->
+            "{\"clientId\":%d}".formatted(clientId(random))),
+        new Operation("get_ultimate_beneficial_owners", Channel.MCP, 5, random ->
+            "{\"clientId\":%d}".formatted(clientId(random))),
+        new Operation("search_persons", Channel.MCP, 10, random ->
+            "{\"query\":\"%s\"}".formatted(pick(random, PERSONS))),
+        new Operation("get_beneficial_owners", Channel.MCP, 5, random ->
+            "{\"nationality\":\"%s\",\"limit\":50}".formatted(pick(random, NATIONALITIES))),
+        new Operation("GET /api/debug/search-clients", Channel.REST, 15, random ->
+            "/api/debug/search-clients?name=%s&limit=25".formatted(pick(random, NAME_WORDS))),
+        new Operation("GET /api/debug/clients/{id}", Channel.REST, 10, random ->
+            "/api/debug/clients/" + clientId(random)),
+        new Operation("GET /api/debug/clients", Channel.REST, 5, random -> "/api/debug/clients?pageSize=50"));
+
+    private final HttpClient http = HttpClient.newBuilder()
+        .version(HttpClient.Version.HTTP_1_1)
+        .executor(Executors.newVirtualThreadPerTaskExecutor())
+        .build();
+
+    /**
+     * Every request must succeed; throughput and latencies are reported, not asserted, since they depend on the
+     * machine.
+     */
+    @Test
+    void mixedWorkload() throws Exception {
+        long loadStart = System.nanoTime();
+        try (ConfigurableApplicationContext context = start()) {
+            log.info("Started with {} generated clients in {} s", CLIENTS,
+                (System.nanoTime() - loadStart) / 1_000_000_000);
+            int port = ((ServletWebServerApplicationContext) context).getWebServer().getPort();
+
+            List<Recorder> recorders = run(port);
+
+            long failures = recorders.stream().mapToLong(Recorder::failures).sum();
+            report(recorders);
+            assertThat(failures).as("failed requests").isZero();
+        }
+    }
+
+    private static ConfigurableApplicationContext start() {
+        return new SpringApplicationBuilder(KycMcpApplication.class)
+            .profiles("test")
+            .run("--server.port=0",
+                "--kyc.datagen.clients=" + CLIENTS,
+                // budgets are enforced by the functional tests; under load they would only add noise
+                "--kyc.query-budget.mode=OFF",
+                "--logging.level.com.theociobanoiu.kycmcp=WARN",
+                "--logging.level.com.theociobanoiu.kycmcp.datagen=INFO",
+                "--logging.level." + KycLoadHarnessBenchmarkTest.class.getName() + "=INFO",
+                "--logging.level.org.springframework.ai.mcp=WARN",
+                "--logging.level.liquibase=WARN",
+                // closing the client side of a session logs a warning per session
+                "--logging.level.io.modelcontextprotocol=ERROR",
+                "--logging.level.org.springframework.web.servlet.mvc.support=ERROR");
+    }
+
+    private List<Recorder> run(int port) throws Exception {
+        int totalWeight = OPERATIONS.stream().mapToInt(Operation::weight).sum();
+        List<McpSseSession> sessions = new ArrayList<>();
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < SESSIONS; i++) {
+                sessions.add(McpSseSession.open(http, port));
+            }
+            CountDownLatch start = new CountDownLatch(1);
+            List<Future<Recorder>> results = new ArrayList<>();
+            for (int i = 0; i < SESSIONS; i++) {
+                McpSseSession session = sessions.get(i);
+                SplittableRandom random = new SplittableRandom(i);
+                results.add(executor.submit(() -> {
+                    start.await();
+                    Recorder recorder = new Recorder();
+                    long measureFrom = System.nanoTime() + WARMUP_SECONDS * 1_000_000_000;
+                    long until = measureFrom + SECONDS * 1_000_000_000;
+                    int id = 2;
+                    for (long now = System.nanoTime(); now < until; now = System.nanoTime()) {
+                        Operation operation = pick(random, totalWeight);
+                        String request = operation.request().next(random);
+                        long begin = System.nanoTime();
+                        boolean ok = send(port, session, operation, id++, request);
+                        long latency = System.nanoTime() - begin;
+                        if (begin >= measureFrom) {
+                            recorder.record(OPERATIONS.indexOf(operation), latency, ok);
+                        }
+                    }
+                    return recorder;
+                }));
+            }
+            start.countDown();
+
+            List<Recorder> recorders = new ArrayList<>();
+            for (Future<Recorder> result : results) {
+                recorders.add(result.get());
+            }
+            return recorders;
+        } finally {
+            sessions.forEach(McpSseSession::close);
+        }
+    }
+
+    private boolean send(int port, McpSseSession session, Operation operation, int id, String request) {
+        try {
+            if (operation.channel() == Channel.MCP) {
+                session.callTool(id, operation.name(), request);
+                return true;
+            }
+            HttpResponse<Void> response = http.send(
+                HttpRequest.newBuilder(URI.create("http://localhost:" + port + request)).GET().build(),
+                HttpResponse.BodyHandlers.discarding());
+            return response.statusCode() == 200;
+        } catch (Exception | AssertionError e) {
+            return false;
+        }
+    }
+
+    private static void report(List<Recorder> recorders) {
+        long totalCalls = 0;
+        log.info(String.format("%-34s %9s %9s %9s %9s %9s %9s %6s", "operation", "calls", "calls/s", "p50 ms",
+            "p90 ms", "p99 ms", "max ms", "failed"));
+        for (int op = 0; op < OPERATIONS.size(); op++) {
+            LongArrayList merged = new LongArrayList();
+            long failed = 0;
+            for (Recorder recorder : recorders) {
+                LongArrayList latencies = recorder.latencies[op];
+                for (int i = 0; i < latencies.size(); i++) {
+                    merged.add(latencies.get(i));
+                }
+                failed += recorder.failures[op];
+            }
+            long[] sorted = merged.toArray();
+            Arrays.sort(sorted);
+            totalCalls += sorted.length;
+            log.info(String.format("%-34s %9d %9d %9.1f %9.1f %9.1f %9.1f %6d", OPERATIONS.get(op).name(),
+                sorted.length, sorted.length / SECONDS, percentile(sorted, 0.50), percentile(sorted, 0.90),
+                percentile(sorted, 0.99), percentile(sorted, 1.0), failed));
+        }
+        log.info("{} sessions, {} calls in {} s: {} calls/s", SESSIONS, totalCalls, SECONDS, totalCalls / SECONDS);
+    }
+
+    private static double percentile(long[] sorted, double quantile) {
+        if (sorted.length == 0) {
+            return 0;
+        }
+        return sorted[Math.min(sorted.length - 1, (int) (sorted.length * quantile))] / 1_000_000.0;
+    }
+
+    private static Operation pick(SplittableRandom random, int totalWeight) {
+        int roll = random.nextInt(totalWeight);
+        for (Operation operation : OPERATIONS) {
+            roll -= operation.weight();
+            if (roll < 0) {
+                return operation;
+            }
+        }
+        return OPERATIONS.getLast();
+    }
+
+    private static String pick(SplittableRandom random, String[] values) {
+        return values[random.nextInt(values.length)];
+    }
+
+    private static long clientId(SplittableRandom random) {
+        return 1 + random.nextInt(CLIENTS);
+    }
+
+    /**
+     * Latencies and failures of one session, per operation.
+     */
+    private static final class Recorder {
+
+        private final LongArrayList[] latencies = new LongArrayList[OPERATIONS.size()];
+        private final long[] failures = new long[OPERATIONS.size()];
+
+        Recorder() {
+            for (int i = 0; i < latencies.length; i++) {
+                latencies[i] = new LongArrayList();
+            }
+        }
+
+        void record(int operation, long latency, boolean ok) {
+            latencies[operation].add(latency);
+            if (!ok) {
+                failures[operation]++;
+            }
+        }
+
+        long failures() {
+            return Arrays.stream(failures).sum();
+        }
+    }
+}
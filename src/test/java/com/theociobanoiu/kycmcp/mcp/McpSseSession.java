@@ -0,0 +1,75 @@
+package com.theociobanoiu.kycmcp.mcp;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.Iterator;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * A client session on the SSE transport, for the load benchmarks. Responses arrive on the event stream, which is
+ * drained and ignored; a message POST only returns once the server has handled the message.
+ */
+record McpSseSession(HttpClient http, URI messages, Stream<String> events) implements AutoCloseable {
+
+    private static final AtomicInteger CLIENTS = new AtomicInteger();
+
+    static McpSseSession open(HttpClient http, int port) throws IOException, InterruptedException {
+        HttpResponse<Stream<String>> sse = http.send(
+            HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/sse")).GET().build(),
+            HttpResponse.BodyHandlers.ofLines());
+        Iterator<String> lines = sse.body().iterator();
+        String endpoint = null;
+        while (endpoint == null && lines.hasNext()) {
+            String line = lines.next();
+            if (line.startsWith("data:")) {
+                endpoint = line.substring("data:".length()).trim();
+            }
+        }
+        assertThat(endpoint).as("endpoint event").isNotNull();
+        Thread.ofVirtual().start(() -> {
+            try {
+                lines.forEachRemaining(line -> { });
+            } catch (RuntimeException e) {
+                // the stream is closed when the session ends
+            }
+        });
+
+        McpSseSession session = new McpSseSession(http, URI.create("http://localhost:" + port + endpoint), sse.body());
+        session.post("""
+            {"jsonrpc":"2.0","id":1,"method":"initialize","params":{"protocolVersion":"2024-11-05",\
+            "capabilities":{},"clientInfo":{"name":"load-test-%d","version":"1.0"}}}"""
+            .formatted(CLIENTS.incrementAndGet()));
+        session.post("""
+            {"jsonrpc":"2.0","method":"notifications/initialized"}""");
+        return session;
+    }
+
+    /**
+     * Calls a tool; {@code id} must differ between the calls of a session.
+     */
+    void callTool(int id, String name, String arguments) throws IOException, InterruptedException {
+        post("""
+            {"jsonrpc":"2.0","id":%d,"method":"tools/call","params":{"name":"%s","arguments":%s}}"""
+            .formatted(id, name, arguments));
+    }
+
+    void post(String body) throws IOException, InterruptedException {
+        HttpResponse<Void> response = http.send(HttpRequest.newBuilder(messages)
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(body))
+                .build(),
+            HttpResponse.BodyHandlers.discarding());
+        assertThat(response.statusCode()).as("status of %s", body).isEqualTo(200);
+    }
+
+    @Override
+    public void close() {
+        events.close();
+    }
+}
@@ -0,0 +1,165 @@
+package com.theociobanoiu.kycmcp.mcp;
+
+import com.theociobanoiu.kycmcp.KycMcpApplication;
+import com.zaxxer.hikari.HikariDataSource;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.servlet.context.ServletWebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.net.http.HttpClient;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Concurrent MCP sessions served within a fixed p99 latency, on platform threads and on virtual threads.
+ * <p>
+ * Each session opens the SSE stream, initializes, then issues {@value #CALLS_PER_SESSION} sequential
+ * {@code search_clients} calls; the latency of a call is the time until its POST to the message endpoint
+ * returns, which the transport only does once the tool has run. Every connection checkout is held for
+ * {@value #DB_LATENCY_MILLIS} ms to stand in for the network round trips of a real database, and the pool
+ * has {@value #POOL_SIZE} connections. Excluded from the default build; run with {@code ./mvnw test -Pbenchmark}.
+ */
+@Tag("benchmark")
+@Slf4j
+class McpToolCallLoadBenchmarkTest {
+
+    private static final int POOL_SIZE = 20;
+    private static final long DB_LATENCY_MILLIS = 50;
+    private static final int CALLS_PER_SESSION = 10;
+    private static final int[] SESSIONS = {10, 20, 40, 80, 160, 320};
+    private static final Duration TARGET_P99 = Duration.ofMillis(500);
+    private static final String SEARCH_CLIENTS = """
+        {"jsonrpc":"2.0","id":%d,"method":"tools/call",\
+        "params":{"name":"search_clients","arguments":{"riskLevel":"HIGH","limit":25}}}""";
+
+    private final HttpClient http = HttpClient.newBuilder()
+        .version(HttpClient.Version.HTTP_1_1)
+        .executor(Executors.newVirtualThreadPerTaskExecutor())
+        .build();
+
+    /**
+     * Every call must succeed in both modes; the session counts are reported, not asserted, since they depend
+     * on the machine.
+     */
+    @Test
+    void sessionsServedAtFixedP99() throws Exception {
+        Map<String, Integer> served = new LinkedHashMap<>();
+        for (boolean virtual : new boolean[]{false, true}) {
+            String mode = virtual ? "virtual threads" : "platform threads";
+            try (ConfigurableApplicationContext context = start(virtual)) {
+                int port = ((ServletWebServerApplicationContext) context).getWebServer().getPort();
+                int maxSessions = 0;
+                for (int sessions : SESSIONS) {
+                    long start = System.nanoTime();
+                    long[] latencies = run(port, sessions);
+                    long elapsed = System.nanoTime() - start;
+                    long p50 = latencies[latencies.length / 2];
+                    long p99 = latencies[latencies.length * 99 / 100];
+                    log.info("{}: {} sessions, {} calls/s, p50={} ms, p99={} ms", mode, sessions,
+                        latencies.length * 1_000_000_000L / elapsed, p50 / 1_000_000, p99 / 1_000_000);
+                    if (p99 <= TARGET_P99.toNanos()) {
+                        maxSessions = sessions;
+                    }
+                }
+                served.put(mode, maxSessions);
+            }
+        }
+        served.forEach((mode, sessions) ->
+            log.info("{}: up to {} concurrent sessions with p99 <= {} ms", mode, sessions, TARGET_P99.toMillis()));
+    }
+
+    private static ConfigurableApplicationContext start(boolean virtualThreads) {
+        return new SpringApplicationBuilder(KycMcpApplication.class, SlowDatabase.class)
+            .profiles("test")
+            .run("--server.port=0",
+                "--spring.threads.virtual.enabled=" + virtualThreads,
+                "--logging.level.com.theociobanoiu.kycmcp=WARN",
+                "--logging.level." + McpToolCallLoadBenchmarkTest.class.getName() + "=INFO",
+                "--logging.level.org.springframework.ai.mcp=WARN",
+                "--logging.level.liquibase=WARN",
+                // closing the client side of a session logs a warning per session
+                "--logging.level.io.modelcontextprotocol=ERROR",
+                "--logging.level.org.springframework.web.servlet.mvc.support=ERROR");
+    }
+
+    /**
+     * Runs the sessions concurrently and returns every call's latency in nanoseconds, sorted.
+     */
+    private long[] run(int port, int sessions) throws Exception {
+        List<McpSseSession> opened = new ArrayList<>();
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < sessions; i++) {
+                opened.add(McpSseSession.open(http, port));
+            }
+            CountDownLatch start = new CountDownLatch(1);
+            List<Future<long[]>> results = new ArrayList<>();
+            for (McpSseSession session : opened) {
+                results.add(executor.submit(() -> {
+                    start.await();
+                    long[] latencies = new long[CALLS_PER_SESSION];
+                    for (int call = 0; call < CALLS_PER_SESSION; call++) {
+                        long begin = System.nanoTime();
+                        session.post(SEARCH_CLIENTS.formatted(call + 2));
+                        latencies[call] = System.nanoTime() - begin;
+                    }
+                    return latencies;
+                }));
+            }
+            start.countDown();
+
+            long[] all = new long[sessions * CALLS_PER_SESSION];
+            int offset = 0;
+            for (Future<long[]> result : results) {
+                long[] latencies = result.get();
+                System.arraycopy(latencies, 0, all, offset, latencies.length);
+                offset += latencies.length;
+            }
+            Arrays.sort(all);
+            return all;
+        } finally {
+            opened.forEach(McpSseSession::close);
+        }
+    }
+
+    /**
+     * The test database, with every connection checkout held for {@link #DB_LATENCY_MILLIS} before use.
+     * Not a {@code @Configuration}, so component scanning leaves it out of the other tests' contexts.
+     */
+    static class SlowDatabase {
+
+        @Bean
+        DataSource dataSource(DataSourceProperties properties) {
+            HikariDataSource pool = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+            pool.setMaximumPoolSize(POOL_SIZE);
+            return new DelegatingDataSource(pool) {
+                @Override
+                public Connection getConnection() throws SQLException {
+                    Connection connection = super.getConnection();
+                    try {
+                        Thread.sleep(DB_LATENCY_MILLIS);
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                    return connection;
+                }
+            };
+        }
+    }
+}
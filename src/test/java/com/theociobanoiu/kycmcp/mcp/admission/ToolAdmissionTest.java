@@ -0,0 +1,205 @@
+package com.theociobanoiu.kycmcp.mcp.admission;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.theociobanoiu.kycmcp.ownership.OwnershipProperties;
+import com.theociobanoiu.kycmcp.review.ReviewProperties;
+import com.theociobanoiu.kycmcp.search.ClientSearchProperties;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.ai.tool.ToolCallback;
+import org.springframework.ai.tool.definition.ToolDefinition;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.boot.context.properties.source.MapConfigurationPropertySource;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ToolAdmissionTest {
+
+    private final MeterRegistry registry = new SimpleMeterRegistry();
+    private final CountDownLatch started = new CountDownLatch(1);
+    private final CountDownLatch release = new CountDownLatch(1);
+
+    @Test
+    void expensiveCallsQueueInTheirLaneWhileCheapCallsRun() throws Exception {
+        Map<String, ToolCallback> tools = admitted(Map.of(
+            "kyc.admission.max-concurrent-expensive", "1",
+            "kyc.admission.queue-timeout", "100ms"));
+
+        CompletableFuture<String> running = CompletableFuture.supplyAsync(() ->
+            tools.get("recompute_risk_scores").call("{}"));
+        try {
+            assertThat(started.await(10, TimeUnit.SECONDS)).isTrue();
+
+            assertThat(tools.get("find_duplicate_clients").call("{}"))
+                .contains("\"ERROR\"").contains(ToolAdmission.QUEUE_TIMEOUT);
+            assertThat(tools.get("find_duplicate_clients").call("{\"clientId\":1}")).isEqualTo("done");
+            assertThat(tools.get("get_client_details").call("{\"clientId\":1}")).isEqualTo("done");
+            assertThat(gauge(ToolAdmission.ACTIVE, "expensive")).isEqualTo(1);
+        } finally {
+            release.countDown();
+        }
+
+        assertThat(running.get(10, TimeUnit.SECONDS)).isEqualTo("done");
+        assertThat(gauge(ToolAdmission.ACTIVE, "expensive")).isZero();
+        assertThat(registry.get(ToolAdmission.REJECTED).tag("tool", "find_duplicate_clients")
+            .tag("reason", "queue_timeout").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    void sessionsAndQueuesOverTheirLimitsAreRejectedAtOnce() {
+        ToolAdmission noQueue = admission(Map.of("kyc.admission.max-queued", "0"));
+        assertThatThrownBy(() -> noQueue.admit("get_client_details", "{}", null, new Semaphore(1)))
+            .isInstanceOf(ToolRejectedException.class)
+            .hasFieldOrPropertyWithValue("code", ToolAdmission.QUEUE_FULL);
+
+        ToolAdmission admission = admission(Map.of("kyc.admission.max-concurrent-per-session", "1"));
+        Object session = new Object();
+        Semaphore toolPermits = new Semaphore(2);
+        try (ToolAdmission.Admission held = admission.admit("get_client_details", "{}", session, toolPermits)) {
+            assertThatThrownBy(() -> admission.admit("get_client_details", "{}", session, toolPermits))
+                .isInstanceOf(ToolRejectedException.class)
+                .hasFieldOrPropertyWithValue("code", ToolAdmission.SESSION_LIMIT_EXCEEDED);
+            admission.admit("get_client_details", "{}", new Object(), toolPermits).close();
+        }
+        admission.admit("get_client_details", "{}", session, toolPermits).close();
+        assertThat(toolPermits.availablePermits()).isEqualTo(2);
+    }
+
+    @Test
+    void sessionCountSurvivesConcurrentCallsOfOneSession() throws Exception {
+        ToolAdmission admission = admission(Map.of("kyc.admission.max-concurrent-per-session", "2"));
+        Object session = new Object();
+        Semaphore toolPermits = new Semaphore(64);
+        int threads = 8;
+        CyclicBarrier barrier = new CyclicBarrier(threads);
+        List<CompletableFuture<Void>> callers = new ArrayList<>();
+        for (int t = 0; t < threads; t++) {
+            callers.add(CompletableFuture.runAsync(() -> {
+                try {
+                    barrier.await(10, TimeUnit.SECONDS);
+                } catch (Exception e) {
+                    throw new IllegalStateException(e);
+                }
+                for (int i = 0; i < 2_000; i++) {
+                    try {
+                        admission.admit("get_client_details", "{}", session, toolPermits).close();
+                    } catch (ToolRejectedException e) {
+                        assertThat(e.getCode()).isEqualTo(ToolAdmission.SESSION_LIMIT_EXCEEDED);
+                    }
+                }
+            }));
+        }
+        CompletableFuture.allOf(callers.toArray(CompletableFuture[]::new)).get(30, TimeUnit.SECONDS);
+
+        // A lost or leaked count would let a third call in, or turn away the first two
+        try (ToolAdmission.Admission first = admission.admit("get_client_details", "{}", session, toolPermits);
+             ToolAdmission.Admission second = admission.admit("get_client_details", "{}", session, toolPermits)) {
+            assertThatThrownBy(() -> admission.admit("get_client_details", "{}", session, toolPermits))
+                .isInstanceOf(ToolRejectedException.class)
+                .hasFieldOrPropertyWithValue("code", ToolAdmission.SESSION_LIMIT_EXCEEDED);
+        }
+        assertThat(toolPermits.availablePermits()).isEqualTo(64);
+    }
+
+    @Test
+    void largestPagesRunInTheExpensiveLaneAndDefaultPagesInTheCheapOne() {
+        ToolAdmission admission = admission(Map.of("kyc.admission.max-concurrent-expensive", "0",
+            "kyc.admission.queue-timeout", "10ms"));
+        for (String call : List.of("search_clients:limit", "get_all_clients:pageSize", "get_beneficial_owners:limit",
+            "get_due_reviews:limit")) {
+            String tool = call.substring(0, call.indexOf(':'));
+            String input = "{\"" + call.substring(call.indexOf(':') + 1) + "\":100000}";
+            assertThatThrownBy(() -> admission.admit(tool, input, null, new Semaphore(1)))
+                .as(tool)
+                .isInstanceOf(ToolRejectedException.class)
+                .hasFieldOrPropertyWithValue("code", ToolAdmission.QUEUE_TIMEOUT);
+            admission.admit(tool, "{}", null, new Semaphore(1)).close();
+        }
+    }
+
+    @Test
+    void workOutsideMcpSharesTheToolsPermits() throws Exception {
+        ToolAdmission admission = admission(Map.of(
+            "kyc.admission.tool-limits[recompute_risk_scores]", "1",
+            "kyc.admission.queue-timeout", "100ms"));
+        ToolCallback tool = admission.admitted(tool("recompute_risk_scores"))[0];
+
+        CompletableFuture<String> running = CompletableFuture.supplyAsync(() -> tool.call("{}"));
+        try {
+            assertThat(started.await(10, TimeUnit.SECONDS)).isTrue();
+            assertThatThrownBy(() -> admission.admit("recompute_risk_scores"))
+                .isInstanceOf(ToolRejectedException.class)
+                .hasFieldOrPropertyWithValue("code", ToolAdmission.QUEUE_TIMEOUT);
+        } finally {
+            release.countDown();
+        }
+
+        assertThat(running.get(10, TimeUnit.SECONDS)).isEqualTo("done");
+        try (ToolAdmission.Admission admitted = admission.admit("recompute_risk_scores")) {
+            assertThat(gauge(ToolAdmission.ACTIVE, "expensive")).isEqualTo(1);
+        }
+        assertThat(gauge(ToolAdmission.ACTIVE, "expensive")).isZero();
+    }
+
+    private Map<String, ToolCallback> admitted(Map<String, String> overrides) {
+        ToolCallback[] callbacks = {tool("recompute_risk_scores"), tool("find_duplicate_clients"),
+            tool("get_client_details")};
+        return Arrays.stream(admission(overrides).admitted(callbacks))
+            .collect(Collectors.toMap(callback -> callback.getToolDefinition().name(), Function.identity()));
+    }
+
+    private ToolAdmission admission(Map<String, String> overrides) {
+        Binder defaults = new Binder();
+        ToolCostEstimator estimator = new ToolCostEstimator(new ObjectMapper(),
+            defaults.bindOrCreate("kyc.search", ClientSearchProperties.class),
+            defaults.bindOrCreate("kyc.ownership", OwnershipProperties.class),
+            defaults.bindOrCreate("kyc.review", ReviewProperties.class));
+        ToolAdmissionProperties properties = new Binder(new MapConfigurationPropertySource(overrides))
+            .bindOrCreate("kyc.admission", ToolAdmissionProperties.class);
+        return new ToolAdmission(properties, estimator, registry);
+    }
+
+    private double gauge(String name, String lane) {
+        return registry.get(name).tag("lane", lane).gauge().value();
+    }
+
+    /**
+     * A tool answering "done"; recompute_risk_scores holds its call until released.
+     */
+    private ToolCallback tool(String name) {
+        ToolDefinition definition = ToolDefinition.builder().name(name).description(name).inputSchema("{}").build();
+        return new ToolCallback() {
+            @Override
+            public ToolDefinition getToolDefinition() {
+                return definition;
+            }
+
+            @Override
+            public String call(String toolInput) {
+                if (name.equals("recompute_risk_scores")) {
+                    started.countDown();
+                    try {
+                        release.await(10, TimeUnit.SECONDS);
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                }
+                return "done";
+            }
+        };
+    }
+}
@@ -0,0 +1,98 @@
+package com.theociobanoiu.kycmcp.mcp.metrics;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.ai.tool.ToolCallback;
+import org.springframework.ai.tool.ToolCallbackProvider;
+import org.springframework.ai.tool.annotation.Tool;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.Arrays;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class ToolMetricsTest {
+
+    @Autowired
+    private ToolCallbackProvider toolCallbackProvider;
+
+    @Autowired
+    private MeterRegistry registry;
+
+    @Test
+    void successfulCallRecordsLatencyResultsAndSql() {
+        Timer success = registry.get(ToolMetrics.DURATION)
+            .tags(ToolMetrics.TOOL, "search_clients", ToolMetrics.OUTCOME, "success").timer();
+        DistributionSummary results = registry.get(ToolMetrics.RESULTS).tag(ToolMetrics.TOOL, "search_clients").summary();
+        DistributionSummary statements =
+            registry.get(ToolMetrics.SQL_STATEMENTS).tag(ToolMetrics.TOOL, "search_clients").summary();
+        long calls = success.count();
+        double items = results.totalAmount();
+        double sql = statements.totalAmount();
+
+        tool("search_clients").call("{\"limit\": 2}");
+
+        assertThat(success.count()).isEqualTo(calls + 1);
+        assertThat(results.totalAmount() - items).isEqualTo(2);
+        assertThat(statements.totalAmount() - sql).isGreaterThanOrEqualTo(1);
+        assertThat(registry.get(ToolMetrics.RESPONSE_SIZE).tag(ToolMetrics.TOOL, "search_clients").summary().max())
+            .isPositive();
+    }
+
+    @Test
+    void errorResponseIsCountedByCode() {
+        tool("get_client_details").call("{\"clientId\": 987654321}");
+
+        assertThat(registry.get(ToolMetrics.ERRORS)
+            .tags(ToolMetrics.TOOL, "get_client_details", ToolMetrics.CODE, "NOT_FOUND").counter().count())
+            .isGreaterThanOrEqualTo(1);
+        assertThat(registry.get(ToolMetrics.DURATION)
+            .tags(ToolMetrics.TOOL, "get_client_details", ToolMetrics.OUTCOME, "error").timer().count())
+            .isGreaterThanOrEqualTo(1);
+    }
+
+    @Test
+    void thrownExceptionsAreCountedByTheirRootCause() {
+        MeterRegistry failures = new SimpleMeterRegistry();
+        ToolCallback[] callbacks = new ToolMetrics(failures).toolCallbacks(new FailingTools());
+
+        for (ToolCallback callback : callbacks) {
+            assertThatThrownBy(() -> callback.call("{}")).isInstanceOf(RuntimeException.class);
+        }
+
+        assertThat(failures.get(ToolMetrics.ERRORS).tags(ToolMetrics.TOOL, "fail_on_state",
+            ToolMetrics.CODE, "IllegalStateException").counter().count()).isEqualTo(1);
+        assertThat(failures.get(ToolMetrics.ERRORS).tags(ToolMetrics.TOOL, "fail_on_argument",
+            ToolMetrics.CODE, "IllegalArgumentException").counter().count()).isEqualTo(1);
+        assertThat(failures.get(ToolMetrics.DURATION).tag(ToolMetrics.OUTCOME, "exception").timers())
+            .hasSize(2);
+    }
+
+    private ToolCallback tool(String name) {
+        return Arrays.stream(toolCallbackProvider.getToolCallbacks())
+            .filter(callback -> callback.getToolDefinition().name().equals(name))
+            .findFirst()
+            .orElseThrow();
+    }
+
+    static class FailingTools {
+
+        @Tool(name = "fail_on_state", description = "Always fails")
+        public String failOnState() {
+            throw new IllegalStateException("failed");
+        }
+
+        @Tool(name = "fail_on_argument", description = "Always fails")
+        public String failOnArgument() {
+            throw new IllegalArgumentException("failed", new IllegalArgumentException("nested"));
+        }
+    }
+}
@@ -0,0 +1,157 @@
+package com.theociobanoiu.kycmcp.mcp.metrics;
+
+import com.theociobanoiu.kycmcp.repository.ClientOwnershipRepository;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.springframework.ai.tool.ToolCallback;
+import org.springframework.ai.tool.ToolCallbackProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Statement and latency budget of every MCP tool against the sample data. A tool added without a budget here
+ * fails {@link #everyToolHasABudget()}; a change that makes a tool run more SQL than before fails its budget.
+ * <p>
+ * Every measured call must succeed, so a budget never pins the cost of an error path. The context therefore loads
+ * a test watchlist, imports from a fixture directory and exports to a temporary one. Tools that write run in this
+ * same context and database: the ownership they record is removed after each test, while the clients, persons and
+ * risk levels they write stay.
+ * <p>
+ * Statements are counted at the data source, so the {@code JdbcTemplate} batches of risk scoring, reviews and
+ * exports count like Hibernate's SQL; a JDBC batch is one statement.
+ */
+@SpringBootTest(properties = "kyc.query-budget.mode=REJECT")
+@ActiveProfiles("test")
+class ToolQueryBudgetTest {
+
+    /**
+     * @param statements most SQL statements one call may execute
+     * @param millis     slowest a warmed-up call may take
+     */
+    record Budget(String tool, String input, int statements, long millis) {
+
+        @Override
+        public String toString() {
+            return tool;
+        }
+    }
+
+    private static final Map<String, Budget> BUDGETS = Stream.of(
+            new Budget("search_clients", "{\"name\": \"corporation\", \"limit\": 10}", 1, 500),
+            new Budget("search_persons", "{\"query\": \"jane doe\"}", 0, 200),
+            new Budget("get_client_details", "{\"clientId\": 1}", 1, 500),
+            new Budget("get_clients_batch", "{\"clientIds\": [3, 1, 987654321, 2]}", 1, 500),
+            new Budget("get_client_dossier", "{\"clientId\": 1}", 6, 1000),
+            new Budget("get_ultimate_beneficial_owners", "{\"clientId\": 1}", 2, 500),
+            new Budget("get_beneficial_owners", "{\"minOwnershipPercentage\": 10}", 1, 500),
+            new Budget("add_persons_to_client", """
+                {"clientId": 3, "persons": [
+                    {"firstName": "Budget", "lastName": "Director", "relationshipType": "DIRECTOR"},
+                    {"firstName": "Budget", "lastName": "Signatory", "relationshipType": "AUTHORIZED_SIGNATORY"}]}""",
+                5, 1000),
+            new Budget("record_client_ownership",
+                "{\"ownerClientId\": 2, \"ownedClientId\": 3, \"ownershipPercentage\": 10}", 5, 1000),
+            new Budget("screen_person", "{\"personId\": 1}", 1, 500),
+            new Budget("screen_client", "{\"clientId\": 1}", 2, 500),
+            new Budget("get_all_clients", "{\"pageSize\": 50}", 1, 500),
+            new Budget("import_records", "{\"target\": \"CLIENTS\", \"fileName\": \"clients.csv\"}", 2, 1000),
+            // One cursor query, sent through JdbcTemplate
+            new Budget("export_records", "{\"target\": \"PERSONS\", \"compression\": \"GZIP\"}", 1, 500),
+            new Budget("get_due_reviews", "{\"dueBy\": \"2100-01-01\", \"limit\": 50}", 1, 500),
+            // The id plan, then one range query and one batched UPDATE for the single chunk of sample data; the run
+            // row takes its id from a pooled sequence, fetched once per 50 runs and so counted here
+            new Budget("recompute_risk_scores", "{\"mode\": \"FULL\"}", 7, 2000),
+            new Budget("find_duplicate_clients", "{}", 1, 2000))
+        .collect(Collectors.toMap(Budget::tool, Function.identity()));
+
+    private static Path exportDirectory;
+
+    @Autowired
+    private ToolCallbackProvider toolCallbackProvider;
+
+    @DynamicPropertySource
+    static void fixtures(DynamicPropertyRegistry registry) throws IOException {
+        exportDirectory = Files.createTempDirectory("kyc-budget-export");
+        exportDirectory.toFile().deleteOnExit();
+        registry.add("kyc.export.directory", exportDirectory::toString);
+        Path fixtures = new ClassPathResource("tool-budget").getFile().toPath();
+        registry.add("kyc.import.directory", () -> fixtures.resolve("import").toString());
+        registry.add("kyc.screening.watchlist-path", () -> fixtures.resolve("watchlist.csv").toString());
+    }
+
+    @Autowired
+    private MeterRegistry registry;
+
+    @Autowired
+    private ClientOwnershipRepository clientOwnershipRepository;
+
+    @AfterEach
+    void removeRecordedOwnership() {
+        clientOwnershipRepository.deleteAll();
+    }
+
+    static Stream<Budget> budgets() {
+        return BUDGETS.values().stream();
+    }
+
+    @Test
+    void everyToolHasABudget() {
+        assertThat(Arrays.stream(toolCallbackProvider.getToolCallbacks())
+            .map(callback -> callback.getToolDefinition().name()))
+            .containsExactlyInAnyOrderElementsOf(BUDGETS.keySet());
+    }
+
+    @ParameterizedTest
+    @MethodSource("budgets")
+    void toolStaysWithinItsBudget(Budget budget) {
+        ToolCallback tool = tool(budget.tool());
+        DistributionSummary statements =
+            registry.get(ToolMetrics.SQL_STATEMENTS).tag(ToolMetrics.TOOL, budget.tool()).summary();
+
+        // The first call counts statements: later ones may be served from a cache
+        double before = statements.totalAmount();
+        assertSucceeded(budget, tool.call(budget.input()));
+        double executed = statements.totalAmount() - before;
+
+        long start = System.nanoTime();
+        String response = tool.call(budget.input());
+        long millis = (System.nanoTime() - start) / 1_000_000;
+        assertSucceeded(budget, response);
+
+        if (budget.tool().equals("export_records")) {
+            assertThat(exportDirectory).isDirectoryContaining("glob:**/persons-*.csv.gz");
+        }
+        assertThat(executed).as("SQL statements of %s", budget.tool()).isLessThanOrEqualTo(budget.statements());
+        assertThat(millis).as("milliseconds of %s", budget.tool()).isLessThanOrEqualTo(budget.millis());
+    }
+
+    private static void assertSucceeded(Budget budget, String response) {
+        assertThat(response).as("response of %s", budget.tool()).contains("\"status\":\"SUCCESS\"");
+    }
+
+    private ToolCallback tool(String name) {
+        return Arrays.stream(toolCallbackProvider.getToolCallbacks())
+            .filter(callback -> callback.getToolDefinition().name().equals(name))
+            .findFirst()
+            .orElseThrow();
+    }
+}
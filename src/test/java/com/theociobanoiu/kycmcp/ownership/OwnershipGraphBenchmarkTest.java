@@ -0,0 +1,65 @@
+package com.theociobanoiu.kycmcp.ownership;
+
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Random;
+
+/**
+ * Ultimate owner tracing latency on a synthetic graph of a million clients and close to two million ownership
+ * links. Excluded from the default build; run with {@code ./mvnw test -Pbenchmark}.
+ */
+@Tag("benchmark")
+@Slf4j
+class OwnershipGraphBenchmarkTest {
+
+    private static final int GROUPS = 100_000;
+    private static final int CLIENTS_PER_GROUP = 10;
+    private static final int QUERIES = 10_000;
+
+    @Test
+    void tracingLatencyOnMillionsOfLinks() {
+        Random random = new Random(11);
+        OwnershipGraph graph = new OwnershipGraph(GROUPS * CLIENTS_PER_GROUP * 2);
+        long buildStart = System.nanoTime();
+        long personId = 0;
+        for (int group = 0; group < GROUPS; group++) {
+            long first = (long) group * CLIENTS_PER_GROUP + 1;
+            // The first clients of a group are held by persons; each later client by one to three earlier ones
+            for (int i = 0; i < CLIENTS_PER_GROUP; i++) {
+                long client = first + i;
+                if (i < 2) {
+                    graph.putPersonOwnership(++personId, client, 0.6);
+                    graph.putPersonOwnership(++personId, client, 0.4);
+                    continue;
+                }
+                int owners = 1 + random.nextInt(3);
+                for (int o = 0; o < owners; o++) {
+                    graph.putClientOwnership(first + random.nextInt(i), client, 1.0 / owners);
+                }
+            }
+        }
+        log.info("Built ownership graph with {} nodes and {} links in {} ms",
+            graph.nodeCount(), graph.linkCount(), (System.nanoTime() - buildStart) / 1_000_000);
+
+        long[] clients = new long[QUERIES];
+        for (int i = 0; i < QUERIES; i++) {
+            clients[i] = 1 + random.nextInt(GROUPS * CLIENTS_PER_GROUP);
+        }
+        for (long client : clients) {
+            graph.ultimateOwners(client, 0.25);
+        }
+
+        long[] latencies = new long[QUERIES];
+        for (int i = 0; i < QUERIES; i++) {
+            long start = System.nanoTime();
+            graph.ultimateOwners(clients[i], 0.25);
+            latencies[i] = System.nanoTime() - start;
+        }
+        Arrays.sort(latencies);
+        log.info("Tracing ultimate owners over {} links: p50={} us, p99={} us, max={} us", graph.linkCount(),
+            latencies[QUERIES / 2] / 1_000, latencies[QUERIES * 99 / 100] / 1_000, latencies[QUERIES - 1] / 1_000);
+    }
+}
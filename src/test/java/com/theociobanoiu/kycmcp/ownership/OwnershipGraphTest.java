@@ -0,0 +1,80 @@
+package com.theociobanoiu.kycmcp.ownership;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+class OwnershipGraphTest {
+
+    private final OwnershipGraph graph = new OwnershipGraph(4);
+
+    @Test
+    void effectiveOwnershipMultipliesAlongChainsAndAddsAcrossThem() {
+        // Person 1 holds 60% of holding 10, which holds 50% of client 20 directly and 50% of it through 30
+        graph.putPersonOwnership(1, 10, 0.6);
+        graph.putClientOwnership(10, 20, 0.5);
+        graph.putClientOwnership(10, 30, 1.0);
+        graph.putClientOwnership(30, 20, 0.5);
+        graph.putPersonOwnership(2, 30, 0.0);
+
+        OwnershipGraph.Result result = graph.ultimateOwners(20, 0.0);
+
+        assertThat(result.persons()).singleElement().satisfies(holding -> {
+            assertThat(holding.id()).isEqualTo(1);
+            assertThat(holding.fraction()).isCloseTo(0.6, within(1e-9));
+        });
+        assertThat(result.clients()).extracting(OwnershipGraph.Holding::id).containsExactly(10L, 30L);
+        assertThat(result.cycles()).isEmpty();
+        assertThat(result.converged()).isTrue();
+    }
+
+    @Test
+    void thresholdFiltersSmallHoldings() {
+        graph.putPersonOwnership(1, 10, 0.25);
+        graph.putPersonOwnership(2, 10, 0.1);
+        graph.putClientOwnership(11, 10, 0.5);
+        graph.putPersonOwnership(3, 11, 0.5);
+
+        assertThat(graph.ultimateOwners(10, 0.25).persons())
+            .extracting(OwnershipGraph.Holding::id)
+            .containsExactly(1L, 3L);
+    }
+
+    @Test
+    void circularHoldingsAreReportedAndConverge() {
+        // 10 and 11 hold half of each other; person 1 holds the other half of 11
+        graph.putClientOwnership(11, 10, 0.5);
+        graph.putClientOwnership(10, 11, 0.5);
+        graph.putPersonOwnership(1, 11, 0.5);
+
+        OwnershipGraph.Result result = graph.ultimateOwners(10, 0.0);
+
+        assertThat(result.cycles()).singleElement().satisfies(cycle -> assertThat(cycle).containsExactly(10, 11));
+        assertThat(result.converged()).isTrue();
+        // 0.5 * 0.5 directly, then a quarter of that again on every trip around the cycle: 0.25 / (1 - 0.25)
+        assertThat(result.persons().getFirst().fraction()).isCloseTo(1.0 / 3, within(1e-6));
+    }
+
+    @Test
+    void linksAreUpdatedAndRemovedInPlace() {
+        graph.putPersonOwnership(1, 10, 0.3);
+        graph.putPersonOwnership(2, 10, 0.3);
+        graph.putPersonOwnership(3, 10, 0.3);
+
+        graph.putPersonOwnership(1, 10, 0.4);
+        graph.putPersonOwnership(2, 10, 0.0);
+
+        assertThat(graph.linkCount()).isEqualTo(2);
+        List<OwnershipGraph.Holding> persons = graph.ultimateOwners(10, 0.0).persons();
+        assertThat(persons).extracting(OwnershipGraph.Holding::id).containsExactly(1L, 3L);
+        assertThat(persons.getFirst().fraction()).isEqualTo(0.4);
+    }
+
+    @Test
+    void clientWithoutLinksHasNoOwners() {
+        assertThat(graph.ultimateOwners(42, 0.0).persons()).isEmpty();
+    }
+}
@@ -0,0 +1,64 @@
+package com.theociobanoiu.kycmcp.risk;
+
+import com.theociobanoiu.kycmcp.model.enums.ClientType;
+import com.theociobanoiu.kycmcp.model.enums.RelationshipType;
+import com.theociobanoiu.kycmcp.model.enums.RiskLevel;
+import com.theociobanoiu.kycmcp.repository.projection.ClientRiskRow;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RiskScorerTest {
+
+    private final RiskScorer scorer = new RiskScorer(
+        new RiskScoringProperties(Set.of("IR", "KP", "MM"), 30, 60, 1000, 4), BigDecimal.valueOf(25));
+
+    @Test
+    void fullyOwnedCompanyWithABeneficialOwnerIsLowRisk() {
+        List<ClientRiskRow> rows = List.of(
+            person(ClientType.COMPANY, "US", RelationshipType.SHAREHOLDER, 60),
+            person(ClientType.COMPANY, "MX", RelationshipType.BENEFICIAL_OWNER, 40));
+
+        assertThat(scorer.score(ClientType.COMPANY, rows)).isEqualTo(10);
+        assertThat(scorer.riskLevel(ClientType.COMPANY, rows)).isEqualTo(RiskLevel.LOW);
+    }
+
+    @Test
+    void companyWithoutPersonsIsMediumRisk() {
+        List<ClientRiskRow> rows = List.of(new ClientRiskRow(1L, "Shell Ltd", ClientType.COMPANY, RiskLevel.LOW,
+            null, null, null, null));
+
+        assertThat(scorer.score(ClientType.COMPANY, rows))
+            .isEqualTo(10 + RiskScorer.NO_PERSONS + RiskScorer.NO_DECLARED_OWNERSHIP);
+        assertThat(scorer.riskLevel(ClientType.COMPANY, rows)).isEqualTo(RiskLevel.MEDIUM);
+    }
+
+    @Test
+    void dispersedPartialOwnershipAndTrustRolesAddUp() {
+        List<ClientRiskRow> rows = List.of(
+            person(ClientType.PARTNERSHIP, "US", RelationshipType.SHAREHOLDER, 20),
+            person(ClientType.PARTNERSHIP, "us", RelationshipType.TRUSTEE, 20));
+
+        assertThat(scorer.score(ClientType.PARTNERSHIP, rows)).isEqualTo(15 + RiskScorer.TRUST_ROLES
+            + RiskScorer.PARTIAL_OWNERSHIP + RiskScorer.DISPERSED_OWNERSHIP);
+    }
+
+    @Test
+    void highRiskNationalityIsMatchedCaseInsensitively() {
+        List<ClientRiskRow> rows = List.of(person(ClientType.TRUST, " kp ", RelationshipType.SETTLOR, 100));
+
+        assertThat(scorer.score(ClientType.TRUST, rows)).isEqualTo(25 + RiskScorer.HIGH_RISK_NATIONALITY);
+        assertThat(scorer.riskLevel(ClientType.TRUST, rows)).isEqualTo(RiskLevel.HIGH);
+        assertThat(scorer.riskLevel(ClientType.INDIVIDUAL, List.of())).isEqualTo(RiskLevel.LOW);
+    }
+
+    private static ClientRiskRow person(ClientType type, String nationality, RelationshipType relationship,
+                                        int percentage) {
+        return new ClientRiskRow(1L, "Client", type, RiskLevel.LOW, 1L, nationality, relationship,
+            BigDecimal.valueOf(percentage));
+    }
+}
@@ -0,0 +1,74 @@
+package com.theociobanoiu.kycmcp.risk;
+
+import com.theociobanoiu.kycmcp.bulkimport.ImportFormat;
+import com.theociobanoiu.kycmcp.bulkimport.ImportTarget;
+import com.theociobanoiu.kycmcp.model.dto.RiskScoringResultDTO;
+import com.theociobanoiu.kycmcp.model.enums.RiskScoringMode;
+import com.theociobanoiu.kycmcp.service.api.BulkImportService;
+import com.theociobanoiu.kycmcp.service.api.RiskScoringService;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Full and incremental rescoring throughput over the embedded H2 database. Excluded from the default build;
+ * run with {@code ./mvnw test -Pbenchmark}.
+ */
+@Tag("benchmark")
+@SpringBootTest
+@ActiveProfiles("test")
+@Slf4j
+class RiskScoringBenchmarkTest {
+
+    private static final int CLIENTS = 200_000;
+    private static final int PERSONS_PER_CLIENT = 2;
+    private static final String[] TYPES = {"INDIVIDUAL", "COMPANY", "PARTNERSHIP", "TRUST"};
+    private static final String[] NATIONALITIES = {"US", "GB", "DE", "MX", "IR"};
+    private static final String[] RELATIONSHIPS = {"DIRECTOR", "SHAREHOLDER", "BENEFICIAL_OWNER", "TRUSTEE"};
+
+    @Autowired
+    private BulkImportService bulkImportService;
+
+    @Autowired
+    private RiskScoringService riskScoringService;
+
+    @Test
+    void rescoreThroughput() {
+        Random random = new Random(42);
+        StringBuilder clients = new StringBuilder("name,client_type,registration_number,risk_level\n");
+        for (int i = 0; i < CLIENTS; i++) {
+            clients.append("Risk Client ").append(i).append(',').append(TYPES[random.nextInt(TYPES.length)])
+                .append(",RISK-").append(i).append(",LOW\n");
+        }
+        StringBuilder persons = new StringBuilder();
+        for (int i = 0; i < CLIENTS * PERSONS_PER_CLIENT; i++) {
+            persons.append("{\"clientRegistrationNumber\":\"RISK-").append(i / PERSONS_PER_CLIENT)
+                .append("\",\"firstName\":\"First").append(i).append("\",\"lastName\":\"Last").append(i)
+                .append("\",\"nationality\":\"").append(NATIONALITIES[random.nextInt(NATIONALITIES.length)])
+                .append("\",\"relationshipType\":\"").append(RELATIONSHIPS[random.nextInt(RELATIONSHIPS.length)])
+                .append("\",\"ownershipPercentage\":").append(random.nextInt(50)).append("}\n");
+        }
+        bulkImportService.importStream(ImportTarget.CLIENTS, ImportFormat.CSV,
+            new ByteArrayInputStream(clients.toString().getBytes(StandardCharsets.UTF_8)));
+        bulkImportService.importStream(ImportTarget.PERSONS, ImportFormat.JSONL,
+            new ByteArrayInputStream(persons.toString().getBytes(StandardCharsets.UTF_8)));
+
+        RiskScoringResultDTO full = riskScoringService.recompute(RiskScoringMode.FULL);
+        RiskScoringResultDTO rescore = riskScoringService.recompute(RiskScoringMode.FULL);
+
+        log.info("First full run: {} clients, {} changed, {} ms ({} clients/s); second: {} ms ({} clients/s), {}",
+            full.clientsScored(), full.clientsChanged(), full.elapsedMillis(), full.clientsPerSecond(),
+            rescore.elapsedMillis(), rescore.clientsPerSecond(), rescore.clientsByLevel());
+        assertThat(full.clientsScored()).isGreaterThanOrEqualTo(CLIENTS);
+        assertThat(rescore.clientsChanged()).isZero();
+    }
+}
@@ -0,0 +1,85 @@
+package com.theociobanoiu.kycmcp.screening;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.theociobanoiu.kycmcp.model.dto.ScreeningHitDTO;
+import com.theociobanoiu.kycmcp.model.enums.WatchlistCategory;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class WatchlistIndexTest {
+
+    private static final double THRESHOLD = 0.85;
+
+    private WatchlistIndex index;
+
+    @BeforeEach
+    void setUp() {
+        WatchlistIndex.Builder builder = WatchlistIndex.builder(5000, 500);
+        builder.add(new WatchlistEntry("S-1", "Mohammed Al-Rashid", LocalDate.of(1970, 3, 4), false, "SY",
+            "Test Sanctions", WatchlistCategory.SANCTIONS));
+        builder.add(new WatchlistEntry("P-1", "Jane Müller", null, false, "DE", "Test PEP", WatchlistCategory.PEP));
+        builder.add(new WatchlistEntry("S-2", "Viktor Petrov", LocalDate.of(1965, 1, 1), true, "RU",
+            "Test Sanctions", WatchlistCategory.SANCTIONS));
+        builder.add(new WatchlistEntry("S-3", "High Risk Holdings Ltd", null, false, null,
+            "Test Sanctions", WatchlistCategory.SANCTIONS));
+        index = builder.build();
+    }
+
+    @Test
+    void transliterationVariantsMatch() {
+        List<ScreeningHitDTO> hits = index.screen(new ScreeningQuery("Muhamad Alrashid", null, null), THRESHOLD, 10);
+
+        assertThat(hits).extracting(ScreeningHitDTO::entryId).containsExactly("S-1");
+    }
+
+    @Test
+    void diacriticsAndTokenOrderAreIgnored() {
+        List<ScreeningHitDTO> hits = index.screen(new ScreeningQuery("Muller Jane", null, "de"), THRESHOLD, 10);
+
+        assertThat(hits).singleElement().satisfies(hit -> {
+            assertThat(hit.entryId()).isEqualTo("P-1");
+            assertThat(hit.nationalityMatch()).isTrue();
+        });
+    }
+
+    @Test
+    void birthDateAgreementRaisesAndDisagreementLowersTheScore() {
+        double matching = index.screen(new ScreeningQuery("Viktor Petrov", LocalDate.of(1965, 7, 9), null), 0, 1)
+            .getFirst().score();
+        double conflicting = index.screen(new ScreeningQuery("Viktor Petrov", LocalDate.of(1990, 7, 9), null), 0, 1)
+            .getFirst().score();
+
+        assertThat(matching).isGreaterThan(conflicting);
+    }
+
+    @Test
+    void unrelatedNamesProduceNoHits() {
+        assertThat(index.screen(new ScreeningQuery("John Smith", null, null), THRESHOLD, 10)).isEmpty();
+    }
+
+    @Test
+    void loadsCsvWatchlist(@TempDir Path directory) throws IOException {
+        Path file = directory.resolve("list.csv");
+        Files.writeString(file, """
+            id,name,date_of_birth,nationality,list,category
+            X-1,"Petrov, Viktor",1965,RU,Test Sanctions,SANCTIONS
+            X-2,,1970-01-01,US,Test Sanctions,SANCTIONS
+            """);
+
+        WatchlistIndex loaded = new WatchlistLoader(new ObjectMapper(), new ScreeningProperties(file, THRESHOLD, 10, 5000, 500))
+            .load(file);
+
+        assertThat(loaded.size()).isEqualTo(1);
+        assertThat(loaded.screen(new ScreeningQuery("Viktor Petrov", null, null), THRESHOLD, 10))
+            .extracting(ScreeningHitDTO::entryId).containsExactly("X-1");
+    }
+}
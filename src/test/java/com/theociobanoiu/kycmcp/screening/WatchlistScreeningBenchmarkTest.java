@@ -0,0 +1,70 @@
+package com.theociobanoiu.kycmcp.screening;
+
+import com.theociobanoiu.kycmcp.model.enums.WatchlistCategory;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.Random;
+
+/**
+ * Per-person screening latency against a synthetic one-million-entry watchlist. Excluded from the
+ * default build; run with {@code ./mvnw test -Pbenchmark}.
+ */
+@Tag("benchmark")
+@Slf4j
+class WatchlistScreeningBenchmarkTest {
+
+    private static final int LIST_SIZE = 1_000_000;
+    private static final int QUERIES = 2_000;
+    private static final String SYLLABLES = "ka,ri,mo,ha,med,al,ra,shi,da,vik,tor,pe,tro,va,lu,ci,an,ser,gei,ol,"
+        + "ga,na,ta,li,ya,fer,nan,dez,go,mez,wen,zhou,li,ng,kow,al,ski,ne,ma,ir,ab,du,lah";
+    private static final String[] PARTS = SYLLABLES.split(",");
+
+    @Test
+    void screeningLatencyAgainstOneMillionNames() {
+        Random random = new Random(7);
+        WatchlistIndex.Builder builder = WatchlistIndex.builder(1000, 200);
+        long buildStart = System.nanoTime();
+        for (int i = 0; i < LIST_SIZE; i++) {
+            builder.add(new WatchlistEntry("E-" + i, name(random), LocalDate.of(1940 + random.nextInt(60), 1, 1),
+                true, null, "Synthetic", WatchlistCategory.SANCTIONS));
+        }
+        WatchlistIndex index = builder.build();
+        log.info("Built {} entry watchlist index in {} ms", index.size(), (System.nanoTime() - buildStart) / 1_000_000);
+
+        ScreeningQuery[] queries = new ScreeningQuery[QUERIES];
+        for (int i = 0; i < QUERIES; i++) {
+            queries[i] = new ScreeningQuery(name(random), null, null);
+        }
+        for (ScreeningQuery query : queries) {
+            index.screen(query, 0.85, 10);
+        }
+
+        long[] latencies = new long[QUERIES];
+        for (int i = 0; i < QUERIES; i++) {
+            long start = System.nanoTime();
+            index.screen(queries[i], 0.85, 10);
+            latencies[i] = System.nanoTime() - start;
+        }
+        Arrays.sort(latencies);
+        log.info("Screening against {} names: p50={} us, p99={} us",
+            index.size(), latencies[QUERIES / 2] / 1_000, latencies[QUERIES * 99 / 100] / 1_000);
+    }
+
+    private static String name(Random random) {
+        return word(random) + " " + word(random) + (random.nextInt(4) == 0 ? " " + word(random) : "");
+    }
+
+    private static String word(Random random) {
+        StringBuilder word = new StringBuilder();
+        int syllables = 2 + random.nextInt(2);
+        for (int i = 0; i < syllables; i++) {
+            word.append(PARTS[random.nextInt(PARTS.length)]);
+        }
+        word.setCharAt(0, Character.toUpperCase(word.charAt(0)));
+        return word.toString();
+    }
+}
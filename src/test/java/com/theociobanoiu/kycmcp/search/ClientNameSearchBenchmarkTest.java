@@ -0,0 +1,63 @@
+package com.theociobanoiu.kycmcp.search;
+
+import com.theociobanoiu.kycmcp.model.enums.RiskLevel;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Latency of the in-process name index against table size. Excluded from the default build;
+ * run with {@code ./mvnw test -Pbenchmark}.
+ */
+@Tag("benchmark")
+@Slf4j
+class ClientNameSearchBenchmarkTest {
+
+    private static final String[] PREFIXES = {"Global", "Alpha", "Nordic", "Pacific", "United", "Summit", "Blue",
+        "Silver", "Atlas", "Vertex", "Harbor", "Crown", "Liberty", "Apex", "Orion", "Zenith"};
+    private static final String[] CORES = {"Capital", "Trading", "Logistics", "Holdings", "Ventures", "Partners",
+        "Investments", "Shipping", "Energy", "Pharma", "Textiles", "Metals", "Foods", "Media", "Systems", "Realty"};
+    private static final String[] SUFFIXES = {"Ltd", "LLC", "Inc", "GmbH", "SA", "BV", "PLC", "AG"};
+    private static final String[] QUERIES = {"Nordic Shiping", "atlas metals", "Zenith Capitol GmbH", "crown",
+        "Harbour Logistics", "Pacific Energy SA"};
+    private static final int ITERATIONS = 200;
+
+    @ParameterizedTest
+    @ValueSource(ints = {10_000, 100_000, 500_000})
+    void searchLatencyBySize(int size) {
+        NGramIndex index = new NGramIndex();
+        Random random = new Random(42);
+        RiskLevel[] riskLevels = RiskLevel.values();
+        for (int id = 1; id <= size; id++) {
+            index.put(id, syntheticName(random, id), riskLevels[random.nextInt(riskLevels.length)]);
+        }
+
+        for (int i = 0; i < ITERATIONS; i++) {
+            index.search(QUERIES[i % QUERIES.length], null, 25, 0.3);
+        }
+
+        long[] latencies = new long[ITERATIONS];
+        for (int i = 0; i < ITERATIONS; i++) {
+            long start = System.nanoTime();
+            assertThat(index.search(QUERIES[i % QUERIES.length], null, 25, 0.3)).hasSizeLessThanOrEqualTo(25);
+            latencies[i] = System.nanoTime() - start;
+        }
+        Arrays.sort(latencies);
+
+        log.info("n-gram search over {} clients: p50={} us, p99={} us",
+            size, latencies[ITERATIONS / 2] / 1_000, latencies[ITERATIONS * 99 / 100] / 1_000);
+    }
+
+    private static String syntheticName(Random random, int id) {
+        return PREFIXES[random.nextInt(PREFIXES.length)] + " "
+            + CORES[random.nextInt(CORES.length)] + " "
+            + (id % 7 == 0 ? Integer.toString(id, 36) + " " : "")
+            + SUFFIXES[random.nextInt(SUFFIXES.length)];
+    }
+}
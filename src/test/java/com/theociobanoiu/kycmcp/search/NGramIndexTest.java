@@ -0,0 +1,63 @@
+package com.theociobanoiu.kycmcp.search;
+
+import com.theociobanoiu.kycmcp.model.enums.RiskLevel;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class NGramIndexTest {
+
+    private static final double THRESHOLD = 0.3;
+
+    private NGramIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new NGramIndex();
+        index.put(1, "ABC Corporation", RiskLevel.MEDIUM);
+        index.put(2, "John Smith", RiskLevel.LOW);
+        index.put(3, "High Risk Holdings Ltd", RiskLevel.HIGH);
+        index.put(4, "ABC Corp Holdings", RiskLevel.HIGH);
+    }
+
+    @Test
+    void substringMatchesAreFound() {
+        List<ClientMatch> matches = index.search("holdings", null, 10, THRESHOLD);
+
+        assertThat(matches).extracting(ClientMatch::clientId).containsExactlyInAnyOrder(3L, 4L);
+    }
+
+    @Test
+    void typosStillMatchAndBestMatchRanksFirst() {
+        List<ClientMatch> matches = index.search("ABC Corporatoin", null, 10, THRESHOLD);
+
+        assertThat(matches).isNotEmpty();
+        assertThat(matches.getFirst().clientId()).isEqualTo(1L);
+        assertThat(matches).extracting(ClientMatch::score).isSortedAccordingTo((a, b) -> Double.compare(b, a));
+    }
+
+    @Test
+    void riskLevelFilterAndLimitAreApplied() {
+        assertThat(index.search("abc", RiskLevel.HIGH, 10, THRESHOLD))
+            .extracting(ClientMatch::clientId).containsExactly(4L);
+        assertThat(index.search("holdings", null, 1, THRESHOLD)).hasSize(1);
+    }
+
+    @Test
+    void shortQueriesFallBackToSubstringScan() {
+        assertThat(index.search("jo", null, 10, THRESHOLD))
+            .extracting(ClientMatch::clientId).containsExactly(2L);
+    }
+
+    @Test
+    void renamedClientIsOnlyFoundUnderNewName() {
+        index.put(2, "Jonathan Smythe", RiskLevel.LOW);
+
+        assertThat(index.search("john smith", null, 10, THRESHOLD)).extracting(ClientMatch::clientId).doesNotContain(2L);
+        assertThat(index.search("smythe", null, 10, THRESHOLD)).extracting(ClientMatch::clientId).containsExactly(2L);
+        assertThat(index.size()).isEqualTo(4);
+    }
+}
@@ -0,0 +1,74 @@
+package com.theociobanoiu.kycmcp.search;
+
+import com.theociobanoiu.kycmcp.model.dto.PersonMatchDTO;
+import com.theociobanoiu.kycmcp.model.enums.PersonSearchField;
+import com.theociobanoiu.kycmcp.model.enums.RelationshipType;
+import com.theociobanoiu.kycmcp.repository.projection.PersonSearchRow;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+class PersonIndexTest {
+
+    private PersonIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new PersonIndex(16);
+        index.put(person(1L, 10L, "John", "Smith", "AB 123 456", "GB", "1 High Street, London"));
+        index.put(person(2L, 11L, "Jane", "Smith", "CD987654", "GB", "22 Baker Street, London"));
+        index.put(person(3L, 12L, "José", "Müller", null, "DE", "Hauptstraße 5, Berlin"));
+        index.put(person(4L, 12L, "Smith", "Johnson", null, "US", "Main Street, Boston"));
+    }
+
+    @Test
+    void moreMatchedTokensRankFirst() {
+        List<PersonMatchDTO> matches = index.search("john smith", 10, 10_000);
+
+        assertThat(matches).extracting(PersonMatchDTO::personId).startsWith(1L);
+        assertThat(matches.getFirst().matchedTokens()).isEqualTo(2);
+        assertThat(matches.getFirst().matchedOn())
+            .containsExactlyInAnyOrder(PersonSearchField.FIRST_NAME, PersonSearchField.LAST_NAME);
+        assertThat(matches).extracting(PersonMatchDTO::personId).contains(2L, 4L);
+    }
+
+    @Test
+    void identificationNumberMatchesWithOrWithoutSeparatorsAndDiacriticsAreIgnored() {
+        assertThat(index.search("ab123456", 10, 10_000)).extracting(PersonMatchDTO::personId).containsExactly(1L);
+        assertThat(index.search("cd987654", 10, 10_000).getFirst().matchedOn())
+            .containsExactly(PersonSearchField.IDENTIFICATION_NUMBER);
+        assertThat(index.search("jose muller", 10, 10_000))
+            .extracting(PersonMatchDTO::personId, PersonMatchDTO::clientName)
+            .containsExactly(tuple(3L, "Client 12"));
+    }
+
+    @Test
+    void commonTokensOnlyRankCandidatesFromRarerOnes() {
+        // With a seed limit of 1 "street" and "london" are too common to add candidates on their own
+        List<PersonMatchDTO> matches = index.search("baker street london", 10, 1);
+
+        assertThat(matches).extracting(PersonMatchDTO::personId).containsExactly(2L);
+        assertThat(matches.getFirst().matchedTokens()).isEqualTo(3);
+        assertThat(index.search("street", 10, 1)).hasSize(3);
+    }
+
+    @Test
+    void reindexedPersonReplacesTheOldEntry() {
+        index.put(person(2L, 11L, "Jane", "Doe", "CD987654", "GB", null));
+
+        assertThat(index.size()).isEqualTo(4);
+        assertThat(index.search("smith", 10, 10_000)).extracting(PersonMatchDTO::personId).containsOnly(1L, 4L);
+        assertThat(index.search("doe", 10, 10_000)).extracting(PersonMatchDTO::personId).containsExactly(2L);
+        assertThat(index.search("nobody", 10, 10_000)).isEmpty();
+    }
+
+    private static PersonSearchRow person(long id, long clientId, String firstName, String lastName,
+                                          String identificationNumber, String nationality, String address) {
+        return new PersonSearchRow(id, clientId, "Client " + clientId, firstName, lastName, identificationNumber,
+            nationality, address, RelationshipType.DIRECTOR);
+    }
+}
@@ -0,0 +1,82 @@
+package com.theociobanoiu.kycmcp.search;
+
+import com.theociobanoiu.kycmcp.model.enums.RelationshipType;
+import com.theociobanoiu.kycmcp.repository.projection.PersonSearchRow;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Person search latency over a million synthetic persons, for queries by identification number, by full name
+ * and by a name with an address word. Excluded from the default build; run with {@code ./mvnw test -Pbenchmark}.
+ */
+@Tag("benchmark")
+@Slf4j
+class PersonSearchBenchmarkTest {
+
+    private static final int PERSONS = 1_000_000;
+    private static final int QUERIES = 10_000;
+    private static final String[] FIRST_NAMES = {"John", "Maria", "Ahmed", "Elena", "Wei", "Olga", "Pierre", "Anna",
+        "Carlos", "Fatima", "Ivan", "Sofia", "Kenji", "Laura", "Mehmet", "Ines", "Tomasz", "Aisha", "Lars", "Chloe"};
+    private static final String[] LAST_NAMES = {"Smith", "Garcia", "Khan", "Popescu", "Wang", "Ivanova", "Dubois",
+        "Rossi", "Silva", "Haddad", "Petrov", "Novak", "Tanaka", "Muller", "Yilmaz", "Costa", "Kowalski", "Okafor",
+        "Larsen", "Martin", "Schmidt", "Nguyen", "Horvat", "Jensen", "Moreau", "Fischer", "Lopez", "Romano",
+        "Svensson", "Ionescu"};
+    private static final String[] NATIONALITIES = {"GB", "DE", "FR", "RO", "IT", "ES", "PL", "US", "CN", "TR"};
+    private static final String[] CITIES = {"London", "Berlin", "Paris", "Bucharest", "Milan", "Madrid", "Warsaw",
+        "Boston", "Shanghai", "Istanbul", "Vienna", "Zurich"};
+    private static final RelationshipType[] RELATIONSHIPS = RelationshipType.values();
+
+    @Test
+    void searchLatency() {
+        Random random = new Random(11);
+        PersonIndex index = new PersonIndex(PERSONS);
+        long buildStart = System.nanoTime();
+        for (int i = 0; i < PERSONS; i++) {
+            index.put(new PersonSearchRow((long) i + 1, (long) i / 4 + 1, "Client " + (i / 4 + 1),
+                FIRST_NAMES[random.nextInt(FIRST_NAMES.length)], LAST_NAMES[random.nextInt(LAST_NAMES.length)],
+                "ID " + (1_000_000 + i), NATIONALITIES[random.nextInt(NATIONALITIES.length)],
+                random.nextInt(200) + " Street " + Integer.toString(i % 5000, 36) + " "
+                    + CITIES[random.nextInt(CITIES.length)],
+                RELATIONSHIPS[random.nextInt(RELATIONSHIPS.length)]));
+        }
+        log.info("Indexed {} persons with {} tokens in {} ms", index.size(), index.termCount(),
+            (System.nanoTime() - buildStart) / 1_000_000);
+
+        String[] queries = new String[QUERIES];
+        for (int i = 0; i < QUERIES; i++) {
+            queries[i] = switch (i % 3) {
+                case 0 -> "ID" + (1_000_000 + random.nextInt(PERSONS));
+                case 1 -> FIRST_NAMES[random.nextInt(FIRST_NAMES.length)] + " "
+                    + LAST_NAMES[random.nextInt(LAST_NAMES.length)];
+                default -> LAST_NAMES[random.nextInt(LAST_NAMES.length)] + " "
+                    + Integer.toString(random.nextInt(5000), 36);
+            };
+        }
+        for (String query : queries) {
+            index.search(query, 10, 10_000);
+        }
+
+        long[][] latencies = new long[3][QUERIES / 3];
+        for (int i = 0; i < QUERIES / 3 * 3; i++) {
+            long start = System.nanoTime();
+            assertThat(index.search(queries[i], 10, 10_000)).isNotEmpty();
+            latencies[i % 3][i / 3] = System.nanoTime() - start;
+        }
+        String[] kinds = {"identification number", "full name", "last name and street"};
+        for (int kind = 0; kind < kinds.length; kind++) {
+            long[] sorted = latencies[kind];
+            Arrays.sort(sorted);
+            log.info("Person search by {} over {} persons: p50={} us, p99={} us, max={} us", kinds[kind], PERSONS,
+                sorted[sorted.length / 2] / 1_000, sorted[sorted.length * 99 / 100] / 1_000,
+                sorted[sorted.length - 1] / 1_000);
+        }
+
+        assertThat(latencies[0][latencies[0].length * 99 / 100]).isLessThan(1_000_000L);
+    }
+}
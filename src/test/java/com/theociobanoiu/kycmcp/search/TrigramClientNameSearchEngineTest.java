@@ -0,0 +1,107 @@
+package com.theociobanoiu.kycmcp.search;
+
+import com.theociobanoiu.kycmcp.model.dto.ClientDTO;
+import com.theociobanoiu.kycmcp.model.dto.CursorPage;
+import com.theociobanoiu.kycmcp.repository.ClientRepository;
+import com.theociobanoiu.kycmcp.repository.projection.ClientNameMatchView;
+import com.theociobanoiu.kycmcp.service.api.ClientService;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoSpyBean;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+/**
+ * Runs the name search through the PostgreSQL engine. H2 has neither {@code similarity()} nor the {@code %}
+ * operator, so the trigram query is replaced by a single native statement of the same shape; the query budget
+ * of {@code searchClients}, rejected in tests, then sees the two statements the engine issues on PostgreSQL.
+ */
+@SpringBootTest(properties = "kyc.search.engine=TRIGRAM")
+@ActiveProfiles("test")
+class TrigramClientNameSearchEngineTest {
+
+    @Autowired
+    private ClientService clientService;
+
+    @Autowired
+    private ClientNameSearchEngine clientNameSearchEngine;
+
+    @MockitoSpyBean
+    private ClientRepository clientRepository;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @BeforeEach
+    void replaceTrigramQuery() {
+        doAnswer(invocation -> {
+            String name = invocation.getArgument(0);
+            String namePattern = invocation.getArgument(1);
+            String riskLevel = invocation.getArgument(2);
+            int limit = invocation.getArgument(3);
+            @SuppressWarnings("unchecked")
+            List<Object[]> rows = entityManager.createNativeQuery("""
+                    SELECT c.id, c.name FROM clients c
+                    WHERE LOWER(c.name) LIKE LOWER(:namePattern) ESCAPE '\\'
+                      AND (CAST(:riskLevel AS VARCHAR) IS NULL OR c.risk_level = CAST(:riskLevel AS VARCHAR))
+                    ORDER BY LENGTH(c.name), c.id""")
+                .setParameter("namePattern", namePattern)
+                .setParameter("riskLevel", riskLevel)
+                .setMaxResults(limit)
+                .getResultList();
+            return rows.stream()
+                .map(row -> (ClientNameMatchView) new Match(((Number) row[0]).longValue(),
+                    (double) name.length() / row[1].toString().length()))
+                .toList();
+        }).when(clientRepository).searchByNameSimilarity(anyString(), anyString(), any(), anyInt());
+    }
+
+    @Test
+    void postgresqlEngineIsSelectedWhenConfigured() {
+        assertThat(clientNameSearchEngine).isInstanceOf(TrigramClientNameSearchEngine.class);
+    }
+
+    @Test
+    void nameSearchKeepsTheDatabaseRankingWithinItsBudget() {
+        CursorPage<ClientDTO> page = clientService.searchClients("corp", null, null, 5);
+
+        assertThat(page.nextCursor()).isNull();
+        assertThat(page.items()).extracting(ClientDTO::name).first().isEqualTo("ABC Corporation");
+        verify(clientRepository, times(1)).searchByNameSimilarity("corp", "%corp%", null, 5);
+        verify(clientRepository, times(1)).findClientsByIdIn(anyList());
+    }
+
+    @Test
+    void wildcardsInTheNameMatchLiterally() {
+        assertThat(TrigramClientNameSearchEngine.containsPattern("50%_a\\b")).isEqualTo("%50\\%\\_a\\\\b%");
+        assertThat(clientService.searchClients("%", null, null, 5).items()).isEmpty();
+        assertThat(clientService.searchClients("_", null, null, 5).items()).isEmpty();
+    }
+
+    private record Match(Long clientId, Double score) implements ClientNameMatchView {
+
+        @Override
+        public Long getClientId() {
+            return clientId;
+        }
+
+        @Override
+        public Double getScore() {
+            return score;
+        }
+    }
+}
@@ -0,0 +1,99 @@
+package com.theociobanoiu.kycmcp.service;
+
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import com.theociobanoiu.kycmcp.config.CacheConfiguration;
+import com.theociobanoiu.kycmcp.model.dto.ClientDTO;
+import com.theociobanoiu.kycmcp.model.dto.request.CreatePersonRequest;
+import com.theociobanoiu.kycmcp.model.entities.Client;
+import com.theociobanoiu.kycmcp.model.enums.ClientType;
+import com.theociobanoiu.kycmcp.model.enums.RelationshipType;
+import com.theociobanoiu.kycmcp.model.enums.RiskLevel;
+import com.theociobanoiu.kycmcp.repository.ClientRepository;
+import com.theociobanoiu.kycmcp.repository.PersonRepository;
+import com.theociobanoiu.kycmcp.service.api.ClientService;
+import com.theociobanoiu.kycmcp.service.api.PersonService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.caffeine.CaffeineCache;
+import org.springframework.cache.transaction.TransactionAwareCacheDecorator;
+import org.springframework.test.context.ActiveProfiles;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Not transactional on purpose: the cache only sees writes once their transaction commits.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class ClientDossierCacheTest {
+
+    @Autowired
+    private ClientService clientService;
+
+    @Autowired
+    private PersonService personService;
+
+    @Autowired
+    private ClientRepository clientRepository;
+
+    @Autowired
+    private PersonRepository personRepository;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    private Long clientId;
+
+    @BeforeEach
+    void createClient() {
+        Client client = new Client();
+        client.setName("Dossier Cache Ltd");
+        client.setClientType(ClientType.COMPANY);
+        client.setRiskLevel(RiskLevel.MEDIUM);
+        clientId = clientRepository.save(client).getId();
+    }
+
+    @AfterEach
+    void deleteClient() {
+        personRepository.deleteAll(personRepository.findByClientId(clientId));
+        clientRepository.deleteById(clientId);
+        dossierCache().clear();
+    }
+
+    @Test
+    void repeatedLookupIsServedFromCache() {
+        CacheStats before = dossierCache().getNativeCache().stats();
+
+        ClientDTO first = clientService.getClientDetails(clientId).orElseThrow();
+        ClientDTO second = clientService.getClientDetails(clientId).orElseThrow();
+
+        CacheStats delta = dossierCache().getNativeCache().stats().minus(before);
+        assertThat(second).isSameAs(first);
+        assertThat(delta.missCount()).isEqualTo(1);
+        assertThat(delta.hitCount()).isEqualTo(1);
+    }
+
+    @Test
+    void addingPersonInvalidatesOnlyThatClient() {
+        ClientDTO other = clientService.getClientDetails(1L).orElseThrow();
+        assertThat(clientService.getClientDetails(clientId).orElseThrow().persons()).isEmpty();
+
+        personService.addPersonToClient(new CreatePersonRequest(clientId, "Ana", "Popescu", null, null,
+                null, null, null, RelationshipType.DIRECTOR, null, null, null));
+
+        assertThat(clientService.getClientDetails(clientId).orElseThrow().persons())
+            .extracting("lastName")
+            .containsExactly("Popescu");
+        assertThat(clientService.getClientDetails(1L).orElseThrow()).isSameAs(other);
+    }
+
+    private CaffeineCache dossierCache() {
+        TransactionAwareCacheDecorator cache =
+            (TransactionAwareCacheDecorator) cacheManager.getCache(CacheConfiguration.CLIENT_DOSSIERS);
+        return (CaffeineCache) cache.getTargetCache();
+    }
+}
@@ -0,0 +1,71 @@
+package com.theociobanoiu.kycmcp.service;
+
+import com.theociobanoiu.kycmcp.model.dto.ClientDossierDTO;
+import com.theociobanoiu.kycmcp.model.dto.DossierSectionErrorDTO;
+import com.theociobanoiu.kycmcp.model.dto.PersonDTO;
+import com.theociobanoiu.kycmcp.service.api.ClientDossierService;
+import com.theociobanoiu.kycmcp.service.api.ScreeningService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+import java.math.BigDecimal;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.when;
+
+@SpringBootTest(properties = "kyc.dossier.section-timeout=1s")
+@ActiveProfiles("test")
+class ClientDossierServiceImplTest {
+
+    @Autowired
+    private ClientDossierService clientDossierService;
+
+    @MockitoBean
+    private ScreeningService screeningService;
+
+    @Test
+    void assemblesSectionsAndReportsUnavailableScreening() {
+        when(screeningService.screenClient(anyLong())).thenThrow(new IllegalStateException("No watchlist loaded"));
+
+        ClientDossierDTO dossier = clientDossierService.getClientDossier(1L).orElseThrow();
+
+        assertThat(dossier.client().name()).isEqualTo("ABC Corporation");
+        assertThat(dossier.persons()).hasSize(3);
+        // Maria is declared as beneficial owner, the others hold at least the 25% threshold
+        assertThat(dossier.beneficialOwners()).extracting(PersonDTO::lastName)
+            .containsExactly("Garcia", "Johnson", "Doe");
+        assertThat(dossier.ownership().declaredPercentage()).isEqualByComparingTo(BigDecimal.valueOf(100));
+        assertThat(dossier.riskFactors()).isEmpty();
+        assertThat(dossier.complete()).isFalse();
+        assertThat(dossier.errors()).extracting(DossierSectionErrorDTO::section, DossierSectionErrorDTO::code)
+            .containsExactly(tuple("screening", "WATCHLIST_UNAVAILABLE"));
+    }
+
+    @Test
+    void slowSectionTimesOutWithoutHoldingBackTheOthers() {
+        when(screeningService.screenClient(anyLong())).thenAnswer(invocation -> {
+            Thread.sleep(10_000);
+            return Optional.empty();
+        });
+
+        ClientDossierDTO dossier = clientDossierService.getClientDossier(3L).orElseThrow();
+
+        assertThat(dossier.elapsedMillis()).isLessThan(5_000);
+        assertThat(dossier.client().name()).isEqualTo("High Risk Holdings Ltd");
+        assertThat(dossier.screening()).isNull();
+        assertThat(dossier.errors()).extracting(DossierSectionErrorDTO::code).containsExactly("TIMEOUT");
+        assertThat(dossier.riskFactors()).extracting("code")
+            .containsExactly("HIGH_RISK_RATING", "NO_BENEFICIAL_OWNER", "OWNERSHIP_INCOMPLETE");
+    }
+
+    @Test
+    void unknownClientHasNoDossier() {
+        assertThat(clientDossierService.getClientDossier(987654321L)).isEmpty();
+    }
+}
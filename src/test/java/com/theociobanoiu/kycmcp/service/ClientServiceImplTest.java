@@ -0,0 +1,117 @@
+package com.theociobanoiu.kycmcp.service;
+
+import com.theociobanoiu.kycmcp.model.dto.ClientBatchDTO;
+import com.theociobanoiu.kycmcp.model.dto.ClientDTO;
+import com.theociobanoiu.kycmcp.model.dto.CursorPage;
+import com.theociobanoiu.kycmcp.model.dto.PersonDTO;
+import com.theociobanoiu.kycmcp.model.entities.Client;
+import com.theociobanoiu.kycmcp.model.enums.ClientType;
+import com.theociobanoiu.kycmcp.model.enums.RiskLevel;
+import com.theociobanoiu.kycmcp.repository.ClientRepository;
+import com.theociobanoiu.kycmcp.service.api.ClientService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+class ClientServiceImplTest {
+
+    @Autowired
+    private ClientService clientService;
+
+    @Autowired
+    private ClientRepository clientRepository;
+
+    @Test
+    void getClientsWalksTheWholeBookWithoutGapsOrDuplicates() {
+        for (int i = 0; i < 5; i++) {
+            // Duplicate names exercise the id tie-breaker of the (name, id) keyset
+            Client client = new Client();
+            client.setName("Paging Test Co");
+            client.setClientType(ClientType.COMPANY);
+            client.setRiskLevel(RiskLevel.LOW);
+            clientRepository.save(client);
+        }
+        // Flushed up front, so the inserts do not count against the query budget of the first page
+        clientRepository.flush();
+
+        List<ClientDTO> all = new ArrayList<>();
+        String cursor = null;
+        do {
+            CursorPage<ClientDTO> page = clientService.getClients(cursor, 2);
+            assertThat(page.items()).hasSizeLessThanOrEqualTo(2);
+            all.addAll(page.items());
+            cursor = page.nextCursor();
+        } while (cursor != null);
+
+        assertThat(all).hasSize(8);
+        assertThat(all).extracting(ClientDTO::id).doesNotHaveDuplicates();
+        assertThat(all).extracting(ClientDTO::name).isSorted();
+    }
+
+    @Test
+    void searchWithoutNameIsPaginatedAndFiltered() {
+        CursorPage<ClientDTO> page = clientService.searchClients(null, RiskLevel.HIGH, null, 10);
+
+        assertThat(page.hasMore()).isFalse();
+        assertThat(page.items()).extracting(ClientDTO::riskLevel).containsOnly(RiskLevel.HIGH);
+    }
+
+    @Test
+    void nameSearchIsRankedAndNotPaginated() {
+        CursorPage<ClientDTO> page = clientService.searchClients("ABC Corporatoin", null, null, 5);
+
+        assertThat(page.nextCursor()).isNull();
+        assertThat(page.items()).isNotEmpty();
+        assertThat(page.items().getFirst().name()).isEqualTo("ABC Corporation");
+    }
+
+    @Test
+    void cursorIsRejectedWithANameSearch() {
+        String cursor = clientService.searchClients(null, null, null, 1).nextCursor();
+
+        assertThat(cursor).isNotNull();
+        assertThatThrownBy(() -> clientService.searchClients("ABC", null, cursor, 5))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("cursor");
+    }
+
+    @Test
+    void dossierCarriesClientAndAllPersons() {
+        ClientDTO dossier = clientService.getClientDetails(1L).orElseThrow();
+
+        assertThat(dossier.name()).isEqualTo("ABC Corporation");
+        assertThat(dossier.persons()).extracting(PersonDTO::fullName)
+            .containsExactly("Jane Doe", "Robert Johnson", "Maria Garcia");
+        assertThat(dossier.persons()).extracting(PersonDTO::clientName).containsOnly("ABC Corporation");
+        assertThat(clientService.getClientDetails(-1L)).isEmpty();
+    }
+
+    @Test
+    void batchKeepsTheOrderOfTheIdsAndReportsMissingOnes() {
+        ClientBatchDTO batch = clientService.getClientsBatch(List.of(3L, 1L, 987654321L, 3L, 2L));
+
+        assertThat(batch.clients()).extracting(ClientDTO::id).containsExactly(3L, 1L, 2L);
+        assertThat(batch.missingIds()).containsExactly(987654321L);
+        assertThat(batch.clients().get(1).persons())
+            .isEqualTo(clientService.getClientDetails(1L).orElseThrow().persons());
+        assertThatThrownBy(() -> clientService.getClientsBatch(List.of()))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void foreignCursorIsRejected() {
+        assertThatThrownBy(() -> clientService.getClients("not-a-cursor", 2))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,79 @@
+package com.theociobanoiu.kycmcp.service;
+
+import com.theociobanoiu.kycmcp.model.dto.ClientDTO;
+import com.theociobanoiu.kycmcp.model.dto.DuplicateDetectionResultDTO;
+import com.theociobanoiu.kycmcp.model.dto.DuplicateMatchDTO;
+import com.theociobanoiu.kycmcp.model.dto.request.CreateClientRequest;
+import com.theociobanoiu.kycmcp.model.enums.ClientType;
+import com.theociobanoiu.kycmcp.model.enums.DuplicateEvidence;
+import com.theociobanoiu.kycmcp.repository.ClientRepository;
+import com.theociobanoiu.kycmcp.repository.DuplicateClusterRepository;
+import com.theociobanoiu.kycmcp.service.api.ClientService;
+import com.theociobanoiu.kycmcp.service.api.DuplicateDetectionService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Not transactional on purpose: the duplicate index only sees clients once their transaction commits.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class DuplicateDetectionServiceImplTest {
+
+    @Autowired
+    private ClientService clientService;
+
+    @Autowired
+    private DuplicateDetectionService duplicateDetectionService;
+
+    @Autowired
+    private ClientRepository clientRepository;
+
+    @Autowired
+    private DuplicateClusterRepository duplicateClusterRepository;
+
+    private Long createdId;
+
+    @AfterEach
+    void deleteCreatedClient() {
+        duplicateClusterRepository.deleteAllInBatch();
+        if (createdId != null) {
+            clientRepository.deleteById(createdId);
+        }
+    }
+
+    @Test
+    void reformattedRegistrationNumberIsRefusedOnCreate() {
+        // ABC Corporation (client 1) is registered as REG001
+        CreateClientRequest request = new CreateClientRequest("ABC Corp.", ClientType.COMPANY, null, null, "reg-1");
+
+        assertThatThrownBy(() -> clientService.createClient(request))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("existing client 1");
+    }
+
+    @Test
+    void weakerResemblanceIsCreatedAndReported() {
+        ClientDTO created = clientService.createClient(
+            new CreateClientRequest("ABC Corporation", ClientType.COMPANY, null, "555-0123", null));
+        createdId = created.id();
+
+        DuplicateDetectionResultDTO single = duplicateDetectionService.findDuplicatesOf(createdId).orElseThrow();
+        assertThat(single.clusters()).hasSize(1);
+        DuplicateMatchDTO match = single.clusters().getFirst().matches().getFirst();
+        assertThat(match.matchedClientId()).isEqualTo(1L);
+        assertThat(match.matchedOn()).containsExactlyInAnyOrder(DuplicateEvidence.NAME, DuplicateEvidence.PHONE);
+
+        DuplicateDetectionResultDTO book = duplicateDetectionService.detectDuplicates();
+        assertThat(book.clusters())
+            .anySatisfy(cluster -> assertThat(cluster.clientIds()).containsExactly(1L, createdId));
+        assertThat(duplicateClusterRepository.count()).isEqualTo(book.clustersFound());
+        assertThat(duplicateDetectionService.findDuplicatesOf(987654321L)).isEmpty();
+    }
+}
@@ -0,0 +1,104 @@
+package com.theociobanoiu.kycmcp.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.theociobanoiu.kycmcp.bulkexport.ExportCompression;
+import com.theociobanoiu.kycmcp.bulkexport.ExportFormat;
+import com.theociobanoiu.kycmcp.bulkexport.ExportTarget;
+import com.theociobanoiu.kycmcp.model.dto.ExportResultDTO;
+import com.theociobanoiu.kycmcp.repository.ClientRepository;
+import com.theociobanoiu.kycmcp.repository.PersonRepository;
+import com.theociobanoiu.kycmcp.service.api.ExportService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.GZIPInputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class ExportServiceImplTest {
+
+    @Autowired
+    private ExportService exportService;
+
+    @Autowired
+    private ClientRepository clientRepository;
+
+    @Autowired
+    private PersonRepository personRepository;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @DynamicPropertySource
+    static void exportDirectory(DynamicPropertyRegistry registry) throws IOException {
+        Path directory = Files.createTempDirectory("kyc-export");
+        directory.toFile().deleteOnExit();
+        registry.add("kyc.export.directory", directory::toString);
+    }
+
+    @Test
+    void selectedColumnsAreExportedToACompressedFileInIdOrder() throws IOException {
+        ExportResultDTO result = exportService.exportFile(ExportTarget.PERSONS, ExportFormat.CSV,
+            List.of("client_id", "LAST_NAME", "id"), ExportCompression.GZIP);
+
+        assertThat(result.fileName()).startsWith("persons-").endsWith(".csv.gz");
+        Path file = exportService.exportedFile(result.fileName());
+        assertThat(Files.size(file)).isEqualTo(result.bytesWritten());
+
+        List<String> lines;
+        try (InputStream input = new GZIPInputStream(Files.newInputStream(file))) {
+            lines = new String(input.readAllBytes(), StandardCharsets.UTF_8).lines().toList();
+        }
+        assertThat(lines.getFirst()).isEqualTo("client_id,last_name,id");
+        assertThat(lines).hasSize((int) personRepository.count() + 1);
+        assertThat(result.rowsExported()).isEqualTo(personRepository.count());
+        List<Long> ids = new ArrayList<>();
+        for (String line : lines.subList(1, lines.size())) {
+            ids.add(Long.parseLong(line.substring(line.lastIndexOf(',') + 1)));
+        }
+        assertThat(ids).isSorted().doesNotHaveDuplicates();
+    }
+
+    @Test
+    void everyColumnIsStreamedAsJsonLines() throws IOException {
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        ExportResultDTO result = exportService.exportStream(ExportTarget.CLIENTS, ExportFormat.JSONL, null, null,
+            output);
+
+        List<String> lines = output.toString(StandardCharsets.UTF_8).lines().toList();
+        assertThat(lines).hasSize((int) clientRepository.count());
+        assertThat(result.fileName()).isNull();
+        assertThat(result.bytesWritten()).isEqualTo(output.size());
+        JsonNode first = objectMapper.readTree(lines.getFirst());
+        List<String> keys = new ArrayList<>();
+        first.fieldNames().forEachRemaining(keys::add);
+        assertThat(keys).isEqualTo(ExportTarget.CLIENTS.columns());
+        assertThat(first.get("id").isNumber()).isTrue();
+        assertThat(first.get("created_at").asText()).matches("\\d{4}-\\d{2}-\\d{2}T.*");
+    }
+
+    @Test
+    void unknownColumnsAndFilesAreRejected() {
+        assertThatThrownBy(() -> exportService.resolveColumns(ExportTarget.CLIENTS, List.of("name", "password")))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("[password]");
+        assertThatThrownBy(() -> exportService.exportedFile("../application.yml"))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,84 @@
+package com.theociobanoiu.kycmcp.service;
+
+import com.theociobanoiu.kycmcp.model.dto.EffectiveOwnershipDTO;
+import com.theociobanoiu.kycmcp.model.dto.UltimateBeneficialOwnersDTO;
+import com.theociobanoiu.kycmcp.model.dto.request.CreateClientOwnershipRequest;
+import com.theociobanoiu.kycmcp.model.entities.Client;
+import com.theociobanoiu.kycmcp.model.enums.ClientType;
+import com.theociobanoiu.kycmcp.model.enums.RiskLevel;
+import com.theociobanoiu.kycmcp.repository.ClientOwnershipRepository;
+import com.theociobanoiu.kycmcp.repository.ClientRepository;
+import com.theociobanoiu.kycmcp.service.api.OwnershipService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.math.BigDecimal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
+
+/**
+ * Not transactional on purpose: the ownership graph only sees writes once their transaction commits.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class OwnershipServiceImplTest {
+
+    @Autowired
+    private OwnershipService ownershipService;
+
+    @Autowired
+    private ClientRepository clientRepository;
+
+    @Autowired
+    private ClientOwnershipRepository clientOwnershipRepository;
+
+    private Long subsidiaryId;
+
+    @BeforeEach
+    void createSubsidiary() {
+        Client client = new Client();
+        client.setName("ABC Subsidiary SRL");
+        client.setClientType(ClientType.COMPANY);
+        client.setRiskLevel(RiskLevel.LOW);
+        subsidiaryId = clientRepository.save(client).getId();
+    }
+
+    @AfterEach
+    void deleteSubsidiary() {
+        clientOwnershipRepository.deleteAll();
+        clientRepository.deleteById(subsidiaryId);
+    }
+
+    @Test
+    void ownersOfTheParentAreTracedThroughTheSubsidiary() {
+        // ABC Corporation (client 1) is owned 45% by Maria Garcia, 30% by Robert Johnson and 25% by Jane Doe
+        ownershipService.recordClientOwnership(new CreateClientOwnershipRequest(1L, subsidiaryId, new BigDecimal("50")));
+        ownershipService.recordClientOwnership(new CreateClientOwnershipRequest(1L, subsidiaryId, new BigDecimal("80")));
+
+        UltimateBeneficialOwnersDTO owners = ownershipService.getUltimateBeneficialOwners(subsidiaryId, null)
+            .orElseThrow();
+
+        assertThat(owners.beneficialOwners())
+            .extracting(EffectiveOwnershipDTO::name, EffectiveOwnershipDTO::effectivePercentage)
+            .containsExactly(tuple("Maria Garcia", new BigDecimal("36.00")));
+        assertThat(owners.intermediateOwners())
+            .extracting(EffectiveOwnershipDTO::subjectId, EffectiveOwnershipDTO::effectivePercentage)
+            .containsExactly(tuple(1L, new BigDecimal("80.00")));
+        assertThat(owners.ownershipCycles()).isEmpty();
+        assertThat(ownershipService.getUltimateBeneficialOwners(subsidiaryId, new BigDecimal("20")).orElseThrow()
+            .beneficialOwners()).hasSize(3);
+    }
+
+    @Test
+    void clientCannotOwnItself() {
+        assertThatThrownBy(() -> ownershipService.recordClientOwnership(
+            new CreateClientOwnershipRequest(subsidiaryId, subsidiaryId, BigDecimal.TEN)))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+}
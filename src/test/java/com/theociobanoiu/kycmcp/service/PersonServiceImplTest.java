@@ -0,0 +1,235 @@
+package com.theociobanoiu.kycmcp.service;
+
+import com.theociobanoiu.kycmcp.model.dto.BeneficialOwnerDTO;
+import com.theociobanoiu.kycmcp.model.dto.BeneficialOwnerSummaryDTO;
+import com.theociobanoiu.kycmcp.model.dto.CursorPage;
+import com.theociobanoiu.kycmcp.model.dto.PersonDTO;
+import com.theociobanoiu.kycmcp.model.dto.PersonMatchDTO;
+import com.theociobanoiu.kycmcp.model.dto.request.BeneficialOwnerFilter;
+import com.theociobanoiu.kycmcp.model.dto.request.CreatePersonRequest;
+import com.theociobanoiu.kycmcp.model.entities.Person;
+import com.theociobanoiu.kycmcp.model.enums.PersonSearchField;
+import com.theociobanoiu.kycmcp.model.enums.RelationshipType;
+import com.theociobanoiu.kycmcp.repository.ClientRepository;
+import com.theociobanoiu.kycmcp.repository.PersonRepository;
+import com.theociobanoiu.kycmcp.service.api.PersonService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
+
+/**
+ * Not transactional on purpose: the person search index only sees writes once their transaction commits.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class PersonServiceImplTest {
+
+    @Autowired
+    private PersonService personService;
+
+    @Autowired
+    private PersonRepository personRepository;
+
+    @Autowired
+    private ClientRepository clientRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Test
+    void sampleDataIsSearchableByNameAndIdentificationNumber() {
+        List<PersonMatchDTO> matches = personService.searchPersons("garcia maria", null);
+
+        assertThat(matches).isNotEmpty();
+        PersonMatchDTO best = matches.getFirst();
+        assertThat(best.identificationNumber()).isEqualTo("ID345678");
+        assertThat(best.clientId()).isEqualTo(1L);
+        assertThat(best.clientName()).isEqualTo("ABC Corporation");
+        assertThat(personService.searchPersons("id345678", 5)).extracting(PersonMatchDTO::personId)
+            .containsExactly(best.personId());
+        assertThatThrownBy(() -> personService.searchPersons("  ", null))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void addedPersonIsSearchableByAddress() {
+        PersonDTO person = personService.addPersonToClient(new CreatePersonRequest(2L, "Ingrid", "Halvorsen",
+            null, null, null, "NO", "NO-5521", RelationshipType.DIRECTOR, null, null, "Karl Johans gate 7, Oslo"));
+        try {
+            List<PersonMatchDTO> matches = personService.searchPersons("oslo halvorsen", 5);
+
+            assertThat(matches).extracting(PersonMatchDTO::personId).containsExactly(person.id());
+            assertThat(matches.getFirst().clientId()).isEqualTo(2L);
+            assertThat(matches.getFirst().matchedOn())
+                .containsExactlyInAnyOrder(PersonSearchField.LAST_NAME, PersonSearchField.ADDRESS);
+        } finally {
+            personRepository.deleteById(person.id());
+        }
+    }
+
+    @Test
+    void constraintViolationIsReportedAsAFailedAdd() {
+        // ID123456 belongs to a sample person; uk_persons_identification_number rejects it on insert
+        assertThatThrownBy(() -> personService.addPersonToClient(new CreatePersonRequest(2L, "Jon", "Copy", null,
+            null, null, "US", "ID123456", RelationshipType.DIRECTOR, null, null, null)))
+            .hasMessageStartingWith("Failed to add person to client");
+        assertThat(personService.searchPersons("copy", 5)).isEmpty();
+    }
+
+    @Test
+    void batchIsAddedInOrderOrRejectedAsAWhole() {
+        assertThatThrownBy(() -> personService.addPersonsToClient(2L, List.of(
+            new CreatePersonRequest(null, "Erik", "Lund", null, null, null, "SE", "SE-1", RelationshipType.OWNER,
+                null, new BigDecimal("60"), null),
+            new CreatePersonRequest(null, "Eva", "Lund", null, null, null, "SE", "SE-1", RelationshipType.OWNER,
+                null, new BigDecimal("41"), null),
+            new CreatePersonRequest(3L, " ", "Lund", null, null, null, "SE", null, RelationshipType.DIRECTOR,
+                null, null, null))))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("persons[1].identificationNumber")
+            .hasMessageContaining("persons[2].clientId")
+            .hasMessageContaining("persons[2].firstName")
+            .hasMessageContaining("at most 100%");
+        assertThat(personService.searchPersons("lund", 5)).isEmpty();
+
+        List<PersonDTO> added = personService.addPersonsToClient(2L, List.of(
+            new CreatePersonRequest(null, "Erik", "Lund", null, null, null, "SE", "SE-1", RelationshipType.DIRECTOR,
+                null, null, null),
+            new CreatePersonRequest(2L, "Eva", "Lund", null, null, null, "SE", "SE-2",
+                RelationshipType.AUTHORIZED_SIGNATORY, null, null, null)));
+        try {
+            assertThat(added).extracting(PersonDTO::firstName, PersonDTO::clientName)
+                .containsExactly(tuple("Erik", "John Smith"), tuple("Eva", "John Smith"));
+            assertThat(personService.getPersonsByClient(2L)).extracting(PersonDTO::id)
+                .contains(added.get(0).id(), added.get(1).id());
+            assertThat(personService.searchPersons("lund", 5)).hasSize(2);
+        } finally {
+            personRepository.deleteAllById(added.stream().map(PersonDTO::id).toList());
+        }
+    }
+
+    @Test
+    void batchStoresIdentificationNumbersAsTheyWereChecked() {
+        List<PersonDTO> added = personService.addPersonsToClient(2L, List.of(
+            new CreatePersonRequest(null, "Nils", "Berg", null, null, null, "SE", " SE-7 ", RelationshipType.DIRECTOR,
+                null, null, null),
+            new CreatePersonRequest(null, "Nora", "Berg", null, null, null, "SE", " ", RelationshipType.DIRECTOR,
+                null, null, null),
+            new CreatePersonRequest(null, "Nina", "Berg", null, null, null, "SE", "", RelationshipType.DIRECTOR,
+                null, null, null)));
+        try {
+            assertThat(added).extracting(PersonDTO::identificationNumber).containsExactly("SE-7", null, null);
+            assertThatThrownBy(() -> personService.addPersonsToClient(2L, List.of(
+                new CreatePersonRequest(null, "Nils", "Berg", null, null, null, "SE", "SE-7 ",
+                    RelationshipType.DIRECTOR, null, null, null))))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("SE-7 already belongs to another person");
+        } finally {
+            personRepository.deleteAllById(added.stream().map(PersonDTO::id).toList());
+        }
+    }
+
+    @Test
+    void batchWaitsForTheClientRowLockBeforeCheckingOwnership() throws Exception {
+        CountDownLatch locked = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        List<Long> held = new ArrayList<>();
+        CompletableFuture<Void> holder = CompletableFuture.runAsync(() ->
+            new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+                clientRepository.lockReferenceById(3L).orElseThrow();
+                Person owner = new CreatePersonRequest(3L, "Karen", "Holm", null, null, null, "DK", null,
+                    RelationshipType.OWNER, null, new BigDecimal("60"), null).toEntity();
+                owner.setClient(clientRepository.getReferenceById(3L));
+                held.add(personRepository.saveAndFlush(owner).getId());
+                locked.countDown();
+                try {
+                    release.await(10, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }));
+        assertThat(locked.await(10, TimeUnit.SECONDS)).isTrue();
+
+        // Within 100% against what was committed before the lock was taken, but not once the holder commits
+        CompletableFuture<List<PersonDTO>> batch = CompletableFuture.supplyAsync(() ->
+            personService.addPersonsToClient(3L, List.of(new CreatePersonRequest(null, "Lars", "Holm", null, null,
+                null, "DK", null, RelationshipType.OWNER, null, new BigDecimal("60"), null))));
+        CompletableFuture<PersonDTO> single = CompletableFuture.supplyAsync(() ->
+            personService.addPersonToClient(new CreatePersonRequest(3L, "Mette", "Holm", null, null, null, "DK",
+                null, RelationshipType.OWNER, null, new BigDecimal("60"), null)));
+        try {
+            Thread.sleep(300);
+            assertThat(batch).isNotDone();
+            assertThat(single).isNotDone();
+        } finally {
+            release.countDown();
+        }
+
+        try {
+            holder.get(10, TimeUnit.SECONDS);
+            assertThatThrownBy(() -> batch.get(10, TimeUnit.SECONDS))
+                .hasCauseInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("would declare 120% in total, 60% of it already declared");
+            assertThatThrownBy(() -> single.get(10, TimeUnit.SECONDS))
+                .hasCauseInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("would declare 120% in total");
+            assertThat(personRepository.sumOwnershipPercentageByClientId(3L)).isEqualByComparingTo("60");
+        } finally {
+            personRepository.deleteAllById(held);
+        }
+    }
+
+    @Test
+    void beneficialOwnersAreFilteredPaginatedAndAggregated() {
+        List<Long> added = List.of(
+            beneficialOwner(2L, "1970-01-01", "30"),
+            beneficialOwner(2L, "1990-06-15", "10"),
+            beneficialOwner(3L, "1980-02-20", "60"),
+            beneficialOwner(3L, "2001-09-09", null));
+        try {
+            BeneficialOwnerFilter filter = new BeneficialOwnerFilter("ZZ", null, null,
+                LocalDate.of(1960, 1, 1), LocalDate.of(2000, 1, 1));
+
+            CursorPage<BeneficialOwnerDTO> first = personService.findBeneficialOwners(filter, null, 2);
+            CursorPage<BeneficialOwnerDTO> second = personService.findBeneficialOwners(filter, first.nextCursor(), 2);
+            assertThat(first.items()).extracting(BeneficialOwnerDTO::personId)
+                .containsExactlyElementsOf(added.subList(0, 2));
+            assertThat(second.items()).extracting(BeneficialOwnerDTO::personId).containsExactly(added.get(2));
+            assertThat(second.hasMore()).isFalse();
+
+            BeneficialOwnerFilter significant = new BeneficialOwnerFilter("ZZ", new BigDecimal("25"), null, null, null);
+            assertThat(personService.findBeneficialOwners(significant, null, null).items())
+                .extracting(BeneficialOwnerDTO::personId).containsExactly(added.get(0), added.get(2));
+
+            assertThat(personService.summarizeBeneficialOwners(filter, null, null).items())
+                .extracting(BeneficialOwnerSummaryDTO::clientId, BeneficialOwnerSummaryDTO::beneficialOwners,
+                    summary -> summary.totalOwnershipPercentage().intValue())
+                .containsExactly(tuple(2L, 2L, 40), tuple(3L, 1L, 60));
+            assertThatThrownBy(() -> personService.findBeneficialOwners(filter, "not a cursor", null))
+                .isInstanceOf(IllegalArgumentException.class);
+        } finally {
+            personRepository.deleteAllById(added);
+        }
+    }
+
+    private Long beneficialOwner(Long clientId, String dateOfBirth, String ownershipPercentage) {
+        return personService.addPersonToClient(new CreatePersonRequest(clientId, "Owner", "Of " + clientId, null,
+            null, LocalDate.parse(dateOfBirth), "ZZ", null, RelationshipType.BENEFICIAL_OWNER, null,
+            ownershipPercentage != null ? new BigDecimal(ownershipPercentage) : null, null)).id();
+    }
+}
@@ -0,0 +1,122 @@
+package com.theociobanoiu.kycmcp.service;
+
+import com.theociobanoiu.kycmcp.model.dto.CursorPage;
+import com.theociobanoiu.kycmcp.model.dto.DueReviewDTO;
+import com.theociobanoiu.kycmcp.model.entities.Client;
+import com.theociobanoiu.kycmcp.repository.ClientRepository;
+import com.theociobanoiu.kycmcp.review.ClientReviewEngine;
+import com.theociobanoiu.kycmcp.service.api.ReviewService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Runs in its own context and database, since reviews reschedule and rescore the sample clients. Batches of two
+ * spread even the sample data over several claims.
+ */
+@SpringBootTest(properties = "kyc.review.batch-size=2")
+@ActiveProfiles("test")
+class ReviewServiceImplTest {
+
+    private static final LocalDateTime NOW = LocalDateTime.now().truncatedTo(ChronoUnit.SECONDS);
+
+    @Autowired
+    private ReviewService reviewService;
+
+    @Autowired
+    private ClientReviewEngine clientReviewEngine;
+
+    @Autowired
+    private ClientRepository clientRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    /**
+     * Every client overdue, the one with the highest id the longest.
+     */
+    @BeforeEach
+    void makeEveryClientDue() {
+        jdbcTemplate.update("UPDATE clients SET next_review_at = CAST(? AS TIMESTAMP) - id * INTERVAL '1' DAY, "
+            + "last_reviewed_at = NULL", NOW);
+    }
+
+    @Test
+    void dueReviewsArePagedMostOverdueFirst() {
+        List<DueReviewDTO> due = new ArrayList<>();
+        String cursor = null;
+        do {
+            CursorPage<DueReviewDTO> page = reviewService.getDueReviews(null, null, cursor, 2);
+            assertThat(page.items()).hasSizeLessThanOrEqualTo(2);
+            due.addAll(page.items());
+            cursor = page.nextCursor();
+        } while (cursor != null);
+
+        assertThat(due).hasSize((int) clientRepository.count());
+        assertThat(due).extracting(DueReviewDTO::nextReviewAt).isSorted();
+        assertThat(reviewService.getDueReviews(null, NOW.toLocalDate().minusYears(1), null, null).items()).isEmpty();
+    }
+
+    @Test
+    void batchesSkipClientsLockedElsewhereAndRescheduleTheRest() throws Exception {
+        long clients = clientRepository.count();
+        long lockedId = due().getFirst().clientId();
+        CountDownLatch locked = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        CompletableFuture<Void> otherInstance = CompletableFuture.runAsync(() ->
+            new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+                jdbcTemplate.queryForList("SELECT id FROM clients WHERE id = ? FOR UPDATE", Long.class, lockedId);
+                locked.countDown();
+                try {
+                    release.await(30, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }));
+        assertThat(locked.await(30, TimeUnit.SECONDS)).isTrue();
+
+        int reviewed = 0;
+        try {
+            ClientReviewEngine.Result result;
+            do {
+                result = clientReviewEngine.reviewDueBatch(NOW);
+                reviewed += result.reviewed();
+            } while (result.reviewed() > 0);
+        } finally {
+            release.countDown();
+            otherInstance.get(30, TimeUnit.SECONDS);
+        }
+
+        assertThat(reviewed).isEqualTo(clients - 1);
+        assertThat(due()).extracting(DueReviewDTO::clientId).containsExactly(lockedId);
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM client_reviews", Long.class))
+            .isEqualTo(clients - 1);
+        Client reviewedClient = clientRepository.findAll().stream()
+            .filter(client -> client.getId() != lockedId)
+            .findFirst().orElseThrow();
+        assertThat(reviewedClient.getLastReviewedAt()).isEqualTo(NOW);
+        assertThat(reviewedClient.getNextReviewAt()).isAfterOrEqualTo(NOW.plusYears(1));
+    }
+
+    private List<DueReviewDTO> due() {
+        return reviewService.getDueReviews(null, null, null, 1000).items();
+    }
+}
@@ -0,0 +1,116 @@
+package com.theociobanoiu.kycmcp.service;
+
+import com.theociobanoiu.kycmcp.model.dto.RiskScoringResultDTO;
+import com.theociobanoiu.kycmcp.model.entities.Client;
+import com.theociobanoiu.kycmcp.model.entities.Person;
+import com.theociobanoiu.kycmcp.model.enums.RelationshipType;
+import com.theociobanoiu.kycmcp.model.enums.RiskLevel;
+import com.theociobanoiu.kycmcp.model.enums.RiskScoringMode;
+import com.theociobanoiu.kycmcp.repository.ClientRepository;
+import com.theociobanoiu.kycmcp.repository.PersonRepository;
+import com.theociobanoiu.kycmcp.review.ClientReviewEngine;
+import com.theociobanoiu.kycmcp.service.api.RiskScoringService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Runs in its own context and database, since scoring rewrites the risk level of the sample clients.
+ * Small chunks spread even the sample data over several fork/join tasks.
+ */
+@SpringBootTest(properties = {"kyc.risk.chunk-size=2", "kyc.risk.parallelism=2"})
+@ActiveProfiles("test")
+class RiskScoringServiceImplTest {
+
+    @Autowired
+    private RiskScoringService riskScoringService;
+
+    @Autowired
+    private ClientRepository clientRepository;
+
+    @Autowired
+    private PersonRepository personRepository;
+
+    @Autowired
+    private ClientReviewEngine clientReviewEngine;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void fullRunRescoresEveryClient() {
+        RiskScoringResultDTO result = riskScoringService.recompute(RiskScoringMode.FULL);
+
+        assertThat(result.mode()).isEqualTo(RiskScoringMode.FULL);
+        assertThat(result.clientsScored()).isEqualTo(clientRepository.count());
+        assertThat(result.clientsByLevel().values().stream().mapToLong(Long::longValue).sum())
+            .isEqualTo(result.clientsScored());
+        // ABC Corporation is fully owned with a beneficial owner; High Risk Holdings has no persons at all
+        assertThat(clientRepository.findById(1L).orElseThrow().getRiskLevel()).isEqualTo(RiskLevel.LOW);
+        assertThat(clientRepository.findById(3L).orElseThrow().getRiskLevel()).isEqualTo(RiskLevel.MEDIUM);
+
+        assertThat(riskScoringService.recompute(RiskScoringMode.FULL).clientsChanged()).isZero();
+    }
+
+    @Test
+    void incrementalRunPicksUpChangedPersons() {
+        riskScoringService.recompute(RiskScoringMode.FULL);
+        Client johnSmith = clientRepository.findById(2L).orElseThrow();
+        Person person = new Person();
+        person.setFirstName("Kim");
+        person.setLastName("Sung");
+        person.setNationality("KP");
+        person.setRelationshipType(RelationshipType.AUTHORIZED_SIGNATORY);
+        person.setClient(johnSmith);
+        person = personRepository.save(person);
+
+        try {
+            RiskScoringResultDTO result = riskScoringService.recompute(RiskScoringMode.INCREMENTAL);
+
+            assertThat(result.mode()).isEqualTo(RiskScoringMode.INCREMENTAL);
+            assertThat(result.since()).isNotNull();
+            assertThat(result.clientsChanged()).isEqualTo(1);
+            assertThat(clientRepository.findById(2L).orElseThrow().getRiskLevel()).isEqualTo(RiskLevel.MEDIUM);
+        } finally {
+            personRepository.delete(person);
+            riskScoringService.recompute(RiskScoringMode.FULL);
+        }
+    }
+
+    @Test
+    void raisedLevelBringsTheNextReviewForward() {
+        riskScoringService.recompute(RiskScoringMode.FULL);
+        LocalDateTime now = LocalDateTime.now().truncatedTo(ChronoUnit.SECONDS);
+        // No client is due for ten years; John Smith, LOW risk, would normally wait out his five
+        jdbcTemplate.update("UPDATE clients SET next_review_at = ?", now.plusYears(10));
+        Client johnSmith = clientRepository.findById(2L).orElseThrow();
+        Person person = new Person();
+        person.setFirstName("Kim");
+        person.setLastName("Sung");
+        person.setNationality("KP");
+        person.setRelationshipType(RelationshipType.AUTHORIZED_SIGNATORY);
+        person.setClient(johnSmith);
+        person = personRepository.save(person);
+
+        try {
+            assertThat(riskScoringService.recompute(RiskScoringMode.INCREMENTAL).clientsChanged()).isEqualTo(1);
+            Client raised = clientRepository.findById(2L).orElseThrow();
+            assertThat(raised.getRiskLevel()).isEqualTo(RiskLevel.MEDIUM);
+            assertThat(raised.getNextReviewAt()).isBetween(now.plusYears(3), now.plusYears(3).plusHours(1));
+
+            LocalDateTime dueBy = now.plusYears(3).plusDays(1);
+            assertThat(clientReviewEngine.reviewDueBatch(dueBy).reviewed()).isEqualTo(1);
+            assertThat(clientRepository.findById(2L).orElseThrow().getLastReviewedAt()).isEqualTo(dueBy);
+        } finally {
+            personRepository.delete(person);
+            riskScoringService.recompute(RiskScoringMode.FULL);
+        }
+    }
+}